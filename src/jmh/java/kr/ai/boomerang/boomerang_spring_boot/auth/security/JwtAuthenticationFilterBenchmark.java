@@ -0,0 +1,78 @@
+package kr.ai.boomerang.boomerang_spring_boot.auth.security;
+
+import kr.ai.boomerang.boomerang_spring_boot.auth.service.TokenRevocationService;
+import kr.ai.boomerang.boomerang_spring_boot.common.util.BloomFilter;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter 요청당 비용 벤치마크
+ * 헤더 추출, 서명 검증, 폐기 여부 확인(Bloom Filter 음성 경로), SecurityContext 설정까지 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    private JwtAuthenticationFilter filter;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(JwtTokenProviderBenchmark.SECRET, 3600, 1209600);
+        TokenRevocationService tokenRevocationService = new TokenRevocationService(null, null, null);
+        ReflectionTestUtils.setField(tokenRevocationService, "revokedTokenFilter", new BloomFilter(100_000, 0.001));
+        ReflectionTestUtils.setField(tokenRevocationService, "filterReady", true);
+        ReflectionTestUtils.setField(tokenRevocationService, "legacyFallbackUntil", 0L);
+
+        filter = new JwtAuthenticationFilter(jwtTokenProvider, tokenRevocationService);
+        authorization = "Bearer " + jwtTokenProvider.createAccessToken(12345L, "USER");
+    }
+
+    @Benchmark
+    public Object authenticatedRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/posts");
+        request.addHeader("Authorization", authorization);
+        return filterAndClear(request);
+    }
+
+    @Benchmark
+    public Object anonymousRequest() throws Exception {
+        return filterAndClear(new MockHttpServletRequest("GET", "/api/v1/posts"));
+    }
+
+    // === Private Methods ===
+
+    /**
+     * 필터 실행 후 다음 호출을 위해 SecurityContext 정리
+     * - 호출마다 실행되는 @TearDown(Level.Invocation)은 타이머 오버헤드가 측정값을 왜곡하므로 메서드 안에서 정리
+     */
+    private Object filterAndClear(MockHttpServletRequest request) throws Exception {
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), NO_OP_CHAIN);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package kr.ai.boomerang.boomerang_spring_boot.auth.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtTokenProvider 토큰 생성 / 검증 벤치마크
+ * 모든 인증 요청이 거치는 서명 검증과 로그인 / 재발급 시의 서명 비용을 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+    static final String SECRET = "boomerang-benchmark-secret-key-must-be-at-least-256-bits-long";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String accessToken;
+    private String malformedToken;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 3600, 1209600);
+        accessToken = jwtTokenProvider.createAccessToken(12345L, "USER");
+        malformedToken = accessToken.substring(0, accessToken.length() - 4) + "AAAA";
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtTokenProvider.createAccessToken(12345L, "USER");
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public boolean validateTamperedToken() {
+        return jwtTokenProvider.validateToken(malformedToken);
+    }
+
+    @Benchmark
+    public Long getUserId() {
+        return jwtTokenProvider.getUserId(accessToken);
+    }
+}
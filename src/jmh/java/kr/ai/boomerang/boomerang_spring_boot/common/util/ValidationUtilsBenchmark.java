@@ -0,0 +1,44 @@
+package kr.ai.boomerang.boomerang_spring_boot.common.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ValidationUtils 검증 벤치마크
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidationUtilsBenchmark {
+
+    private String email = "traveler.kim+jeju@boomerang.co.kr";
+    private String nickname = "제주여행자2024";
+    private String postContent = "아침 일찍 성산일출봉에 올라 해돋이를 보고, 우도로 건너가 자전거를 빌려 섬을 한 바퀴 돌았습니다. ".repeat(10);
+
+    @Benchmark
+    public boolean isValidEmail() {
+        return ValidationUtils.isValidEmail(email);
+    }
+
+    @Benchmark
+    public boolean isValidNickname() {
+        return ValidationUtils.isValidNickname(nickname);
+    }
+
+    @Benchmark
+    public boolean isSafeInput() {
+        return ValidationUtils.isSafeInput(postContent);
+    }
+}
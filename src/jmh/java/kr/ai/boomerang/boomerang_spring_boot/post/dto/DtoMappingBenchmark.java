@@ -0,0 +1,95 @@
+package kr.ai.boomerang.boomerang_spring_boot.post.dto;
+
+import kr.ai.boomerang.boomerang_spring_boot.post.domain.Comment;
+import kr.ai.boomerang.boomerang_spring_boot.post.domain.Post;
+import kr.ai.boomerang.boomerang_spring_boot.user.domain.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 / 댓글 DTO 매핑 벤치마크
+ * 피드 한 페이지(20건) 목록 매핑과 댓글 매핑 비용을 측정합니다. (엔티티는 메모리에서 구성, DB 조회 제외)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DtoMappingBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int COMMENTS_PER_POST = 10;
+
+    private List<Post> posts;
+    private List<Comment> comments;
+
+    @Setup
+    public void setUp() {
+        posts = new ArrayList<>(PAGE_SIZE);
+        comments = new ArrayList<>(COMMENTS_PER_POST);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            User author = User.builder()
+                    .id((long) i)
+                    .email("traveler" + i + "@boomerang.kr")
+                    .nickname("여행자" + i)
+                    .provider(User.Provider.KAKAO)
+                    .providerId("kakao-" + i)
+                    .build();
+            Post post = Post.builder()
+                    .id((long) i)
+                    .title("제주 " + i + "일차 여행 후기")
+                    .content("아침 일찍 성산일출봉에 올라 해돋이를 보고, 우도로 건너가 자전거를 빌려 섬을 한 바퀴 돌았습니다. ".repeat(4))
+                    .author(author)
+                    .build();
+            for (int j = 0; j < COMMENTS_PER_POST; j++) {
+                Comment comment = Comment.builder()
+                        .id((long) i * COMMENTS_PER_POST + j)
+                        .content("사진이 정말 예쁘네요! 다음 달에 저도 가볼게요.")
+                        .post(post)
+                        .author(author)
+                        .build();
+                post.getComments().add(comment);
+                if (i == 0) {
+                    comments.add(comment);
+                }
+            }
+            posts.add(post);
+        }
+    }
+
+    @Benchmark
+    public List<PostDto.ListResponse> postListResponsePage() {
+        List<PostDto.ListResponse> responses = new ArrayList<>(posts.size());
+        for (Post post : posts) {
+            responses.add(PostDto.ListResponse.from(post));
+        }
+        return responses;
+    }
+
+    @Benchmark
+    public PostDto.Response postResponseWithComments() {
+        return PostDto.Response.from(posts.get(0));
+    }
+
+    @Benchmark
+    public List<CommentDto.Response> commentResponses() {
+        List<CommentDto.Response> responses = new ArrayList<>(comments.size());
+        for (Comment comment : comments) {
+            responses.add(CommentDto.Response.from(comment));
+        }
+        return responses;
+    }
+}
@@ -0,0 +1,53 @@
+package kr.ai.boomerang.boomerang_spring_boot.travel.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.ai.boomerang.boomerang_spring_boot.travel.dto.TravelDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TourAPI 응답 파싱 벤치마크
+ * 녹화된 searchKeyword1 응답(10건 / 100건, src/test/resources/tourapi)을 DTO로 변환하는 비용을 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TravelServiceParseBenchmark {
+
+    @Param({"10", "100"})
+    private int items;
+
+    private TravelService travelService;
+    private String payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        travelService = new TravelService(null, new ObjectMapper(), new SimpleMeterRegistry());
+        try (InputStream in = getClass().getResourceAsStream("/tourapi/searchKeyword1-" + items + ".json")) {
+            payload = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Benchmark
+    public TravelDto.SearchResponse parseApiResponse() {
+        return travelService.parseApiResponse(payload, 1, items);
+    }
+}
@@ -0,0 +1,123 @@
+package kr.ai.boomerang.boomerang_spring_boot.user.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 닉네임 할당 방식 비교 벤치마크
+ * H2 메모리 DB에 같은 기본이름으로 충돌하는 닉네임 10,000개를 넣고,
+ * 기존 방식(번호마다 존재 여부 쿼리)과 접두사 쿼리 한 번 + 메모리 계산 방식을 비교합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NicknameAllocationBenchmark {
+
+    private static final String BASE_NAME = "사용자";
+    private static final int COLLIDING_NICKNAMES = 10_000;
+
+    private Connection connection;
+    private PreparedStatement exists;
+    private PreparedStatement prefix;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:nickname;MODE=MySQL", "sa", "");
+        seed();
+        exists = connection.prepareStatement("SELECT 1 FROM users WHERE nickname = ?");
+        prefix = connection.prepareStatement("SELECT nickname FROM users WHERE nickname LIKE CONCAT(?, '%') ESCAPE '!'");
+
+        // 두 방식이 같은 닉네임을 고르는지 확인
+        String expected = BASE_NAME + COLLIDING_NICKNAMES;
+        if (!expected.equals(probePerSuffix()) || !expected.equals(singlePrefixQuery())) {
+            throw new IllegalStateException("닉네임 할당 결과가 올바르지 않습니다.");
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public void probePerSuffix(Blackhole blackhole) throws SQLException {
+        blackhole.consume(probePerSuffix());
+    }
+
+    @Benchmark
+    public void singlePrefixQuery(Blackhole blackhole) throws SQLException {
+        blackhole.consume(singlePrefixQuery());
+    }
+
+    // === Private Methods ===
+
+    private void seed() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE users (id BIGINT AUTO_INCREMENT PRIMARY KEY, nickname VARCHAR(255) NOT NULL)");
+            statement.execute("CREATE UNIQUE INDEX uk_users_nickname ON users (nickname)");
+        }
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO users (nickname) VALUES (?)")) {
+            insert.setString(1, BASE_NAME);
+            insert.addBatch();
+            for (int i = 1; i < COLLIDING_NICKNAMES; i++) {
+                insert.setString(1, BASE_NAME + i);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+    }
+
+    /**
+     * 기존 방식: 빈 번호를 찾을 때까지 번호마다 존재 여부 쿼리 (충돌 수만큼 쿼리)
+     */
+    private String probePerSuffix() throws SQLException {
+        String nickname = BASE_NAME;
+        int suffix = 1;
+        while (true) {
+            exists.setString(1, nickname);
+            try (ResultSet resultSet = exists.executeQuery()) {
+                if (!resultSet.next()) {
+                    return nickname;
+                }
+            }
+            nickname = BASE_NAME + suffix++;
+        }
+    }
+
+    /**
+     * 현재 방식: 접두사 쿼리 한 번으로 사용 중인 닉네임을 읽고 메모리에서 빈 번호 계산
+     */
+    private String singlePrefixQuery() throws SQLException {
+        List<String> taken = new ArrayList<>();
+        prefix.setString(1, BASE_NAME);
+        try (ResultSet resultSet = prefix.executeQuery()) {
+            while (resultSet.next()) {
+                taken.add(resultSet.getString(1));
+            }
+        }
+        return NicknameAllocator.smallestAvailable(BASE_NAME, taken);
+    }
+}
@@ -0,0 +1,52 @@
+package kr.ai.boomerang.boomerang_spring_boot.user.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 닉네임 자동완성 검색 벤치마크
+ * 닉네임 100,000개 인덱스에서 접두사 검색 지연 분포(p99 포함)를 측정합니다. (목표: p99 1ms 미만)
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NicknameIndexBenchmark {
+
+    private static final String[] SYLLABLES = {"여", "행", "자", "부", "메", "랑", "산", "바", "다", "하", "늘", "별"};
+
+    @Param({"여", "여ㅎ", "부메", "산ㅂ", "하늘", "별"})
+    private String prefix;
+
+    private NicknameIndex index;
+
+    @Setup
+    public void setUp() {
+        index = new NicknameIndex();
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < 100_000; i++) {
+            index.add(SYLLABLES[random.nextInt(SYLLABLES.length)] + SYLLABLES[random.nextInt(SYLLABLES.length)]
+                    + SYLLABLES[random.nextInt(SYLLABLES.length)] + i);
+        }
+    }
+
+    @Benchmark
+    public List<String> search() {
+        return index.search(prefix, 10);
+    }
+}
@@ -1,17 +1,36 @@
 package kr.ai.boomerang.boomerang_spring_boot.admin.controller;
 
+import kr.ai.boomerang.boomerang_spring_boot.admin.event.StatisticsEvent;
+import kr.ai.boomerang.boomerang_spring_boot.admin.service.AdminExportService;
+import kr.ai.boomerang.boomerang_spring_boot.admin.service.AdminStatisticsService;
 import kr.ai.boomerang.boomerang_spring_boot.common.web.ApiResponse;
+import kr.ai.boomerang.boomerang_spring_boot.common.web.AsyncRequestTimeout;
+import kr.ai.boomerang.boomerang_spring_boot.mission.dto.MissionDto;
+import kr.ai.boomerang.boomerang_spring_boot.mission.service.MissionService;
 import kr.ai.boomerang.boomerang_spring_boot.user.dto.UserDto;
 import kr.ai.boomerang.boomerang_spring_boot.post.service.PostService;
+import kr.ai.boomerang.boomerang_spring_boot.user.service.LoginActivityService;
 import kr.ai.boomerang.boomerang_spring_boot.user.service.UserService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * 관리자 전용 API 컨트롤러
@@ -24,7 +43,13 @@ import org.springframework.web.bind.annotation.*;
 public class AdminController {
 
     private final UserService userService;
-    private final PostService postService;
+    private final MissionService missionService;
+    private final LoginActivityService loginActivityService;
+    private final AdminStatisticsService adminStatisticsService;
+    private final AdminExportService adminExportService;
+
+    @Value("${admin.export.timeout-minutes:60}")
+    private long exportTimeoutMinutes;
 
     /**
      * 전체 사용자 목록 조회
@@ -95,7 +120,7 @@ public class AdminController {
      */
     @GetMapping("/statistics/users")
     public ResponseEntity<ApiResponse<UserService.UserStatistics>> getUserStatistics() {
-        UserService.UserStatistics statistics = userService.getUserStatistics();
+        UserService.UserStatistics statistics = adminStatisticsService.getUserStatistics();
         return ResponseEntity.ok(ApiResponse.success(statistics));
     }
 
@@ -106,7 +131,110 @@ public class AdminController {
      */
     @GetMapping("/statistics/posts")
     public ResponseEntity<ApiResponse<PostService.PostStatistics>> getPostStatistics() {
-        PostService.PostStatistics statistics = postService.getPostStatistics();
+        PostService.PostStatistics statistics = adminStatisticsService.getPostStatistics();
+        return ResponseEntity.ok(ApiResponse.success(statistics));
+    }
+
+    /**
+     * 게시글 / 댓글 작성 시계열 조회
+     *
+     * @param metric 지표 (posts, comments)
+     * @param granularity 시계열 단위 (hour, day)
+     * @return 구간별 작성 수
+     */
+    @GetMapping("/statistics/series")
+    public ResponseEntity<ApiResponse<List<AdminStatisticsService.SeriesPoint>>> getStatisticsSeries(
+            @RequestParam(defaultValue = "posts") String metric,
+            @RequestParam(defaultValue = "hour") String granularity) {
+        List<AdminStatisticsService.SeriesPoint> series = adminStatisticsService.getSeries(
+                parseEnum(StatisticsEvent.Metric.class, metric, "지표"),
+                parseEnum(AdminStatisticsService.Granularity.class, granularity, "시계열 단위"));
+        return ResponseEntity.ok(ApiResponse.success(series));
+    }
+
+    /**
+     * 로그인 통계 조회 (DAU / WAU / MAU)
+     *
+     * @param date 기준 날짜 (기본값: 오늘)
+     * @return 로그인 통계 정보
+     */
+    @GetMapping("/statistics/logins")
+    public ResponseEntity<ApiResponse<LoginActivityService.LoginStatistics>> getLoginStatistics(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        LoginActivityService.LoginStatistics statistics = loginActivityService.getLoginStatistics(
+                date != null ? date : loginActivityService.today());
         return ResponseEntity.ok(ApiResponse.success(statistics));
     }
-}
\ No newline at end of file
+
+    /**
+     * 사용자 / 게시글 / 댓글 데이터 내보내기
+     * 결과를 메모리에 모으지 않고 DB 커서에서 읽는 대로 응답 본문에 씁니다.
+     *
+     * @param type 내보내기 대상 (users, posts, comments)
+     * @param format 내보내기 형식 (ndjson, csv)
+     * @param from 시작 시각 (포함, 선택)
+     * @param to 종료 시각 (제외, 선택)
+     * @param request 요청 (비동기 타임아웃 지정용)
+     * @return 스트리밍 응답
+     */
+    @GetMapping("/export/{type}")
+    public ResponseEntity<StreamingResponseBody> export(
+            @PathVariable String type,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            HttpServletRequest request) {
+
+        AdminExportService.ExportType exportType = parseEnum(AdminExportService.ExportType.class, type, "내보내기 대상");
+        AdminExportService.Format exportFormat = parseEnum(AdminExportService.Format.class, format, "내보내기 형식");
+        String filename = type.toLowerCase() + "." + exportFormat.getExtension();
+
+        StreamingResponseBody body = out -> adminExportService.export(exportType, exportFormat, from, to, out);
+        // 전체 내보내기는 MVC 기본 비동기 타임아웃(30초)을 넘기므로 이 요청에만 긴 타임아웃 적용
+        AsyncRequestTimeout.set(request, Duration.ofMinutes(exportTimeoutMinutes));
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+                .body(body);
+    }
+
+    /**
+     * 미션 생성
+     *
+     * @param request 미션 생성 요청
+     * @return 생성된 미션 정보
+     */
+    @PostMapping("/missions")
+    public ResponseEntity<ApiResponse<MissionDto.Response>> createMission(
+            @Valid @RequestBody MissionDto.CreateRequest request) {
+
+        MissionDto.Response mission = missionService.createMission(request);
+        return ResponseEntity.ok(ApiResponse.success("미션이 생성되었습니다.", mission));
+    }
+
+    /**
+     * 미션 활성 상태 변경
+     *
+     * @param missionId 미션 ID
+     * @param request 활성 상태 변경 요청
+     * @return 변경된 미션 정보
+     */
+    @PutMapping("/missions/{missionId}/active")
+    public ResponseEntity<ApiResponse<MissionDto.Response>> updateMissionActive(
+            @PathVariable Long missionId,
+            @Valid @RequestBody MissionDto.ActiveUpdateRequest request) {
+
+        MissionDto.Response mission = missionService.updateActive(missionId, request);
+        return ResponseEntity.ok(ApiResponse.success("미션 상태가 변경되었습니다.", mission));
+    }
+
+    // === Private Methods ===
+
+    private <E extends Enum<E>> E parseEnum(Class<E> type, String value, String name) {
+        try {
+            return Enum.valueOf(type, value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("유효하지 않은 " + name + "입니다: " + value);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package kr.ai.boomerang.boomerang_spring_boot.admin.event;
+
+import kr.ai.boomerang.boomerang_spring_boot.user.domain.User;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 관리자 통계 카운터 변경 이벤트
+ * 사용자 / 게시글 / 댓글이 생성, 삭제되거나 사용자 역할이 바뀔 때 발행합니다.
+ *
+ * @author Boomerang Team
+ */
+@Getter
+@AllArgsConstructor
+public class StatisticsEvent {
+
+    private final Metric metric;
+    private final long delta;
+
+    /**
+     * 통계 지표 열거형
+     */
+    public enum Metric {
+        USERS,
+        ADMIN_USERS,
+        REGULAR_USERS,
+        POSTS,
+        COMMENTS;
+
+        /**
+         * 역할별 사용자 수 지표
+         *
+         * @param role 사용자 역할
+         * @return Metric
+         */
+        public static Metric forRole(User.Role role) {
+            return role == User.Role.ADMIN ? ADMIN_USERS : REGULAR_USERS;
+        }
+    }
+}
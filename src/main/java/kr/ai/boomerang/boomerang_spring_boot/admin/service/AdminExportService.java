@@ -0,0 +1,216 @@
+package kr.ai.boomerang.boomerang_spring_boot.admin.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import jakarta.persistence.EntityManager;
+import kr.ai.boomerang.boomerang_spring_boot.post.domain.Comment;
+import kr.ai.boomerang.boomerang_spring_boot.post.domain.Post;
+import kr.ai.boomerang.boomerang_spring_boot.post.repository.CommentRepository;
+import kr.ai.boomerang.boomerang_spring_boot.post.repository.PostRepository;
+import kr.ai.boomerang.boomerang_spring_boot.user.domain.User;
+import kr.ai.boomerang.boomerang_spring_boot.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * 관리자 데이터 내보내기 서비스
+ * 사용자 / 게시글 / 댓글을 DB 커서에서 한 행씩 읽어 바로 응답 스트림에 NDJSON 또는 CSV로 씁니다.
+ * - 리포지토리 Stream 조회는 fetch size 단위로 읽으므로 전체 결과를 메모리에 올리지 않음
+ * - 일정 행마다 영속성 컨텍스트를 비우고 출력 버퍼를 내보내 내보내기 크기와 무관하게 힙 사용량을 일정하게 유지
+ *
+ * @author Boomerang Team
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AdminExportService {
+
+    private static final LocalDateTime DEFAULT_FROM = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final UserRepository userRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final EntityManager entityManager;
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    @Value("${export.clear-interval:1000}")
+    private int clearInterval;
+
+    /**
+     * 내보내기 대상
+     */
+    public enum ExportType {
+        USERS, POSTS, COMMENTS
+    }
+
+    /**
+     * 내보내기 형식
+     */
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    /**
+     * 기간 내 데이터를 지정한 형식으로 출력 스트림에 기록
+     *
+     * @param type 내보내기 대상
+     * @param format 내보내기 형식
+     * @param from 시작 시각 (포함, null이면 처음부터)
+     * @param to 종료 시각 (제외, null이면 현재까지)
+     * @param out 출력 스트림 (닫지 않음)
+     * @return 기록한 행 수
+     * @throws IOException 출력 실패 시
+     */
+    @Transactional(readOnly = true)
+    public long export(ExportType type, Format format, LocalDateTime from, LocalDateTime to,
+                       OutputStream out) throws IOException {
+        LocalDateTime start = from != null ? from : DEFAULT_FROM;
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+
+        long rows = switch (type) {
+            case USERS -> {
+                try (Stream<User> users = userRepository.streamByCreatedAtRange(start, end)) {
+                    yield write(users, new String[]{"id", "email", "nickname", "provider", "role", "areaCode", "createdAt"},
+                            user -> new Object[]{user.getId(), user.getEmail(), user.getNickname(), user.getProvider(),
+                                    user.getRole(), user.getAreaCode(), user.getCreatedAt()},
+                            format, out);
+                }
+            }
+            case POSTS -> {
+                try (Stream<Post> posts = postRepository.streamByCreatedAtRange(start, end)) {
+                    yield write(posts, new String[]{"id", "title", "content", "authorId", "authorNickname", "createdAt", "updatedAt"},
+                            post -> new Object[]{post.getId(), post.getTitle(), post.getContent(), post.getAuthor().getId(),
+                                    post.getAuthor().getNickname(), post.getCreatedAt(), post.getUpdatedAt()},
+                            format, out);
+                }
+            }
+            case COMMENTS -> {
+                try (Stream<Comment> comments = commentRepository.streamByCreatedAtRange(start, end)) {
+                    yield write(comments, new String[]{"id", "postId", "authorId", "authorNickname", "content", "createdAt"},
+                            comment -> new Object[]{comment.getId(), comment.getPost().getId(), comment.getAuthor().getId(),
+                                    comment.getAuthor().getNickname(), comment.getContent(), comment.getCreatedAt()},
+                            format, out);
+                }
+            }
+        };
+
+        log.info("관리자 데이터 내보내기 완료: type={}, format={}, rows={}", type, format, rows);
+        return rows;
+    }
+
+    // === Private Methods ===
+
+    private <T> long write(Stream<T> stream, String[] columns, Function<T, Object[]> extractor,
+                           Format format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        JsonGenerator generator = null;
+        if (format == Format.NDJSON) {
+            generator = jsonFactory.createGenerator(writer);
+            generator.setRootValueSeparator(new SerializedString("\n"));
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        } else {
+            writeCsvRow(writer, columns);
+        }
+
+        long rows = 0;
+        Iterator<T> iterator = stream.iterator();
+        while (iterator.hasNext()) {
+            Object[] values = extractor.apply(iterator.next());
+            if (generator != null) {
+                writeJsonRow(generator, columns, values);
+            } else {
+                writeCsvRow(writer, values);
+            }
+
+            if (++rows % clearInterval == 0) {
+                // 읽은 엔티티를 분리하고 지금까지 쓴 내용을 클라이언트로 내보냄
+                entityManager.clear();
+                if (generator != null) {
+                    generator.flush();
+                }
+                writer.flush();
+            }
+        }
+
+        if (generator != null) {
+            if (rows > 0) {
+                generator.writeRaw('\n');
+            }
+            generator.close();
+        }
+        writer.flush();
+        return rows;
+    }
+
+    private void writeJsonRow(JsonGenerator generator, String[] columns, Object[] values) throws IOException {
+        generator.writeStartObject();
+        for (int i = 0; i < columns.length; i++) {
+            Object value = values[i];
+            if (value == null) {
+                generator.writeNullField(columns[i]);
+            } else if (value instanceof Long number) {
+                generator.writeNumberField(columns[i], number);
+            } else {
+                generator.writeStringField(columns[i], value.toString());
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    private void writeCsvRow(Writer writer, Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writer.write(escapeCsv(values[i]));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private String escapeCsv(Object value) {
+        String text = value.toString();
+        if (value instanceof String && !text.isEmpty() && "=+-@\t\r".indexOf(text.charAt(0)) >= 0) {
+            // 스프레드시트 수식 실행 방지
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+}
@@ -0,0 +1,472 @@
+package kr.ai.boomerang.boomerang_spring_boot.admin.service;
+
+import jakarta.annotation.PreDestroy;
+import kr.ai.boomerang.boomerang_spring_boot.admin.event.StatisticsEvent;
+import kr.ai.boomerang.boomerang_spring_boot.post.service.PostService;
+import kr.ai.boomerang.boomerang_spring_boot.user.service.UserService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 관리자 통계 서비스
+ * 사용자 / 게시글 / 댓글 수를 생명주기 이벤트로 증감하여 유지하고, 관리자 대시보드는 메모리 스냅샷으로 응답합니다.
+ * - 이벤트는 커밋 후 메모리 카운터에만 더하고, 주기적으로 Redis 해시에 HINCRBY로 모아 반영 (모든 노드 합산)
+ * - 같은 주기에 Redis에서 전체 카운터와 시간 / 일 단위 게시글 / 댓글 시계열을 읽어 스냅샷을 교체
+ * - 대시보드 조회는 스냅샷만 읽으므로 DB 조회가 없으며, DB COUNT는 긴 주기의 보정 작업에서만 실행
+ * - 보정은 DB 값으로 덮어쓰지 않고 차이만 HINCRBY로 더하여, 보정 도중 다른 노드가 반영한 증감을 잃지 않음
+ * - 다른 노드의 미반영 증감은 보정 시점에 DB에만 있으므로, 두 번 비교하여 계속 남는 차이만 보정
+ *
+ * @author Boomerang Team
+ */
+@Service
+@Slf4j
+public class AdminStatisticsService {
+
+    private static final String COUNTERS_KEY = "stats:counters";
+    private static final String RECONCILE_LOCK_KEY = "stats:counters:reconcile";
+    private static final Duration RECONCILE_LOCK_TTL = Duration.ofMinutes(1);
+    private static final String SERIES_KEY_PREFIX = "stats:series:";
+    private static final DateTimeFormatter HOURLY_KEY_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter DAILY_KEY_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final Set<StatisticsEvent.Metric> SERIES_METRICS =
+            EnumSet.of(StatisticsEvent.Metric.POSTS, StatisticsEvent.Metric.COMMENTS);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final UserService userService;
+    private final PostService postService;
+    private final ZoneId zone;
+
+    @Value("${statistics.series.hours:48}")
+    private int seriesHours;
+
+    @Value("${statistics.series.days:30}")
+    private int seriesDays;
+
+    @Value("${statistics.reconcile-settle-ms:5000}")
+    private long reconcileSettleMs;
+
+    private final Map<PendingKey, AtomicLong> pending = new ConcurrentHashMap<>();
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    // 동기화 중 Redis / DB 호출이 있으므로 synchronized 대신 사용 (가상 스레드 고정 방지)
+    private final ReentrantLock syncLock = new ReentrantLock();
+
+    public AdminStatisticsService(StringRedisTemplate stringRedisTemplate, UserService userService,
+                                  PostService postService, @Value("${statistics.zone:Asia/Seoul}") String zone) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.userService = userService;
+        this.postService = postService;
+        this.zone = ZoneId.of(zone);
+    }
+
+    /**
+     * 시계열 단위
+     */
+    public enum Granularity {
+        HOUR, DAY
+    }
+
+    /**
+     * 통계 카운터 변경 기록 (트랜잭션 커밋 후 반영)
+     *
+     * @param event 통계 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatisticsEvent(StatisticsEvent event) {
+        StatisticsEvent.Metric metric = event.getMetric();
+        add(COUNTERS_KEY, metric.name(), event.getDelta());
+
+        if (event.getDelta() > 0 && SERIES_METRICS.contains(metric)) {
+            LocalDateTime now = LocalDateTime.now(zone);
+            add(hourlyKey(metric, now.toLocalDate()), hourField(now.getHour()), event.getDelta());
+            add(dailyKey(metric, now.toLocalDate()), dayField(now.getDayOfMonth()), event.getDelta());
+        }
+    }
+
+    /**
+     * 사용자 통계 조회 (스냅샷)
+     *
+     * @return UserService.UserStatistics
+     */
+    public UserService.UserStatistics getUserStatistics() {
+        Snapshot current = snapshot;
+        return UserService.UserStatistics.builder()
+                .totalUsers(current.count(StatisticsEvent.Metric.USERS))
+                .adminUsers(current.count(StatisticsEvent.Metric.ADMIN_USERS))
+                .regularUsers(current.count(StatisticsEvent.Metric.REGULAR_USERS))
+                .build();
+    }
+
+    /**
+     * 게시글 통계 조회 (스냅샷)
+     *
+     * @return PostService.PostStatistics
+     */
+    public PostService.PostStatistics getPostStatistics() {
+        Snapshot current = snapshot;
+        return PostService.PostStatistics.builder()
+                .totalPosts(current.count(StatisticsEvent.Metric.POSTS))
+                .totalComments(current.count(StatisticsEvent.Metric.COMMENTS))
+                .build();
+    }
+
+    /**
+     * 게시글 / 댓글 작성 시계열 조회 (스냅샷)
+     * - HOUR: 최근 statistics.series.hours 시간, DAY: 최근 statistics.series.days 일
+     *
+     * @param metric 지표 (POSTS, COMMENTS)
+     * @param granularity 시계열 단위
+     * @return 오래된 구간부터 정렬된 구간별 작성 수
+     */
+    public List<SeriesPoint> getSeries(StatisticsEvent.Metric metric, Granularity granularity) {
+        if (!SERIES_METRICS.contains(metric)) {
+            throw new IllegalArgumentException("시계열을 제공하지 않는 지표입니다: " + metric);
+        }
+        Snapshot current = snapshot;
+        Map<StatisticsEvent.Metric, List<SeriesPoint>> series =
+                granularity == Granularity.HOUR ? current.hourly() : current.daily();
+        return series.getOrDefault(metric, Collections.emptyList());
+    }
+
+    /**
+     * 메모리 카운터를 Redis에 반영하고 스냅샷 갱신
+     */
+    @Scheduled(fixedDelayString = "${statistics.sync-interval-ms:2000}")
+    public void sync() {
+        syncLock.lock();
+        try {
+            flushPending();
+            try {
+                snapshot = loadSnapshot();
+            } catch (Exception e) {
+                log.warn("관리자 통계 스냅샷 갱신 실패, 기존 스냅샷 유지: {}", e.getMessage());
+            }
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushPending();
+    }
+
+    /**
+     * DB 기준으로 전체 카운터 보정
+     * - 긴 주기로 실행하여 누락된 증감을 바로잡음
+     * - 다른 노드가 아직 반영하지 않은 증감(노드당 최대 sync 주기 1회분)은 DB COUNT에는 있지만 Redis에는 없으므로,
+     *   한 번 비교한 차이를 그대로 더하면 그 증감이 반영될 때 이중으로 더해짐
+     * - 그래서 sync 주기보다 긴 settle 시간 간격으로 두 번 비교하고, 두 번 모두 같은 방향으로 남은 차이 중
+     *   작은 쪽만 보정. 두 번째 비교 시점에 반영 중인 증감만큼은 이번 보정에서 빠질 수 있음 (다음 보정에서 처리)
+     */
+    @Scheduled(fixedDelayString = "${statistics.reconcile-interval-ms:21600000}",
+            initialDelayString = "${statistics.reconcile-interval-ms:21600000}")
+    public void reconcile() {
+        if (!acquireReconcileLock()) {
+            log.debug("다른 노드가 관리자 통계 카운터 보정 중");
+            return;
+        }
+        try {
+            Map<String, Long> first = measureDrift();
+            if (first.isEmpty()) {
+                return;
+            }
+            try {
+                Thread.sleep(reconcileSettleMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            Map<String, Long> second = measureDrift();
+
+            Map<String, Long> corrections = new LinkedHashMap<>();
+            first.forEach((field, drift) -> {
+                long settled = second.getOrDefault(field, 0L);
+                if (Long.signum(drift) == Long.signum(settled)) {
+                    corrections.put(field, Math.abs(drift) <= Math.abs(settled) ? drift : settled);
+                }
+            });
+            applyCorrections(corrections);
+            log.info("관리자 통계 카운터 보정 완료: corrections={}, first={}, second={}", corrections, first, second);
+        } finally {
+            stringRedisTemplate.delete(RECONCILE_LOCK_KEY);
+        }
+    }
+
+    // === Private Methods ===
+
+    /**
+     * Redis 카운터가 없을 때(최초 기동 / Redis 초기화) DB COUNT로 채움
+     * - 이때 다른 노드의 미반영 증감은 이중으로 더해질 수 있으며(최대 sync 주기 1회분), 다음 정기 보정에서 바로잡음
+     * - 여러 노드가 같은 차이를 중복으로 더하지 않도록 보정 잠금(SET NX)을 얻은 노드만 실행
+     *
+     * @return 보정 후 카운터 (잠금을 얻지 못하면 현재 Redis 값)
+     */
+    private Map<String, String> seedCounters() {
+        if (!acquireReconcileLock()) {
+            log.debug("다른 노드가 관리자 통계 카운터 보정 중");
+            return stringRedisTemplate.<String, String>opsForHash().entries(COUNTERS_KEY);
+        }
+        try {
+            Map<String, String> before = stringRedisTemplate.<String, String>opsForHash().entries(COUNTERS_KEY);
+            Map<StatisticsEvent.Metric, Long> counts = countFromDatabase();
+            Map<String, Long> corrections = drift(counts, before);
+
+            Map<String, String> reconciled = applyCorrections(corrections);
+            counts.forEach((metric, count) -> reconciled.putIfAbsent(metric.name(), Long.toString(count)));
+
+            log.info("관리자 통계 카운터 초기화 완료: corrections={}", corrections);
+            return reconciled;
+        } finally {
+            stringRedisTemplate.delete(RECONCILE_LOCK_KEY);
+        }
+    }
+
+    private boolean acquireReconcileLock() {
+        return Boolean.TRUE.equals(
+                stringRedisTemplate.opsForValue().setIfAbsent(RECONCILE_LOCK_KEY, "1", RECONCILE_LOCK_TTL));
+    }
+
+    /**
+     * 이 노드의 미반영 증감을 먼저 반영한 뒤 DB COUNT와 Redis 카운터의 차이 계산
+     */
+    private Map<String, Long> measureDrift() {
+        syncLock.lock();
+        try {
+            // 이 노드의 미반영 증감이 DB COUNT와 이중으로 더해지지 않도록 먼저 반영
+            flushPending();
+            Map<String, String> before = stringRedisTemplate.<String, String>opsForHash().entries(COUNTERS_KEY);
+            return drift(countFromDatabase(), before);
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private Map<StatisticsEvent.Metric, Long> countFromDatabase() {
+        UserService.UserStatistics users = userService.getUserStatistics();
+        PostService.PostStatistics posts = postService.getPostStatistics();
+
+        Map<StatisticsEvent.Metric, Long> counts = new EnumMap<>(StatisticsEvent.Metric.class);
+        counts.put(StatisticsEvent.Metric.USERS, users.getTotalUsers());
+        counts.put(StatisticsEvent.Metric.ADMIN_USERS, users.getAdminUsers());
+        counts.put(StatisticsEvent.Metric.REGULAR_USERS, users.getRegularUsers());
+        counts.put(StatisticsEvent.Metric.POSTS, posts.getTotalPosts());
+        counts.put(StatisticsEvent.Metric.COMMENTS, posts.getTotalComments());
+        return counts;
+    }
+
+    private Map<String, Long> drift(Map<StatisticsEvent.Metric, Long> counts, Map<String, String> counters) {
+        Map<String, Long> drift = new LinkedHashMap<>();
+        counts.forEach((metric, count) -> {
+            long difference = count - Long.parseLong(counters.getOrDefault(metric.name(), "0"));
+            if (difference != 0) {
+                drift.put(metric.name(), difference);
+            }
+        });
+        return drift;
+    }
+
+    /**
+     * 차이를 HINCRBY로 반영
+     *
+     * @return 보정한 필드의 반영 후 값
+     */
+    private Map<String, String> applyCorrections(Map<String, Long> corrections) {
+        Map<String, String> reconciled = new HashMap<>();
+        if (corrections.isEmpty()) {
+            return reconciled;
+        }
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            corrections.forEach((field, correction) -> redis.hIncrBy(COUNTERS_KEY, field, correction));
+            return null;
+        });
+        List<String> fields = new ArrayList<>(corrections.keySet());
+        for (int i = 0; i < fields.size(); i++) {
+            reconciled.put(fields.get(i), String.valueOf(results.get(i)));
+        }
+        return reconciled;
+    }
+
+    private void add(String key, String field, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        PendingKey pendingKey = new PendingKey(key, field);
+        AtomicLong counter = pending.get(pendingKey);
+        if (counter == null) {
+            counter = pending.computeIfAbsent(pendingKey, k -> new AtomicLong());
+        }
+        counter.addAndGet(delta);
+    }
+
+    private void flushPending() {
+        Map<PendingKey, Long> deltas = new HashMap<>();
+        for (Map.Entry<PendingKey, AtomicLong> entry : pending.entrySet()) {
+            long delta = entry.getValue().getAndSet(0);
+            if (delta != 0) {
+                deltas.put(entry.getKey(), delta);
+            } else if (pending.remove(entry.getKey(), entry.getValue())) {
+                // 제거 직전에 더해진 값은 새 카운터로 옮김
+                long late = entry.getValue().getAndSet(0);
+                if (late != 0) {
+                    add(entry.getKey().key(), entry.getKey().field(), late);
+                }
+            }
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        Set<String> seriesKeys = new LinkedHashSet<>();
+        deltas.keySet().forEach(key -> {
+            if (!COUNTERS_KEY.equals(key.key())) {
+                seriesKeys.add(key.key());
+            }
+        });
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection redis = (StringRedisConnection) connection;
+                deltas.forEach((key, delta) -> redis.hIncrBy(key.key(), key.field(), delta));
+                for (String seriesKey : seriesKeys) {
+                    redis.expire(seriesKey, seriesTtl(seriesKey).toSeconds());
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("관리자 통계 카운터 반영 실패, 다음 주기에 재시도: size={}, error={}", deltas.size(), e.getMessage());
+            deltas.forEach((key, delta) -> add(key.key(), key.field(), delta));
+        }
+    }
+
+    private Snapshot loadSnapshot() {
+        LocalDateTime now = LocalDateTime.now(zone);
+        LocalDateTime firstHour = now.truncatedTo(ChronoUnit.HOURS).minusHours(seriesHours - 1L);
+        LocalDate firstDay = now.toLocalDate().minusDays(seriesDays - 1L);
+
+        List<String> keys = new ArrayList<>();
+        keys.add(COUNTERS_KEY);
+        for (StatisticsEvent.Metric metric : SERIES_METRICS) {
+            for (LocalDate day = firstHour.toLocalDate(); !day.isAfter(now.toLocalDate()); day = day.plusDays(1)) {
+                keys.add(hourlyKey(metric, day));
+            }
+            for (LocalDate month = firstDay.withDayOfMonth(1); !month.isAfter(now.toLocalDate()); month = month.plusMonths(1)) {
+                keys.add(dailyKey(metric, month));
+            }
+        }
+
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            keys.forEach(redis::hGetAll);
+            return null;
+        });
+        Map<String, Map<String, String>> hashes = new HashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            @SuppressWarnings("unchecked")
+            Map<String, String> hash = (Map<String, String>) results.get(i);
+            hashes.put(keys.get(i), hash == null ? Map.of() : hash);
+        }
+
+        Map<String, String> counterHash = hashes.get(COUNTERS_KEY);
+        if (counterHash.isEmpty()) {
+            counterHash = seedCounters();
+        }
+        Map<StatisticsEvent.Metric, Long> counters = new EnumMap<>(StatisticsEvent.Metric.class);
+        for (StatisticsEvent.Metric metric : StatisticsEvent.Metric.values()) {
+            counters.put(metric, Long.parseLong(counterHash.getOrDefault(metric.name(), "0")));
+        }
+
+        Map<StatisticsEvent.Metric, List<SeriesPoint>> hourly = new EnumMap<>(StatisticsEvent.Metric.class);
+        Map<StatisticsEvent.Metric, List<SeriesPoint>> daily = new EnumMap<>(StatisticsEvent.Metric.class);
+        for (StatisticsEvent.Metric metric : SERIES_METRICS) {
+            List<SeriesPoint> hours = new ArrayList<>(seriesHours);
+            for (LocalDateTime hour = firstHour; !hour.isAfter(now); hour = hour.plusHours(1)) {
+                String value = hashes.get(hourlyKey(metric, hour.toLocalDate())).get(hourField(hour.getHour()));
+                hours.add(new SeriesPoint(hour, value == null ? 0 : Long.parseLong(value)));
+            }
+            List<SeriesPoint> days = new ArrayList<>(seriesDays);
+            for (LocalDate day = firstDay; !day.isAfter(now.toLocalDate()); day = day.plusDays(1)) {
+                String value = hashes.get(dailyKey(metric, day)).get(dayField(day.getDayOfMonth()));
+                days.add(new SeriesPoint(day.atStartOfDay(), value == null ? 0 : Long.parseLong(value)));
+            }
+            hourly.put(metric, Collections.unmodifiableList(hours));
+            daily.put(metric, Collections.unmodifiableList(days));
+        }
+        return new Snapshot(counters, hourly, daily);
+    }
+
+    private String hourlyKey(StatisticsEvent.Metric metric, LocalDate date) {
+        return SERIES_KEY_PREFIX + metric.name().toLowerCase() + ":hourly:" + HOURLY_KEY_FORMAT.format(date);
+    }
+
+    private String dailyKey(StatisticsEvent.Metric metric, LocalDate date) {
+        return SERIES_KEY_PREFIX + metric.name().toLowerCase() + ":daily:" + DAILY_KEY_FORMAT.format(date);
+    }
+
+    private String hourField(int hour) {
+        return String.format("%02d", hour);
+    }
+
+    private String dayField(int dayOfMonth) {
+        return String.format("%02d", dayOfMonth);
+    }
+
+    private Duration seriesTtl(String seriesKey) {
+        return seriesKey.contains(":hourly:")
+                ? Duration.ofHours(seriesHours).plusDays(2)
+                : Duration.ofDays(seriesDays).plusDays(62);
+    }
+
+    /**
+     * 시계열 구간 DTO
+     */
+    @lombok.Getter
+    @lombok.AllArgsConstructor
+    public static class SeriesPoint {
+        private LocalDateTime bucket;
+        private long count;
+    }
+
+    private record PendingKey(String key, String field) {
+    }
+
+    /**
+     * 대시보드 응답용 불변 스냅샷
+     */
+    private record Snapshot(Map<StatisticsEvent.Metric, Long> counters,
+                            Map<StatisticsEvent.Metric, List<SeriesPoint>> hourly,
+                            Map<StatisticsEvent.Metric, List<SeriesPoint>> daily) {
+
+        private static final Snapshot EMPTY = new Snapshot(Map.of(), Map.of(), Map.of());
+
+        private long count(StatisticsEvent.Metric metric) {
+            return counters.getOrDefault(metric, 0L);
+        }
+    }
+}
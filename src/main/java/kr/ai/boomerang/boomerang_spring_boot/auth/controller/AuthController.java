@@ -39,7 +39,7 @@ public class AuthController {
 
     /**
      * 로그아웃
-     * Redis에 저장된 리프레시 토큰을 삭제
+     * Redis에 저장된 리프레시 토큰을 삭제하고 현재 Access Token을 폐기
      *
      * @param authentication 인증 정보
      * @return 로그아웃 결과
@@ -47,7 +47,8 @@ public class AuthController {
     @PostMapping("/logout")
     public ResponseEntity<ApiResponse<Void>> logout(Authentication authentication) {
         Long userId = (Long) authentication.getPrincipal();
-        authService.logout(userId);
+        String accessToken = (String) authentication.getCredentials();
+        authService.logout(userId, accessToken);
         return ResponseEntity.ok(ApiResponse.success("로그아웃되었습니다.", null));
     }
 
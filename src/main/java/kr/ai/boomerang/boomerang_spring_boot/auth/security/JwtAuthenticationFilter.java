@@ -1,5 +1,7 @@
 package kr.ai.boomerang.boomerang_spring_boot.auth.security;
 
+import io.jsonwebtoken.Claims;
+import kr.ai.boomerang.boomerang_spring_boot.auth.service.TokenRevocationService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -18,6 +20,8 @@ import java.util.Collections;
 
 /**
  * JWT 토큰을 검증하고 SecurityContext에 인증 정보를 설정하는 필터
+ * 폐기(로그아웃)된 토큰은 로컬 Bloom Filter가 양성일 때만 Redis에서 확인합니다.
+ * 토큰은 요청당 한 번만 파싱 / 서명 검증하고, jti / sub / role은 같은 Claims에서 읽습니다.
  *
  * @author Boomerang Team
  */
@@ -30,6 +34,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final String BEARER_PREFIX = "Bearer ";
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationService tokenRevocationService;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -37,9 +42,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         try {
             String token = resolveToken(request);
+            Claims claims = StringUtils.hasText(token) ? jwtTokenProvider.getValidClaims(token) : null;
 
-            if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
-                setAuthentication(token);
+            if (claims != null && !tokenRevocationService.isRevoked(claims.getId())) {
+                setAuthentication(token, claims);
             }
         } catch (Exception e) {
             log.debug("JWT 토큰 처리 중 오류 발생: {}", e.getMessage());
@@ -51,18 +57,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     /**
      * JWT 토큰으로부터 인증 정보를 생성하여 SecurityContext에 설정
+     * - 로그아웃 시 토큰 폐기를 위해 원본 토큰을 credentials로 보관
      *
      * @param token JWT 토큰
+     * @param claims 검증된 Claims
      */
-    private void setAuthentication(String token) {
-        Long userId = jwtTokenProvider.getUserId(token);
-        String role = jwtTokenProvider.getUserRole(token);
+    private void setAuthentication(String token, Claims claims) {
+        Long userId = claims.getSubject() != null ? Long.parseLong(claims.getSubject()) : null;
+        String role = claims.get("role", String.class);
 
         if (userId != null && role != null) {
             UsernamePasswordAuthenticationToken authentication =
                     new UsernamePasswordAuthenticationToken(
                             userId,
-                            null,
+                            token,
                             Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role))
                     );
             SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -10,6 +10,7 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.UUID;
 
 /**
  * JWT 토큰 생성 및 검증을 담당하는 클래스
@@ -21,6 +22,7 @@ import java.util.Date;
 public class JwtTokenProvider {
 
     private final SecretKey key;
+    private final JwtParser parser;
     private final long accessTokenValidityInMilliseconds;
     private final long refreshTokenValidityInMilliseconds;
 
@@ -29,6 +31,7 @@ public class JwtTokenProvider {
             @Value("${jwt.access-token-validity-in-seconds}") long accessTokenValidityInSeconds,
             @Value("${jwt.refresh-token-validity-in-seconds}") long refreshTokenValidityInSeconds) {
         this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
         this.accessTokenValidityInMilliseconds = accessTokenValidityInSeconds * 1000;
         this.refreshTokenValidityInMilliseconds = refreshTokenValidityInSeconds * 1000;
     }
@@ -73,6 +76,7 @@ public class JwtTokenProvider {
 
         return Jwts.builder()
                 .setClaims(claims)
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(now)
                 .setExpiration(validity)
                 .signWith(key, SignatureAlgorithm.HS256)
@@ -99,6 +103,27 @@ public class JwtTokenProvider {
         return getClaims(token).get("role", String.class);
     }
 
+    /**
+     * 토큰에서 토큰 ID(jti) 추출
+     *
+     * @param token JWT 토큰
+     * @return 토큰 ID
+     */
+    public String getTokenId(String token) {
+        return getClaims(token).getId();
+    }
+
+    /**
+     * 토큰의 남은 유효 시간 계산
+     *
+     * @param token JWT 토큰
+     * @return 남은 유효 시간 (밀리초, 만료된 경우 0)
+     */
+    public long getRemainingValidityInMilliseconds(String token) {
+        Date expiration = getClaims(token).getExpiration();
+        return Math.max(0, expiration.getTime() - System.currentTimeMillis());
+    }
+
     /**
      * 토큰 유효성 검증
      *
@@ -106,9 +131,19 @@ public class JwtTokenProvider {
      * @return 유효 여부
      */
     public boolean validateToken(String token) {
+        return getValidClaims(token) != null;
+    }
+
+    /**
+     * 토큰 검증 후 Claims 반환
+     * - 서명 검증은 한 번만 수행되므로, 여러 클레임(sub / role / jti)이 필요하면 이 결과를 재사용
+     *
+     * @param token JWT 토큰
+     * @return Claims (유효하지 않으면 null)
+     */
+    public Claims getValidClaims(String token) {
         try {
-            getClaims(token);
-            return true;
+            return getClaims(token);
         } catch (ExpiredJwtException e) {
             log.debug("만료된 JWT 토큰입니다: {}", e.getMessage());
         } catch (UnsupportedJwtException e) {
@@ -118,7 +153,7 @@ public class JwtTokenProvider {
         } catch (SecurityException | IllegalArgumentException e) {
             log.debug("잘못된 JWT 서명입니다: {}", e.getMessage());
         }
-        return false;
+        return null;
     }
 
     /**
@@ -128,11 +163,7 @@ public class JwtTokenProvider {
      * @return Claims
      */
     private Claims getClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
     }
 
     /**
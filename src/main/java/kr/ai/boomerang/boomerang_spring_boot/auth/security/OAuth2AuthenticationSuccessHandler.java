@@ -2,6 +2,7 @@ package kr.ai.boomerang.boomerang_spring_boot.auth.security;
 
 import kr.ai.boomerang.boomerang_spring_boot.auth.dto.AuthDto;
 import kr.ai.boomerang.boomerang_spring_boot.auth.service.AuthService;
+import kr.ai.boomerang.boomerang_spring_boot.user.service.LoginActivityService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -27,6 +28,7 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
 
     private final AuthService authService;
     private final ObjectMapper objectMapper;
+    private final LoginActivityService loginActivityService;
 
     @Override
     public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response,
@@ -52,6 +54,7 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
             response.setCharacterEncoding("UTF-8");
 
             response.getWriter().write(objectMapper.writeValueAsString(tokenResponse));
+            loginActivityService.recordLogin(userId);
 
             log.info("OAuth2 로그인 성공: userId={}", userId);
 
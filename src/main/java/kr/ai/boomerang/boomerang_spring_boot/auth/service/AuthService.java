@@ -3,6 +3,7 @@ package kr.ai.boomerang.boomerang_spring_boot.auth.service;
 import kr.ai.boomerang.boomerang_spring_boot.auth.dto.AuthDto;
 import kr.ai.boomerang.boomerang_spring_boot.auth.exception.InvalidTokenException;
 import kr.ai.boomerang.boomerang_spring_boot.auth.security.JwtTokenProvider;
+import kr.ai.boomerang.boomerang_spring_boot.user.service.LoginActivityService;
 import kr.ai.boomerang.boomerang_spring_boot.user.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,7 +24,9 @@ public class AuthService {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final TokenService tokenService;
+    private final TokenRevocationService tokenRevocationService;
     private final UserService userService;
+    private final LoginActivityService loginActivityService;
 
     /**
      * 리프레시 토큰을 이용하여 액세스 토큰 재발급
@@ -56,6 +59,9 @@ public class AuthService {
         // 새로운 Refresh Token을 Redis에 저장
         tokenService.saveRefreshToken(userId, newRefreshToken);
 
+        // 토큰 재발급도 앱 재방문이므로 일간 로그인으로 기록
+        loginActivityService.recordLogin(userId);
+
         log.info("Access Token 재발급 완료: userId={}", userId);
 
         return AuthDto.TokenResponse.of(
@@ -67,12 +73,21 @@ public class AuthService {
 
     /**
      * 로그아웃
-     * Redis에서 리프레시 토큰을 삭제합니다.
+     * Redis에서 리프레시 토큰을 삭제하고, 사용 중인 Access Token을 만료 시점까지 폐기 목록에 등록합니다.
      *
      * @param userId 사용자 ID
+     * @param accessToken 현재 Access Token (없으면 리프레시 토큰만 삭제)
      */
-    public void logout(Long userId) {
+    public void logout(Long userId, String accessToken) {
         tokenService.deleteRefreshToken(userId);
+
+        if (StringUtils.hasText(accessToken) && jwtTokenProvider.validateToken(accessToken)) {
+            tokenRevocationService.revoke(
+                    jwtTokenProvider.getTokenId(accessToken),
+                    jwtTokenProvider.getRemainingValidityInMilliseconds(accessToken)
+            );
+        }
+
         log.info("로그아웃 완료: userId={}", userId);
     }
 
@@ -2,6 +2,7 @@ package kr.ai.boomerang.boomerang_spring_boot.auth.service;
 
 import kr.ai.boomerang.boomerang_spring_boot.user.domain.User;
 import kr.ai.boomerang.boomerang_spring_boot.user.repository.UserRepository;
+import kr.ai.boomerang.boomerang_spring_boot.user.service.NicknameAllocator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
@@ -25,6 +26,7 @@ import java.util.Map;
 @Slf4j
 public class CustomOAuth2UserService extends DefaultOAuth2UserService {
     private final UserRepository userRepository;
+    private final NicknameAllocator nicknameAllocator;
 
     @Override
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
@@ -70,17 +72,16 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
         return userRepository.findByProviderAndProviderId(provider, oAuth2UserInfo.getId())
                 .orElseGet(() -> {
-                    String uniqueNickname = generateUniqueNickname(oAuth2UserInfo.getName());
-
-                    User newUser = User.builder()
-                            .email(oAuth2UserInfo.getEmail())
-                            .nickname(uniqueNickname)
-                            .provider(provider)
-                            .providerId(oAuth2UserInfo.getId())
-                            .role(User.Role.USER)
-                            .build();
+                    User savedUser = nicknameAllocator.saveWithUniqueNickname(
+                            oAuth2UserInfo.getName() != null ? oAuth2UserInfo.getName() : "사용자",
+                            uniqueNickname -> User.builder()
+                                    .email(oAuth2UserInfo.getEmail())
+                                    .nickname(uniqueNickname)
+                                    .provider(provider)
+                                    .providerId(oAuth2UserInfo.getId())
+                                    .role(User.Role.USER)
+                                    .build());
 
-                    User savedUser = userRepository.save(newUser);
                     log.info("새 OAuth2 사용자 생성: userId={}, provider={}, email={}",
                             savedUser.getId(), provider, oAuth2UserInfo.getEmail());
 
@@ -88,18 +89,6 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
                 });
     }
 
-    private String generateUniqueNickname(String name) {
-        String baseNickname = name != null ? name : "사용자";
-        String nickname = baseNickname;
-        int counter = 1;
-
-        while (userRepository.existsByNickname(nickname)) {
-            nickname = baseNickname + counter;
-            counter++;
-        }
-
-        return nickname;
-    }
 /*
 
     private final UserRepository userRepository;
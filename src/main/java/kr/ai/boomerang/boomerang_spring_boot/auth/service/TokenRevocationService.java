@@ -0,0 +1,239 @@
+package kr.ai.boomerang.boomerang_spring_boot.auth.service;
+
+import jakarta.annotation.PostConstruct;
+import kr.ai.boomerang.boomerang_spring_boot.common.redis.RedisCommandBatcher;
+import kr.ai.boomerang.boomerang_spring_boot.common.util.BloomFilter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.zset.Tuple;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Access Token 폐기(revocation) 관리 서비스
+ * 로그아웃된 Access Token의 ID(jti)를 Redis에 남은 유효 시간만큼 저장합니다.
+ * - 각 노드는 폐기된 jti를 로컬 Bloom Filter로 복제하여, 필터가 양성일 때만 Redis를 조회
+ * - 다른 노드의 폐기 이벤트는 Redis Pub/Sub으로 전달받아 로컬 필터에 반영
+ * - Bloom Filter는 삭제가 불가하므로 주기적으로 Redis 기준으로 재구성하여 만료 항목을 정리
+ * - 재구성은 키 SCAN 대신 해시 태그를 붙인 단일 인덱스(ZSET, score = 만료 시각)를 읽어 클러스터에서도 전체 목록을 봄
+ * - 재구성이 한 번도 성공하지 못한 동안에는 필터를 신뢰하지 않고 항상 Redis를 조회 (fail-closed)
+ *
+ * @author Boomerang Team
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TokenRevocationService implements MessageListener {
+
+    private static final String REVOKED_TOKEN_PREFIX = "revoked_token:";
+    private static final String REVOKED_TOKEN_CHANNEL = "token:revoked";
+    private static final String REVOKED_TOKEN_INDEX_KEY = "{revoked_token}:index";
+    private static final String REVOKED_TOKEN_INDEX_SINCE_KEY = "{revoked_token}:index-since";
+    private static final int INDEX_SCAN_COUNT = 1000;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisCommandBatcher redisCommandBatcher;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Value("${jwt.revocation.expected-insertions:100000}")
+    private long expectedInsertions;
+
+    @Value("${jwt.revocation.false-positive-probability:0.001}")
+    private double falsePositiveProbability;
+
+    @Value("${jwt.access-token-validity-in-seconds}")
+    private long accessTokenValidityInSeconds;
+
+    private volatile BloomFilter revokedTokenFilter;
+    private volatile BloomFilter rebuildingFilter;
+
+    // 첫 재구성이 성공하기 전까지 필터는 Redis 상태를 반영하지 못하므로 음성을 신뢰하지 않음
+    private volatile boolean filterReady;
+
+    // 인덱스 도입 이전 버전이 남긴 폐기 키는 인덱스에 없으므로, 도입 후 Access Token 유효 시간 동안은 Redis를 조회
+    private volatile long legacyFallbackUntil = Long.MAX_VALUE;
+
+    // SCAN 도중 가상 스레드가 캐리어에 고정되지 않도록 ReentrantLock 사용
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    // 필터 추가와 필터 교체를 직렬화 (교체 직전 기존 필터에만 추가된 jti가 사라지지 않도록)
+    private final ReentrantLock filterLock = new ReentrantLock();
+
+    @PostConstruct
+    public void init() {
+        revokedTokenFilter = new BloomFilter(expectedInsertions, falsePositiveProbability);
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(REVOKED_TOKEN_CHANNEL));
+        rebuildFilter();
+    }
+
+    /**
+     * Access Token 폐기
+     * - 남은 유효 시간 동안만 Redis에 보관하고 다른 노드에 폐기 사실을 전파
+     *
+     * @param tokenId 토큰 ID (jti)
+     * @param remainingValidityInMilliseconds 남은 유효 시간 (밀리초)
+     */
+    public void revoke(String tokenId, long remainingValidityInMilliseconds) {
+        if (!StringUtils.hasText(tokenId) || remainingValidityInMilliseconds <= 0) {
+            return;
+        }
+
+        // 인덱스를 먼저 기록하여, 폐기 키만 남고 재구성 대상에서 빠지는 경우가 없도록 함
+        long expiresAt = System.currentTimeMillis() + remainingValidityInMilliseconds;
+        redisTemplate.execute((RedisCallback<Boolean>) connection ->
+                connection.zSetCommands().zAdd(bytes(REVOKED_TOKEN_INDEX_KEY), expiresAt, bytes(tokenId)));
+        redisCommandBatcher.set(REVOKED_TOKEN_PREFIX + tokenId, Boolean.TRUE,
+                remainingValidityInMilliseconds, TimeUnit.MILLISECONDS);
+        addToFilter(tokenId);
+        redisTemplate.convertAndSend(REVOKED_TOKEN_CHANNEL, tokenId);
+
+        log.info("Access Token 폐기 완료: jti={}", tokenId);
+    }
+
+    /**
+     * Access Token 폐기 여부 확인
+     * - Bloom Filter 음성이면 Redis를 조회하지 않고 즉시 false 반환
+     * - 단, 필터가 아직 재구성되지 않았거나 인덱스 도입 직후라면 항상 Redis를 조회
+     *
+     * @param tokenId 토큰 ID (jti)
+     * @return 폐기 여부
+     */
+    public boolean isRevoked(String tokenId) {
+        if (!StringUtils.hasText(tokenId)) {
+            return false;
+        }
+        if (isFilterTrusted() && !revokedTokenFilter.mightContain(tokenId)) {
+            return false;
+        }
+        return redisCommandBatcher.hasKey(REVOKED_TOKEN_PREFIX + tokenId);
+    }
+
+    /**
+     * 다른 노드에서 전파된 폐기 이벤트 수신
+     *
+     * @param message Pub/Sub 메시지
+     * @param pattern 구독 패턴
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Object tokenId = redisTemplate.getValueSerializer().deserialize(message.getBody());
+        if (tokenId != null) {
+            addToFilter(tokenId.toString());
+        }
+    }
+
+    /**
+     * Redis 폐기 인덱스로 Bloom Filter 재구성
+     * - 만료된 jti를 필터와 인덱스에서 제거하기 위해 주기적으로 실행
+     * - 재구성 중 발생한 폐기 이벤트는 기존 필터와 재구성 중인 필터 모두에 반영
+     * - 재구성 시작 / 교체는 filterLock 안에서 수행하여 그 사이의 추가가 새 필터에서 빠지지 않음
+     * - 실패하면 기존 필터를 유지하며, 한 번도 성공하지 못했다면 계속 Redis를 조회
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.rebuild-interval-ms:3600000}",
+            initialDelayString = "${jwt.revocation.rebuild-interval-ms:3600000}")
+    public void rebuildFilter() {
+        rebuildLock.lock();
+        try {
+            BloomFilter rebuilt = new BloomFilter(expectedInsertions, falsePositiveProbability);
+            withFilterLock(() -> rebuildingFilter = rebuilt);
+
+            try {
+                long indexSince = redisTemplate.execute((RedisCallback<Long>) this::readIndexSince);
+                int count = redisTemplate.execute((RedisCallback<Integer>) connection -> loadIndex(connection, rebuilt));
+
+                withFilterLock(() -> {
+                    revokedTokenFilter = rebuilt;
+                    rebuildingFilter = null;
+                });
+                legacyFallbackUntil = indexSince + TimeUnit.SECONDS.toMillis(accessTokenValidityInSeconds);
+                filterReady = true;
+                log.info("폐기 토큰 Bloom Filter 재구성 완료: count={}", count);
+            } catch (Exception e) {
+                log.warn("폐기 토큰 Bloom Filter 재구성 실패, 기존 필터 유지 (ready={}): {}", filterReady, e.getMessage());
+            } finally {
+                withFilterLock(() -> rebuildingFilter = null);
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    // === Private Methods ===
+
+    private boolean isFilterTrusted() {
+        return filterReady && System.currentTimeMillis() >= legacyFallbackUntil;
+    }
+
+    /**
+     * 만료된 항목을 인덱스에서 지운 뒤, 남은 jti를 ZSCAN으로 읽어 필터에 추가
+     * (ZSCAN은 순회 중 다른 노드가 항목을 추가 / 삭제해도 계속 존재하는 항목은 빠뜨리지 않음)
+     */
+    private int loadIndex(RedisConnection connection, BloomFilter rebuilt) {
+        byte[] indexKey = bytes(REVOKED_TOKEN_INDEX_KEY);
+        long now = System.currentTimeMillis();
+        connection.zSetCommands().zRemRangeByScore(indexKey, Double.NEGATIVE_INFINITY, now);
+
+        int count = 0;
+        ScanOptions options = ScanOptions.scanOptions().count(INDEX_SCAN_COUNT).build();
+        try (Cursor<Tuple> cursor = connection.zSetCommands().zScan(indexKey, options)) {
+            while (cursor.hasNext()) {
+                Tuple tuple = cursor.next();
+                if (tuple.getScore() > now) {
+                    rebuilt.put(new String(tuple.getValue(), StandardCharsets.UTF_8));
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 인덱스가 처음 도입된 시각 조회 (없으면 지금으로 기록)
+     */
+    private long readIndexSince(RedisConnection connection) {
+        byte[] key = bytes(REVOKED_TOKEN_INDEX_SINCE_KEY);
+        connection.stringCommands().set(key, bytes(Long.toString(System.currentTimeMillis())),
+                Expiration.persistent(), RedisStringCommands.SetOption.ifAbsent());
+        byte[] since = connection.stringCommands().get(key);
+        return since == null ? System.currentTimeMillis() : Long.parseLong(new String(since, StandardCharsets.UTF_8));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void addToFilter(String tokenId) {
+        withFilterLock(() -> {
+            revokedTokenFilter.put(tokenId);
+            if (rebuildingFilter != null) {
+                rebuildingFilter.put(tokenId);
+            }
+        });
+    }
+
+    private void withFilterLock(Runnable action) {
+        filterLock.lock();
+        try {
+            action.run();
+        } finally {
+            filterLock.unlock();
+        }
+    }
+}
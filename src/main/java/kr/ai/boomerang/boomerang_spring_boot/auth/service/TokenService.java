@@ -1,5 +1,6 @@
 package kr.ai.boomerang.boomerang_spring_boot.auth.service;
 
+import kr.ai.boomerang.boomerang_spring_boot.common.redis.RedisCommandBatcher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
@@ -10,6 +11,7 @@ import java.util.concurrent.TimeUnit;
 /**
  * JWT Token Redis 관리 서비스
  * Refresh Token의 저장, 조회, 삭제를 담당합니다.
+ * - 단건 명령은 RedisCommandBatcher를 통해 동시 요청과 함께 파이프라인으로 전송
  *
  * @author Boomerang Team
  */
@@ -22,6 +24,7 @@ public class TokenService {
     private static final long REFRESH_TOKEN_EXPIRE_TIME = 7 * 24 * 60 * 60; // 7일 (초 단위)
 
     private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisCommandBatcher redisCommandBatcher;
 
     /**
      * Refresh Token 저장
@@ -32,7 +35,7 @@ public class TokenService {
      */
     public void saveRefreshToken(Long userId, String refreshToken) {
         String key = REFRESH_TOKEN_PREFIX + userId;
-        redisTemplate.opsForValue().set(key, refreshToken, REFRESH_TOKEN_EXPIRE_TIME, TimeUnit.SECONDS);
+        redisCommandBatcher.set(key, refreshToken, REFRESH_TOKEN_EXPIRE_TIME, TimeUnit.SECONDS);
         log.info("Refresh Token 저장 완료: userId={}", userId);
     }
 
@@ -45,7 +48,7 @@ public class TokenService {
      */
     public String getRefreshToken(Long userId) {
         String key = REFRESH_TOKEN_PREFIX + userId;
-        return (String) redisTemplate.opsForValue().get(key);
+        return (String) redisCommandBatcher.get(key);
     }
 
     /**
@@ -56,7 +59,7 @@ public class TokenService {
      */
     public void deleteRefreshToken(Long userId) {
         String key = REFRESH_TOKEN_PREFIX + userId;
-        redisTemplate.delete(key);
+        redisCommandBatcher.delete(key);
         log.info("Refresh Token 삭제 완료: userId={}", userId);
     }
 
@@ -69,7 +72,7 @@ public class TokenService {
      */
     public boolean existsRefreshToken(Long userId) {
         String key = REFRESH_TOKEN_PREFIX + userId;
-        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+        return redisCommandBatcher.hasKey(key);
     }
 
     /**
@@ -0,0 +1,44 @@
+package kr.ai.boomerang.boomerang_spring_boot.batch.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import kr.ai.boomerang.boomerang_spring_boot.batch.dto.BatchDto;
+import kr.ai.boomerang.boomerang_spring_boot.batch.service.BatchService;
+import kr.ai.boomerang.boomerang_spring_boot.common.web.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 배치 API 컨트롤러
+ * 여러 GET API 호출을 한 번의 HTTP 요청으로 묶어 모바일 클라이언트의 왕복 횟수를 줄입니다.
+ *
+ * @author Boomerang Team
+ */
+@RestController
+@RequestMapping(BatchService.BATCH_PATH)
+@RequiredArgsConstructor
+public class BatchController {
+
+    private final BatchService batchService;
+
+    /**
+     * 배치 요청 실행
+     * 하위 요청은 동시에 처리되며, 응답은 요청 순서대로 각 하위 요청의 상태 코드와 본문을 담습니다.
+     *
+     * @param request 배치 요청 (예: {"requests":[{"id":"feed","path":"/api/v1/posts?size=10"}]})
+     * @param httpRequest 원본 HTTP 요청
+     * @return 하위 요청별 응답 목록
+     */
+    @PostMapping
+    public ResponseEntity<ApiResponse<BatchDto.Response>> execute(
+            @Valid @RequestBody BatchDto.Request request,
+            HttpServletRequest httpRequest) {
+
+        BatchDto.Response response = batchService.execute(request, httpRequest);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+}
@@ -0,0 +1,79 @@
+package kr.ai.boomerang.boomerang_spring_boot.batch.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import lombok.Builder;
+import lombok.Getter;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+
+/**
+ * 배치 API 관련 DTO 클래스들
+ *
+ * @author Boomerang Team
+ */
+public class BatchDto {
+
+    /**
+     * 배치 요청 DTO
+     */
+    @Getter
+    public static class Request {
+
+        @NotEmpty(message = "하위 요청은 최소 1개 이상이어야 합니다.")
+        @Valid
+        private List<Item> requests;
+    }
+
+    /**
+     * 하위 요청 DTO
+     */
+    @Getter
+    public static class Item {
+
+        /**
+         * 응답과 짝을 맞추기 위한 클라이언트 지정 ID (선택)
+         */
+        private String id;
+
+        /**
+         * HTTP 메서드 (생략 시 GET, 현재는 GET만 지원)
+         */
+        private String method;
+
+        /**
+         * 쿼리 문자열을 포함한 API 경로 (예: /api/v1/posts?page=0&size=10)
+         */
+        @NotBlank(message = "하위 요청 경로는 필수입니다.")
+        private String path;
+    }
+
+    /**
+     * 배치 응답 DTO (하위 요청 순서 유지)
+     */
+    @Getter
+    @Builder
+    public static class Response {
+        private List<ItemResponse> responses;
+    }
+
+    /**
+     * 하위 요청 응답 DTO
+     */
+    @Getter
+    @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class ItemResponse {
+        private String id;
+        private int status;
+
+        /**
+         * 하위 요청의 JSON 응답 본문 (다시 파싱하지 않고 그대로 포함)
+         */
+        @JsonRawValue
+        private String body;
+    }
+}
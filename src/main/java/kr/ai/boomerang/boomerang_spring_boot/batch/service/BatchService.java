@@ -0,0 +1,230 @@
+package kr.ai.boomerang.boomerang_spring_boot.batch.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import kr.ai.boomerang.boomerang_spring_boot.batch.dto.BatchDto;
+import kr.ai.boomerang.boomerang_spring_boot.common.ratelimit.RateLimitFilter;
+import kr.ai.boomerang.boomerang_spring_boot.common.web.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.access.WebInvocationPrivilegeEvaluator;
+import org.springframework.security.web.firewall.HttpFirewall;
+import org.springframework.security.web.firewall.RequestRejectedException;
+import org.springframework.security.web.firewall.StrictHttpFirewall;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.util.UriUtils;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 배치 API 서비스
+ * 하위 요청을 HTTP 왕복 없이 DispatcherServlet으로 바로 보내 기존 컨트롤러에서 처리하고, 결과를 요청 순서대로 모읍니다.
+ * - 인증은 배치 요청에서 한 번만 수행하고, 하위 요청마다 Security 설정의 경로별 접근 규칙과 요청 제한 규칙은 다시 적용
+ * - 하위 요청은 가상 스레드에서 동시에 실행되며, 배치 전체 마감 시간(batch.timeout-ms)을 넘긴 요청은 504로 응답
+ * - 현재는 본문이 없는 GET 요청만 지원 (순서가 중요한 변경 요청을 동시에 실행하지 않도록)
+ *
+ * @author Boomerang Team
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BatchService {
+
+    public static final String BATCH_PATH = "/api/v1/batch";
+
+    private static final String API_PATH_PREFIX = "/api/";
+    private static final String SUB_REQUEST_COUNTER = "batch.sub_requests";
+
+    private final DispatcherServlet dispatcherServlet;
+    private final RateLimitFilter rateLimitFilter;
+    private final WebInvocationPrivilegeEvaluator privilegeEvaluator;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final HttpFirewall firewall = new StrictHttpFirewall();
+
+    @Value("${batch.max-requests:10}")
+    private int maxRequests;
+
+    @Value("${batch.timeout-ms:5000}")
+    private long timeoutMs;
+
+    /**
+     * 배치 요청 실행
+     *
+     * @param request 배치 요청
+     * @param httpRequest 원본 HTTP 요청 (헤더 / 연결 정보 복사용)
+     * @return BatchDto.Response
+     */
+    public BatchDto.Response execute(BatchDto.Request request, HttpServletRequest httpRequest) {
+        List<BatchDto.Item> items = request.getRequests();
+        if (items.size() > maxRequests) {
+            throw new IllegalArgumentException("하위 요청은 최대 " + maxRequests + "개까지 보낼 수 있습니다.");
+        }
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        ExecutorService executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("batch-", 0).factory());
+        try {
+            List<Future<BatchDto.ItemResponse>> futures = new ArrayList<>(items.size());
+            for (BatchDto.Item item : items) {
+                BatchSubRequest subRequest;
+                try {
+                    subRequest = createSubRequest(item, httpRequest, authentication);
+                } catch (InvalidSubRequestException e) {
+                    futures.add(CompletableFuture.completedFuture(
+                            error(item, e.getStatus(), e.getMessage())));
+                    continue;
+                }
+                futures.add(executor.submit(() -> dispatch(item, subRequest, authentication)));
+            }
+
+            List<BatchDto.ItemResponse> responses = new ArrayList<>(items.size());
+            for (int i = 0; i < items.size(); i++) {
+                responses.add(await(items.get(i), futures.get(i), deadlineNanos));
+            }
+            return BatchDto.Response.builder()
+                    .responses(responses)
+                    .build();
+        } finally {
+            // 마감 시간을 넘긴 하위 요청은 인터럽트만 하고 종료를 기다리지 않음 (결과는 버려짐)
+            executor.shutdownNow();
+        }
+    }
+
+    // === Private Methods ===
+
+    /**
+     * 하위 요청 검증 및 생성
+     * - /api/ 아래 경로만 허용하고 배치 API 자신은 호출할 수 없음
+     * - Security 필터 체인과 같은 방화벽 규칙으로 경로 조작(.., 인코딩된 구분자 등)을 거절
+     * - Security 설정의 경로별 접근 규칙으로 권한 확인
+     */
+    private BatchSubRequest createSubRequest(BatchDto.Item item, HttpServletRequest httpRequest,
+                                             Authentication authentication) {
+        String method = item.getMethod() == null ? HttpMethod.GET.name() : item.getMethod().toUpperCase();
+        if (!HttpMethod.GET.name().equals(method)) {
+            throw new InvalidSubRequestException(HttpStatus.METHOD_NOT_ALLOWED, "배치 하위 요청은 GET만 지원합니다.");
+        }
+
+        URI uri;
+        try {
+            uri = new URI(item.getPath());
+        } catch (URISyntaxException e) {
+            throw new InvalidSubRequestException(HttpStatus.BAD_REQUEST, "하위 요청 경로 형식이 올바르지 않습니다.");
+        }
+        String rawPath = uri.getRawPath();
+        if (uri.getScheme() != null || uri.getRawAuthority() != null || rawPath == null
+                || !rawPath.startsWith(API_PATH_PREFIX) || rawPath.startsWith(BATCH_PATH)) {
+            throw new InvalidSubRequestException(HttpStatus.BAD_REQUEST, "하위 요청 경로는 /api/로 시작해야 합니다.");
+        }
+
+        BatchSubRequest subRequest = new BatchSubRequest(httpRequest, method,
+                UriUtils.decode(rawPath, StandardCharsets.UTF_8), rawPath, uri.getRawQuery(), authentication);
+        try {
+            firewall.getFirewalledRequest(subRequest);
+        } catch (RequestRejectedException e) {
+            throw new InvalidSubRequestException(HttpStatus.BAD_REQUEST, "허용되지 않는 하위 요청 경로입니다.");
+        }
+
+        if (!privilegeEvaluator.isAllowed(subRequest.getContextPath(), rawPath, method, authentication)) {
+            throw new InvalidSubRequestException(HttpStatus.FORBIDDEN, "접근 권한이 없습니다.");
+        }
+        return subRequest;
+    }
+
+    /**
+     * 하위 요청 처리 (요청 제한 필터 → DispatcherServlet)
+     */
+    private BatchDto.ItemResponse dispatch(BatchDto.Item item, BatchSubRequest subRequest,
+                                           Authentication authentication) throws Exception {
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(authentication);
+        SecurityContextHolder.setContext(context);
+        try {
+            BatchSubResponse subResponse = new BatchSubResponse();
+            rateLimitFilter.doFilter(subRequest, subResponse,
+                    (request, response) -> dispatcherServlet.service(request, response));
+            meterRegistry.counter(SUB_REQUEST_COUNTER, "status", String.valueOf(subResponse.getStatus())).increment();
+            return BatchDto.ItemResponse.builder()
+                    .id(item.getId())
+                    .status(subResponse.getStatus())
+                    .body(subResponse.getJsonBody())
+                    .build();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    /**
+     * 하위 요청 결과 대기 (배치 전체 마감 시간 기준)
+     */
+    private BatchDto.ItemResponse await(BatchDto.Item item, Future<BatchDto.ItemResponse> future, long deadlineNanos) {
+        try {
+            long remaining = Math.max(0, deadlineNanos - System.nanoTime());
+            return future.get(remaining, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("배치 하위 요청 마감 시간 초과: path={}", item.getPath());
+            return error(item, HttpStatus.GATEWAY_TIMEOUT, "처리 시간이 초과되었습니다.");
+        } catch (ExecutionException e) {
+            log.error("배치 하위 요청 처리 실패: path={}", item.getPath(), e.getCause());
+            return error(item, HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류가 발생했습니다.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            return error(item, HttpStatus.SERVICE_UNAVAILABLE, "요청 처리가 중단되었습니다.");
+        }
+    }
+
+    private BatchDto.ItemResponse error(BatchDto.Item item, HttpStatus status, String message) {
+        meterRegistry.counter(SUB_REQUEST_COUNTER, "status", String.valueOf(status.value())).increment();
+        String body;
+        try {
+            body = objectMapper.writeValueAsString(ApiResponse.error(message));
+        } catch (JsonProcessingException e) {
+            body = null;
+        }
+        return BatchDto.ItemResponse.builder()
+                .id(item.getId())
+                .status(status.value())
+                .body(body)
+                .build();
+    }
+
+    /**
+     * 실행 전에 거절된 하위 요청
+     */
+    private static class InvalidSubRequestException extends RuntimeException {
+
+        private final HttpStatus status;
+
+        InvalidSubRequestException(HttpStatus status, String message) {
+            super(message);
+            this.status = status;
+        }
+
+        HttpStatus getStatus() {
+            return status;
+        }
+    }
+}
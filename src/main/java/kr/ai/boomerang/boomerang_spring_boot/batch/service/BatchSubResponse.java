@@ -0,0 +1,334 @@
+package kr.ai.boomerang.boomerang_spring_boot.batch.service;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 배치 하위 응답
+ * 상태 코드 / 헤더 / 본문을 메모리에 모으기만 하고 실제 연결에는 아무것도 쓰지 않습니다.
+ * 쿠키 / 리다이렉트처럼 클라이언트 연결에 직접 영향을 주는 동작은 상태 코드로만 남습니다.
+ *
+ * @author Boomerang Team
+ */
+class BatchSubResponse implements HttpServletResponse {
+
+    private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+    private final Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    private int status = HttpStatus.OK.value();
+    private String mediaType;
+    private String characterEncoding = StandardCharsets.UTF_8.name();
+    private boolean characterEncodingSet;
+    private Locale locale = Locale.getDefault();
+    private boolean committed;
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    /**
+     * JSON 응답이면 본문 문자열, 아니면 null
+     */
+    String getJsonBody() {
+        if (writer != null) {
+            writer.flush();
+        }
+        if (body.size() == 0 || mediaType == null) {
+            return null;
+        }
+        MediaType type = MediaType.parseMediaType(mediaType);
+        if (!MediaType.APPLICATION_JSON.isCompatibleWith(type) && !type.getSubtype().endsWith("+json")) {
+            return null;
+        }
+        return body.toString(Charset.forName(characterEncoding));
+    }
+
+    // === ServletResponse ===
+
+    @Override
+    public String getCharacterEncoding() {
+        return characterEncoding;
+    }
+
+    @Override
+    public String getContentType() {
+        if (mediaType == null) {
+            return null;
+        }
+        return characterEncodingSet ? mediaType + ";charset=" + characterEncoding : mediaType;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() {
+        if (writer != null) {
+            throw new IllegalStateException("getWriter()가 이미 호출되었습니다.");
+        }
+        if (outputStream == null) {
+            outputStream = new ServletOutputStream() {
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setWriteListener(WriteListener writeListener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public void write(int b) {
+                    committed = true;
+                    body.write(b);
+                }
+
+                @Override
+                public void write(byte[] bytes, int offset, int length) {
+                    committed = true;
+                    body.write(bytes, offset, length);
+                }
+            };
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() {
+        if (outputStream != null) {
+            throw new IllegalStateException("getOutputStream()이 이미 호출되었습니다.");
+        }
+        if (writer == null) {
+            committed = true;
+            writer = new PrintWriter(new OutputStreamWriter(body, Charset.forName(characterEncoding)), true);
+        }
+        return writer;
+    }
+
+    @Override
+    public void setCharacterEncoding(String charset) {
+        if (charset == null || writer != null) {
+            return;
+        }
+        this.characterEncoding = charset;
+        this.characterEncodingSet = true;
+    }
+
+    @Override
+    public void setContentLength(int length) {
+        setContentLengthLong(length);
+    }
+
+    @Override
+    public void setContentLengthLong(long length) {
+        setHeader(HttpHeaders.CONTENT_LENGTH, String.valueOf(length));
+    }
+
+    @Override
+    public void setContentType(String type) {
+        if (type == null) {
+            this.mediaType = null;
+            return;
+        }
+        MediaType parsed = MediaType.parseMediaType(type);
+        if (parsed.getCharset() != null) {
+            setCharacterEncoding(parsed.getCharset().name());
+        }
+        this.mediaType = parsed.getType() + "/" + parsed.getSubtype();
+    }
+
+    @Override
+    public void setBufferSize(int size) {
+    }
+
+    @Override
+    public int getBufferSize() {
+        return body.size();
+    }
+
+    @Override
+    public void flushBuffer() {
+        committed = true;
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    @Override
+    public void resetBuffer() {
+        if (committed) {
+            throw new IllegalStateException("이미 응답이 확정되었습니다.");
+        }
+        body.reset();
+    }
+
+    @Override
+    public boolean isCommitted() {
+        return committed;
+    }
+
+    @Override
+    public void reset() {
+        resetBuffer();
+        headers.clear();
+        status = HttpStatus.OK.value();
+        mediaType = null;
+        characterEncoding = StandardCharsets.UTF_8.name();
+        characterEncodingSet = false;
+    }
+
+    @Override
+    public void setLocale(Locale locale) {
+        if (locale != null) {
+            this.locale = locale;
+        }
+    }
+
+    @Override
+    public Locale getLocale() {
+        return locale;
+    }
+
+    // === HttpServletResponse ===
+
+    @Override
+    public void addCookie(Cookie cookie) {
+        // 배치 응답은 JSON 본문만 전달하므로 하위 요청의 쿠키는 버림
+    }
+
+    @Override
+    public boolean containsHeader(String name) {
+        return getHeader(name) != null;
+    }
+
+    @Override
+    public String encodeURL(String url) {
+        return url;
+    }
+
+    @Override
+    public String encodeRedirectURL(String url) {
+        return url;
+    }
+
+    @Override
+    public void sendError(int sc, String msg) {
+        this.status = sc;
+        this.committed = true;
+    }
+
+    @Override
+    public void sendError(int sc) {
+        sendError(sc, null);
+    }
+
+    @Override
+    public void sendRedirect(String location) {
+        setHeader(HttpHeaders.LOCATION, location);
+        this.status = HttpStatus.FOUND.value();
+        this.committed = true;
+    }
+
+    @Override
+    public void setDateHeader(String name, long date) {
+        setHeader(name, formatDate(date));
+    }
+
+    @Override
+    public void addDateHeader(String name, long date) {
+        addHeader(name, formatDate(date));
+    }
+
+    @Override
+    public void setHeader(String name, String value) {
+        if (HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(name)) {
+            setContentType(value);
+            return;
+        }
+        if (value == null) {
+            headers.remove(name);
+        } else {
+            headers.put(name, new ArrayList<>(List.of(value)));
+        }
+    }
+
+    @Override
+    public void addHeader(String name, String value) {
+        if (HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(name)) {
+            setContentType(value);
+            return;
+        }
+        if (value != null) {
+            headers.computeIfAbsent(name, key -> new ArrayList<>()).add(value);
+        }
+    }
+
+    @Override
+    public void setIntHeader(String name, int value) {
+        setHeader(name, String.valueOf(value));
+    }
+
+    @Override
+    public void addIntHeader(String name, int value) {
+        addHeader(name, String.valueOf(value));
+    }
+
+    @Override
+    public void setStatus(int sc) {
+        if (!committed) {
+            this.status = sc;
+        }
+    }
+
+    @Override
+    public int getStatus() {
+        return status;
+    }
+
+    @Override
+    public String getHeader(String name) {
+        if (HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(name)) {
+            return getContentType();
+        }
+        List<String> values = headers.get(name);
+        return values == null || values.isEmpty() ? null : values.get(0);
+    }
+
+    @Override
+    public Collection<String> getHeaders(String name) {
+        if (HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(name)) {
+            return mediaType != null ? List.of(getContentType()) : List.of();
+        }
+        return List.copyOf(headers.getOrDefault(name, List.of()));
+    }
+
+    @Override
+    public Collection<String> getHeaderNames() {
+        List<String> names = new ArrayList<>(headers.keySet());
+        if (mediaType != null) {
+            names.add(HttpHeaders.CONTENT_TYPE);
+        }
+        return names;
+    }
+
+    // === Private Methods ===
+
+    private static String formatDate(long date) {
+        return DateTimeFormatter.RFC_1123_DATE_TIME.format(Instant.ofEpochMilli(date).atZone(ZoneOffset.UTC));
+    }
+}
@@ -0,0 +1,123 @@
+package kr.ai.boomerang.boomerang_spring_boot.common.config;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import kr.ai.boomerang.boomerang_spring_boot.common.metrics.MethodTimingInterceptor;
+import kr.ai.boomerang.boomerang_spring_boot.common.metrics.SqlProfilingDataSourcePostProcessor;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 메트릭 설정 클래스
+ * 엔드포인트 / 메서드 / 외부 호출 지연 시간과 요청 단위 SQL 지표를 Micrometer로 수집합니다.
+ * - 지연 시간 타이머는 백분위(기본 p50 / p95 / p99 / p99.9)와 히스토그램 버킷을 함께 게시
+ * - 애플리케이션 패키지의 @RestController / @Service 공개 메서드 실행 시간을 boomerang.method로 기록
+ *   (메서드 수만큼 시계열이 늘어나므로 기본은 단순 타이머, 백분위 / 히스토그램은 metrics.method-histograms에 지정한 메서드만)
+ * - DataSource를 datasource-proxy로 감싸 요청마다 실행된 SQL 문장 수와 시간을 집계 (N+1 / 느린 SQL 탐지 포함)
+ *
+ * @author Boomerang Team
+ */
+@Configuration
+public class MetricsConfig {
+
+    private static final String BASE_PACKAGE = "kr.ai.boomerang.boomerang_spring_boot";
+    private static final List<String> LATENCY_METERS = List.of(
+            "http.server.requests", "http.client.requests", "tourapi.requests", "lettuce.command");
+
+    @Value("${metrics.percentiles:0.5,0.95,0.99,0.999}")
+    private double[] percentiles;
+
+    /**
+     * 백분위 / 히스토그램을 게시할 메서드 목록 (클래스명.메서드명, 예: PostService.getPostList)
+     */
+    @Value("${metrics.method-histograms:}")
+    private Set<String> methodHistograms;
+
+    /**
+     * 지연 시간 지표 백분위 / 히스토그램 설정
+     * http.server.requests.sql.* 처럼 접두어가 같은 하위 지표에도 동일하게 적용됩니다.
+     *
+     * @return MeterFilter
+     */
+    @Bean
+    public MeterFilter latencyPercentilesMeterFilter() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (LATENCY_METERS.stream().noneMatch(id.getName()::startsWith) && !isHistogramMethod(id)) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .percentiles(percentiles)
+                        .percentilesHistogram(true)
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+
+    /**
+     * 컨트롤러 / 서비스 메서드 실행 시간 측정 Advisor
+     * 기존 프록시(@Transactional 등)에도 함께 적용되도록 가장 바깥에서 실행됩니다.
+     *
+     * @param meterRegistryProvider MeterRegistry (첫 호출 시점에 조회)
+     * @return Advisor
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor methodTimingAdvisor(ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(new StaticMethodMatcherPointcut() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                return targetClass.getName().startsWith(BASE_PACKAGE)
+                        && Modifier.isPublic(method.getModifiers())
+                        && method.getDeclaringClass() != Object.class
+                        && (AnnotatedElementUtils.hasAnnotation(targetClass, RestController.class)
+                        || AnnotatedElementUtils.hasAnnotation(targetClass, Service.class));
+            }
+        }, new MethodTimingInterceptor(meterRegistryProvider));
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+
+    /**
+     * DataSource를 SQL 계측 프록시로 감싸는 후처리기
+     *
+     * @return SqlProfilingDataSourcePostProcessor
+     */
+    @Bean
+    public static SqlProfilingDataSourcePostProcessor sqlProfilingDataSourcePostProcessor() {
+        return new SqlProfilingDataSourcePostProcessor();
+    }
+
+    // === Private Methods ===
+
+    /**
+     * 메서드 실행 시간 타이머 중 히스토그램 게시 대상인지 확인
+     *
+     * @param id 지표 ID
+     * @return metrics.method-histograms에 지정된 메서드의 boomerang.method 타이머이면 true
+     */
+    private boolean isHistogramMethod(Meter.Id id) {
+        return MethodTimingInterceptor.METHOD_TIMER.equals(id.getName())
+                && methodHistograms.contains(id.getTag("class") + "." + id.getTag("method"));
+    }
+}
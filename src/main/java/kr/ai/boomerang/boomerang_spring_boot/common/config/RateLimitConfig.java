@@ -0,0 +1,87 @@
+package kr.ai.boomerang.boomerang_spring_boot.common.config;
+
+import kr.ai.boomerang.boomerang_spring_boot.common.ratelimit.RateLimitFilter;
+import kr.ai.boomerang.boomerang_spring_boot.common.ratelimit.RateLimitRule;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+
+/**
+ * API 요청 제한 규칙 설정
+ * 경로 패턴별 토큰 버킷 규칙을 정의합니다. 규칙은 선언 순서대로 평가되며 일치하는 규칙은 모두 적용됩니다.
+ * - distributed=true인 규칙은 Redis Lua 스크립트로 모든 노드가 하나의 버킷을 공유
+ *
+ * @author Boomerang Team
+ */
+@Configuration
+public class RateLimitConfig {
+
+    /**
+     * 여행 정보 API IP 단위 제한 (쿼터가 있는 TourAPI 보호)
+     */
+    @Bean
+    @Order(1)
+    public RateLimitRule travelIpRateLimitRule(
+            @Value("${rate-limit.travel.capacity:30}") int capacity,
+            @Value("${rate-limit.travel.refill-per-second:5}") double refillPerSecond,
+            @Value("${rate-limit.travel.distributed:false}") boolean distributed) {
+        return RateLimitRule.builder()
+                .name("travel-ip")
+                .pathPattern("/api/v1/travel/**")
+                .keyType(RateLimitRule.KeyType.IP)
+                .capacity(capacity)
+                .refillPerSecond(refillPerSecond)
+                .distributed(distributed)
+                .build();
+    }
+
+    /**
+     * 닉네임 API IP 단위 제한 (DB 조회 보호)
+     */
+    @Bean
+    @Order(2)
+    public RateLimitRule nicknameIpRateLimitRule(
+            @Value("${rate-limit.nickname.capacity:20}") int capacity,
+            @Value("${rate-limit.nickname.refill-per-second:2}") double refillPerSecond,
+            @Value("${rate-limit.nickname.distributed:false}") boolean distributed) {
+        return RateLimitRule.builder()
+                .name("nickname-ip")
+                .pathPattern("/api/v1/nickname/**")
+                .keyType(RateLimitRule.KeyType.IP)
+                .capacity(capacity)
+                .refillPerSecond(refillPerSecond)
+                .distributed(distributed)
+                .build();
+    }
+
+    /**
+     * 전체 API 사용자 단위 제한 (인증된 요청에만 적용)
+     */
+    @Bean
+    @Order(3)
+    public RateLimitRule apiUserRateLimitRule(
+            @Value("${rate-limit.user.capacity:120}") int capacity,
+            @Value("${rate-limit.user.refill-per-second:20}") double refillPerSecond,
+            @Value("${rate-limit.user.distributed:false}") boolean distributed) {
+        return RateLimitRule.builder()
+                .name("api-user")
+                .pathPattern("/api/v1/**")
+                .keyType(RateLimitRule.KeyType.USER)
+                .capacity(capacity)
+                .refillPerSecond(refillPerSecond)
+                .distributed(distributed)
+                .build();
+    }
+
+    /**
+     * 요청 제한 필터는 Security 필터 체인 안에서만 실행되도록 서블릿 자동 등록 해제
+     */
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter rateLimitFilter) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(rateLimitFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+}
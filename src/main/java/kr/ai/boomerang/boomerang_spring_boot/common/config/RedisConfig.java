@@ -1,42 +1,195 @@
 package kr.ai.boomerang.boomerang_spring_boot.common.config;
 
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.metrics.MicrometerCommandLatencyRecorder;
+import io.lettuce.core.metrics.MicrometerOptions;
+import io.lettuce.core.cluster.ClusterClientOptions;
+import io.lettuce.core.cluster.ClusterTopologyRefreshOptions;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DefaultClientResources;
+import io.lettuce.core.resource.Delay;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.ai.boomerang.boomerang_spring_boot.common.redis.CompactRedisSerializer;
+import kr.ai.boomerang.boomerang_spring_boot.post.dto.CommentDto;
+import kr.ai.boomerang.boomerang_spring_boot.post.dto.PostDto;
+import kr.ai.boomerang.boomerang_spring_boot.travel.dto.TravelDto;
+import kr.ai.boomerang.boomerang_spring_boot.user.dto.UserDto;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.RedisConfiguration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisNode;
+import org.springframework.data.redis.connection.RedisPassword;
+import org.springframework.data.redis.connection.RedisSentinelConfiguration;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Redis 설정 클래스
  * Refresh Token 저장 및 관리를 위한 Redis 설정을 제공합니다.
+ * - standalone / sentinel / cluster 토폴로지 지원 (spring.data.redis.mode)
+ * - 명령 타임아웃, 재연결 백오프, 연결 끊김 시 즉시 실패 처리로 failover 중 요청이 멈추지 않도록 함
+ * - IO / 연산 스레드 수를 조정한 ClientResources를 모든 커넥션이 공유
+ * - MeterRegistry가 있으면 명령별 지연 시간을 lettuce.command.* 지표로 기록
+ * - 기본 커넥션은 항상 master에서 읽음 (토큰 폐기 확인, 요청 제한, 카운터, 리더보드 등)
+ * - read-from을 지정하면 지연을 허용하는 조회 전용 replicaStringRedisTemplate만 복제본에서 읽음
  *
  * @author Boomerang Team
  */
 @Configuration
+@RequiredArgsConstructor
 public class RedisConfig {
 
+    /**
+     * 클래스 이름으로 저장 / 조회할 수 있는 값 타입의 패키지 (그 외 타입은 역직렬화하지 않음)
+     */
+    private static final String[] ALLOWED_VALUE_PACKAGES = {
+            "kr.ai.boomerang.boomerang_spring_boot.", "java.util.", "java.time."
+    };
+
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    @Value("${spring.data.redis.mode:standalone}")
+    private String mode;
+
     @Value("${spring.data.redis.host}")
     private String host;
 
     @Value("${spring.data.redis.port}")
     private int port;
 
+    @Value("${spring.data.redis.password:}")
+    private String password;
+
+    @Value("${spring.data.redis.sentinel.master:mymaster}")
+    private String sentinelMaster;
+
+    @Value("${spring.data.redis.sentinel.nodes:}")
+    private String sentinelNodes;
+
+    @Value("${spring.data.redis.cluster.nodes:}")
+    private String clusterNodes;
+
+    @Value("${spring.data.redis.cluster.max-redirects:3}")
+    private int clusterMaxRedirects;
+
+    @Value("${spring.data.redis.read-from:upstream}")
+    private String readFrom;
+
+    @Value("${spring.data.redis.timeout:2s}")
+    private Duration commandTimeout;
+
+    @Value("${spring.data.redis.connect-timeout:1s}")
+    private Duration connectTimeout;
+
+    @Value("${spring.data.redis.lettuce.io-threads:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}")
+    private int ioThreads;
+
+    @Value("${spring.data.redis.lettuce.computation-threads:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}")
+    private int computationThreads;
+
+    @Value("${spring.data.redis.lettuce.reconnect-delay.min:100ms}")
+    private Duration reconnectDelayMin;
+
+    @Value("${spring.data.redis.lettuce.reconnect-delay.max:10s}")
+    private Duration reconnectDelayMax;
+
+    @Value("${spring.data.redis.lettuce.cluster.refresh.period:30s}")
+    private Duration clusterRefreshPeriod;
+
+    @Value("${spring.data.redis.lettuce.pool.max-active:16}")
+    private int poolMaxActive;
+
+    @Value("${spring.data.redis.lettuce.pool.max-idle:16}")
+    private int poolMaxIdle;
+
+    @Value("${spring.data.redis.lettuce.pool.min-idle:2}")
+    private int poolMinIdle;
+
+    @Value("${spring.data.redis.lettuce.pool.max-wait:-1ms}")
+    private Duration poolMaxWait;
+
+    @Value("${redis.serializer.type:compact}")
+    private String serializerType;
+
+    @Value("${redis.serializer.compression-threshold:1024}")
+    private int compressionThreshold;
+
+    /**
+     * Lettuce 공유 ClientResources 설정
+     * 이벤트 루프 / 연산 스레드와 재연결 지수 백오프를 지정합니다.
+     * 직접 만든 ClientResources에는 Spring Boot의 Lettuce 지표 자동 설정이 적용되지 않으므로 여기서 연결합니다.
+     *
+     * @return ClientResources
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ClientResources lettuceClientResources() {
+        DefaultClientResources.Builder builder = DefaultClientResources.builder()
+                .ioThreadPoolSize(ioThreads)
+                .computationThreadPoolSize(computationThreads)
+                .reconnectDelay(Delay.exponential(reconnectDelayMin, reconnectDelayMax, 2, TimeUnit.MILLISECONDS));
+
+        MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable();
+        if (meterRegistry != null) {
+            builder.commandLatencyRecorder(new MicrometerCommandLatencyRecorder(meterRegistry,
+                    MicrometerOptions.builder().histogram(true).build()));
+        }
+        return builder.build();
+    }
+
     /**
      * Redis Connection Factory 설정
+     * 파이프라인 / 블로킹 명령은 풀에서 전용 커넥션을 빌려 사용하고, 일반 명령은 공유 커넥션을 사용합니다.
+     * 쓰기 직후 읽기가 일관되어야 하는 경로가 사용하므로 read-from 설정과 관계없이 master에서만 읽습니다.
      *
      * @return RedisConnectionFactory
      */
     @Bean
+    @Primary
     public RedisConnectionFactory redisConnectionFactory() {
-        return new LettuceConnectionFactory(host, port);
+        return connectionFactory(null);
+    }
+
+    /**
+     * 복제본 조회용 Redis Connection Factory 설정
+     * sentinel / cluster 모드에서 read-from을 upstream 외의 값(예: replicaPreferred)으로 지정한 경우에만 생성합니다.
+     *
+     * @return RedisConnectionFactory
+     */
+    @Bean
+    @ConditionalOnExpression("!'${spring.data.redis.read-from:upstream}'.equalsIgnoreCase('upstream')")
+    public RedisConnectionFactory replicaRedisConnectionFactory() {
+        return connectionFactory(ReadFrom.valueOf(readFrom));
     }
 
     /**
      * RedisTemplate 설정
-     * Key는 String, Value는 JSON 형태로 직렬화합니다.
+     * Key는 String, Value는 redis.serializer.type에 따라 compact 바이너리(기본) 또는 JSON 형태로 직렬화합니다.
      *
      * @return RedisTemplate<String, Object>
      */
@@ -50,10 +203,179 @@ public class RedisConfig {
         redisTemplate.setHashKeySerializer(new StringRedisSerializer());
 
         // Value Serializer
-        redisTemplate.setValueSerializer(new GenericJackson2JsonRedisSerializer());
-        redisTemplate.setHashValueSerializer(new GenericJackson2JsonRedisSerializer());
+        RedisSerializer<Object> valueSerializer = valueSerializer();
+        redisTemplate.setValueSerializer(valueSerializer);
+        redisTemplate.setHashValueSerializer(valueSerializer);
 
         redisTemplate.afterPropertiesSet();
         return redisTemplate;
     }
+
+    /**
+     * StringRedisTemplate 설정 (master 조회)
+     * 복제본 조회용 StringRedisTemplate이 함께 등록되므로 자동 설정 대신 직접 등록합니다.
+     *
+     * @return StringRedisTemplate
+     */
+    @Bean
+    @Primary
+    public StringRedisTemplate stringRedisTemplate() {
+        return new StringRedisTemplate(redisConnectionFactory());
+    }
+
+    /**
+     * 복제본 조회용 StringRedisTemplate 설정
+     * 수 초의 복제 지연을 허용하는 읽기 전용 조회(지난 로그인 통계 등)에만 사용합니다.
+     * read-from이 upstream이면 master 커넥션을 그대로 사용합니다.
+     *
+     * @param replicaRedisConnectionFactory 복제본 조회용 Connection Factory (없으면 master 사용)
+     * @return StringRedisTemplate
+     */
+    @Bean
+    public StringRedisTemplate replicaStringRedisTemplate(
+            @Qualifier("replicaRedisConnectionFactory") ObjectProvider<RedisConnectionFactory> replicaRedisConnectionFactory) {
+        return new StringRedisTemplate(replicaRedisConnectionFactory.getIfAvailable(this::redisConnectionFactory));
+    }
+
+    /**
+     * Redis Pub/Sub 리스너 컨테이너 설정
+     * 노드 간 캐시 / 필터 동기화 메시지를 수신합니다.
+     *
+     * @return RedisMessageListenerContainer
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory());
+        return container;
+    }
+
+    // === Private Methods ===
+
+    /**
+     * Lettuce 커넥션 팩토리 생성
+     *
+     * @param readFrom 복제본 조회 정책 (null이면 master에서만 읽음)
+     */
+    private LettuceConnectionFactory connectionFactory(ReadFrom readFrom) {
+        GenericObjectPoolConfig<StatefulConnection<?, ?>> poolConfig = new GenericObjectPoolConfig<>();
+        poolConfig.setMaxTotal(poolMaxActive);
+        poolConfig.setMaxIdle(poolMaxIdle);
+        poolConfig.setMinIdle(poolMinIdle);
+        poolConfig.setMaxWait(poolMaxWait);
+
+        LettucePoolingClientConfiguration.LettucePoolingClientConfigurationBuilder clientConfig =
+                LettucePoolingClientConfiguration.builder()
+                        .poolConfig(poolConfig)
+                        .clientResources(lettuceClientResources())
+                        .clientOptions(clientOptions())
+                        .commandTimeout(commandTimeout);
+        if (readFrom != null) {
+            clientConfig.readFrom(readFrom);
+        }
+
+        return new LettuceConnectionFactory(redisConfiguration(), clientConfig.build());
+    }
+
+    /**
+     * 값 직렬화기 생성
+     * - compact: 문자열은 UTF-8 원본, DTO는 Smile + 타입 별칭, 큰 값은 LZ4 압축 (기존 JSON 값도 읽기 가능)
+     * - json: 기존 GenericJackson2JsonRedisSerializer 형식
+     * - 두 방식 모두 값에 기록된 클래스 이름은 ALLOWED_VALUE_PACKAGES의 타입만 읽음
+     * - 타입 별칭 번호는 Redis에 저장된 데이터의 일부이므로 변경하지 말고 추가만 할 것
+     */
+    private RedisSerializer<Object> valueSerializer() {
+        switch (serializerType.toLowerCase()) {
+            case "compact":
+                return new CompactRedisSerializer(compressionThreshold, ALLOWED_VALUE_PACKAGES)
+                        .registerType(1, TravelDto.SearchResponse.class)
+                        .registerType(2, PostDto.ListResponse.class)
+                        .registerType(3, PostDto.Response.class)
+                        .registerType(4, CommentDto.Response.class)
+                        .registerType(5, UserDto.Response.class);
+            case "json":
+                return CompactRedisSerializer.jsonSerializer(ALLOWED_VALUE_PACKAGES);
+            default:
+                throw new IllegalArgumentException("지원하지 않는 Redis 직렬화 방식입니다: " + serializerType);
+        }
+    }
+
+    /**
+     * 모드별 Redis 접속 설정 생성
+     */
+    private RedisConfiguration redisConfiguration() {
+        RedisPassword redisPassword = StringUtils.hasText(password) ? RedisPassword.of(password) : RedisPassword.none();
+
+        switch (mode.toLowerCase()) {
+            case "sentinel": {
+                RedisSentinelConfiguration sentinelConfig = new RedisSentinelConfiguration();
+                sentinelConfig.master(sentinelMaster);
+                parseNodes(sentinelNodes).forEach(sentinelConfig::sentinel);
+                sentinelConfig.setPassword(redisPassword);
+                return sentinelConfig;
+            }
+            case "cluster": {
+                RedisClusterConfiguration clusterConfig = new RedisClusterConfiguration();
+                clusterConfig.setClusterNodes(parseNodes(clusterNodes));
+                clusterConfig.setMaxRedirects(clusterMaxRedirects);
+                clusterConfig.setPassword(redisPassword);
+                return clusterConfig;
+            }
+            case "standalone": {
+                RedisStandaloneConfiguration standaloneConfig = new RedisStandaloneConfiguration(host, port);
+                standaloneConfig.setPassword(redisPassword);
+                return standaloneConfig;
+            }
+            default:
+                throw new IllegalArgumentException("지원하지 않는 Redis 모드입니다: " + mode);
+        }
+    }
+
+    /**
+     * 클라이언트 옵션 생성
+     * - 연결이 끊긴 동안의 명령은 큐에 쌓지 않고 즉시 거절하여 요청 스레드가 멈추지 않도록 함
+     * - cluster 모드는 MOVED / 재연결 이벤트 기반 및 주기적 토폴로지 갱신을 사용
+     */
+    private ClientOptions clientOptions() {
+        SocketOptions socketOptions = SocketOptions.builder()
+                .connectTimeout(connectTimeout)
+                .keepAlive(true)
+                .build();
+        TimeoutOptions timeoutOptions = TimeoutOptions.enabled(commandTimeout);
+
+        if ("cluster".equalsIgnoreCase(mode)) {
+            ClusterTopologyRefreshOptions refreshOptions = ClusterTopologyRefreshOptions.builder()
+                    .enablePeriodicRefresh(clusterRefreshPeriod)
+                    .enableAllAdaptiveRefreshTriggers()
+                    .build();
+            return ClusterClientOptions.builder()
+                    .socketOptions(socketOptions)
+                    .timeoutOptions(timeoutOptions)
+                    .topologyRefreshOptions(refreshOptions)
+                    .autoReconnect(true)
+                    .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                    .build();
+        }
+
+        return ClientOptions.builder()
+                .socketOptions(socketOptions)
+                .timeoutOptions(timeoutOptions)
+                .autoReconnect(true)
+                .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                .build();
+    }
+
+    /**
+     * "host:port,host:port" 형식의 노드 목록 파싱
+     */
+    private List<RedisNode> parseNodes(String nodes) {
+        if (!StringUtils.hasText(nodes)) {
+            return List.of(new RedisNode(host, port));
+        }
+        return Arrays.stream(nodes.split(","))
+                .map(String::trim)
+                .filter(StringUtils::hasText)
+                .map(RedisNode::fromString)
+                .toList();
+    }
 }
@@ -5,19 +5,29 @@ import kr.ai.boomerang.boomerang_spring_boot.auth.security.JwtAuthenticationFilt
 import kr.ai.boomerang.boomerang_spring_boot.auth.security.OAuth2AuthenticationFailureHandler;
 import kr.ai.boomerang.boomerang_spring_boot.auth.security.OAuth2AuthenticationSuccessHandler;
 import kr.ai.boomerang.boomerang_spring_boot.auth.service.CustomOAuth2UserService;
+import kr.ai.boomerang.boomerang_spring_boot.common.ratelimit.RateLimitFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.util.StringUtils;
 
 /**
  * Spring Security 설정 클래스
- * JWT 인증, OAuth2 소셜 로그인, CORS 설정을 포함합니다.
+ * JWT 인증, OAuth2 소셜 로그인, CORS, 요청 제한 설정을 포함합니다.
+ * Prometheus 수집 엔드포인트는 별도 체인에서 HTTP Basic 인증으로 보호합니다.
  *
  * @author Boomerang Team
  */
@@ -28,10 +38,45 @@ public class SecurityConfig {
 
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
     private final CustomOAuth2UserService customOAuth2UserService;
     private final OAuth2AuthenticationSuccessHandler oAuth2AuthenticationSuccessHandler;
     private final OAuth2AuthenticationFailureHandler oAuth2AuthenticationFailureHandler;
 
+    @Value("${metrics.scrape.username:prometheus}")
+    private String scrapeUsername;
+
+    @Value("${metrics.scrape.password:}")
+    private String scrapePassword;
+
+    /**
+     * Prometheus 수집 엔드포인트 Security Filter Chain
+     * - metrics.scrape.username / password 계정의 HTTP Basic 인증만 허용
+     * - 비밀번호가 설정되지 않으면 모든 접근을 거부
+     *
+     * @param http HttpSecurity 설정 객체
+     * @return SecurityFilterChain
+     * @throws Exception 설정 오류
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain metricsFilterChain(HttpSecurity http) throws Exception {
+        http
+                .securityMatcher("/actuator/prometheus")
+                .csrf(AbstractHttpConfigurer::disable)
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .httpBasic(basic -> {})
+                .authenticationManager(scrapeAuthenticationManager());
+
+        if (StringUtils.hasText(scrapePassword)) {
+            http.authorizeHttpRequests(authz -> authz.anyRequest().hasRole("METRICS"));
+        } else {
+            http.authorizeHttpRequests(authz -> authz.anyRequest().denyAll());
+        }
+
+        return http.build();
+    }
+
     /**
      * Security Filter Chain 설정
      *
@@ -40,6 +85,7 @@ public class SecurityConfig {
      * @throws Exception 설정 오류
      */
     @Bean
+    @Order(2)
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
                 .csrf(AbstractHttpConfigurer::disable)
@@ -73,8 +119,24 @@ public class SecurityConfig {
                 .exceptionHandling(exceptions -> exceptions
                         .authenticationEntryPoint(jwtAuthenticationEntryPoint)
                 )
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
-}
\ No newline at end of file
+
+    // === Private Methods ===
+
+    /**
+     * 수집 계정 전용 AuthenticationManager 생성 (애플리케이션 사용자 인증과 분리)
+     */
+    private AuthenticationManager scrapeAuthenticationManager() {
+        String password = scrapePassword.startsWith("{") ? scrapePassword : "{noop}" + scrapePassword;
+        InMemoryUserDetailsManager userDetailsService = new InMemoryUserDetailsManager(User
+                .withUsername(scrapeUsername)
+                .password(password)
+                .roles("METRICS")
+                .build());
+        return new ProviderManager(new DaoAuthenticationProvider(userDetailsService));
+    }
+}
@@ -1,12 +1,15 @@
 package kr.ai.boomerang.boomerang_spring_boot.common.config;
 
+import kr.ai.boomerang.boomerang_spring_boot.common.web.AsyncRequestTimeout;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 /**
  * Web MVC 설정 클래스
  * CORS 설정을 포함하여 프론트엔드와의 통신을 허용합니다.
+ * 비동기 응답은 기본 타임아웃을 따르되, 컨트롤러가 지정한 요청에만 별도 타임아웃을 적용합니다.
  *
  * @author Boomerang Team
  */
@@ -28,4 +31,15 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowCredentials(true)
                 .maxAge(3600);
     }
+
+    /**
+     * 비동기 처리 설정
+     * 요청별 타임아웃(AsyncRequestTimeout)을 적용하는 인터셉터를 등록합니다.
+     *
+     * @param configurer 비동기 처리 설정
+     */
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new AsyncRequestTimeout());
+    }
 }
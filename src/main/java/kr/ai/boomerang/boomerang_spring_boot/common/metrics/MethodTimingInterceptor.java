@@ -0,0 +1,79 @@
+package kr.ai.boomerang.boomerang_spring_boot.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 컨트롤러 / 서비스 메서드 실행 시간 측정 인터셉터
+ * boomerang.method 타이머에 계층(controller / service), 클래스, 메서드, 예외 태그를 붙여 기록합니다.
+ * 정상 종료 타이머는 메서드별로 캐시하여 호출마다 레지스트리를 조회하지 않습니다.
+ *
+ * @author Boomerang Team
+ */
+public class MethodTimingInterceptor implements MethodInterceptor {
+
+    public static final String METHOD_TIMER = "boomerang.method";
+
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+    private final Map<Method, Timer> successTimers = new ConcurrentHashMap<>();
+    private volatile MeterRegistry meterRegistry;
+
+    public MethodTimingInterceptor(ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.meterRegistryProvider = meterRegistryProvider;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        MeterRegistry registry = registry();
+        if (registry == null) {
+            return invocation.proceed();
+        }
+
+        long start = System.nanoTime();
+        try {
+            Object result = invocation.proceed();
+            successTimers.computeIfAbsent(invocation.getMethod(), method -> timer(registry, invocation, "none"))
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable e) {
+            timer(registry, invocation, e.getClass().getSimpleName())
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    // === Private Methods ===
+
+    private MeterRegistry registry() {
+        MeterRegistry registry = meterRegistry;
+        if (registry == null) {
+            // 인터셉터는 MeterRegistry보다 먼저 만들어지므로 첫 호출 시점에 조회
+            registry = meterRegistryProvider.getIfAvailable();
+            meterRegistry = registry;
+        }
+        return registry;
+    }
+
+    private Timer timer(MeterRegistry registry, MethodInvocation invocation, String exception) {
+        Class<?> targetClass = invocation.getThis() != null
+                ? AopUtils.getTargetClass(invocation.getThis())
+                : invocation.getMethod().getDeclaringClass();
+        String layer = targetClass.getSimpleName().endsWith("Controller") ? "controller" : "service";
+        return Timer.builder(METHOD_TIMER)
+                .description("컨트롤러 / 서비스 메서드 실행 시간")
+                .tag("layer", layer)
+                .tag("class", targetClass.getSimpleName())
+                .tag("method", invocation.getMethod().getName())
+                .tag("exception", exception)
+                .register(registry);
+    }
+}
@@ -0,0 +1,122 @@
+package kr.ai.boomerang.boomerang_spring_boot.common.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 단위 SQL 지표 기록 필터
+ * 요청마다 실행된 SQL 문장 수와 SQL 실행 시간을 URI 패턴별 분포로 기록합니다.
+ * - http.server.requests.sql.statements: 요청당 SQL 문장 수
+ * - http.server.requests.sql.time: 요청당 SQL 실행 시간 합계
+ * http.server.requests(전체 처리 시간)와 같은 method / uri 태그를 사용하므로 SQL 비중을 바로 비교할 수 있습니다.
+ * 같은 형태의 문장이 sql.profiler.n-plus-one-threshold번 이상 실행되거나 느린 문장이 있으면
+ * 요청 URI와 함께 로그를 남기고 sql.n_plus_one.suspects / sql.slow.statements 카운터를 올립니다.
+ *
+ * @author Boomerang Team
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+@Slf4j
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    private static final String STATEMENTS_SUMMARY = "http.server.requests.sql.statements";
+    private static final String SQL_TIMER = "http.server.requests.sql.time";
+    private static final String N_PLUS_ONE_COUNTER = "sql.n_plus_one.suspects";
+    private static final String SLOW_COUNTER = "sql.slow.statements";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${sql.profiler.n-plus-one-threshold:5}")
+    private int nPlusOneThreshold;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        RequestSqlStatistics statistics = RequestSqlStatistics.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestSqlStatistics.end();
+            String uri = uri(request);
+            record(request.getMethod(), uri, statistics);
+            report(request.getMethod(), uri, statistics);
+        }
+    }
+
+    // === Private Methods ===
+
+    private String uri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+
+    private void record(String method, String uri, RequestSqlStatistics statistics) {
+        DistributionSummary.builder(STATEMENTS_SUMMARY)
+                .description("요청당 실행된 SQL 문장 수")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(statistics.getStatements());
+        Timer.builder(SQL_TIMER)
+                .description("요청당 SQL 실행 시간 합계")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(statistics.getElapsedNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * N+1 의심 형태와 느린 문장 보고
+     */
+    private void report(String method, String uri, RequestSqlStatistics statistics) {
+        List<RequestSqlStatistics.Shape> repeated = statistics.getRepeatedShapes(nPlusOneThreshold);
+        if (!repeated.isEmpty()) {
+            log.warn("N+1 의심 SQL: {} {} (총 {}건) {}", method, uri, statistics.getStatements(), repeated);
+            Counter.builder(N_PLUS_ONE_COUNTER)
+                    .description("같은 형태의 SQL이 반복 실행된 요청 수")
+                    .tag("method", method)
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .increment();
+        }
+
+        List<RequestSqlStatistics.SlowStatement> slowStatements = statistics.getSlowStatements();
+        for (RequestSqlStatistics.SlowStatement slow : slowStatements) {
+            log.warn("느린 SQL ({}ms): {} {} {} {}", TimeUnit.NANOSECONDS.toMillis(slow.elapsedNanos()),
+                    method, uri, slow.sql(), slow.parameterTypes());
+        }
+        if (!slowStatements.isEmpty()) {
+            Counter.builder(SLOW_COUNTER)
+                    .description("기준 시간을 넘긴 SQL 문장 수")
+                    .tag("method", method)
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .increment(slowStatements.size());
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package kr.ai.boomerang.boomerang_spring_boot.common.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 요청 단위 SQL 실행 통계
+ * 요청을 처리하는 스레드에 묶어 두고, 데이터소스 프록시가 실행한 문장 수와 시간을 누적합니다.
+ * - 문장은 형태(공백 / IN 목록을 정규화한 SQL + 바인드 파라미터 타입)별로 묶어 실행 횟수를 셈
+ * - 같은 형태가 여러 번 실행되면 N+1 의심으로 판단 (지연 로딩 연관관계를 반복 접근하는 경우)
+ * - 느린 문장은 바인드 값 없이 형태만 보관
+ * - 요청 스레드 밖(비동기 작업, 스케줄러)에서 실행된 SQL은 집계하지 않음
+ *
+ * @author Boomerang Team
+ */
+public final class RequestSqlStatistics {
+
+    private static final ThreadLocal<RequestSqlStatistics> CURRENT = new ThreadLocal<>();
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern PLACEHOLDER_LIST = Pattern.compile("\\?(\\s*,\\s*\\?)+");
+
+    // 대량 처리 요청에서 메모리가 늘어나지 않도록 보관 개수 제한
+    private static final int MAX_SHAPES = 256;
+    private static final int MAX_SLOW_STATEMENTS = 16;
+
+    private final Map<String, Shape> shapes = new LinkedHashMap<>();
+    private final List<SlowStatement> slowStatements = new ArrayList<>();
+    private long statements;
+    private long elapsedNanos;
+
+    private RequestSqlStatistics() {
+    }
+
+    /**
+     * 현재 스레드에서 집계 시작
+     *
+     * @return 새 통계 객체
+     */
+    public static RequestSqlStatistics begin() {
+        RequestSqlStatistics statistics = new RequestSqlStatistics();
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    /**
+     * 현재 스레드의 통계 객체 조회
+     *
+     * @return 통계 객체 (집계 중이 아니면 null)
+     */
+    public static RequestSqlStatistics current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 현재 스레드의 집계 종료
+     */
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * SQL 문자열을 형태로 정규화 (공백 압축, "?, ?, ?" 목록은 "?..."로 묶음)
+     *
+     * @param sql SQL 문자열
+     * @return 정규화된 SQL
+     */
+    public static String normalize(String sql) {
+        String collapsed = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        return PLACEHOLDER_LIST.matcher(collapsed).replaceAll("?...");
+    }
+
+    /**
+     * 실행된 문장 기록
+     *
+     * @param sql SQL 문자열
+     * @param parameterTypes 바인드 파라미터 타입 목록
+     * @param count 문장 수 (배치는 배치 항목 수)
+     * @param elapsedNanos 실행 시간
+     * @param slow 느린 문장 여부
+     */
+    public void record(String sql, List<String> parameterTypes, long count, long elapsedNanos, boolean slow) {
+        this.statements += count;
+        this.elapsedNanos += elapsedNanos;
+
+        String normalized = normalize(sql);
+        String key = normalized + parameterTypes;
+        Shape shape = shapes.get(key);
+        if (shape == null && shapes.size() < MAX_SHAPES) {
+            shape = new Shape(normalized, parameterTypes);
+            shapes.put(key, shape);
+        }
+        if (shape != null) {
+            shape.executions += count;
+            shape.elapsedNanos += elapsedNanos;
+        }
+
+        if (slow && slowStatements.size() < MAX_SLOW_STATEMENTS) {
+            slowStatements.add(new SlowStatement(normalized, parameterTypes, elapsedNanos));
+        }
+    }
+
+    /**
+     * N+1 의심 문장 형태 조회 (실행 횟수가 많은 순)
+     *
+     * @param threshold 같은 형태의 최소 실행 횟수
+     * @return 의심 형태 목록
+     */
+    public List<Shape> getRepeatedShapes(int threshold) {
+        return shapes.values().stream()
+                .filter(shape -> shape.executions >= threshold)
+                .sorted(Comparator.comparingLong(Shape::getExecutions).reversed())
+                .toList();
+    }
+
+    /**
+     * 실행된 문장 형태 목록 (처음 실행된 순)
+     *
+     * @return 문장 형태 목록
+     */
+    public List<Shape> getShapes() {
+        return List.copyOf(shapes.values());
+    }
+
+    public List<SlowStatement> getSlowStatements() {
+        return List.copyOf(slowStatements);
+    }
+
+    public long getStatements() {
+        return statements;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * 문장 형태별 실행 통계
+     */
+    public static final class Shape {
+        private final String sql;
+        private final List<String> parameterTypes;
+        private long executions;
+        private long elapsedNanos;
+
+        private Shape(String sql, List<String> parameterTypes) {
+            this.sql = sql;
+            this.parameterTypes = parameterTypes;
+        }
+
+        public String getSql() {
+            return sql;
+        }
+
+        public List<String> getParameterTypes() {
+            return parameterTypes;
+        }
+
+        public long getExecutions() {
+            return executions;
+        }
+
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return executions + "x " + sql + " " + parameterTypes;
+        }
+    }
+
+    /**
+     * 느린 문장
+     *
+     * @param sql 정규화된 SQL
+     * @param parameterTypes 바인드 파라미터 타입 목록
+     * @param elapsedNanos 실행 시간
+     */
+    public record SlowStatement(String sql, List<String> parameterTypes, long elapsedNanos) {
+    }
+}
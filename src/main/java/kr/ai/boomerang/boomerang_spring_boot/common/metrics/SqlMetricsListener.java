@@ -0,0 +1,83 @@
+package kr.ai.boomerang.boomerang_spring_boot.common.metrics;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 데이터소스 프록시 실행 리스너
+ * 실행된 SQL 문장 형태, 바인드 파라미터 타입, 실행 시간을 현재 요청의 RequestSqlStatistics에 더합니다.
+ * (Hibernate StatementInspector는 실행 전 SQL 문자열만 볼 수 있어 실행 시간을 잴 수 없으므로 JDBC 계층에서 측정)
+ * - 바인드 값은 개인정보가 섞일 수 있으므로 기록하지 않고 타입만 기록
+ * - 요청 밖에서 실행된 느린 문장은 바로 로그로 남김
+ * - 실행 시간은 나노초 단위로 받음 (프록시에 NanoTimeStopwatchFactory 설정 필요, 기본 설정은 밀리초로 잘림)
+ *
+ * @author Boomerang Team
+ */
+@Slf4j
+public class SqlMetricsListener implements QueryExecutionListener {
+
+    private final long slowThresholdNanos;
+
+    public SqlMetricsListener(Duration slowThreshold) {
+        this.slowThresholdNanos = slowThreshold.toNanos();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsedNanos = execInfo.getElapsedTime();
+        boolean slow = elapsedNanos >= slowThresholdNanos;
+        RequestSqlStatistics statistics = RequestSqlStatistics.current();
+        if (statistics == null && !slow) {
+            return;
+        }
+
+        long count = execInfo.isBatch() ? Math.max(1, execInfo.getBatchSize()) : 1;
+        for (QueryInfo queryInfo : queryInfoList) {
+            List<String> parameterTypes = parameterTypes(queryInfo);
+            if (statistics != null) {
+                statistics.record(queryInfo.getQuery(), parameterTypes, count, elapsedNanos, slow);
+            } else {
+                log.warn("느린 SQL ({}ms, 요청 외부): {} {}", TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                        RequestSqlStatistics.normalize(queryInfo.getQuery()), parameterTypes);
+            }
+            // 여러 문장을 한 번에 실행한 경우 시간은 첫 문장에만 반영
+            elapsedNanos = 0;
+        }
+    }
+
+    // === Private Methods ===
+
+    /**
+     * 첫 번째 바인드 파라미터 묶음의 타입 목록 (배치는 모든 항목의 형태가 같다고 봄)
+     */
+    private List<String> parameterTypes(QueryInfo queryInfo) {
+        List<List<ParameterSetOperation>> parametersList = queryInfo.getParametersList();
+        if (parametersList.isEmpty()) {
+            return List.of();
+        }
+
+        List<ParameterSetOperation> operations = parametersList.get(0);
+        List<String> types = new ArrayList<>(operations.size());
+        for (ParameterSetOperation operation : operations) {
+            Object[] args = operation.getArgs();
+            if ("setNull".equals(operation.getMethod().getName()) || args.length < 2 || args[1] == null) {
+                types.add("null");
+            } else {
+                types.add(args[1].getClass().getSimpleName());
+            }
+        }
+        return types;
+    }
+}
@@ -0,0 +1,46 @@
+package kr.ai.boomerang.boomerang_spring_boot.common.metrics;
+
+import net.ttddyy.dsproxy.proxy.NanoTimeStopwatchFactory;
+import net.ttddyy.dsproxy.proxy.ProxyConfig;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * DataSource를 SQL 계측 프록시로 감싸는 후처리기
+ * 테스트에서도 @Import로 등록하면 RequestSqlStatistics 기반 쿼리 수 검증을 사용할 수 있습니다.
+ * - sql.profiler.slow-threshold: 느린 SQL 기준 시간 (기본 200ms)
+ * - 1ms 미만 문장도 시간이 기록되도록 나노초 단위 스톱워치 사용
+ *
+ * @author Boomerang Team
+ */
+public class SqlProfilingDataSourcePostProcessor implements BeanPostProcessor, EnvironmentAware {
+
+    private Duration slowThreshold = Duration.ofMillis(200);
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        slowThreshold = environment.getProperty("sql.profiler.slow-threshold", Duration.class, slowThreshold);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+            ProxyDataSource proxy = ProxyDataSourceBuilder.create(dataSource)
+                    .name(beanName)
+                    .listener(new SqlMetricsListener(slowThreshold))
+                    .build();
+            // 빌더에는 스톱워치 설정이 없으므로 만들어진 설정을 복사해 교체
+            proxy.setProxyConfig(ProxyConfig.Builder.from(proxy.getProxyConfig())
+                    .stopwatchFactory(new NanoTimeStopwatchFactory())
+                    .build());
+            return proxy;
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,131 @@
+package kr.ai.boomerang.boomerang_spring_boot.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 캐리어 고정(pinning) 감시기
+ * 가상 스레드 모드(spring.threads.virtual.enabled=true)에서 JFR jdk.VirtualThreadPinned 이벤트를 애플리케이션 안에서 구독합니다.
+ * 가상 스레드가 synchronized 블록이나 네이티브 프레임 안에서 블로킹되면 캐리어 스레드를 놓지 못해 동시 처리량이 줄어듭니다.
+ * - 고정 시간은 jvm.threads.virtual.pinned 타이머에 고정 위치(애플리케이션 코드의 가장 가까운 프레임) 태그로 기록
+ * - 위치별 첫 발생은 스택과 함께 WARN, 이후는 DEBUG로 기록
+ * - virtual-threads.pinning.threshold 이상 고정된 경우만 기록 (기본 20ms)
+ *
+ * @author Boomerang Team
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@RequiredArgsConstructor
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APPLICATION_PACKAGE = "kr.ai.boomerang.boomerang_spring_boot.";
+
+    private final MeterRegistry meterRegistry;
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+
+    @Value("${virtual-threads.pinning.threshold:20ms}")
+    private Duration threshold;
+
+    @Value("${virtual-threads.pinning.stack-depth:12}")
+    private int stackDepth;
+
+    private volatile RecordingStream recordingStream;
+
+    @Override
+    public void start() {
+        RecordingStream stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        recordingStream = stream;
+        log.info("가상 스레드 고정 감시 시작: threshold={}", threshold);
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream stream = recordingStream;
+        recordingStream = null;
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return recordingStream != null;
+    }
+
+    // === Private Methods ===
+
+    private void onPinned(RecordedEvent event) {
+        List<RecordedFrame> frames = frames(event.getStackTrace());
+        String site = pinnedSite(frames);
+
+        Timer.builder("jvm.threads.virtual.pinned")
+                .description("가상 스레드가 캐리어 스레드에 고정된 시간")
+                .tag("site", site)
+                .register(meterRegistry)
+                .record(event.getDuration());
+
+        if (reportedSites.add(site)) {
+            log.warn("가상 스레드 고정 감지 ({}ms) at {}\n{}", event.getDuration().toMillis(), site, format(frames));
+        } else if (log.isDebugEnabled()) {
+            log.debug("가상 스레드 고정 ({}ms) at {}", event.getDuration().toMillis(), site);
+        }
+    }
+
+    private List<RecordedFrame> frames(RecordedStackTrace stackTrace) {
+        return stackTrace != null ? stackTrace.getFrames() : List.of();
+    }
+
+    /**
+     * 고정 위치 결정: 애플리케이션 코드 프레임이 있으면 그 프레임, 없으면 최상위 Java 프레임
+     */
+    private String pinnedSite(List<RecordedFrame> frames) {
+        RecordedFrame top = null;
+        for (RecordedFrame frame : frames) {
+            if (!frame.isJavaFrame()) {
+                continue;
+            }
+            if (top == null) {
+                top = frame;
+            }
+            if (frame.getMethod().getType().getName().startsWith(APPLICATION_PACKAGE)) {
+                return site(frame);
+            }
+        }
+        return top != null ? site(top) : "unknown";
+    }
+
+    private String site(RecordedFrame frame) {
+        String className = frame.getMethod().getType().getName();
+        return className.substring(className.lastIndexOf('.') + 1) + "." + frame.getMethod().getName();
+    }
+
+    private String format(List<RecordedFrame> frames) {
+        return frames.stream()
+                .limit(stackDepth)
+                .map(frame -> "    at " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + (frame.isJavaFrame() ? ":" + frame.getLineNumber() : " (native)"))
+                .collect(Collectors.joining("\n"));
+    }
+}
@@ -0,0 +1,65 @@
+package kr.ai.boomerang.boomerang_spring_boot.common.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 노드 로컬 토큰 버킷 요청 제한기
+ * GCRA(Generic Cell Rate Algorithm)로 토큰 버킷을 키당 AtomicLong 하나(다음 이론 도착 시각)로 표현합니다.
+ * - 요청당 CAS 한 번으로 판정하므로 락이 없음
+ * - 가득 찬(오래 쓰이지 않은) 버킷은 주기적으로 제거하여 메모리를 회수
+ *
+ * @author Boomerang Team
+ */
+@Component
+@Slf4j
+public class LocalRateLimiter {
+
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * 토큰 1개 소비 시도
+     *
+     * @param key 버킷 키
+     * @param rule 제한 규칙
+     * @return 판정 결과
+     */
+    public RateLimitDecision tryAcquire(String key, RateLimitRule rule) {
+        AtomicLong theoreticalArrival = buckets.computeIfAbsent(key, k -> new AtomicLong(Long.MIN_VALUE));
+        long interval = rule.getIntervalNanos();
+        long tolerance = interval * (rule.getCapacity() - 1);
+
+        while (true) {
+            long now = System.nanoTime();
+            long current = theoreticalArrival.get();
+            long base = Math.max(current, now);
+
+            if (base - now > tolerance) {
+                return RateLimitDecision.of(false, rule.getCapacity(), 0, base - now, base - tolerance - now);
+            }
+
+            long next = base + interval;
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                long remaining = (rule.getCapacity() * interval - (next - now)) / interval;
+                return RateLimitDecision.of(true, rule.getCapacity(), remaining, next - now, 0);
+            }
+        }
+    }
+
+    /**
+     * 가득 찬 버킷 정리
+     * - 이론 도착 시각이 현재보다 과거이면 버킷이 가득 찬 상태이므로 제거해도 동작이 같음
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.cleanup-interval-ms:60000}")
+    public void evictFullBuckets() {
+        long now = System.nanoTime();
+        int before = buckets.size();
+        buckets.values().removeIf(theoreticalArrival -> theoreticalArrival.get() - now <= 0);
+        log.debug("요청 제한 버킷 정리: {} -> {}", before, buckets.size());
+    }
+}
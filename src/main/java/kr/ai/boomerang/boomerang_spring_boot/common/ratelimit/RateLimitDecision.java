@@ -0,0 +1,41 @@
+package kr.ai.boomerang.boomerang_spring_boot.common.ratelimit;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 요청 제한 판정 결과
+ * RateLimit-* 응답 헤더 값을 함께 담습니다.
+ *
+ * @author Boomerang Team
+ */
+@Getter
+@AllArgsConstructor
+public class RateLimitDecision {
+
+    private final boolean allowed;
+    private final int limit;
+    private final long remaining;
+    private final long resetSeconds;
+    private final long retryAfterSeconds;
+
+    /**
+     * GCRA 계산 결과로부터 판정 생성
+     *
+     * @param allowed 허용 여부
+     * @param limit 버킷 용량
+     * @param remaining 남은 토큰 수
+     * @param nanosUntilFull 버킷이 가득 찰 때까지 남은 시간 (나노초)
+     * @param nanosUntilRetry 다음 요청이 허용될 때까지 남은 시간 (나노초)
+     * @return 판정 결과
+     */
+    public static RateLimitDecision of(boolean allowed, int limit, long remaining,
+                                       long nanosUntilFull, long nanosUntilRetry) {
+        return new RateLimitDecision(allowed, limit, Math.max(0, remaining),
+                ceilSeconds(nanosUntilFull), ceilSeconds(nanosUntilRetry));
+    }
+
+    private static long ceilSeconds(long nanos) {
+        return nanos <= 0 ? 0 : (nanos + 999_999_999L) / 1_000_000_000L;
+    }
+}
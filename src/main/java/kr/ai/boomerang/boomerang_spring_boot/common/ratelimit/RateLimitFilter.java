@@ -0,0 +1,217 @@
+package kr.ai.boomerang.boomerang_spring_boot.common.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import kr.ai.boomerang.boomerang_spring_boot.common.web.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * API 요청 제한 필터
+ * 요청 경로에 해당하는 모든 규칙의 토큰 버킷에서 토큰을 하나씩 소비하고, 하나라도 부족하면 429로 거절합니다.
+ * - JWT 인증 필터 뒤에서 실행되어 사용자 단위 규칙에 인증 정보를 사용
+ * - 가장 제한에 가까운 규칙 기준으로 RateLimit-Limit / RateLimit-Remaining / RateLimit-Reset 헤더 설정
+ * - 거절 건수는 규칙 / 키 종류별 Micrometer 카운터로 기록
+ * - X-Forwarded-For는 기본으로 무시하며, 켜더라도 신뢰하는 프록시(trusted-proxies)에서 온 요청에만 사용
+ *
+ * @author Boomerang Team
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String REJECTED_COUNTER = "rate_limit.rejected";
+    private static final String FORWARDED_FOR_HEADER = "X-Forwarded-For";
+
+    private final List<RateLimitRule> rateLimitRules;
+    private final LocalRateLimiter localRateLimiter;
+    private final RedisRateLimiter redisRateLimiter;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Value("${rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${rate-limit.trust-forwarded-for:false}")
+    private boolean trustForwardedFor;
+
+    /**
+     * X-Forwarded-For를 덧붙이는 프록시 주소 목록 (IP 또는 CIDR, 예: 10.0.0.0/8)
+     */
+    @Value("${rate-limit.trusted-proxies:}")
+    private List<String> trustedProxies;
+
+    private List<IpAddressMatcher> trustedProxyMatchers = List.of();
+
+    @PostConstruct
+    public void init() {
+        trustedProxyMatchers = trustedProxies.stream()
+                .filter(StringUtils::hasText)
+                .map(String::trim)
+                .map(IpAddressMatcher::new)
+                .toList();
+        if (trustForwardedFor && trustedProxyMatchers.isEmpty()) {
+            log.warn("rate-limit.trusted-proxies가 비어 있어 X-Forwarded-For를 사용하지 않습니다.");
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String path = request.getRequestURI();
+        RateLimitDecision tightest = null;
+        RateLimitRule rejectedRule = null;
+
+        for (RateLimitRule rule : rateLimitRules) {
+            if (!pathMatcher.match(rule.getPathPattern(), path)) {
+                continue;
+            }
+
+            String identity = resolveIdentity(rule, request);
+            if (identity == null) {
+                continue;
+            }
+
+            String key = rule.getName() + ":" + identity;
+            RateLimitDecision decision = rule.isDistributed()
+                    ? redisRateLimiter.tryAcquire(key, rule)
+                    : localRateLimiter.tryAcquire(key, rule);
+
+            if (!decision.isAllowed()) {
+                tightest = decision;
+                rejectedRule = rule;
+                break;
+            }
+            if (tightest == null || decision.getRemaining() < tightest.getRemaining()) {
+                tightest = decision;
+            }
+        }
+
+        if (tightest != null) {
+            setRateLimitHeaders(response, tightest);
+        }
+
+        if (rejectedRule != null) {
+            reject(request, response, rejectedRule, tightest);
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    // === Private Methods ===
+
+    /**
+     * 규칙의 키 종류에 따라 버킷 식별자 결정
+     *
+     * @param rule 제한 규칙
+     * @param request HttpServletRequest
+     * @return 식별자 (규칙을 적용하지 않으면 null)
+     */
+    private String resolveIdentity(RateLimitRule rule, HttpServletRequest request) {
+        if (rule.getKeyType() == RateLimitRule.KeyType.IP) {
+            return "ip:" + resolveClientIp(request);
+        }
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return "user:" + authentication.getPrincipal();
+    }
+
+    /**
+     * 클라이언트 IP 추출
+     * - 직접 연결한 주소가 신뢰하는 프록시일 때만 X-Forwarded-For를 사용 (그 외에는 헤더를 위조할 수 있으므로 무시)
+     * - X-Forwarded-For를 뒤에서부터 읽어 신뢰하는 프록시가 아닌 첫 주소를 사용 (클라이언트가 앞쪽 값을 위조할 수 있으므로)
+     *
+     * @param request HttpServletRequest
+     * @return 클라이언트 IP
+     */
+    private String resolveClientIp(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        if (!trustForwardedFor || !isTrustedProxy(remoteAddr)) {
+            return remoteAddr;
+        }
+        String forwardedFor = request.getHeader(FORWARDED_FOR_HEADER);
+        if (!StringUtils.hasText(forwardedFor)) {
+            return remoteAddr;
+        }
+
+        String[] addresses = forwardedFor.split(",");
+        String client = remoteAddr;
+        for (int i = addresses.length - 1; i >= 0; i--) {
+            client = addresses[i].trim();
+            if (!isTrustedProxy(client)) {
+                break;
+            }
+        }
+        return client;
+    }
+
+    private boolean isTrustedProxy(String address) {
+        if (!StringUtils.hasText(address)) {
+            return false;
+        }
+        for (IpAddressMatcher matcher : trustedProxyMatchers) {
+            try {
+                if (matcher.matches(address)) {
+                    return true;
+                }
+            } catch (IllegalArgumentException e) {
+                // IP 형식이 아닌 헤더 값
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private void setRateLimitHeaders(HttpServletResponse response, RateLimitDecision decision) {
+        response.setHeader("RateLimit-Limit", String.valueOf(decision.getLimit()));
+        response.setHeader("RateLimit-Remaining", String.valueOf(decision.getRemaining()));
+        response.setHeader("RateLimit-Reset", String.valueOf(decision.getResetSeconds()));
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response,
+                        RateLimitRule rule, RateLimitDecision decision) throws IOException {
+        meterRegistry.counter(REJECTED_COUNTER,
+                "rule", rule.getName(),
+                "key_type", rule.getKeyType().name().toLowerCase()).increment();
+        log.debug("요청 제한 초과: rule={}, path={}", rule.getName(), request.getRequestURI());
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader("Retry-After", String.valueOf(Math.max(1, decision.getRetryAfterSeconds())));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().write(objectMapper.writeValueAsString(
+                ApiResponse.error("요청이 너무 많습니다. 잠시 후 다시 시도해주세요.")));
+    }
+}
@@ -0,0 +1,39 @@
+package kr.ai.boomerang.boomerang_spring_boot.common.ratelimit;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 경로 패턴별 요청 제한 규칙
+ * 토큰 버킷(capacity, refillPerSecond)과 버킷을 나누는 기준(IP / 사용자)을 정의합니다.
+ *
+ * @author Boomerang Team
+ */
+@Getter
+@Builder
+public class RateLimitRule {
+
+    private final String name;
+    private final String pathPattern;
+    private final KeyType keyType;
+    private final int capacity;
+    private final double refillPerSecond;
+    private final boolean distributed;
+
+    /**
+     * 버킷 구분 기준
+     */
+    public enum KeyType {
+        IP,     // 클라이언트 IP
+        USER    // 인증된 사용자 ID (비로그인 요청에는 적용 안 함)
+    }
+
+    /**
+     * 토큰 1개가 채워지는 간격 (나노초)
+     *
+     * @return 토큰 보충 간격
+     */
+    public long getIntervalNanos() {
+        return (long) (1_000_000_000L / refillPerSecond);
+    }
+}
@@ -0,0 +1,74 @@
+package kr.ai.boomerang.boomerang_spring_boot.common.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Redis 기반 분산 토큰 버킷 요청 제한기
+ * 로컬 제한기와 같은 GCRA를 Lua 스크립트로 원자적으로 실행하여 모든 노드가 하나의 버킷을 공유합니다.
+ * - 시각은 Redis TIME을 사용하여 노드 간 시계 차이의 영향을 받지 않음
+ * - Redis 장애 시에는 로컬 제한기로 대체하여 요청 처리를 막지 않음
+ *
+ * @author Boomerang Team
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RedisRateLimiter {
+
+    private static final String KEY_PREFIX = "rate_limit:";
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> GCRA_SCRIPT = new DefaultRedisScript<>("""
+            local interval = tonumber(ARGV[1])
+            local capacity = tonumber(ARGV[2])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000000 + tonumber(time[2])
+            local tolerance = interval * (capacity - 1)
+            local tat = tonumber(redis.call('GET', KEYS[1]) or now)
+            if tat < now then
+                tat = now
+            end
+            if tat - now > tolerance then
+                return {0, 0, tat - now, tat - tolerance - now}
+            end
+            local nextTat = tat + interval
+            redis.call('SET', KEYS[1], string.format('%d', nextTat), 'PX', math.ceil((nextTat - now) / 1000))
+            return {1, math.floor((capacity * interval - (nextTat - now)) / interval), nextTat - now, 0}
+            """, List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final LocalRateLimiter localRateLimiter;
+
+    /**
+     * 토큰 1개 소비 시도
+     *
+     * @param key 버킷 키
+     * @param rule 제한 규칙
+     * @return 판정 결과
+     */
+    public RateLimitDecision tryAcquire(String key, RateLimitRule rule) {
+        try {
+            long intervalMicros = Math.max(1, rule.getIntervalNanos() / 1000);
+            List<?> result = stringRedisTemplate.execute(GCRA_SCRIPT, List.of(KEY_PREFIX + key),
+                    Long.toString(intervalMicros), Integer.toString(rule.getCapacity()));
+
+            boolean allowed = toLong(result.get(0)) == 1;
+            return RateLimitDecision.of(allowed, rule.getCapacity(), toLong(result.get(1)),
+                    toLong(result.get(2)) * 1000, toLong(result.get(3)) * 1000);
+        } catch (Exception e) {
+            log.debug("분산 요청 제한 실패, 로컬 제한기로 대체: {}", e.getMessage());
+            return localRateLimiter.tryAcquire(key, rule);
+        }
+    }
+
+    private long toLong(Object value) {
+        return ((Number) value).longValue();
+    }
+}
@@ -0,0 +1,274 @@
+package kr.ai.boomerang.boomerang_spring_boot.common.redis;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Redis 값 전용 compact 바이너리 직렬화기
+ * 첫 바이트 헤더로 값의 형태를 구분하여 타입 메타데이터 없이 저장합니다.
+ * - 문자열(Refresh Token 등)은 UTF-8 원본 바이트 그대로 저장
+ * - Long / Integer / Boolean은 고정 길이 바이트로 저장
+ * - DTO는 Smile(바이너리 JSON)로 저장하고, 등록된 타입은 클래스 이름 대신 2바이트 별칭만 기록
+ * - 지정한 크기 이상의 값은 LZ4로 압축
+ * - 헤더가 없는 기존 GenericJackson2JsonRedisSerializer 값은 그대로 읽을 수 있도록 폴백
+ * - 값에 기록된 클래스 이름(별칭 없는 DTO, 기존 JSON의 @class)은 허용한 패키지의 타입만 읽음
+ *   (Redis에 쓸 수 있는 누구나 임의 클래스를 역직렬화시키지 못하도록 함)
+ *
+ * @author Boomerang Team
+ */
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+
+    private static final byte TYPE_STRING = 0x01;
+    private static final byte TYPE_LONG = 0x02;
+    private static final byte TYPE_INTEGER = 0x03;
+    private static final byte TYPE_BOOLEAN = 0x04;
+    private static final byte TYPE_ALIASED_OBJECT = 0x05;
+    private static final byte TYPE_NAMED_OBJECT = 0x06;
+    private static final byte COMPRESSED_FLAG = (byte) 0x80;
+    private static final byte TYPE_MASK = 0x0F;
+
+    private final ObjectMapper smileMapper;
+    private final PolymorphicTypeValidator typeValidator;
+    private final JavaType objectType;
+    private final GenericJackson2JsonRedisSerializer legacySerializer;
+    private final Map<Class<?>, Short> aliasByType = new HashMap<>();
+    private final Map<Short, Class<?>> typeByAlias = new HashMap<>();
+    private final int compressionThreshold;
+    private final LZ4Compressor compressor;
+    private final LZ4FastDecompressor decompressor;
+
+    /**
+     * 직렬화기 생성
+     *
+     * @param compressionThreshold 압축을 적용할 최소 바이트 수 (0 이하이면 압축 사용 안 함)
+     * @param allowedPackages 클래스 이름으로 저장 / 조회할 수 있는 패키지 접두사 (예: "kr.ai.boomerang.")
+     */
+    public CompactRedisSerializer(int compressionThreshold, String... allowedPackages) {
+        this.compressionThreshold = compressionThreshold;
+        this.smileMapper = new ObjectMapper(new SmileFactory())
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+        this.typeValidator = typeValidator(allowedPackages);
+        this.objectType = smileMapper.constructType(Object.class);
+        // 기존 JSON 값의 @class도 같은 허용 목록으로 검증
+        this.legacySerializer = jsonSerializer(typeValidator);
+
+        LZ4Factory factory = LZ4Factory.fastestJavaInstance();
+        this.compressor = factory.fastCompressor();
+        this.decompressor = factory.fastDecompressor();
+    }
+
+    /**
+     * 허용한 패키지의 타입만 읽는 JSON 직렬화기 생성 (redis.serializer.type=json)
+     * - GenericJackson2JsonRedisSerializer와 같은 형식(@class 속성)으로 기록
+     *
+     * @param allowedPackages @class로 조회할 수 있는 패키지 접두사
+     * @return GenericJackson2JsonRedisSerializer
+     */
+    public static GenericJackson2JsonRedisSerializer jsonSerializer(String... allowedPackages) {
+        return jsonSerializer(typeValidator(allowedPackages));
+    }
+
+    /**
+     * DTO 타입 별칭 등록
+     * - 등록된 타입은 값마다 클래스 이름을 기록하지 않고 2바이트 별칭만 기록
+     * - 별칭은 저장된 데이터의 일부이므로 한 번 정한 번호는 바꾸지 않아야 함
+     *
+     * @param alias 별칭 번호
+     * @param type DTO 타입
+     * @return this
+     */
+    public CompactRedisSerializer registerType(int alias, Class<?> type) {
+        short key = (short) alias;
+        if (typeByAlias.containsKey(key) && !typeByAlias.get(key).equals(type)) {
+            throw new IllegalArgumentException("이미 사용 중인 타입 별칭입니다: " + alias);
+        }
+        aliasByType.put(type, key);
+        typeByAlias.put(key, type);
+        return this;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+
+        byte type;
+        byte[] payload;
+        if (value instanceof String string) {
+            type = TYPE_STRING;
+            payload = string.getBytes(StandardCharsets.UTF_8);
+        } else if (value instanceof Long number) {
+            type = TYPE_LONG;
+            payload = ByteBuffer.allocate(Long.BYTES).putLong(number).array();
+        } else if (value instanceof Integer number) {
+            type = TYPE_INTEGER;
+            payload = ByteBuffer.allocate(Integer.BYTES).putInt(number).array();
+        } else if (value instanceof Boolean bool) {
+            type = TYPE_BOOLEAN;
+            payload = new byte[]{(byte) (bool ? 1 : 0)};
+        } else {
+            Short alias = aliasByType.get(value.getClass());
+            byte[] body = writeSmile(value);
+            if (alias != null) {
+                type = TYPE_ALIASED_OBJECT;
+                payload = ByteBuffer.allocate(Short.BYTES + body.length).putShort(alias).put(body).array();
+            } else {
+                type = TYPE_NAMED_OBJECT;
+                byte[] className = allowedClassName(value.getClass().getName()).getBytes(StandardCharsets.UTF_8);
+                payload = ByteBuffer.allocate(Short.BYTES + className.length + body.length)
+                        .putShort((short) className.length).put(className).put(body).array();
+            }
+        }
+
+        if (compressionThreshold > 0 && payload.length >= compressionThreshold) {
+            return compress(type, payload);
+        }
+
+        byte[] result = new byte[payload.length + 1];
+        result[0] = type;
+        System.arraycopy(payload, 0, result, 1, payload.length);
+        return result;
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        byte header = bytes[0];
+        byte type = (byte) (header & TYPE_MASK);
+        if ((header & ~(TYPE_MASK | COMPRESSED_FLAG)) != 0 || type < TYPE_STRING || type > TYPE_NAMED_OBJECT) {
+            // 헤더가 없는 기존 JSON 직렬화 값
+            return legacySerializer.deserialize(bytes);
+        }
+
+        ByteBuffer payload = (header & COMPRESSED_FLAG) != 0
+                ? decompress(bytes)
+                : ByteBuffer.wrap(bytes, 1, bytes.length - 1);
+
+        switch (type) {
+            case TYPE_STRING:
+                return new String(payload.array(), payload.position(), payload.remaining(), StandardCharsets.UTF_8);
+            case TYPE_LONG:
+                return payload.getLong();
+            case TYPE_INTEGER:
+                return payload.getInt();
+            case TYPE_BOOLEAN:
+                return payload.get() != 0;
+            case TYPE_ALIASED_OBJECT: {
+                short alias = payload.getShort();
+                Class<?> targetType = typeByAlias.get(alias);
+                if (targetType == null) {
+                    throw new SerializationException("등록되지 않은 타입 별칭입니다: " + alias);
+                }
+                return readSmile(payload, targetType);
+            }
+            default: {
+                byte[] className = new byte[payload.getShort()];
+                payload.get(className);
+                return readSmile(payload, loadClass(allowedClassName(new String(className, StandardCharsets.UTF_8))));
+            }
+        }
+    }
+
+    // === Private Methods ===
+
+    private static PolymorphicTypeValidator typeValidator(String... allowedPackages) {
+        BasicPolymorphicTypeValidator.Builder validator = BasicPolymorphicTypeValidator.builder();
+        for (String allowedPackage : allowedPackages) {
+            validator.allowIfSubType(allowedPackage);
+        }
+        return validator.build();
+    }
+
+    // GenericJackson2JsonRedisSerializer 기본 설정과 같은 형식을 쓰기 위해 EVERYTHING 사용
+    @SuppressWarnings("deprecation")
+    private static GenericJackson2JsonRedisSerializer jsonSerializer(PolymorphicTypeValidator typeValidator) {
+        ObjectMapper mapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .activateDefaultTyping(typeValidator, ObjectMapper.DefaultTyping.EVERYTHING, JsonTypeInfo.As.PROPERTY);
+        return new GenericJackson2JsonRedisSerializer(mapper);
+    }
+
+    private byte[] writeSmile(Object value) {
+        try {
+            return smileMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("Redis 값 직렬화에 실패했습니다: " + value.getClass().getName(), e);
+        }
+    }
+
+    private Object readSmile(ByteBuffer payload, Class<?> targetType) {
+        try {
+            return smileMapper.readValue(payload.array(), payload.arrayOffset() + payload.position(),
+                    payload.remaining(), targetType);
+        } catch (IOException e) {
+            throw new SerializationException("Redis 값 역직렬화에 실패했습니다: " + targetType.getName(), e);
+        }
+    }
+
+    private byte[] compress(byte type, byte[] payload) {
+        int maxLength = compressor.maxCompressedLength(payload.length);
+        byte[] result = new byte[1 + Integer.BYTES + maxLength];
+        result[0] = (byte) (type | COMPRESSED_FLAG);
+        ByteBuffer.wrap(result, 1, Integer.BYTES).putInt(payload.length);
+        int compressedLength = compressor.compress(payload, 0, payload.length, result, 1 + Integer.BYTES, maxLength);
+
+        byte[] trimmed = new byte[1 + Integer.BYTES + compressedLength];
+        System.arraycopy(result, 0, trimmed, 0, trimmed.length);
+        return trimmed;
+    }
+
+    private ByteBuffer decompress(byte[] bytes) {
+        int originalLength = ByteBuffer.wrap(bytes, 1, Integer.BYTES).getInt();
+        byte[] restored = new byte[originalLength];
+        decompressor.decompress(bytes, 1 + Integer.BYTES, restored, 0, originalLength);
+        return ByteBuffer.wrap(restored);
+    }
+
+    /**
+     * 허용한 패키지의 클래스 이름인지 확인 (클래스를 로드하기 전에 이름으로만 검사)
+     */
+    private String allowedClassName(String className) {
+        try {
+            if (typeValidator.validateSubClassName(smileMapper.getDeserializationConfig(), objectType, className)
+                    == PolymorphicTypeValidator.Validity.ALLOWED) {
+                return className;
+            }
+        } catch (IOException e) {
+            throw new SerializationException("Redis 값의 타입을 확인할 수 없습니다: " + className, e);
+        }
+        throw new SerializationException("허용되지 않은 Redis 값 타입입니다: " + className);
+    }
+
+    private Class<?> loadClass(String className) {
+        try {
+            return Class.forName(className, false, getClass().getClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new SerializationException("Redis 값의 타입을 찾을 수 없습니다: " + className, e);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package kr.ai.boomerang.boomerang_spring_boot.common.redis;
+
+/**
+ * Redis 배치 명령 실행 실패 시 발생하는 예외
+ *
+ * @author Boomerang Team
+ */
+public class RedisBatchException extends RuntimeException {
+
+    public RedisBatchException(String message) {
+        super(message);
+    }
+
+    public RedisBatchException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,296 @@
+package kr.ai.boomerang.boomerang_spring_boot.common.redis;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+/**
+ * Redis 명령 자동 배치(pipelining) 실행기
+ * 여러 스레드에서 동시에 들어온 단건 명령을 짧은 flush 구간 동안 모아 하나의 파이프라인으로 전송합니다.
+ * - 로그인 / 토큰 재발급이 몰릴 때 명령마다 왕복하지 않고 몇 번의 파이프라인 왕복으로 처리
+ * - 명령별 지연 시간(대기 + 왕복)과 파이프라인 크기를 Micrometer 히스토그램으로 기록
+ * - 제출하는 명령 함수는 응답을 돌려주는 Redis 명령을 정확히 하나만 실행해야 결과 순서가 맞음
+ *   (파이프라인 결과에서 제외되는 status 응답 명령은 사용 불가)
+ *
+ * @author Boomerang Team
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RedisCommandBatcher {
+
+    private static final String COMMAND_TIMER = "redis.command";
+    private static final String BATCH_SIZE_SUMMARY = "redis.pipeline.batch.size";
+    private static final String ROUND_TRIP_TIMER = "redis.pipeline.round-trip";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${redis.batch.flush-window-micros:200}")
+    private long flushWindowMicros;
+
+    @Value("${redis.batch.max-size:256}")
+    private int maxBatchSize;
+
+    @Value("${redis.batch.command-timeout-ms:2000}")
+    private long commandTimeoutMs;
+
+    private final BlockingQueue<PendingCommand> queue = new LinkedBlockingQueue<>();
+    private final Map<String, Timer> commandTimers = new ConcurrentHashMap<>();
+
+    private DistributionSummary batchSizeSummary;
+    private Timer roundTripTimer;
+    private volatile boolean running;
+    private Thread flusher;
+
+    @PostConstruct
+    public void start() {
+        batchSizeSummary = DistributionSummary.builder(BATCH_SIZE_SUMMARY)
+                .description("파이프라인 1회당 명령 수")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        roundTripTimer = Timer.builder(ROUND_TRIP_TIMER)
+                .description("파이프라인 1회 왕복 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+
+        running = true;
+        flusher = new Thread(this::flushLoop, "redis-command-batcher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        flusher.interrupt();
+    }
+
+    /**
+     * 값 조회 (GET)
+     *
+     * @param key 키
+     * @return 값 (없으면 null)
+     */
+    public Object get(String key) {
+        return execute("get", ops -> ops.opsForValue().get(key));
+    }
+
+    /**
+     * 만료 시간과 함께 값 저장 (SET EX)
+     *
+     * @param key 키
+     * @param value 값
+     * @param timeout 만료 시간
+     * @param unit 시간 단위
+     */
+    public void set(String key, Object value, long timeout, TimeUnit unit) {
+        execute("set", ops -> {
+            ops.opsForValue().set(key, value, timeout, unit);
+            return null;
+        });
+    }
+
+    /**
+     * 키 삭제 (DEL)
+     *
+     * @param key 키
+     * @return 삭제 여부
+     */
+    public boolean delete(String key) {
+        Object result = execute("del", ops -> ops.delete(key));
+        return toBoolean(result);
+    }
+
+    /**
+     * 키 존재 여부 확인 (EXISTS)
+     *
+     * @param key 키
+     * @return 존재 여부
+     */
+    public boolean hasKey(String key) {
+        Object result = execute("exists", ops -> ops.hasKey(key));
+        return toBoolean(result);
+    }
+
+    /**
+     * 명령을 다음 파이프라인에 실어 실행하고 결과를 기다림
+     *
+     * @param commandName 지표용 명령 이름
+     * @param command 단일 Redis 명령을 실행하는 함수
+     * @return 파이프라인 결과
+     */
+    public Object execute(String commandName, Function<RedisOperations<String, Object>, ?> command) {
+        try {
+            return submit(commandName, command).get(commandTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RedisBatchException("Redis 명령 대기 중 인터럽트되었습니다: " + commandName, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof DataAccessException dataAccessException) {
+                throw dataAccessException;
+            }
+            throw new RedisBatchException("Redis 명령 실행에 실패했습니다: " + commandName, cause);
+        } catch (TimeoutException e) {
+            throw new RedisBatchException("Redis 명령 시간이 초과되었습니다: " + commandName, e);
+        }
+    }
+
+    /**
+     * 명령을 비동기로 제출
+     *
+     * @param commandName 지표용 명령 이름
+     * @param command 단일 Redis 명령을 실행하는 함수
+     * @return 파이프라인 결과 Future
+     */
+    public CompletableFuture<Object> submit(String commandName, Function<RedisOperations<String, Object>, ?> command) {
+        PendingCommand pending = new PendingCommand(commandName, command, System.nanoTime());
+        if (!running) {
+            pending.future.completeExceptionally(new RedisBatchException("Redis 배치 실행기가 중지되었습니다."));
+            return pending.future;
+        }
+        queue.add(pending);
+        return pending.future;
+    }
+
+    // === Private Methods ===
+
+    private void flushLoop() {
+        List<PendingCommand> batch = new ArrayList<>(maxBatchSize);
+        while (running) {
+            try {
+                PendingCommand first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // 첫 명령 이후 짧은 구간 동안 동시에 들어오는 명령을 모음
+                if (queue.size() < maxBatchSize - 1) {
+                    LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(flushWindowMicros));
+                }
+                queue.drainTo(batch, maxBatchSize - 1);
+
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("Redis 배치 처리 중 오류 발생: {}", e.getMessage(), e);
+                batch.forEach(pending -> pending.future.completeExceptionally(e));
+            } finally {
+                batch.clear();
+            }
+        }
+
+        PendingCommand remaining;
+        while ((remaining = queue.poll()) != null) {
+            remaining.future.completeExceptionally(new RedisBatchException("Redis 배치 실행기가 중지되었습니다."));
+        }
+    }
+
+    private void flush(List<PendingCommand> batch) {
+        long start = System.nanoTime();
+        List<Object> results;
+        try {
+            results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                    for (PendingCommand pending : batch) {
+                        pending.command.apply(ops);
+                    }
+                    return null;
+                }
+            });
+        } catch (RedisPipelineException e) {
+            results = e.getPipelineResult();
+        } catch (Exception e) {
+            batch.forEach(pending -> pending.future.completeExceptionally(e));
+            return;
+        }
+
+        long end = System.nanoTime();
+        roundTripTimer.record(end - start, TimeUnit.NANOSECONDS);
+        batchSizeSummary.record(batch.size());
+
+        if (results.size() != batch.size()) {
+            RedisBatchException mismatch = new RedisBatchException(
+                    "파이프라인 결과 수가 명령 수와 다릅니다: commands=" + batch.size() + ", results=" + results.size());
+            batch.forEach(pending -> pending.future.completeExceptionally(mismatch));
+            return;
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            PendingCommand pending = batch.get(i);
+            Object result = results.get(i);
+
+            commandTimer(pending.commandName).record(end - pending.enqueuedAt, TimeUnit.NANOSECONDS);
+            if (result instanceof Throwable throwable) {
+                pending.future.completeExceptionally(throwable);
+            } else {
+                pending.future.complete(result);
+            }
+        }
+    }
+
+    private Timer commandTimer(String commandName) {
+        return commandTimers.computeIfAbsent(commandName, name -> Timer.builder(COMMAND_TIMER)
+                .description("Redis 명령 지연 시간 (배치 대기 포함)")
+                .tag("command", name)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    private boolean toBoolean(Object result) {
+        if (result instanceof Boolean bool) {
+            return bool;
+        }
+        if (result instanceof Number number) {
+            return number.longValue() > 0;
+        }
+        return false;
+    }
+
+    /**
+     * 파이프라인 대기 중인 명령
+     */
+    private static class PendingCommand {
+        private final String commandName;
+        private final Function<RedisOperations<String, Object>, ?> command;
+        private final long enqueuedAt;
+        private final CompletableFuture<Object> future = new CompletableFuture<>();
+
+        private PendingCommand(String commandName, Function<RedisOperations<String, Object>, ?> command, long enqueuedAt) {
+            this.commandName = commandName;
+            this.command = command;
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+}
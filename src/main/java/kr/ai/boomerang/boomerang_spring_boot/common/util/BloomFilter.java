@@ -0,0 +1,133 @@
+package kr.ai.boomerang.boomerang_spring_boot.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열용 Bloom Filter
+ * 존재하지 않는 값은 확실히 걸러내고, 존재할 수도 있는 값만 원격 저장소 확인이 필요하도록 합니다.
+ * - 비트 배열은 AtomicLongArray로 관리하여 락 없이 동시 추가 / 조회가 가능
+ * - 삭제는 지원하지 않으므로 필요 시 새 필터를 만들어 교체
+ *
+ * @author Boomerang Team
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    /**
+     * Bloom Filter 생성
+     *
+     * @param expectedInsertions 예상 삽입 개수
+     * @param falsePositiveProbability 허용 오탐률 (0 ~ 1)
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveProbability) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("예상 삽입 개수는 양수여야 합니다: " + expectedInsertions);
+        }
+        if (falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException("오탐률은 0과 1 사이여야 합니다: " + falsePositiveProbability);
+        }
+
+        long optimalBits = (long) (-expectedInsertions * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.max(1, (optimalBits + 63) >>> 6);
+
+        this.bits = new AtomicLongArray(words);
+        this.bitSize = (long) words << 6;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+    }
+
+    /**
+     * 값 추가
+     *
+     * @param value 추가할 값
+     */
+    public void put(String value) {
+        long hash = hash64(value);
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+
+        for (int i = 1; i <= hashCount; i++) {
+            setBit(index(hash1 + i * hash2));
+        }
+    }
+
+    /**
+     * 값 포함 가능성 확인
+     *
+     * @param value 확인할 값
+     * @return false이면 확실히 없음, true이면 있을 수 있음
+     */
+    public boolean mightContain(String value) {
+        long hash = hash64(value);
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+
+        for (int i = 1; i <= hashCount; i++) {
+            if (!getBit(index(hash1 + i * hash2))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 비트 배열 크기 반환
+     *
+     * @return 비트 수
+     */
+    public long getBitSize() {
+        return bitSize;
+    }
+
+    /**
+     * 해시 함수 개수 반환
+     *
+     * @return 해시 함수 개수
+     */
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    // === Private Methods ===
+
+    private long index(int combinedHash) {
+        return (combinedHash & Integer.MAX_VALUE) % bitSize;
+    }
+
+    private void setBit(long bitIndex) {
+        int wordIndex = (int) (bitIndex >>> 6);
+        long mask = 1L << bitIndex;
+        long current;
+        do {
+            current = bits.get(wordIndex);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(wordIndex, current, current | mask));
+    }
+
+    private boolean getBit(long bitIndex) {
+        return (bits.get((int) (bitIndex >>> 6)) & (1L << bitIndex)) != 0;
+    }
+
+    /**
+     * FNV-1a 64비트 해시 후 비트 혼합 (murmur3 finalizer)
+     */
+    private static long hash64(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : bytes) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,75 @@
+package kr.ai.boomerang.boomerang_spring_boot.common.util;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 한글 처리 유틸리티 클래스
+ *
+ * @author Boomerang Team
+ */
+public class HangulUtils {
+
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    private static final String[] CHOSEONG = {
+            "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    private static final String[] JUNGSEONG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ",
+            "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+
+    private static final String[] JONGSEONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+            "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    // 두 글쇠로 입력하는 겹자음 / 겹모음 호환 자모
+    private static final Map<Character, String> COMPOUND_JAMO = Map.ofEntries(
+            Map.entry('ㄳ', "ㄱㅅ"), Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"),
+            Map.entry('ㄺ', "ㄹㄱ"), Map.entry('ㄻ', "ㄹㅁ"), Map.entry('ㄼ', "ㄹㅂ"),
+            Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"), Map.entry('ㄿ', "ㄹㅍ"),
+            Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ"),
+            Map.entry('ㅘ', "ㅗㅏ"), Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"),
+            Map.entry('ㅝ', "ㅜㅓ"), Map.entry('ㅞ', "ㅜㅔ"), Map.entry('ㅟ', "ㅜㅣ"), Map.entry('ㅢ', "ㅡㅣ")
+    );
+
+    /**
+     * 자모 단위 검색 키 생성
+     * - 한글 음절은 자판 입력 순서대로 자모를 풀어 씀 (예: "괜" -> "ㄱㅗㅐㄴ")
+     * - 조합 중인 글자로도 접두사가 일치하도록 겹자음 / 겹모음도 두 글쇠로 분리 (예: "닭" 입력 중 "달" -> "ㄷㅏㄹ")
+     * - 영문은 소문자로 변환
+     *
+     * @param text 원본 문자열
+     * @return 자모 분리된 검색 키
+     */
+    public static String toJamoKey(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+
+        StringBuilder key = new StringBuilder(text.length() * 3);
+        for (char c : text.toLowerCase(Locale.ROOT).toCharArray()) {
+            if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+                int offset = c - SYLLABLE_BASE;
+                key.append(CHOSEONG[offset / (JUNGSEONG_COUNT * JONGSEONG_COUNT)])
+                        .append(JUNGSEONG[(offset / JONGSEONG_COUNT) % JUNGSEONG_COUNT])
+                        .append(JONGSEONG[offset % JONGSEONG_COUNT]);
+            } else {
+                String compound = COMPOUND_JAMO.get(c);
+                if (compound != null) {
+                    key.append(compound);
+                } else {
+                    key.append(c);
+                }
+            }
+        }
+        return key.toString();
+    }
+}
@@ -0,0 +1,42 @@
+package kr.ai.boomerang.boomerang_spring_boot.common.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * 요청별 비동기 처리 타임아웃
+ * MVC 비동기 처리의 기본 타임아웃(spring.mvc.async.request-timeout, 미지정 시 서블릿 컨테이너 기본 30초)보다
+ * 오래 걸리는 응답(대용량 StreamingResponseBody 등)에만 컨트롤러에서 요청 단위로 타임아웃을 지정합니다.
+ * - 컨트롤러가 set()으로 요청 속성에 타임아웃을 남기면, 비동기 처리를 시작하기 직전에 해당 요청에만 적용
+ * - StreamingResponseBody는 WebAsyncTask처럼 타임아웃을 담을 수 없으므로 인터셉터로 적용
+ *
+ * @author Boomerang Team
+ */
+public class AsyncRequestTimeout implements CallableProcessingInterceptor {
+
+    private static final String TIMEOUT_ATTRIBUTE = AsyncRequestTimeout.class.getName() + ".TIMEOUT";
+
+    /**
+     * 현재 요청의 비동기 처리 타임아웃 지정
+     *
+     * @param request 요청
+     * @param timeout 타임아웃
+     */
+    public static void set(HttpServletRequest request, Duration timeout) {
+        request.setAttribute(TIMEOUT_ATTRIBUTE, timeout);
+    }
+
+    @Override
+    public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+        if (request instanceof AsyncWebRequest asyncWebRequest
+                && request.getAttribute(TIMEOUT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof Duration timeout) {
+            asyncWebRequest.setTimeout(timeout.toMillis());
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package kr.ai.boomerang.boomerang_spring_boot.common.web;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 응답 필드 선택 (fields 쿼리 파라미터)
+ * 쉼표로 구분한 필드 이름을 받아 응답에 포함할 필드를 정합니다. 하위 객체 필드는 점으로 지정합니다.
+ * - fields=id,title,author.nickname → id / title / author의 nickname만 포함
+ * - fields=author → author의 모든 필드 포함
+ * - 파라미터가 없거나 비어 있으면 모든 필드 포함 (기존 응답과 동일)
+ * - 허용되지 않은 필드 이름은 IllegalArgumentException (400)
+ *
+ * @author Boomerang Team
+ */
+public final class FieldSelection {
+
+    private static final FieldSelection ALL = new FieldSelection(null);
+
+    /**
+     * 선택된 필드 경로 (null이면 전체)
+     */
+    private final Set<String> paths;
+
+    private FieldSelection(Set<String> paths) {
+        this.paths = paths;
+    }
+
+    /**
+     * 모든 필드 선택
+     *
+     * @return FieldSelection
+     */
+    public static FieldSelection all() {
+        return ALL;
+    }
+
+    /**
+     * fields 파라미터 파싱
+     *
+     * @param fields 쉼표로 구분한 필드 목록 (null 또는 빈 값이면 전체)
+     * @param allowed 허용하는 필드 경로 (하위 객체 필드는 "author.nickname" 형태)
+     * @return FieldSelection
+     */
+    public static FieldSelection parse(String fields, Set<String> allowed) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+
+        Set<String> paths = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            String path = field.trim();
+            if (path.isEmpty()) {
+                continue;
+            }
+            if (!allowed.contains(path)) {
+                throw new IllegalArgumentException("지원하지 않는 필드입니다: " + path);
+            }
+            paths.add(path);
+        }
+        return paths.isEmpty() ? ALL : new FieldSelection(Collections.unmodifiableSet(paths));
+    }
+
+    /**
+     * 허용 필드 경로에 하위 객체 필드 추가
+     *
+     * @param fields 최상위 필드 이름
+     * @param name 하위 객체 필드 이름
+     * @param nested 하위 객체가 허용하는 필드 경로
+     * @return 허용 필드 경로 (name과 "name.하위 필드" 포함)
+     */
+    public static Set<String> withNested(Set<String> fields, String name, Set<String> nested) {
+        Set<String> allowed = new LinkedHashSet<>(fields);
+        allowed.add(name);
+        nested.forEach(path -> allowed.add(name + "." + path));
+        return Collections.unmodifiableSet(allowed);
+    }
+
+    /**
+     * 전체 선택 여부
+     *
+     * @return 모든 필드를 포함하면 true
+     */
+    public boolean isAll() {
+        return paths == null;
+    }
+
+    /**
+     * 필드 포함 여부 (하위 필드가 하나라도 선택되면 상위 필드도 포함)
+     *
+     * @param field 최상위 필드 이름
+     * @return 포함 여부
+     */
+    public boolean includes(String field) {
+        if (paths == null || paths.contains(field)) {
+            return true;
+        }
+        String prefix = field + ".";
+        return paths.stream().anyMatch(path -> path.startsWith(prefix));
+    }
+
+    /**
+     * 하위 객체의 필드 선택
+     * 상위 필드 이름만 지정했으면 하위 객체 전체를 선택합니다.
+     *
+     * @param field 하위 객체 필드 이름
+     * @return 하위 객체 기준 FieldSelection
+     */
+    public FieldSelection nested(String field) {
+        if (paths == null || paths.contains(field)) {
+            return ALL;
+        }
+        String prefix = field + ".";
+        Set<String> nested = paths.stream()
+                .filter(path -> path.startsWith(prefix))
+                .map(path -> path.substring(prefix.length()))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        return new FieldSelection(Collections.unmodifiableSet(nested));
+    }
+
+    /**
+     * 주어진 필드만 선택되었는지 여부
+     *
+     * @param fields 필드 이름
+     * @return 선택된 필드가 모두 fields 안에 있으면 true
+     */
+    public boolean includesOnly(String... fields) {
+        return paths != null && Set.copyOf(Arrays.asList(fields)).containsAll(paths);
+    }
+
+    @Override
+    public String toString() {
+        return paths == null ? "*" : String.join(",", paths);
+    }
+}
@@ -0,0 +1,36 @@
+package kr.ai.boomerang.boomerang_spring_boot.mission.controller;
+
+import kr.ai.boomerang.boomerang_spring_boot.common.web.ApiResponse;
+import kr.ai.boomerang.boomerang_spring_boot.mission.dto.MissionDto;
+import kr.ai.boomerang.boomerang_spring_boot.mission.service.MissionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 미션 관련 API 컨트롤러
+ *
+ * @author Boomerang Team
+ */
+@RestController
+@RequestMapping("/api/v1/missions")
+@RequiredArgsConstructor
+public class MissionController {
+
+    private final MissionService missionService;
+
+    /**
+     * 활성 미션 목록 조회
+     *
+     * @return 활성 미션 목록
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<MissionDto.Response>>> getActiveMissions() {
+        List<MissionDto.Response> missions = missionService.getActiveMissions();
+        return ResponseEntity.ok(ApiResponse.success(missions));
+    }
+}
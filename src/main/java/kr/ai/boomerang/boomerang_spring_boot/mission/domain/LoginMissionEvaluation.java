@@ -0,0 +1,38 @@
+package kr.ai.boomerang.boomerang_spring_boot.mission.domain;
+
+import kr.ai.boomerang.boomerang_spring_boot.common.jpa.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 로그인 미션 평가 기록 엔티티
+ * 날짜별 로그인 비트맵의 사용자 ID 구간(묶음)을 진행도에 반영했음을 기록합니다.
+ * 날짜와 묶음 조합당 한 건만 저장하여 같은 묶음이 두 번 반영되지 않도록 합니다.
+ *
+ * @author Boomerang Team
+ */
+@Entity
+@Table(name = "login_mission_evaluations", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_login_mission_evaluation_date_chunk", columnNames = {"evaluation_date", "chunk_index"})
+})
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class LoginMissionEvaluation extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDate evaluationDate;
+
+    @Column(nullable = false)
+    private Integer chunkIndex;
+
+    @Column(nullable = false)
+    private Integer userCount;
+}
@@ -48,7 +48,8 @@ public class Mission extends BaseTimeEntity {
     public enum MissionType {
         POST_CREATION,      // 게시글 작성
         COMMENT_CREATION,   // 댓글 작성
-        LOGIN_COUNT        // 로그인 횟수
+        LOGIN_COUNT,        // 로그인 일수
+        LOGIN_STREAK        // 최장 연속 로그인 일수
     }
 
     /**
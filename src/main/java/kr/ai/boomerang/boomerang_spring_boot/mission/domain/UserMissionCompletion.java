@@ -0,0 +1,35 @@
+package kr.ai.boomerang.boomerang_spring_boot.mission.domain;
+
+import kr.ai.boomerang.boomerang_spring_boot.common.jpa.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 사용자 미션 달성 기록 엔티티
+ * 사용자와 미션 조합당 한 건만 저장하여 보상이 중복 지급되지 않도록 합니다.
+ *
+ * @author Boomerang Team
+ */
+@Entity
+@Table(name = "user_mission_completions", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_user_mission_completion_user_mission", columnNames = {"user_id", "mission_id"})
+})
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class UserMissionCompletion extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private Long missionId;
+
+    @Column(nullable = false)
+    private Integer rewardPoints;
+}
@@ -0,0 +1,36 @@
+package kr.ai.boomerang.boomerang_spring_boot.mission.domain;
+
+import kr.ai.boomerang.boomerang_spring_boot.common.jpa.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 사용자 미션 진행도 엔티티
+ * 사용자별 / 미션 타입별 누적 활동 횟수를 저장합니다.
+ *
+ * @author Boomerang Team
+ */
+@Entity
+@Table(name = "user_mission_progress", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_user_mission_progress_user_type", columnNames = {"user_id", "mission_type"})
+})
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class UserMissionProgress extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Mission.MissionType missionType;
+
+    @Column(nullable = false)
+    private Long count;
+}
@@ -47,6 +47,33 @@ public class MissionDto {
         }
     }
 
+    /**
+     * 사용자 미션 진행도 응답 DTO
+     */
+    @Getter
+    @Builder
+    public static class ProgressResponse {
+        private Long missionId;
+        private String title;
+        private String type;
+        private Integer targetCount;
+        private Integer rewardPoints;
+        private long currentCount;
+        private boolean completed;
+
+        public static ProgressResponse of(Response mission, long currentCount, boolean completed) {
+            return ProgressResponse.builder()
+                    .missionId(mission.getId())
+                    .title(mission.getTitle())
+                    .type(mission.getType())
+                    .targetCount(mission.getTargetCount())
+                    .rewardPoints(mission.getRewardPoints())
+                    .currentCount(currentCount)
+                    .completed(completed)
+                    .build();
+        }
+    }
+
     /**
      * 미션 생성 요청 DTO
      */
@@ -70,4 +97,14 @@ public class MissionDto {
         @Positive(message = "보상 포인트는 양수여야 합니다.")
         private Integer rewardPoints;
     }
-}
\ No newline at end of file
+
+    /**
+     * 미션 활성 상태 변경 요청 DTO
+     */
+    @Getter
+    public static class ActiveUpdateRequest {
+
+        @NotNull(message = "활성 상태는 필수입니다.")
+        private Boolean active;
+    }
+}
@@ -0,0 +1,19 @@
+package kr.ai.boomerang.boomerang_spring_boot.mission.event;
+
+import kr.ai.boomerang.boomerang_spring_boot.mission.domain.Mission;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 미션 진행도에 반영되는 사용자 활동 이벤트
+ * 게시글 작성, 댓글 작성 시 발행합니다. (로그인은 LoginMissionEvaluator가 일 단위로 반영)
+ *
+ * @author Boomerang Team
+ */
+@Getter
+@AllArgsConstructor
+public class MissionActivityEvent {
+
+    private final Long userId;
+    private final Mission.MissionType type;
+}
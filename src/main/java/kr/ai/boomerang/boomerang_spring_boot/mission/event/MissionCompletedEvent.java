@@ -0,0 +1,19 @@
+package kr.ai.boomerang.boomerang_spring_boot.mission.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 미션 달성 이벤트
+ * 진행도가 미션 목표 수량을 처음 넘었을 때 발행합니다.
+ *
+ * @author Boomerang Team
+ */
+@Getter
+@AllArgsConstructor
+public class MissionCompletedEvent {
+
+    private final Long userId;
+    private final Long missionId;
+    private final Integer rewardPoints;
+}
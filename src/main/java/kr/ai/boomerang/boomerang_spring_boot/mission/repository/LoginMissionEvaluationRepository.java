@@ -0,0 +1,40 @@
+package kr.ai.boomerang.boomerang_spring_boot.mission.repository;
+
+import kr.ai.boomerang.boomerang_spring_boot.mission.domain.LoginMissionEvaluation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+/**
+ * 로그인 미션 평가 기록 Repository 인터페이스
+ *
+ * @author Boomerang Team
+ */
+@Repository
+public interface LoginMissionEvaluationRepository extends JpaRepository<LoginMissionEvaluation, Long> {
+
+    /**
+     * 묶음 평가 여부 확인
+     *
+     * @param evaluationDate 평가 날짜
+     * @param chunkIndex 묶음 번호
+     * @return 평가 여부
+     */
+    boolean existsByEvaluationDateAndChunkIndex(LocalDate evaluationDate, Integer chunkIndex);
+
+    /**
+     * 다시 평가하지 않는 지난 날짜의 평가 기록 삭제
+     *
+     * @param date 이 날짜 이전 기록 삭제 (미포함)
+     * @return 삭제된 기록 수
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM LoginMissionEvaluation e WHERE e.evaluationDate < :date")
+    int deleteByEvaluationDateBefore(@Param("date") LocalDate date);
+}
@@ -0,0 +1,33 @@
+package kr.ai.boomerang.boomerang_spring_boot.mission.repository;
+
+import kr.ai.boomerang.boomerang_spring_boot.mission.domain.UserMissionCompletion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 사용자 미션 달성 기록 Repository 인터페이스
+ *
+ * @author Boomerang Team
+ */
+@Repository
+public interface UserMissionCompletionRepository extends JpaRepository<UserMissionCompletion, Long> {
+
+    /**
+     * 미션 달성 여부 확인
+     *
+     * @param userId 사용자 ID
+     * @param missionId 미션 ID
+     * @return 달성 여부
+     */
+    boolean existsByUserIdAndMissionId(Long userId, Long missionId);
+
+    /**
+     * 사용자의 미션 달성 기록 조회
+     *
+     * @param userId 사용자 ID
+     * @return 달성 기록 목록
+     */
+    List<UserMissionCompletion> findByUserId(Long userId);
+}
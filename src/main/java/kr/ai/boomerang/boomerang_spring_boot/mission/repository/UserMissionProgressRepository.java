@@ -0,0 +1,64 @@
+package kr.ai.boomerang.boomerang_spring_boot.mission.repository;
+
+import kr.ai.boomerang.boomerang_spring_boot.mission.domain.Mission;
+import kr.ai.boomerang.boomerang_spring_boot.mission.domain.UserMissionProgress;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 사용자 미션 진행도 Repository 인터페이스
+ *
+ * @author Boomerang Team
+ */
+@Repository
+public interface UserMissionProgressRepository extends JpaRepository<UserMissionProgress, Long> {
+
+    /**
+     * 진행도 원자적 증가
+     * - 여러 노드가 동시에 반영해도 갱신이 유실되지 않도록 DB에서 더함
+     *
+     * @param userId 사용자 ID
+     * @param missionType 미션 타입
+     * @param delta 증가량
+     * @return 갱신된 행 수 (진행도 행이 없으면 0)
+     */
+    @Modifying
+    @Query("UPDATE UserMissionProgress p SET p.count = p.count + :delta "
+            + "WHERE p.userId = :userId AND p.missionType = :missionType")
+    int increment(@Param("userId") Long userId, @Param("missionType") Mission.MissionType missionType,
+                  @Param("delta") long delta);
+
+    /**
+     * 사용자와 미션 타입으로 진행 횟수 조회
+     *
+     * @param userId 사용자 ID
+     * @param missionType 미션 타입
+     * @return 진행 횟수
+     */
+    @Query("SELECT p.count FROM UserMissionProgress p WHERE p.userId = :userId AND p.missionType = :missionType")
+    Optional<Long> findCount(@Param("userId") Long userId, @Param("missionType") Mission.MissionType missionType);
+
+    /**
+     * 여러 사용자의 미션 타입별 진행도 조회
+     *
+     * @param userIds 사용자 ID 목록
+     * @param missionType 미션 타입
+     * @return 진행도 목록
+     */
+    List<UserMissionProgress> findByUserIdInAndMissionType(Collection<Long> userIds, Mission.MissionType missionType);
+
+    /**
+     * 사용자의 미션 진행도 목록 조회
+     *
+     * @param userId 사용자 ID
+     * @return 진행도 목록
+     */
+    List<UserMissionProgress> findByUserId(Long userId);
+}
@@ -0,0 +1,232 @@
+package kr.ai.boomerang.boomerang_spring_boot.mission.service;
+
+import kr.ai.boomerang.boomerang_spring_boot.mission.domain.LoginMissionEvaluation;
+import kr.ai.boomerang.boomerang_spring_boot.mission.domain.Mission;
+import kr.ai.boomerang.boomerang_spring_boot.mission.domain.UserMissionProgress;
+import kr.ai.boomerang.boomerang_spring_boot.mission.repository.LoginMissionEvaluationRepository;
+import kr.ai.boomerang.boomerang_spring_boot.mission.repository.UserMissionProgressRepository;
+import kr.ai.boomerang.boomerang_spring_boot.user.service.LoginActivityService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 로그인 미션 평가 작업
+ * 하루가 끝난 뒤 그날의 로그인 비트맵을 읽어 로그인 미션 진행도를 반영합니다.
+ * - LOGIN_COUNT: 로그인한 사용자마다 로그인 일수 1 증가
+ * - LOGIN_STREAK: 이전 날짜 비트맵을 거슬러 올라가 연속 로그인 일수(최대 max-streak-days)를 계산하고,
+ *   최장 기록을 넘은 만큼 증가
+ * - 날짜별 평가 표시(SET NX)로 여러 노드에서 같은 날짜를 중복 평가하지 않으며,
+ *   서버가 내려가 있던 날짜는 다음 실행 때 lookback 기간 안에서 순서대로 평가
+ * - 하루치 사용자를 사용자 ID 구간(chunk-size명) 묶음으로 나누어, 묶음마다 두 미션의 증가분과 평가 기록(날짜, 묶음)을
+ *   한 트랜잭션으로 반영 (트랜잭션 / 영속성 컨텍스트 / 진행도 반영 잠금이 묶음 크기를 넘지 않음)
+ * - 평가 기록의 유니크 제약으로, 평가 표시가 만료되어 다른 노드가 같은 날짜를 다시 평가해도 반영된 묶음은 건너뜀
+ * - 평가 표시는 claim-timeout 동안만 유지하되 묶음마다 연장하고, 모든 묶음이 반영된 뒤 보관 기간으로 연장하여,
+ *   평가 도중 서버가 내려가도 해당 날짜가 유실되지 않고 다음 실행에서 남은 묶음부터 다시 평가
+ *
+ * @author Boomerang Team
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LoginMissionEvaluator {
+
+    private static final String EVALUATED_KEY_PREFIX = "login:evaluated:";
+
+    private final LoginActivityService loginActivityService;
+    private final MissionProgressService missionProgressService;
+    private final UserMissionProgressRepository userMissionProgressRepository;
+    private final LoginMissionEvaluationRepository loginMissionEvaluationRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${login.mission.lookback-days:3}")
+    private int lookbackDays;
+
+    @Value("${login.mission.max-streak-days:30}")
+    private int maxStreakDays;
+
+    @Value("${login.mission.claim-timeout-minutes:30}")
+    private long claimTimeoutMinutes;
+
+    @Value("${login.mission.chunk-size:1000}")
+    private int chunkSize;
+
+    /**
+     * 아직 평가하지 않은 지난 날짜의 로그인 기록을 미션 진행도에 반영
+     */
+    @Scheduled(cron = "${login.mission.evaluate-cron:0 5 0 * * *}", zone = "${login.activity.zone:Asia/Seoul}")
+    public void evaluatePendingDays() {
+        LocalDate today = loginActivityService.today();
+        for (int daysAgo = lookbackDays; daysAgo >= 1; daysAgo--) {
+            LocalDate date = today.minusDays(daysAgo);
+            if (!claim(date)) {
+                continue;
+            }
+            try {
+                evaluate(date);
+            } catch (Exception e) {
+                // 표시를 지워 다음 실행에서 다시 평가 (이미 반영된 묶음은 평가 기록으로 건너뜀)
+                stringRedisTemplate.delete(evaluatedKey(date));
+                log.warn("로그인 미션 평가 실패, 다음 실행에 재시도: date={}, error={}", date, e.getMessage());
+                return;
+            }
+            markEvaluated(date);
+            loginActivityService.expireLoginBitmap(date);
+        }
+        loginMissionEvaluationRepository.deleteByEvaluationDateBefore(today.minusDays(lookbackDays));
+    }
+
+    /**
+     * 하루치 로그인 기록 평가
+     * 사용자 ID 구간 묶음마다 증가분을 계산하여 반영하며, 모든 묶음의 반영이 끝나야 반환합니다.
+     * (다음 날짜의 최장 기록 비교가 이번 반영분을 봄)
+     *
+     * @param date 평가할 날짜
+     * @return 로그인한 사용자 수
+     */
+    public int evaluate(LocalDate date) {
+        byte[] day = loginActivityService.getLoginBitmap(date);
+        List<byte[]> previousDays = new ArrayList<>(maxStreakDays - 1);
+        for (int i = 1; i < maxStreakDays; i++) {
+            previousDays.add(loginActivityService.getLoginBitmap(date.minusDays(i)));
+        }
+
+        // 묶음 경계가 비트맵 바이트 경계와 맞도록 8명 단위로 나눔
+        int chunkBytes = Math.max(1, chunkSize / 8);
+        int users = 0;
+        int applied = 0;
+        for (int chunk = 0; chunk * chunkBytes < day.length; chunk++) {
+            int from = chunk * chunkBytes;
+            int to = Math.min(from + chunkBytes, day.length);
+            ChunkResult result = evaluateChunk(date, chunk, day, previousDays, from, to);
+            users += result.users();
+            if (result.applied()) {
+                applied++;
+                renewClaim(date);
+            }
+        }
+        log.info("로그인 미션 평가 완료: date={}, users={}, chunks={}", date, users, applied);
+        return users;
+    }
+
+    // === Private Methods ===
+
+    private boolean claim(LocalDate date) {
+        Boolean claimed = stringRedisTemplate.opsForValue()
+                .setIfAbsent(evaluatedKey(date), "1", Duration.ofMinutes(claimTimeoutMinutes));
+        return Boolean.TRUE.equals(claimed);
+    }
+
+    private void renewClaim(LocalDate date) {
+        stringRedisTemplate.expire(evaluatedKey(date), Duration.ofMinutes(claimTimeoutMinutes));
+    }
+
+    private void markEvaluated(LocalDate date) {
+        stringRedisTemplate.expire(evaluatedKey(date), Duration.ofDays(lookbackDays + 1L));
+    }
+
+    /**
+     * 비트맵 [from, to) 바이트 구간 사용자의 증가분을 평가 기록과 함께 반영
+     * - 이미 평가 기록이 있는 묶음은 건너뛰며, 다른 노드와 동시에 기록하면 유니크 제약으로 한쪽만 반영됨
+     */
+    private ChunkResult evaluateChunk(LocalDate date, int chunk, byte[] day, List<byte[]> previousDays,
+                                      int from, int to) {
+        Map<Long, Long> loginCounts = new HashMap<>();
+        Map<Long, Integer> streaks = new HashMap<>();
+        for (int index = from; index < to; index++) {
+            if (day[index] == 0) {
+                continue;
+            }
+            for (int bit = 0; bit < 8; bit++) {
+                if ((day[index] & (0x80 >>> bit)) == 0) {
+                    continue;
+                }
+                long userId = index * 8L + bit;
+                loginCounts.put(userId, 1L);
+                streaks.put(userId, 1 + countPreviousStreak(previousDays, index, bit));
+            }
+        }
+        if (streaks.isEmpty() || loginMissionEvaluationRepository.existsByEvaluationDateAndChunkIndex(date, chunk)) {
+            return new ChunkResult(streaks.size(), false);
+        }
+
+        Map<Mission.MissionType, Map<Long, Long>> deltas = new EnumMap<>(Mission.MissionType.class);
+        deltas.put(Mission.MissionType.LOGIN_COUNT, loginCounts);
+        deltas.put(Mission.MissionType.LOGIN_STREAK, bestStreakDeltas(streaks));
+        try {
+            boolean applied = missionProgressService.apply(deltas, () -> recordChunk(date, chunk, streaks.size()));
+            return new ChunkResult(streaks.size(), applied);
+        } catch (DataIntegrityViolationException e) {
+            log.debug("다른 노드가 이미 반영한 로그인 미션 묶음: date={}, chunk={}", date, chunk);
+            return new ChunkResult(streaks.size(), false);
+        }
+    }
+
+    /**
+     * 묶음 평가 기록 (진행도 반영 트랜잭션 안에서 실행)
+     *
+     * @return 아직 평가하지 않은 묶음이면 true
+     */
+    private boolean recordChunk(LocalDate date, int chunk, int userCount) {
+        if (loginMissionEvaluationRepository.existsByEvaluationDateAndChunkIndex(date, chunk)) {
+            return false;
+        }
+        // 진행도보다 먼저 INSERT하여 동시에 평가한 노드와의 충돌을 바로 확인
+        loginMissionEvaluationRepository.saveAndFlush(LoginMissionEvaluation.builder()
+                .evaluationDate(date)
+                .chunkIndex(chunk)
+                .userCount(userCount)
+                .build());
+        return true;
+    }
+
+    private int countPreviousStreak(List<byte[]> previousDays, int index, int bit) {
+        int streak = 0;
+        for (byte[] previous : previousDays) {
+            if (index >= previous.length || (previous[index] & (0x80 >>> bit)) == 0) {
+                break;
+            }
+            streak++;
+        }
+        return streak;
+    }
+
+    /**
+     * 최장 연속 로그인 기록을 넘은 사용자별 LOGIN_STREAK 증가분 계산
+     */
+    private Map<Long, Long> bestStreakDeltas(Map<Long, Integer> streaks) {
+        Map<Long, Long> best = new HashMap<>();
+        for (UserMissionProgress progress : userMissionProgressRepository
+                .findByUserIdInAndMissionType(streaks.keySet(), Mission.MissionType.LOGIN_STREAK)) {
+            best.put(progress.getUserId(), progress.getCount());
+        }
+        Map<Long, Long> deltas = new HashMap<>();
+        streaks.forEach((userId, streak) -> {
+            long delta = streak - best.getOrDefault(userId, 0L);
+            if (delta > 0) {
+                deltas.put(userId, delta);
+            }
+        });
+        return deltas;
+    }
+
+    private String evaluatedKey(LocalDate date) {
+        return EVALUATED_KEY_PREFIX + DateTimeFormatter.BASIC_ISO_DATE.format(date);
+    }
+
+    private record ChunkResult(int users, boolean applied) {
+    }
+}
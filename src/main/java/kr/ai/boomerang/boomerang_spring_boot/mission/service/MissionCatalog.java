@@ -0,0 +1,200 @@
+package kr.ai.boomerang.boomerang_spring_boot.mission.service;
+
+import jakarta.annotation.PostConstruct;
+import kr.ai.boomerang.boomerang_spring_boot.mission.domain.Mission;
+import kr.ai.boomerang.boomerang_spring_boot.mission.dto.MissionDto;
+import kr.ai.boomerang.boomerang_spring_boot.mission.repository.MissionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 활성 미션 카탈로그 캐시
+ * 활성 미션 전체를 불변 스냅샷으로 메모리에 보관하여 진행도 평가 / 조회 시 DB를 조회하지 않습니다.
+ * - 스냅샷은 미션 타입별(목표 수량 오름차순), 쉬운 순, 보상 높은 순으로 미리 정렬된 배열로 구성
+ * - 미션 생성 / 활성 상태 변경 시 새 스냅샷을 만들어 참조만 교체(copy-on-write)하므로 읽기에 락이 없음
+ * - 변경 사실은 Redis Pub/Sub으로 다른 노드에 알려 각 노드가 스냅샷을 다시 만들도록 함
+ *
+ * @author Boomerang Team
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MissionCatalog implements MessageListener {
+
+    private static final String CATALOG_CHANNEL = "mission:catalog:changed";
+
+    private final MissionRepository missionRepository;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    // 갱신은 DB 조회와 Redis 발행을 포함하므로 ReentrantLock으로 직렬화
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    @PostConstruct
+    public void init() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CATALOG_CHANNEL));
+        refresh();
+    }
+
+    /**
+     * 타입별 활성 미션 조회 (목표 수량 오름차순)
+     *
+     * @param type 미션 타입
+     * @return 활성 미션 목록
+     */
+    public List<MissionDto.Response> getActiveMissions(Mission.MissionType type) {
+        return snapshot.byType[type.ordinal()];
+    }
+
+    /**
+     * 전체 활성 미션 조회 (등록 순)
+     *
+     * @return 활성 미션 목록
+     */
+    public List<MissionDto.Response> getActiveMissions() {
+        return snapshot.all;
+    }
+
+    /**
+     * 달성하기 쉬운 미션 조회 (목표 수량 오름차순)
+     *
+     * @return 활성 미션 목록
+     */
+    public List<MissionDto.Response> getEasyMissions() {
+        return snapshot.easiest;
+    }
+
+    /**
+     * 보상이 높은 미션 조회 (보상 포인트 내림차순)
+     *
+     * @return 활성 미션 목록
+     */
+    public List<MissionDto.Response> getHighRewardMissions() {
+        return snapshot.highestReward;
+    }
+
+    /**
+     * 미션 변경 알림
+     * - 트랜잭션 커밋 후 스냅샷을 다시 만들고 다른 노드에 전파
+     */
+    public void changed() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    refreshAndBroadcast();
+                }
+            });
+        } else {
+            refreshAndBroadcast();
+        }
+    }
+
+    /**
+     * 다른 노드의 미션 변경 알림 수신
+     *
+     * @param message Pub/Sub 메시지
+     * @param pattern 구독 패턴
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Object origin = redisTemplate.getValueSerializer().deserialize(message.getBody());
+        if (!nodeId.equals(origin)) {
+            refresh();
+        }
+    }
+
+    /**
+     * DB의 활성 미션으로 스냅샷 재구성
+     * - 알림을 놓친 경우를 대비해 주기적으로도 실행
+     */
+    @Scheduled(fixedDelayString = "${mission.catalog.refresh-interval-ms:600000}",
+            initialDelayString = "${mission.catalog.refresh-interval-ms:600000}")
+    public void refresh() {
+        refreshLock.lock();
+        try {
+            List<MissionDto.Response> missions = missionRepository.findByActiveTrue().stream()
+                    .map(MissionDto.Response::from)
+                    .toList();
+            snapshot = Snapshot.of(missions);
+            log.info("미션 카탈로그 갱신 완료: count={}", missions.size());
+        } catch (Exception e) {
+            log.warn("미션 카탈로그 갱신 실패, 기존 스냅샷 유지: {}", e.getMessage());
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    // === Private Methods ===
+
+    private void refreshAndBroadcast() {
+        refresh();
+        try {
+            redisTemplate.convertAndSend(CATALOG_CHANNEL, nodeId);
+        } catch (Exception e) {
+            log.warn("미션 카탈로그 변경 전파 실패, 다음 주기 갱신 시 반영: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 불변 미션 카탈로그 스냅샷
+     */
+    private static final class Snapshot {
+
+        private static final Snapshot EMPTY = of(List.of());
+
+        private final List<MissionDto.Response> all;
+        private final List<MissionDto.Response>[] byType;
+        private final List<MissionDto.Response> easiest;
+        private final List<MissionDto.Response> highestReward;
+
+        @SuppressWarnings("unchecked")
+        private Snapshot(List<MissionDto.Response> all) {
+            Comparator<MissionDto.Response> byTarget = Comparator.comparing(MissionDto.Response::getTargetCount)
+                    .thenComparing(MissionDto.Response::getRewardPoints, Comparator.reverseOrder());
+            Comparator<MissionDto.Response> byReward = Comparator.comparing(MissionDto.Response::getRewardPoints,
+                    Comparator.reverseOrder()).thenComparing(MissionDto.Response::getTargetCount);
+
+            this.all = List.copyOf(all);
+            this.easiest = sorted(all, byTarget);
+            this.highestReward = sorted(all, byReward);
+
+            Mission.MissionType[] types = Mission.MissionType.values();
+            this.byType = new List[types.length];
+            for (Mission.MissionType type : types) {
+                byType[type.ordinal()] = sorted(all.stream()
+                        .filter(mission -> type.name().equals(mission.getType()))
+                        .toList(), byTarget);
+            }
+        }
+
+        private static Snapshot of(List<MissionDto.Response> missions) {
+            return new Snapshot(missions);
+        }
+
+        private static List<MissionDto.Response> sorted(List<MissionDto.Response> missions,
+                                                        Comparator<MissionDto.Response> comparator) {
+            MissionDto.Response[] array = missions.toArray(new MissionDto.Response[0]);
+            Arrays.sort(array, comparator);
+            return List.of(array);
+        }
+    }
+}
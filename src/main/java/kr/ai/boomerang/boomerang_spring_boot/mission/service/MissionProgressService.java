@@ -0,0 +1,260 @@
+package kr.ai.boomerang.boomerang_spring_boot.mission.service;
+
+import jakarta.annotation.PreDestroy;
+import kr.ai.boomerang.boomerang_spring_boot.mission.domain.Mission;
+import kr.ai.boomerang.boomerang_spring_boot.mission.domain.UserMissionCompletion;
+import kr.ai.boomerang.boomerang_spring_boot.mission.domain.UserMissionProgress;
+import kr.ai.boomerang.boomerang_spring_boot.mission.dto.MissionDto;
+import kr.ai.boomerang.boomerang_spring_boot.mission.event.MissionActivityEvent;
+import kr.ai.boomerang.boomerang_spring_boot.mission.event.MissionCompletedEvent;
+import kr.ai.boomerang.boomerang_spring_boot.mission.repository.UserMissionCompletionRepository;
+import kr.ai.boomerang.boomerang_spring_boot.mission.repository.UserMissionProgressRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 미션 진행도 집계 서비스
+ * 사용자 활동 이벤트를 메모리의 LongAdder 카운터에 더하고, 주기적으로 모아서 DB에 반영합니다.
+ * - 이벤트 처리는 카운터 증가뿐이므로 요청 스레드가 미션 처리로 대기하지 않음
+ * - 반영은 사용자 / 미션 타입별 증가분을 원자적 UPDATE로 더하여 여러 노드가 동시에 반영해도 안전
+ * - 반영 중 진행도가 목표 수량을 처음 넘은 미션은 달성 기록을 남기고 MissionCompletedEvent 발행
+ * - 반영에 실패한 증가분은 카운터에 남아 다음 주기에 다시 반영
+ * - 일괄 평가 작업의 증가분은 카운터를 거치지 않고 묶음마다 한 트랜잭션으로 바로 반영 (반영 여부를 호출자가 알 수 있도록)
+ *
+ * @author Boomerang Team
+ */
+@Service
+@Slf4j
+public class MissionProgressService {
+
+    private static final int EVICT_AFTER_IDLE_FLUSHES = 3;
+
+    private final MissionCatalog missionCatalog;
+    private final UserMissionProgressRepository userMissionProgressRepository;
+    private final UserMissionCompletionRepository userMissionCompletionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${mission.progress.flush-batch-size:500}")
+    private int flushBatchSize;
+
+    private final Map<ProgressKey, ProgressCounter> counters = new ConcurrentHashMap<>();
+
+    // 플러시는 트랜잭션 안에서 DB에 쓰므로 ReentrantLock으로 직렬화 (가상 스레드 고정 방지)
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public MissionProgressService(MissionCatalog missionCatalog,
+                                  UserMissionProgressRepository userMissionProgressRepository,
+                                  UserMissionCompletionRepository userMissionCompletionRepository,
+                                  ApplicationEventPublisher eventPublisher,
+                                  PlatformTransactionManager transactionManager) {
+        this.missionCatalog = missionCatalog;
+        this.userMissionProgressRepository = userMissionProgressRepository;
+        this.userMissionCompletionRepository = userMissionCompletionRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 사용자 활동 기록
+     * - 활동을 만든 트랜잭션이 커밋된 후에만 반영 (트랜잭션 밖에서 발행된 이벤트는 즉시 반영)
+     *
+     * @param event 사용자 활동 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onActivity(MissionActivityEvent event) {
+        record(event.getUserId(), event.getType(), 1);
+    }
+
+    /**
+     * 진행도 증가분 기록 (다음 반영 주기에 DB에 반영)
+     *
+     * @param userId 사용자 ID
+     * @param type 미션 타입
+     * @param delta 증가량
+     */
+    public void record(Long userId, Mission.MissionType type, long delta) {
+        if (delta <= 0) {
+            return;
+        }
+        ProgressKey key = new ProgressKey(userId, type);
+        ProgressCounter counter = counters.get(key);
+        if (counter == null) {
+            counter = counters.computeIfAbsent(key, k -> new ProgressCounter());
+        }
+        counter.recorded.add(delta);
+    }
+
+    /**
+     * 누적된 진행도 증가분을 DB에 반영
+     */
+    @Scheduled(fixedDelayString = "${mission.progress.flush-interval-ms:1000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            List<PendingDelta> pending = new ArrayList<>();
+            for (Map.Entry<ProgressKey, ProgressCounter> entry : counters.entrySet()) {
+                ProgressCounter counter = entry.getValue();
+                long recorded = counter.recorded.sum();
+                long delta = recorded - counter.flushed;
+
+                if (delta > 0) {
+                    counter.idleFlushes = 0;
+                    pending.add(new PendingDelta(entry.getKey(), counter, recorded, delta));
+                } else if (++counter.idleFlushes >= EVICT_AFTER_IDLE_FLUSHES) {
+                    evict(entry.getKey(), counter);
+                }
+            }
+
+            for (int from = 0; from < pending.size(); from += flushBatchSize) {
+                flushBatch(pending.subList(from, Math.min(from + flushBatchSize, pending.size())));
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 진행도 증가분을 카운터를 거치지 않고 바로 DB에 반영
+     * - 한 묶음을 하나의 트랜잭션으로 반영하므로, 예외가 나면 아무것도 반영되지 않아 같은 증가분을 다시 반영해도 중복되지 않음
+     * - marker는 같은 트랜잭션 안에서 먼저 실행되며, false를 반환하면(이미 반영한 묶음) 아무것도 반영하지 않음
+     * - 잠금은 이 묶음을 반영하는 동안만 잡으므로, 호출자는 묶음 크기를 작게 나누어 주기 반영이 오래 대기하지 않도록 함
+     *
+     * @param deltas 미션 타입별 사용자 ID - 증가량
+     * @param marker 반영 기록 (반영할 묶음이면 true)
+     * @return 반영 여부
+     */
+    public boolean apply(Map<Mission.MissionType, Map<Long, Long>> deltas, BooleanSupplier marker) {
+        flushLock.lock();
+        try {
+            List<MissionCompletedEvent> completed = transactionTemplate.execute(status -> {
+                if (!marker.getAsBoolean()) {
+                    return null;
+                }
+                List<MissionCompletedEvent> events = new ArrayList<>();
+                deltas.forEach((type, userDeltas) -> userDeltas.forEach((userId, delta) -> {
+                    if (delta > 0) {
+                        applyDelta(new ProgressKey(userId, type), delta, events);
+                    }
+                }));
+                return events;
+            });
+            if (completed == null) {
+                return false;
+            }
+            completed.forEach(eventPublisher::publishEvent);
+            return true;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // === Private Methods ===
+
+    private void flushBatch(List<PendingDelta> batch) {
+        List<MissionCompletedEvent> completed;
+        try {
+            completed = transactionTemplate.execute(status -> {
+                List<MissionCompletedEvent> events = new ArrayList<>();
+                for (PendingDelta delta : batch) {
+                    applyDelta(delta.key, delta.delta, events);
+                }
+                return events;
+            });
+        } catch (Exception e) {
+            log.warn("미션 진행도 반영 실패, 다음 주기에 재시도: size={}, error={}", batch.size(), e.getMessage());
+            return;
+        }
+
+        for (PendingDelta delta : batch) {
+            delta.counter.flushed = delta.recorded;
+        }
+        completed.forEach(eventPublisher::publishEvent);
+        log.debug("미션 진행도 반영 완료: size={}, completed={}", batch.size(), completed.size());
+    }
+
+    private void applyDelta(ProgressKey key, long delta, List<MissionCompletedEvent> events) {
+        Long userId = key.userId();
+        Mission.MissionType type = key.type();
+
+        long count;
+        if (userMissionProgressRepository.increment(userId, type, delta) == 0) {
+            userMissionProgressRepository.save(UserMissionProgress.builder()
+                    .userId(userId)
+                    .missionType(type)
+                    .count(delta)
+                    .build());
+            count = delta;
+        } else {
+            count = userMissionProgressRepository.findCount(userId, type).orElse(delta);
+        }
+        long previous = count - delta;
+
+        // 카탈로그는 목표 수량 오름차순이므로 현재 진행도를 넘는 미션부터는 볼 필요 없음
+        for (MissionDto.Response mission : missionCatalog.getActiveMissions(type)) {
+            long target = mission.getTargetCount();
+            if (target > count) {
+                break;
+            }
+            if (target > previous
+                    && !userMissionCompletionRepository.existsByUserIdAndMissionId(userId, mission.getId())) {
+                userMissionCompletionRepository.save(UserMissionCompletion.builder()
+                        .userId(userId)
+                        .missionId(mission.getId())
+                        .rewardPoints(mission.getRewardPoints())
+                        .build());
+                events.add(new MissionCompletedEvent(userId, mission.getId(), mission.getRewardPoints()));
+                log.info("미션 달성: userId={}, missionId={}", userId, mission.getId());
+            }
+        }
+    }
+
+    /**
+     * 한동안 활동이 없는 카운터 제거
+     * - 제거 직전에 들어온 증가분은 새 카운터로 옮겨 유실되지 않도록 함
+     */
+    private void evict(ProgressKey key, ProgressCounter counter) {
+        if (!counters.remove(key, counter)) {
+            return;
+        }
+        long late = counter.recorded.sum() - counter.flushed;
+        if (late > 0) {
+            counters.computeIfAbsent(key, k -> new ProgressCounter()).recorded.add(late);
+        }
+    }
+
+    private record ProgressKey(Long userId, Mission.MissionType type) {
+    }
+
+    /**
+     * 사용자 / 미션 타입별 활동 카운터
+     * - recorded는 이벤트 스레드가 증가시키고, flushed / idleFlushes는 반영 스레드만 변경
+     */
+    private static class ProgressCounter {
+        private final LongAdder recorded = new LongAdder();
+        private long flushed;
+        private int idleFlushes;
+    }
+
+    private record PendingDelta(ProgressKey key, ProgressCounter counter, long recorded, long delta) {
+    }
+}
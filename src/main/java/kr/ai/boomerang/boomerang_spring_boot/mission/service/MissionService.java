@@ -0,0 +1,119 @@
+package kr.ai.boomerang.boomerang_spring_boot.mission.service;
+
+import kr.ai.boomerang.boomerang_spring_boot.common.exception.ResourceNotFoundException;
+import kr.ai.boomerang.boomerang_spring_boot.mission.domain.Mission;
+import kr.ai.boomerang.boomerang_spring_boot.mission.domain.UserMissionCompletion;
+import kr.ai.boomerang.boomerang_spring_boot.mission.domain.UserMissionProgress;
+import kr.ai.boomerang.boomerang_spring_boot.mission.dto.MissionDto;
+import kr.ai.boomerang.boomerang_spring_boot.mission.repository.MissionRepository;
+import kr.ai.boomerang.boomerang_spring_boot.mission.repository.UserMissionCompletionRepository;
+import kr.ai.boomerang.boomerang_spring_boot.mission.repository.UserMissionProgressRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 미션 관리 서비스
+ * 활성 미션 조회는 MissionCatalog 스냅샷으로 처리하고, 변경 시 카탈로그 갱신을 알립니다.
+ *
+ * @author Boomerang Team
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class MissionService {
+
+    private final MissionRepository missionRepository;
+    private final MissionCatalog missionCatalog;
+    private final UserMissionProgressRepository userMissionProgressRepository;
+    private final UserMissionCompletionRepository userMissionCompletionRepository;
+
+    /**
+     * 활성 미션 목록 조회
+     *
+     * @return List<MissionDto.Response>
+     */
+    public List<MissionDto.Response> getActiveMissions() {
+        return missionCatalog.getActiveMissions();
+    }
+
+    /**
+     * 사용자의 활성 미션별 진행도 조회
+     * - 아직 반영 주기를 거치지 않은 진행도 증가분은 포함되지 않음
+     *
+     * @param userId 사용자 ID
+     * @return List<MissionDto.ProgressResponse>
+     */
+    public List<MissionDto.ProgressResponse> getUserProgress(Long userId) {
+        Map<Mission.MissionType, Long> counts = userMissionProgressRepository.findByUserId(userId).stream()
+                .collect(Collectors.toMap(UserMissionProgress::getMissionType, UserMissionProgress::getCount));
+        Set<Long> completedMissionIds = userMissionCompletionRepository.findByUserId(userId).stream()
+                .map(UserMissionCompletion::getMissionId)
+                .collect(Collectors.toSet());
+
+        return missionCatalog.getActiveMissions().stream()
+                .map(mission -> MissionDto.ProgressResponse.of(mission,
+                        counts.getOrDefault(Mission.MissionType.valueOf(mission.getType()), 0L),
+                        completedMissionIds.contains(mission.getId())))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 미션 생성 (관리자용)
+     *
+     * @param request 미션 생성 요청
+     * @return MissionDto.Response
+     */
+    @Transactional
+    public MissionDto.Response createMission(MissionDto.CreateRequest request) {
+        Mission mission = Mission.builder()
+                .title(request.getTitle().trim())
+                .description(request.getDescription().trim())
+                .type(parseMissionType(request.getType()))
+                .targetCount(request.getTargetCount())
+                .rewardPoints(request.getRewardPoints())
+                .build();
+
+        Mission savedMission = missionRepository.save(mission);
+        missionCatalog.changed();
+
+        log.info("미션 생성 완료: missionId={}, type={}", savedMission.getId(), savedMission.getType());
+        return MissionDto.Response.from(savedMission);
+    }
+
+    /**
+     * 미션 활성 상태 변경 (관리자용)
+     *
+     * @param missionId 미션 ID
+     * @param request 활성 상태 변경 요청
+     * @return MissionDto.Response
+     */
+    @Transactional
+    public MissionDto.Response updateActive(Long missionId, MissionDto.ActiveUpdateRequest request) {
+        Mission mission = missionRepository.findById(missionId)
+                .orElseThrow(() -> new ResourceNotFoundException("미션을 찾을 수 없습니다."));
+
+        mission.updateActive(request.getActive());
+        missionCatalog.changed();
+
+        log.info("미션 활성 상태 변경 완료: missionId={}, active={}", missionId, request.getActive());
+        return MissionDto.Response.from(mission);
+    }
+
+    // === Private Methods ===
+
+    private Mission.MissionType parseMissionType(String type) {
+        try {
+            return Mission.MissionType.valueOf(type.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("유효하지 않은 미션 타입입니다: " + type);
+        }
+    }
+}
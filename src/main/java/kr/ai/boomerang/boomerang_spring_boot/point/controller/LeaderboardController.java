@@ -0,0 +1,79 @@
+package kr.ai.boomerang.boomerang_spring_boot.point.controller;
+
+import kr.ai.boomerang.boomerang_spring_boot.common.web.ApiResponse;
+import kr.ai.boomerang.boomerang_spring_boot.point.dto.PointDto;
+import kr.ai.boomerang.boomerang_spring_boot.point.service.LeaderboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 포인트 리더보드 API 컨트롤러
+ *
+ * @author Boomerang Team
+ */
+@RestController
+@RequestMapping("/api/v1/leaderboard")
+@RequiredArgsConstructor
+public class LeaderboardController {
+
+    private static final int MAX_LIMIT = 100;
+    private static final int MAX_WINDOW = 25;
+
+    private final LeaderboardService leaderboardService;
+
+    /**
+     * 상위 순위 조회
+     *
+     * @param scope 리더보드 범위 (global, area, weekly)
+     * @param areaCode 지역 코드 (area 범위에서 필수)
+     * @param limit 조회할 순위 수 (기본값: 10, 최대: 100)
+     * @return 리더보드
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<PointDto.LeaderboardResponse>> getTop(
+            @RequestParam(defaultValue = "global") String scope,
+            @RequestParam(required = false) String areaCode,
+            @RequestParam(defaultValue = "10") int limit) {
+
+        PointDto.LeaderboardResponse leaderboard = leaderboardService.getTop(
+                parseScope(scope), areaCode, Math.max(1, Math.min(limit, MAX_LIMIT)));
+        return ResponseEntity.ok(ApiResponse.success(leaderboard));
+    }
+
+    /**
+     * 내 순위와 앞뒤 순위 조회
+     *
+     * @param scope 리더보드 범위 (global, area, weekly)
+     * @param areaCode 지역 코드 (area 범위에서 생략하면 내 활동 지역)
+     * @param window 내 순위 앞뒤로 조회할 순위 수 (기본값: 5, 최대: 25)
+     * @param authentication 인증 정보
+     * @return 리더보드
+     */
+    @GetMapping("/me")
+    public ResponseEntity<ApiResponse<PointDto.LeaderboardResponse>> getAroundMe(
+            @RequestParam(defaultValue = "global") String scope,
+            @RequestParam(required = false) String areaCode,
+            @RequestParam(defaultValue = "5") int window,
+            Authentication authentication) {
+
+        Long userId = (Long) authentication.getPrincipal();
+        PointDto.LeaderboardResponse leaderboard = leaderboardService.getAroundMe(
+                userId, parseScope(scope), areaCode, Math.max(0, Math.min(window, MAX_WINDOW)));
+        return ResponseEntity.ok(ApiResponse.success(leaderboard));
+    }
+
+    // === Private Methods ===
+
+    private LeaderboardService.Scope parseScope(String scope) {
+        try {
+            return LeaderboardService.Scope.valueOf(scope.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("유효하지 않은 리더보드 범위입니다: " + scope);
+        }
+    }
+}
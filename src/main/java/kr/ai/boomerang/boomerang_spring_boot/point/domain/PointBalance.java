@@ -0,0 +1,44 @@
+package kr.ai.boomerang.boomerang_spring_boot.point.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 포인트 잔액 엔티티
+ * 사용자 잔액을 여러 줄(stripe)로 나누어 저장하고 조회 시 합산합니다.
+ * 지급이 몰려도 한 행의 락에 모든 갱신이 몰리지 않도록 하기 위함입니다.
+ *
+ * @author Boomerang Team
+ */
+@Entity
+@Table(name = "point_balances", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_point_balances_user_stripe", columnNames = {"user_id", "stripe"})
+})
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PointBalance {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private Integer stripe;
+
+    @Column(nullable = false)
+    private Long balance;
+
+    /**
+     * 잔액 변경 (압축 시 다른 stripe 잔액을 합칠 때 사용)
+     *
+     * @param balance 새 잔액
+     */
+    public void updateBalance(Long balance) {
+        this.balance = balance;
+    }
+}
@@ -0,0 +1,47 @@
+package kr.ai.boomerang.boomerang_spring_boot.point.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 원장 엔티티
+ * 포인트 지급 / 차감 내역을 추가만 하는(append-only) 형태로 저장합니다.
+ * 같은 멱등성 키로는 한 건만 저장되어 중복 지급을 막습니다.
+ *
+ * @author Boomerang Team
+ */
+@Entity
+@Table(name = "point_ledger",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_point_ledger_idempotency_key", columnNames = "idempotency_key")
+        },
+        indexes = {
+                @Index(name = "idx_point_ledger_user_id", columnList = "user_id")
+        })
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PointLedgerEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private Long amount;
+
+    @Column(nullable = false)
+    private String reason;
+
+    @Column(nullable = false, length = 100)
+    private String idempotencyKey;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
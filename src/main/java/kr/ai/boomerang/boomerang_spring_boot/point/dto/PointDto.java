@@ -0,0 +1,63 @@
+package kr.ai.boomerang.boomerang_spring_boot.point.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 포인트 관련 DTO 클래스들
+ *
+ * @author Boomerang Team
+ */
+public class PointDto {
+
+    /**
+     * 포인트 잔액 응답 DTO
+     */
+    @Getter
+    @Builder
+    public static class BalanceResponse {
+        private Long userId;
+        private Long balance;
+    }
+
+    /**
+     * 포인트 지급 요청 (원장 기록 대기열 항목)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Award {
+        private final Long userId;
+        private final Long amount;
+        private final String reason;
+        private final String idempotencyKey;
+    }
+
+    /**
+     * 리더보드 순위 항목 DTO
+     */
+    @Getter
+    @Builder
+    public static class RankEntry {
+        private Long rank;
+        private Long userId;
+        private String nickname;
+        private Long points;
+    }
+
+    /**
+     * 리더보드 응답 DTO
+     */
+    @Getter
+    @Builder
+    public static class LeaderboardResponse {
+        private String scope;
+        private String areaCode;
+        private String period;
+        private Long totalRanked;
+        private List<RankEntry> entries;
+        private RankEntry me;
+    }
+}
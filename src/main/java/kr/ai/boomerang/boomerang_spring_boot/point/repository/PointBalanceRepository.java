@@ -0,0 +1,49 @@
+package kr.ai.boomerang.boomerang_spring_boot.point.repository;
+
+import jakarta.persistence.LockModeType;
+import kr.ai.boomerang.boomerang_spring_boot.point.domain.PointBalance;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 포인트 잔액 Repository 인터페이스
+ *
+ * @author Boomerang Team
+ */
+@Repository
+public interface PointBalanceRepository extends JpaRepository<PointBalance, Long> {
+
+    /**
+     * 사용자 잔액 합계 조회 (모든 stripe 합산)
+     *
+     * @param userId 사용자 ID
+     * @return 잔액
+     */
+    @Query("SELECT COALESCE(SUM(b.balance), 0) FROM PointBalance b WHERE b.userId = :userId")
+    long sumBalance(@Param("userId") Long userId);
+
+    /**
+     * 잔액이 여러 stripe로 나뉜 사용자 ID 조회 (압축 대상)
+     *
+     * @param pageable 조회 개수
+     * @return 사용자 ID 목록
+     */
+    @Query("SELECT b.userId FROM PointBalance b GROUP BY b.userId HAVING COUNT(b) > 1")
+    List<Long> findStripedUserIds(Pageable pageable);
+
+    /**
+     * 사용자의 잔액 행을 잠그고 조회
+     *
+     * @param userId 사용자 ID
+     * @return stripe 순 잔액 행 목록
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM PointBalance b WHERE b.userId = :userId ORDER BY b.stripe ASC")
+    List<PointBalance> findByUserIdForUpdate(@Param("userId") Long userId);
+}
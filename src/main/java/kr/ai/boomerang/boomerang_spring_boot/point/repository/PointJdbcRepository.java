@@ -0,0 +1,102 @@
+package kr.ai.boomerang.boomerang_spring_boot.point.repository;
+
+import kr.ai.boomerang.boomerang_spring_boot.point.dto.PointDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 포인트 원장 / 잔액 일괄 쓰기 Repository
+ * IDENTITY 키 엔티티는 JPA 배치 INSERT가 되지 않으므로 JDBC 배치로 직접 기록합니다.
+ *
+ * @author Boomerang Team
+ */
+@Repository
+@RequiredArgsConstructor
+public class PointJdbcRepository {
+
+    private static final String IDEMPOTENCY_KEY_CONSTRAINT = "uk_point_ledger_idempotency_key";
+    private static final String INCREMENT_BALANCE_SQL =
+            "UPDATE point_balances SET balance = balance + ? WHERE user_id = ? AND stripe = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 원장 멱등성 키 중복으로 인한 예외인지 확인
+     *
+     * @param e 중복 키 예외
+     * @return 원장 멱등성 키 제약 위반이면 true
+     */
+    public static boolean isIdempotencyKeyConflict(DuplicateKeyException e) {
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase(Locale.ROOT).contains(IDEMPOTENCY_KEY_CONSTRAINT);
+    }
+
+    /**
+     * 원장 항목 일괄 추가
+     *
+     * @param awards 지급 요청 목록
+     * @param createdAt 기록 시각
+     */
+    public void insertLedgerEntries(List<PointDto.Award> awards, LocalDateTime createdAt) {
+        Timestamp timestamp = Timestamp.valueOf(createdAt);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO point_ledger (user_id, amount, reason, idempotency_key, created_at) VALUES (?, ?, ?, ?, ?)",
+                awards, awards.size(), (ps, award) -> {
+                    ps.setLong(1, award.getUserId());
+                    ps.setLong(2, award.getAmount());
+                    ps.setString(3, award.getReason());
+                    ps.setString(4, award.getIdempotencyKey());
+                    ps.setTimestamp(5, timestamp);
+                });
+    }
+
+    /**
+     * 사용자별 잔액 stripe에 증가분 반영
+     * - 원자적 UPDATE로 더하고, stripe 행이 아직 없으면 INSERT
+     * - 그 사이 다른 노드가 같은 stripe 행을 먼저 만들었으면(중복 키) 만들어진 행에 다시 UPDATE로 더함
+     *
+     * @param deltas 사용자 ID별 증가분
+     * @param stripeOf 사용자 ID별 반영할 stripe 번호
+     */
+    public void addToBalances(Map<Long, Long> deltas, Map<Long, Integer> stripeOf) {
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(deltas.entrySet());
+        int[][] updated = jdbcTemplate.batchUpdate(INCREMENT_BALANCE_SQL,
+                entries, entries.size(), (ps, entry) -> {
+                    ps.setLong(1, entry.getValue());
+                    ps.setLong(2, entry.getKey());
+                    ps.setInt(3, stripeOf.get(entry.getKey()));
+                });
+
+        List<Map.Entry<Long, Long>> missing = new ArrayList<>();
+        int index = 0;
+        for (int[] batch : updated) {
+            for (int count : batch) {
+                // 영향받은 행 수를 알 수 없는 드라이버 응답(SUCCESS_NO_INFO)은 갱신된 것으로 간주
+                if (count == 0) {
+                    missing.add(entries.get(index));
+                }
+                index++;
+            }
+        }
+        // 새 stripe 행은 사용자당 stripe 수만큼만 생기므로 충돌을 행 단위로 처리할 수 있도록 한 건씩 INSERT
+        for (Map.Entry<Long, Long> entry : missing) {
+            Long userId = entry.getKey();
+            int stripe = stripeOf.get(userId);
+            try {
+                jdbcTemplate.update("INSERT INTO point_balances (user_id, stripe, balance) VALUES (?, ?, ?)",
+                        userId, stripe, entry.getValue());
+            } catch (DuplicateKeyException e) {
+                jdbcTemplate.update(INCREMENT_BALANCE_SQL, entry.getValue(), userId, stripe);
+            }
+        }
+    }
+}
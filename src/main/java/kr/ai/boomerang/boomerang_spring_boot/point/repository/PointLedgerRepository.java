@@ -0,0 +1,91 @@
+package kr.ai.boomerang.boomerang_spring_boot.point.repository;
+
+import kr.ai.boomerang.boomerang_spring_boot.mission.domain.UserMissionCompletion;
+import kr.ai.boomerang.boomerang_spring_boot.point.domain.PointLedgerEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 포인트 원장 Repository 인터페이스
+ *
+ * @author Boomerang Team
+ */
+@Repository
+public interface PointLedgerRepository extends JpaRepository<PointLedgerEntry, Long> {
+
+    /**
+     * 이미 기록된 멱등성 키 조회
+     *
+     * @param idempotencyKeys 확인할 멱등성 키
+     * @return 이미 원장에 있는 키 목록
+     */
+    @Query("SELECT e.idempotencyKey FROM PointLedgerEntry e WHERE e.idempotencyKey IN :keys")
+    List<String> findExistingKeys(@Param("keys") Collection<String> idempotencyKeys);
+
+    /**
+     * 사용자 원장 합계 조회 (잔액 검증용)
+     *
+     * @param userId 사용자 ID
+     * @return 원장 합계
+     */
+    @Query("SELECT COALESCE(SUM(e.amount), 0) FROM PointLedgerEntry e WHERE e.userId = :userId")
+    long sumAmount(@Param("userId") Long userId);
+
+    /**
+     * 기준 시각 이전 원장의 사용자별 합계 조회 (사용자 ID 순, 리더보드 재구성용)
+     * - 삭제된 사용자의 원장은 남아 있으므로 현재 존재하는 사용자만 조회
+     *
+     * @param afterUserId 이 ID보다 큰 사용자부터 조회
+     * @param before 기준 시각 (미포함)
+     * @param weekStart 이번 주차 시작 시각 (포함)
+     * @param pageable 조회 개수
+     * @return [사용자 ID, 원장 합계, 이번 주차 원장 합계] 목록
+     */
+    @Query("SELECT e.userId, SUM(e.amount), SUM(CASE WHEN e.createdAt >= :weekStart THEN e.amount ELSE 0L END) "
+            + "FROM PointLedgerEntry e WHERE e.userId > :afterUserId AND e.createdAt < :before "
+            + "AND EXISTS (SELECT u.id FROM User u WHERE u.id = e.userId) "
+            + "GROUP BY e.userId ORDER BY e.userId ASC")
+    List<Object[]> sumAmountsBefore(@Param("afterUserId") Long afterUserId, @Param("before") LocalDateTime before,
+                                    @Param("weekStart") LocalDateTime weekStart, Pageable pageable);
+
+    /**
+     * 기준 시각 이후 원장의 사용자별 지급 / 차감 합계 조회 (리더보드 재구성용)
+     * - 아직 리더보드에 반영 중일 수 있는 기록이므로 지급과 차감을 나누어 반환
+     *
+     * @param userIds 사용자 ID 목록
+     * @param since 기준 시각 (포함)
+     * @param weekStart 이번 주차 시작 시각 (포함)
+     * @return [사용자 ID, 지급 합계, 차감 합계, 이번 주차 지급 합계, 이번 주차 차감 합계] 목록 (기록이 없는 사용자 제외)
+     */
+    @Query("SELECT e.userId, "
+            + "SUM(CASE WHEN e.amount > 0 THEN e.amount ELSE 0L END), "
+            + "SUM(CASE WHEN e.amount < 0 THEN e.amount ELSE 0L END), "
+            + "SUM(CASE WHEN e.amount > 0 AND e.createdAt >= :weekStart THEN e.amount ELSE 0L END), "
+            + "SUM(CASE WHEN e.amount < 0 AND e.createdAt >= :weekStart THEN e.amount ELSE 0L END) "
+            + "FROM PointLedgerEntry e WHERE e.userId IN :userIds AND e.createdAt >= :since GROUP BY e.userId")
+    List<Object[]> sumAmountsSince(@Param("userIds") Collection<Long> userIds, @Param("since") LocalDateTime since,
+                                   @Param("weekStart") LocalDateTime weekStart);
+
+    /**
+     * 보상이 원장에 기록되지 않은 미션 달성 기록 조회
+     * - 지급 대기 중 서버가 종료되어 유실된 보상을 다시 지급하기 위함
+     *
+     * @param from 조회 시작 시각
+     * @param to 조회 종료 시각 (아직 대기열에 있을 수 있는 최근 기록 제외)
+     * @param pageable 조회 개수
+     * @return 미션 달성 기록 목록
+     */
+    @Query("SELECT c FROM UserMissionCompletion c WHERE c.createdAt BETWEEN :from AND :to "
+            + "AND NOT EXISTS (SELECT e.id FROM PointLedgerEntry e WHERE e.idempotencyKey = "
+            + "CONCAT('mission:', CAST(c.missionId AS String), ':user:', CAST(c.userId AS String)))")
+    List<UserMissionCompletion> findUnrewardedCompletions(@Param("from") LocalDateTime from,
+                                                         @Param("to") LocalDateTime to,
+                                                         Pageable pageable);
+}
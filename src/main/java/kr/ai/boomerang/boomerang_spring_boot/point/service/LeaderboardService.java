@@ -0,0 +1,440 @@
+package kr.ai.boomerang.boomerang_spring_boot.point.service;
+
+import kr.ai.boomerang.boomerang_spring_boot.common.exception.ResourceNotFoundException;
+import kr.ai.boomerang.boomerang_spring_boot.point.dto.PointDto;
+import kr.ai.boomerang.boomerang_spring_boot.point.repository.PointLedgerRepository;
+import kr.ai.boomerang.boomerang_spring_boot.travel.domain.TravelArea;
+import kr.ai.boomerang.boomerang_spring_boot.user.domain.User;
+import kr.ai.boomerang.boomerang_spring_boot.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.IsoFields;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 포인트 리더보드 서비스
+ * 포인트 지급을 Redis Sorted Set(ZSET)에 누적하여 순위를 실시간으로 유지합니다.
+ * - 전체 / 활동 지역별(TourAPI areaCode) / 주간(ISO 주차) 세 가지 ZSET을 함께 갱신
+ * - 원장 반영 트랜잭션이 커밋된 뒤에만 ZINCRBY를 파이프라인으로 전송
+ * - 순위 조회는 ZREVRANK / ZREVRANGE만 사용하며 SQL로 순위를 다시 계산하지 않음 (O(log n))
+ * - 지난 주차 ZSET은 매주 롤오버 시 보관 기간만큼 남긴 뒤 만료
+ * - 커밋 후 ZINCRBY가 실패하면 점수가 빠지므로, 주기적으로 원장 기준으로 점수를 보정
+ *
+ * @author Boomerang Team
+ */
+@Service
+@Slf4j
+public class LeaderboardService {
+
+    private static final String GLOBAL_KEY = "leaderboard:global";
+    private static final String AREA_KEY_PREFIX = "leaderboard:area:";
+    private static final String WEEKLY_KEY_PREFIX = "leaderboard:weekly:";
+    private static final String REBUILD_LOCK_KEY = "leaderboard:rebuild:lock";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final UserRepository userRepository;
+    private final PointLedgerRepository pointLedgerRepository;
+    private final ZoneId zone;
+
+    @Value("${leaderboard.weekly.retention-weeks:8}")
+    private int weeklyRetentionWeeks;
+
+    @Value("${leaderboard.rebuild.batch-size:1000}")
+    private int rebuildBatchSize;
+
+    @Value("${leaderboard.rebuild.lock-timeout-minutes:30}")
+    private long rebuildLockTimeoutMinutes;
+
+    @Value("${leaderboard.rebuild.settle-seconds:60}")
+    private long rebuildSettleSeconds;
+
+    public LeaderboardService(StringRedisTemplate stringRedisTemplate, UserRepository userRepository,
+                              PointLedgerRepository pointLedgerRepository,
+                              @Value("${leaderboard.zone:Asia/Seoul}") String zone) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.userRepository = userRepository;
+        this.pointLedgerRepository = pointLedgerRepository;
+        this.zone = ZoneId.of(zone);
+    }
+
+    /**
+     * 리더보드 범위
+     */
+    public enum Scope {
+        GLOBAL, AREA, WEEKLY
+    }
+
+    /**
+     * 원장에 기록된 포인트를 리더보드에 반영 (트랜잭션 커밋 후 반영)
+     * - 활동 지역은 트랜잭션 안에서 한 번에 조회하고, ZSET 갱신은 커밋 이후 파이프라인으로 전송
+     *
+     * @param deltas 사용자별 포인트 변화량
+     */
+    public void recordAwards(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        Map<Long, String> areaCodes = findAreaCodes(deltas.keySet());
+        String weeklyKey = weeklyKey(LocalDate.now(zone));
+        Map<Long, Long> snapshot = new HashMap<>(deltas);
+
+        afterCommit(() -> {
+            try {
+                stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    StringRedisConnection redis = (StringRedisConnection) connection;
+                    snapshot.forEach((userId, delta) -> {
+                        String member = userId.toString();
+                        redis.zIncrBy(GLOBAL_KEY, delta, member);
+                        redis.zIncrBy(weeklyKey, delta, member);
+                        String areaCode = areaCodes.get(userId);
+                        if (areaCode != null) {
+                            redis.zIncrBy(areaKey(areaCode), delta, member);
+                        }
+                    });
+                    return null;
+                });
+            } catch (Exception e) {
+                log.warn("리더보드 반영 실패: users={}, error={}", snapshot.size(), e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 활동 지역 변경 시 지역 리더보드 이동 (트랜잭션 커밋 후 반영)
+     * - 지역 순위 점수는 전체 누적 포인트와 같으므로 전체 ZSET의 점수를 새 지역으로 옮김
+     *
+     * @param userId 사용자 ID
+     * @param oldAreaCode 기존 지역 코드
+     * @param newAreaCode 새 지역 코드
+     */
+    public void areaChanged(Long userId, String oldAreaCode, String newAreaCode) {
+        if (oldAreaCode != null && oldAreaCode.equals(newAreaCode)) {
+            return;
+        }
+        afterCommit(() -> {
+            try {
+                String member = userId.toString();
+                Double score = stringRedisTemplate.opsForZSet().score(GLOBAL_KEY, member);
+                if (oldAreaCode != null) {
+                    stringRedisTemplate.opsForZSet().remove(areaKey(oldAreaCode), member);
+                }
+                if (newAreaCode != null && score != null) {
+                    stringRedisTemplate.opsForZSet().add(areaKey(newAreaCode), member, score);
+                }
+            } catch (Exception e) {
+                log.warn("지역 리더보드 이동 실패: userId={}, error={}", userId, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 삭제된 사용자를 리더보드에서 제거 (트랜잭션 커밋 후 반영)
+     *
+     * @param userId 사용자 ID
+     * @param areaCode 활동 지역 코드
+     */
+    public void userRemoved(Long userId, String areaCode) {
+        String weeklyKey = weeklyKey(LocalDate.now(zone));
+        afterCommit(() -> {
+            try {
+                String member = userId.toString();
+                stringRedisTemplate.opsForZSet().remove(GLOBAL_KEY, member);
+                stringRedisTemplate.opsForZSet().remove(weeklyKey, member);
+                if (areaCode != null) {
+                    stringRedisTemplate.opsForZSet().remove(areaKey(areaCode), member);
+                }
+            } catch (Exception e) {
+                log.warn("리더보드 사용자 제거 실패: userId={}, error={}", userId, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 상위 순위 조회
+     *
+     * @param scope 리더보드 범위
+     * @param areaCode 지역 코드 (AREA 범위에서 필수)
+     * @param limit 조회할 순위 수
+     * @return PointDto.LeaderboardResponse
+     */
+    public PointDto.LeaderboardResponse getTop(Scope scope, String areaCode, int limit) {
+        String key = resolveKey(scope, areaCode);
+        List<PointDto.RankEntry> entries = readRange(key, 0, limit - 1L);
+        return buildResponse(scope, areaCode, key, entries, null);
+    }
+
+    /**
+     * 내 순위와 앞뒤 순위 조회
+     * - AREA 범위에서 지역 코드를 지정하지 않으면 내 활동 지역을 사용
+     *
+     * @param userId 사용자 ID
+     * @param scope 리더보드 범위
+     * @param areaCode 지역 코드
+     * @param window 내 순위 앞뒤로 조회할 순위 수
+     * @return PointDto.LeaderboardResponse (순위가 없으면 me는 null)
+     */
+    public PointDto.LeaderboardResponse getAroundMe(Long userId, Scope scope, String areaCode, int window) {
+        if (scope == Scope.AREA && areaCode == null) {
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다."));
+            areaCode = user.getAreaCode();
+        }
+        String key = resolveKey(scope, areaCode);
+
+        Long rank = stringRedisTemplate.opsForZSet().reverseRank(key, userId.toString());
+        if (rank == null) {
+            return buildResponse(scope, areaCode, key, Collections.emptyList(), null);
+        }
+
+        List<PointDto.RankEntry> entries = readRange(key, Math.max(0, rank - window), rank + window);
+        PointDto.RankEntry me = entries.stream()
+                .filter(entry -> entry.getUserId().equals(userId))
+                .findFirst()
+                .orElse(null);
+        return buildResponse(scope, areaCode, key, entries, me);
+    }
+
+    /**
+     * 주간 리더보드 롤오버
+     * - 새 주차 점수는 쓰기 시점의 주차 키에 쌓이므로, 끝난 주차 ZSET에 보관 기간 만료만 설정
+     */
+    @Scheduled(cron = "${leaderboard.weekly.rollover-cron:0 0 0 * * MON}", zone = "${leaderboard.zone:Asia/Seoul}")
+    public void rolloverWeekly() {
+        String finishedKey = weeklyKey(LocalDate.now(zone).minusWeeks(1));
+        try {
+            Boolean expiring = stringRedisTemplate.expire(finishedKey, Duration.ofDays(7L * weeklyRetentionWeeks));
+            log.info("주간 리더보드 롤오버 완료: key={}, ranked={}", finishedKey,
+                    Boolean.TRUE.equals(expiring) ? stringRedisTemplate.opsForZSet().zCard(finishedKey) : 0);
+        } catch (Exception e) {
+            log.warn("주간 리더보드 롤오버 실패: key={}, error={}", finishedKey, e.getMessage());
+        }
+    }
+
+    /**
+     * 원장 기준 리더보드 보정
+     * - 전체 / 지역 점수는 원장 합계, 주간 점수는 이번 주차 원장 합계와 비교하여 차이만 ZINCRBY로 반영
+     * - 보정 중 들어온 지급의 ZINCRBY를 덮어쓰지 않도록 ZADD 대신 차이를 더함
+     * - 기준 시각(시작 시각 - settle-seconds) 이전 원장은 ZINCRBY까지 끝났다고 보고 기대 점수로 사용하고,
+     *   이후 원장은 ZSCORE 조회 뒤에 다시 합산하여 반영 중일 수 있는 범위로만 사용 (범위 안이면 보정하지 않음)
+     * - 삭제된 사용자의 원장은 남아 있으므로 현재 존재하는 사용자만 보정 (삭제된 사용자를 ZSET에 다시 넣지 않음)
+     * - 사용자 ID 순으로 나누어 처리하며, 여러 노드가 같은 차이를 중복으로 더하지 않도록 잠금(SET NX)을 얻은 노드만 실행
+     */
+    @Scheduled(cron = "${leaderboard.rebuild.cron:0 30 4 * * *}", zone = "${leaderboard.zone:Asia/Seoul}")
+    public void rebuild() {
+        Boolean locked = stringRedisTemplate.opsForValue().setIfAbsent(REBUILD_LOCK_KEY, "1",
+                Duration.ofMinutes(rebuildLockTimeoutMinutes));
+        if (!Boolean.TRUE.equals(locked)) {
+            log.debug("다른 노드가 리더보드 보정 중");
+            return;
+        }
+        try {
+            LocalDate today = LocalDate.now(zone);
+            String weeklyKey = weeklyKey(today);
+            // 원장 기록 시각은 서버 기본 시간대 기준이므로 주차 시작 시각을 변환
+            LocalDateTime weekStart = today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+                    .atStartOfDay(zone).withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+            LocalDateTime settledBefore = LocalDateTime.now().minusSeconds(rebuildSettleSeconds);
+
+            long users = 0;
+            long corrections = 0;
+            Long afterUserId = 0L;
+            List<Object[]> rows;
+            while (!(rows = pointLedgerRepository.sumAmountsBefore(afterUserId, settledBefore, weekStart,
+                    PageRequest.of(0, rebuildBatchSize))).isEmpty()) {
+                Map<Long, long[]> settled = new LinkedHashMap<>();
+                for (Object[] row : rows) {
+                    settled.put((Long) row[0], new long[]{((Number) row[1]).longValue(), ((Number) row[2]).longValue()});
+                }
+                corrections += correct(settled, weeklyKey, settledBefore, weekStart);
+                users += settled.size();
+                afterUserId = (Long) rows.get(rows.size() - 1)[0];
+            }
+            log.info("리더보드 보정 완료: users={}, corrections={}", users, corrections);
+        } catch (Exception e) {
+            log.warn("리더보드 보정 실패: error={}", e.getMessage());
+        } finally {
+            stringRedisTemplate.delete(REBUILD_LOCK_KEY);
+        }
+    }
+
+    // === Private Methods ===
+
+    static String weeklyKey(LocalDate date) {
+        return String.format("%s%d-W%02d", WEEKLY_KEY_PREFIX,
+                date.get(IsoFields.WEEK_BASED_YEAR), date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+    }
+
+    /**
+     * 사용자 묶음의 ZSET 점수를 원장 합계와 비교하여 차이를 반영
+     * - 기준 시각 이후 원장은 ZSCORE 조회 뒤에 합산하므로, 조회한 점수에 이미 들어간 최근 지급 / 차감은 모두 포함됨
+     * - 점수가 [기준 합계 + 최근 차감, 기준 합계 + 최근 지급] 범위를 벗어난 만큼만 보정하여 반영 중인 ZINCRBY를 중복으로 더하지 않음
+     *
+     * @param settled 사용자별 [기준 시각 이전 원장 합계, 그중 이번 주차 합계]
+     * @return 반영한 보정 수
+     */
+    private int correct(Map<Long, long[]> settled, String weeklyKey, LocalDateTime settledBefore,
+                        LocalDateTime weekStart) {
+        Map<Long, String> areaCodes = findAreaCodes(settled.keySet());
+
+        List<Target> targets = new ArrayList<>(settled.size() * 3);
+        settled.forEach((userId, totals) -> {
+            String member = userId.toString();
+            targets.add(new Target(GLOBAL_KEY, member, userId, false, totals[0]));
+            targets.add(new Target(weeklyKey, member, userId, true, totals[1]));
+            String areaCode = areaCodes.get(userId);
+            if (areaCode != null) {
+                targets.add(new Target(areaKey(areaCode), member, userId, false, totals[0]));
+            }
+        });
+
+        List<Object> current = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            targets.forEach(target -> redis.zScore(target.key(), target.member()));
+            return null;
+        });
+
+        // ZSCORE 조회 이후에 합산해야 조회한 점수에 반영된 최근 원장이 빠지지 않음
+        Map<Long, long[]> recent = new HashMap<>();
+        for (Object[] row : pointLedgerRepository.sumAmountsSince(settled.keySet(), settledBefore, weekStart)) {
+            recent.put((Long) row[0], new long[]{((Number) row[1]).longValue(), ((Number) row[2]).longValue(),
+                    ((Number) row[3]).longValue(), ((Number) row[4]).longValue()});
+        }
+
+        List<Score> corrections = new ArrayList<>();
+        for (int i = 0; i < targets.size(); i++) {
+            Target target = targets.get(i);
+            Double score = (Double) current.get(i);
+            long actual = score == null ? 0L : score.longValue();
+            long[] inFlight = recent.getOrDefault(target.userId(), new long[4]);
+            int offset = target.weekly() ? 2 : 0;
+            long low = target.settled() + inFlight[offset + 1];
+            long high = target.settled() + inFlight[offset];
+
+            long correction = actual < low ? low - actual : actual > high ? high - actual : 0L;
+            if (correction != 0) {
+                corrections.add(new Score(target.key(), target.member(), correction));
+            }
+        }
+        if (!corrections.isEmpty()) {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection redis = (StringRedisConnection) connection;
+                corrections.forEach(correction ->
+                        redis.zIncrBy(correction.key(), correction.points(), correction.member()));
+                return null;
+            });
+        }
+        return corrections.size();
+    }
+
+    private Map<Long, String> findAreaCodes(Collection<Long> userIds) {
+        Map<Long, String> areaCodes = new HashMap<>();
+        for (Object[] row : userRepository.findAreaCodesByIdIn(userIds)) {
+            areaCodes.put((Long) row[0], (String) row[1]);
+        }
+        return areaCodes;
+    }
+
+    private String areaKey(String areaCode) {
+        return AREA_KEY_PREFIX + areaCode;
+    }
+
+    private String resolveKey(Scope scope, String areaCode) {
+        return switch (scope) {
+            case GLOBAL -> GLOBAL_KEY;
+            case WEEKLY -> weeklyKey(LocalDate.now(zone));
+            case AREA -> {
+                if (areaCode == null) {
+                    throw new IllegalArgumentException("지역 리더보드는 지역 코드가 필요합니다.");
+                }
+                yield areaKey(TravelArea.fromCode(areaCode).getCode());
+            }
+        };
+    }
+
+    private List<PointDto.RankEntry> readRange(String key, long start, long end) {
+        Set<ZSetOperations.TypedTuple<String>> tuples =
+                stringRedisTemplate.opsForZSet().reverseRangeWithScores(key, start, end);
+        if (tuples == null || tuples.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Long> userIds = tuples.stream().map(tuple -> Long.valueOf(tuple.getValue())).toList();
+        Map<Long, String> nicknames = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, User::getNickname));
+
+        List<PointDto.RankEntry> entries = new ArrayList<>(tuples.size());
+        long rank = start + 1;
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            Long userId = Long.valueOf(tuple.getValue());
+            entries.add(PointDto.RankEntry.builder()
+                    .rank(rank++)
+                    .userId(userId)
+                    .nickname(nicknames.get(userId))
+                    .points(tuple.getScore() == null ? 0L : tuple.getScore().longValue())
+                    .build());
+        }
+        return entries;
+    }
+
+    private PointDto.LeaderboardResponse buildResponse(Scope scope, String areaCode, String key,
+                                                       List<PointDto.RankEntry> entries, PointDto.RankEntry me) {
+        Long total = stringRedisTemplate.opsForZSet().zCard(key);
+        return PointDto.LeaderboardResponse.builder()
+                .scope(scope.name())
+                .areaCode(scope == Scope.AREA ? areaCode : null)
+                .period(scope == Scope.WEEKLY ? key.substring(WEEKLY_KEY_PREFIX.length()) : null)
+                .totalRanked(total == null ? 0L : total)
+                .entries(entries)
+                .me(me)
+                .build();
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * ZSET 점수 보정량
+     */
+    private record Score(String key, String member, long points) {
+    }
+
+    /**
+     * 보정 대상 ZSET 점수 (기준 시각 이전 원장 합계)
+     */
+    private record Target(String key, String member, Long userId, boolean weekly, long settled) {
+    }
+}
@@ -0,0 +1,276 @@
+package kr.ai.boomerang.boomerang_spring_boot.point.service;
+
+import jakarta.annotation.PreDestroy;
+import kr.ai.boomerang.boomerang_spring_boot.mission.domain.UserMissionCompletion;
+import kr.ai.boomerang.boomerang_spring_boot.mission.event.MissionCompletedEvent;
+import kr.ai.boomerang.boomerang_spring_boot.point.domain.PointBalance;
+import kr.ai.boomerang.boomerang_spring_boot.point.dto.PointDto;
+import kr.ai.boomerang.boomerang_spring_boot.point.repository.PointBalanceRepository;
+import kr.ai.boomerang.boomerang_spring_boot.point.repository.PointJdbcRepository;
+import kr.ai.boomerang.boomerang_spring_boot.point.repository.PointLedgerRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 포인트 원장 서비스
+ * 포인트 지급을 대기열에 모아 원장(append-only)과 잔액에 일괄 반영합니다.
+ * - 원장 항목은 JDBC 배치 INSERT로 기록하고, 멱등성 키가 이미 있는 지급은 건너뜀
+ *   (중복 키 예외는 제약 이름으로 멱등성 키 충돌만 골라내며, 그 외 중복은 지급을 버리지 않고 재시도)
+ * - 잔액은 사용자당 여러 stripe 행 중 하나에 원자적으로 더하여 한 행에 락이 몰리지 않도록 하고, 조회 시 합산
+ * - 주기적으로 stripe 행을 하나로 합치고(압축), 유실된 미션 보상을 다시 지급
+ * - 반영된 포인트는 커밋 이후 리더보드 ZSET에도 누적
+ *
+ * @author Boomerang Team
+ */
+@Service
+@Slf4j
+public class PointService {
+
+    private static final String MISSION_REWARD_REASON = "MISSION_REWARD";
+
+    private final PointLedgerRepository pointLedgerRepository;
+    private final PointBalanceRepository pointBalanceRepository;
+    private final PointJdbcRepository pointJdbcRepository;
+    private final LeaderboardService leaderboardService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${point.balance.stripes:8}")
+    private int stripes;
+
+    @Value("${point.ledger.max-batch-size:1000}")
+    private int maxBatchSize;
+
+    @Value("${point.compaction.batch-size:500}")
+    private int compactionBatchSize;
+
+    @Value("${point.reconcile.lookback-minutes:1440}")
+    private long reconcileLookbackMinutes;
+
+    private final Queue<PointDto.Award> pendingAwards = new ConcurrentLinkedQueue<>();
+
+    // 원장 기록 중 JDBC 배치가 실행되므로 ReentrantLock으로 직렬화 (가상 스레드 고정 방지)
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public PointService(PointLedgerRepository pointLedgerRepository, PointBalanceRepository pointBalanceRepository,
+                        PointJdbcRepository pointJdbcRepository, LeaderboardService leaderboardService,
+                        PlatformTransactionManager transactionManager) {
+        this.pointLedgerRepository = pointLedgerRepository;
+        this.pointBalanceRepository = pointBalanceRepository;
+        this.pointJdbcRepository = pointJdbcRepository;
+        this.leaderboardService = leaderboardService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 포인트 지급 요청
+     * - 대기열에 넣고 즉시 반환하며, 다음 반영 주기에 원장과 잔액에 기록
+     *
+     * @param userId 사용자 ID
+     * @param amount 지급 포인트
+     * @param reason 지급 사유
+     * @param idempotencyKey 멱등성 키 (같은 키는 한 번만 지급)
+     */
+    public void award(Long userId, long amount, String reason, String idempotencyKey) {
+        if (amount == 0) {
+            return;
+        }
+        pendingAwards.add(new PointDto.Award(userId, amount, reason, idempotencyKey));
+    }
+
+    /**
+     * 미션 달성 보상 지급
+     *
+     * @param event 미션 달성 이벤트
+     */
+    @EventListener
+    public void onMissionCompleted(MissionCompletedEvent event) {
+        award(event.getUserId(), event.getRewardPoints(), MISSION_REWARD_REASON,
+                missionRewardKey(event.getMissionId(), event.getUserId()));
+    }
+
+    /**
+     * 포인트 잔액 조회 (stripe 합산)
+     *
+     * @param userId 사용자 ID
+     * @return PointDto.BalanceResponse
+     */
+    public PointDto.BalanceResponse getBalance(Long userId) {
+        return PointDto.BalanceResponse.builder()
+                .userId(userId)
+                .balance(pointBalanceRepository.sumBalance(userId))
+                .build();
+    }
+
+    /**
+     * 대기 중인 지급 요청을 원장과 잔액에 반영
+     */
+    @Scheduled(fixedDelayString = "${point.ledger.flush-interval-ms:200}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            List<PointDto.Award> batch = new ArrayList<>();
+            PointDto.Award award;
+            while ((award = pendingAwards.poll()) != null) {
+                batch.add(award);
+                if (batch.size() == maxBatchSize) {
+                    writeBatch(batch);
+                    batch = new ArrayList<>();
+                }
+            }
+            if (!batch.isEmpty()) {
+                writeBatch(batch);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 여러 stripe로 나뉜 잔액을 가장 작은 stripe 한 행으로 합침
+     * - 사용자 잔액 행을 잠근 상태에서 합산하므로 동시에 들어온 지급이 유실되지 않음
+     */
+    @Scheduled(fixedDelayString = "${point.compaction.interval-ms:600000}",
+            initialDelayString = "${point.compaction.interval-ms:600000}")
+    public void compactBalances() {
+        List<Long> userIds = pointBalanceRepository.findStripedUserIds(PageRequest.of(0, compactionBatchSize));
+        for (Long userId : userIds) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> compactBalance(userId));
+            } catch (Exception e) {
+                log.warn("포인트 잔액 압축 실패: userId={}, error={}", userId, e.getMessage());
+            }
+        }
+        if (!userIds.isEmpty()) {
+            log.info("포인트 잔액 압축 완료: users={}", userIds.size());
+        }
+    }
+
+    /**
+     * 원장에 기록되지 않은 미션 보상 재지급
+     * - 지급 대기 중 서버가 종료된 경우를 보정하며, 멱등성 키로 중복 지급은 발생하지 않음
+     */
+    @Scheduled(fixedDelayString = "${point.reconcile.interval-ms:300000}",
+            initialDelayString = "${point.reconcile.interval-ms:300000}")
+    public void reconcileMissionRewards() {
+        LocalDateTime now = LocalDateTime.now();
+        List<UserMissionCompletion> unrewarded = pointLedgerRepository.findUnrewardedCompletions(
+                now.minusMinutes(reconcileLookbackMinutes), now.minusMinutes(1), PageRequest.of(0, maxBatchSize));
+
+        for (UserMissionCompletion completion : unrewarded) {
+            award(completion.getUserId(), completion.getRewardPoints(), MISSION_REWARD_REASON,
+                    missionRewardKey(completion.getMissionId(), completion.getUserId()));
+        }
+        if (!unrewarded.isEmpty()) {
+            log.warn("누락된 미션 보상 재지급: count={}", unrewarded.size());
+        }
+    }
+
+    // === Private Methods ===
+
+    private void writeBatch(List<PointDto.Award> batch) {
+        List<PointDto.Award> unique = deduplicate(batch);
+        try {
+            transactionTemplate.executeWithoutResult(status -> write(unique));
+        } catch (DuplicateKeyException e) {
+            if (!PointJdbcRepository.isIdempotencyKeyConflict(e)) {
+                requeue(unique, e);
+                return;
+            }
+            // 다른 노드가 같은 멱등성 키를 먼저 기록한 경우: 한 건씩 다시 기록
+            log.debug("포인트 원장 멱등성 키 충돌, 개별 기록으로 재시도: size={}", unique.size());
+            for (PointDto.Award award : unique) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> write(List.of(award)));
+                } catch (DuplicateKeyException duplicate) {
+                    if (PointJdbcRepository.isIdempotencyKeyConflict(duplicate)) {
+                        log.debug("이미 지급된 포인트: key={}", award.getIdempotencyKey());
+                    } else {
+                        requeue(List.of(award), duplicate);
+                    }
+                } catch (Exception single) {
+                    requeue(List.of(award), single);
+                }
+            }
+        } catch (Exception e) {
+            requeue(unique, e);
+        }
+    }
+
+    private void write(List<PointDto.Award> awards) {
+        Set<String> existing = new HashSet<>(pointLedgerRepository.findExistingKeys(
+                awards.stream().map(PointDto.Award::getIdempotencyKey).toList()));
+        List<PointDto.Award> fresh = awards.stream()
+                .filter(award -> !existing.contains(award.getIdempotencyKey()))
+                .toList();
+        if (fresh.isEmpty()) {
+            return;
+        }
+
+        pointJdbcRepository.insertLedgerEntries(fresh, LocalDateTime.now());
+
+        Map<Long, Long> deltas = new HashMap<>();
+        Map<Long, Integer> stripeOf = new HashMap<>();
+        for (PointDto.Award award : fresh) {
+            deltas.merge(award.getUserId(), award.getAmount(), Long::sum);
+            stripeOf.computeIfAbsent(award.getUserId(), userId -> ThreadLocalRandom.current().nextInt(stripes));
+        }
+        pointJdbcRepository.addToBalances(deltas, stripeOf);
+        leaderboardService.recordAwards(deltas);
+    }
+
+    private List<PointDto.Award> deduplicate(List<PointDto.Award> batch) {
+        Map<String, PointDto.Award> unique = new LinkedHashMap<>();
+        for (PointDto.Award award : batch) {
+            unique.putIfAbsent(award.getIdempotencyKey(), award);
+        }
+        return new ArrayList<>(unique.values());
+    }
+
+    private void requeue(List<PointDto.Award> awards, Exception cause) {
+        log.warn("포인트 원장 기록 실패, 다음 주기에 재시도: size={}, error={}", awards.size(), cause.getMessage());
+        pendingAwards.addAll(awards);
+    }
+
+    private void compactBalance(Long userId) {
+        List<PointBalance> balances = pointBalanceRepository.findByUserIdForUpdate(userId);
+        if (balances.size() <= 1) {
+            return;
+        }
+
+        PointBalance first = balances.get(0);
+        long total = balances.stream().mapToLong(PointBalance::getBalance).sum();
+        List<PointBalance> merged = balances.subList(1, balances.size());
+
+        pointBalanceRepository.deleteAllInBatch(merged);
+        first.updateBalance(total);
+    }
+
+    private String missionRewardKey(Long missionId, Long userId) {
+        return "mission:" + missionId + ":user:" + userId;
+    }
+}
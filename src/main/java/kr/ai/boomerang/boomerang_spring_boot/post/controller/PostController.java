@@ -34,16 +34,18 @@ public class PostController {
      *
      * @param pageable 페이지네이션 정보
      * @param search 검색 키워드 (선택)
+     * @param fields 응답 필드 선택 (선택, 예: id,title,author.nickname)
      * @return 게시글 목록
      */
     @GetMapping
     public ResponseEntity<ApiResponse<Page<PostDto.ListResponse>>> getPosts(
             @PageableDefault(size = 20) Pageable pageable,
-            @RequestParam(required = false) String search) {
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String fields) {
 
         Page<PostDto.ListResponse> posts = search != null ?
-                postService.searchPosts(search, pageable) :
-                postService.getPosts(pageable);
+                postService.searchPosts(search, pageable, fields) :
+                postService.getPosts(pageable, fields);
 
         return ResponseEntity.ok(ApiResponse.success(posts));
     }
@@ -52,13 +54,15 @@ public class PostController {
      * 인기 게시글 목록 조회
      *
      * @param pageable 페이지네이션 정보
+     * @param fields 응답 필드 선택 (선택)
      * @return 인기 게시글 목록
      */
     @GetMapping("/popular")
     public ResponseEntity<ApiResponse<Page<PostDto.ListResponse>>> getPopularPosts(
-            @PageableDefault(size = 10) Pageable pageable) {
+            @PageableDefault(size = 10) Pageable pageable,
+            @RequestParam(required = false) String fields) {
 
-        Page<PostDto.ListResponse> posts = postService.getPopularPosts(pageable);
+        Page<PostDto.ListResponse> posts = postService.getPopularPosts(pageable, fields);
         return ResponseEntity.ok(ApiResponse.success(posts));
     }
 
@@ -66,11 +70,15 @@ public class PostController {
      * 게시글 상세 조회
      *
      * @param postId 게시글 ID
+     * @param fields 응답 필드 선택 (선택, 예: title,content,comments.content)
      * @return 게시글 상세 정보
      */
     @GetMapping("/{postId}")
-    public ResponseEntity<ApiResponse<PostDto.Response>> getPost(@PathVariable Long postId) {
-        PostDto.Response post = postService.getPost(postId);
+    public ResponseEntity<ApiResponse<PostDto.Response>> getPost(
+            @PathVariable Long postId,
+            @RequestParam(required = false) String fields) {
+
+        PostDto.Response post = postService.getPost(postId, fields);
         return ResponseEntity.ok(ApiResponse.success(post));
     }
 
@@ -131,11 +139,15 @@ public class PostController {
      * 게시글의 댓글 목록 조회
      *
      * @param postId 게시글 ID
+     * @param fields 응답 필드 선택 (선택)
      * @return 댓글 목록
      */
     @GetMapping("/{postId}/comments")
-    public ResponseEntity<ApiResponse<List<CommentDto.Response>>> getComments(@PathVariable Long postId) {
-        List<CommentDto.Response> comments = commentService.getCommentsByPost(postId);
+    public ResponseEntity<ApiResponse<List<CommentDto.Response>>> getComments(
+            @PathVariable Long postId,
+            @RequestParam(required = false) String fields) {
+
+        List<CommentDto.Response> comments = commentService.getCommentsByPost(postId, fields);
         return ResponseEntity.ok(ApiResponse.success(comments));
     }
 
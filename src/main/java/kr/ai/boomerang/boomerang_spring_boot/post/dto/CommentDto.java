@@ -1,13 +1,17 @@
 package kr.ai.boomerang.boomerang_spring_boot.post.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import kr.ai.boomerang.boomerang_spring_boot.common.web.FieldSelection;
 import kr.ai.boomerang.boomerang_spring_boot.post.domain.Comment;
 import kr.ai.boomerang.boomerang_spring_boot.user.dto.UserDto;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import java.time.LocalDateTime;
+import java.util.Set;
 
 /**
  * 댓글 관련 DTO 클래스들
@@ -40,10 +44,20 @@ public class CommentDto {
 
     /**
      * 댓글 응답 DTO
+     * fields로 선택하지 않은 필드는 null이며 응답에서 빠집니다.
      */
     @Getter
     @Builder
+    @Jacksonized
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     public static class Response {
+
+        /**
+         * fields로 선택할 수 있는 필드
+         */
+        public static final Set<String> FIELDS = FieldSelection.withNested(
+                Set.of("id", "content", "createdAt", "updatedAt"), "author", UserDto.Response.FIELDS);
+
         private Long id;
         private String content;
         private UserDto.Response author;
@@ -51,10 +65,17 @@ public class CommentDto {
         private LocalDateTime updatedAt;
 
         public static Response from(Comment comment) {
+            return from(comment, UserDto.Response.from(comment.getAuthor()));
+        }
+
+        /**
+         * 작성자 정보를 이미 알고 있는 경우 (작성자 지연 로딩 없음)
+         */
+        public static Response from(Comment comment, UserDto.Response author) {
             return Response.builder()
                     .id(comment.getId())
                     .content(comment.getContent())
-                    .author(UserDto.Response.from(comment.getAuthor()))
+                    .author(author)
                     .createdAt(comment.getCreatedAt())
                     .updatedAt(comment.getUpdatedAt())
                     .build();
@@ -1,14 +1,18 @@
 package kr.ai.boomerang.boomerang_spring_boot.post.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import kr.ai.boomerang.boomerang_spring_boot.common.web.FieldSelection;
 import kr.ai.boomerang.boomerang_spring_boot.post.domain.Post;
 import kr.ai.boomerang.boomerang_spring_boot.user.dto.UserDto;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -18,6 +22,11 @@ import java.util.stream.Collectors;
  */
 public class PostDto {
 
+    /**
+     * 목록 내용 미리보기 길이
+     */
+    public static final int PREVIEW_LENGTH = 100;
+
     /**
      * 게시글 생성 요청 DTO
      */
@@ -50,10 +59,22 @@ public class PostDto {
 
     /**
      * 게시글 응답 DTO
+     * fields로 선택하지 않은 필드는 null이며 응답에서 빠집니다.
      */
     @Getter
-    @Builder
+    @Builder(toBuilder = true)
+    @Jacksonized
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     public static class Response {
+
+        /**
+         * fields로 선택할 수 있는 필드
+         */
+        public static final Set<String> FIELDS = FieldSelection.withNested(
+                FieldSelection.withNested(Set.of("id", "title", "content", "createdAt", "updatedAt"),
+                        "author", UserDto.Response.FIELDS),
+                "comments", CommentDto.Response.FIELDS);
+
         private Long id;
         private String title;
         private String content;
@@ -79,29 +100,56 @@ public class PostDto {
 
     /**
      * 게시글 목록 응답 DTO (댓글 제외)
+     * fields로 선택하지 않은 필드는 null이며 응답에서 빠집니다.
      */
     @Getter
     @Builder
+    @Jacksonized
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     public static class ListResponse {
+
+        /**
+         * fields로 선택할 수 있는 필드
+         */
+        public static final Set<String> FIELDS = FieldSelection.withNested(
+                Set.of("id", "title", "content", "commentCount", "createdAt", "updatedAt"),
+                "author", UserDto.Response.FIELDS);
+
         private Long id;
         private String title;
         private String content;
         private UserDto.Response author;
-        private int commentCount;
+        private Integer commentCount;
         private LocalDateTime createdAt;
         private LocalDateTime updatedAt;
 
         public static ListResponse from(Post post) {
+            return from(post, UserDto.Response.from(post.getAuthor()));
+        }
+
+        /**
+         * 작성자 정보를 이미 알고 있는 경우 (작성자 지연 로딩 없음)
+         */
+        public static ListResponse from(Post post, UserDto.Response author) {
             return ListResponse.builder()
                     .id(post.getId())
                     .title(post.getTitle())
-                    .content(post.getContent().length() > 100 ?
-                            post.getContent().substring(0, 100) + "..." : post.getContent())
-                    .author(UserDto.Response.from(post.getAuthor()))
+                    .content(preview(post.getContent()))
+                    .author(author)
                     .commentCount(post.getComments().size())
                     .createdAt(post.getCreatedAt())
                     .updatedAt(post.getUpdatedAt())
                     .build();
         }
+
+        /**
+         * 목록용 내용 미리보기 (PREVIEW_LENGTH자를 넘으면 자르고 "..." 추가)
+         *
+         * @param content 게시글 내용 (PREVIEW_LENGTH + 1자까지만 조회한 값이어도 됨)
+         * @return 미리보기
+         */
+        public static String preview(String content) {
+            return content.length() > PREVIEW_LENGTH ? content.substring(0, PREVIEW_LENGTH) + "..." : content;
+        }
     }
 }
\ No newline at end of file
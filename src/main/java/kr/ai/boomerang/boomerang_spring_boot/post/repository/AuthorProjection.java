@@ -0,0 +1,89 @@
+package kr.ai.boomerang.boomerang_spring_boot.post.repository;
+
+import jakarta.persistence.Tuple;
+import kr.ai.boomerang.boomerang_spring_boot.common.web.FieldSelection;
+import kr.ai.boomerang.boomerang_spring_boot.user.dto.UserDto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 게시글 / 댓글 작성자 필드 선택 조회 지원
+ * 선택된 작성자 필드만 SELECT 절에 추가하고, 결과 Tuple에서 UserDto.Response를 만듭니다.
+ * - 작성자 ID만 필요하면 외래 키(author_id)를 그대로 읽어 users 조인을 하지 않음
+ * - 작성자는 항상 있으므로(author_id NOT NULL) LEFT JOIN으로 조인해 게시글 / 댓글 테이블부터 읽도록 고정
+ *   (내부 조인이면 옵티마이저가 users 전체 스캔부터 시작하는 계획을 고를 수 있음)
+ *
+ * @author Boomerang Team
+ */
+final class AuthorProjection {
+
+    static final String JOIN_ALIAS = "a";
+
+    private static final String ALIAS_PREFIX = "author_";
+
+    /**
+     * users 조인이 필요한 작성자 필드 (User 엔티티 속성 이름과 같음)
+     */
+    private static final List<String> JOINED_FIELDS = List.of(
+            "email", "nickname", "areaCode", "provider", "role", "createdAt", "updatedAt");
+
+    private AuthorProjection() {
+    }
+
+    /**
+     * users 조인 필요 여부
+     *
+     * @param author 작성자 필드 선택
+     * @return 작성자 ID 외의 필드가 선택되었으면 true
+     */
+    static boolean requiresJoin(FieldSelection author) {
+        return !author.includesOnly("id");
+    }
+
+    /**
+     * 선택된 작성자 필드를 SELECT 항목에 추가
+     *
+     * @param selections SELECT 항목
+     * @param author 작성자 필드 선택
+     * @param owner 작성자를 가진 엔티티 별칭 (p / c)
+     */
+    static void select(List<String> selections, FieldSelection author, String owner) {
+        if (author.includes("id")) {
+            selections.add(owner + ".author.id AS " + ALIAS_PREFIX + "id");
+        }
+        for (String field : JOINED_FIELDS) {
+            if (author.includes(field)) {
+                selections.add(JOIN_ALIAS + "." + field + " AS " + ALIAS_PREFIX + field);
+            }
+        }
+    }
+
+    /**
+     * 조회 결과에서 작성자 응답 생성
+     *
+     * @param tuple 조회 결과
+     * @param author 작성자 필드 선택
+     * @return UserDto.Response (선택하지 않은 필드는 null)
+     */
+    static UserDto.Response read(Tuple tuple, FieldSelection author) {
+        return UserDto.Response.builder()
+                .id(author.includes("id") ? tuple.get(ALIAS_PREFIX + "id", Long.class) : null)
+                .email(author.includes("email") ? tuple.get(ALIAS_PREFIX + "email", String.class) : null)
+                .nickname(author.includes("nickname") ? tuple.get(ALIAS_PREFIX + "nickname", String.class) : null)
+                .areaCode(author.includes("areaCode") ? tuple.get(ALIAS_PREFIX + "areaCode", String.class) : null)
+                .provider(author.includes("provider") ? name(tuple.get(ALIAS_PREFIX + "provider")) : null)
+                .role(author.includes("role") ? name(tuple.get(ALIAS_PREFIX + "role")) : null)
+                .createdAt(author.includes("createdAt") ?
+                        tuple.get(ALIAS_PREFIX + "createdAt", LocalDateTime.class) : null)
+                .updatedAt(author.includes("updatedAt") ?
+                        tuple.get(ALIAS_PREFIX + "updatedAt", LocalDateTime.class) : null)
+                .build();
+    }
+
+    // === Private Methods ===
+
+    private static String name(Object value) {
+        return value instanceof Enum<?> constant ? constant.name() : null;
+    }
+}
@@ -0,0 +1,24 @@
+package kr.ai.boomerang.boomerang_spring_boot.post.repository;
+
+import kr.ai.boomerang.boomerang_spring_boot.common.web.FieldSelection;
+import kr.ai.boomerang.boomerang_spring_boot.post.dto.CommentDto;
+
+import java.util.List;
+
+/**
+ * 댓글 필드 선택 조회 Repository (CommentRepository 확장)
+ * 엔티티 대신 선택된 필드만 담은 응답 DTO를 바로 조회하며, 작성자 필드가 없으면 users 조인을 하지 않습니다.
+ *
+ * @author Boomerang Team
+ */
+public interface CommentQueryRepository {
+
+    /**
+     * 게시글별 댓글 목록 조회 (작성일순)
+     *
+     * @param postId 게시글 ID
+     * @param fields 필드 선택 (CommentDto.Response.FIELDS 기준)
+     * @return List<CommentDto.Response>
+     */
+    List<CommentDto.Response> findCommentsByPostId(Long postId, FieldSelection fields);
+}
@@ -0,0 +1,60 @@
+package kr.ai.boomerang.boomerang_spring_boot.post.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import kr.ai.boomerang.boomerang_spring_boot.common.web.FieldSelection;
+import kr.ai.boomerang.boomerang_spring_boot.post.dto.CommentDto;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 댓글 필드 선택 조회 구현 (JPQL Tuple 조회)
+ *
+ * @author Boomerang Team
+ */
+@RequiredArgsConstructor
+class CommentQueryRepositoryImpl implements CommentQueryRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<CommentDto.Response> findCommentsByPostId(Long postId, FieldSelection fields) {
+        FieldSelection author = fields.includes("author") ? fields.nested("author") : null;
+
+        List<String> selections = new ArrayList<>();
+        selections.add("c.id AS id");
+        if (fields.includes("content")) {
+            selections.add("c.content AS content");
+        }
+        if (author != null) {
+            AuthorProjection.select(selections, author, "c");
+        }
+        if (fields.includes("createdAt")) {
+            selections.add("c.createdAt AS createdAt");
+        }
+        if (fields.includes("updatedAt")) {
+            selections.add("c.updatedAt AS updatedAt");
+        }
+
+        String join = author != null && AuthorProjection.requiresJoin(author) ?
+                " LEFT JOIN c.author " + AuthorProjection.JOIN_ALIAS : "";
+        String jpql = "SELECT " + String.join(", ", selections) + " FROM Comment c" + join
+                + " WHERE c.post.id = :postId ORDER BY c.createdAt ASC, c.id ASC";
+
+        return entityManager.createQuery(jpql, Tuple.class)
+                .setParameter("postId", postId)
+                .getResultList().stream()
+                .map(row -> CommentDto.Response.builder()
+                        .id(fields.includes("id") ? row.get("id", Long.class) : null)
+                        .content(fields.includes("content") ? row.get("content", String.class) : null)
+                        .author(author != null ? AuthorProjection.read(row, author) : null)
+                        .createdAt(fields.includes("createdAt") ? row.get("createdAt", LocalDateTime.class) : null)
+                        .updatedAt(fields.includes("updatedAt") ? row.get("updatedAt", LocalDateTime.class) : null)
+                        .build())
+                .collect(Collectors.toList());
+    }
+}
@@ -5,13 +5,17 @@ import kr.ai.boomerang.boomerang_spring_boot.post.domain.Post;
 import kr.ai.boomerang.boomerang_spring_boot.user.domain.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * 댓글 Repository 인터페이스
@@ -19,7 +23,7 @@ import java.util.List;
  * @author Boomerang Team
  */
 @Repository
-public interface CommentRepository extends JpaRepository<Comment, Long> {
+public interface CommentRepository extends JpaRepository<Comment, Long>, CommentQueryRepository {
 
     /**
      * 게시글별 댓글 목록 조회 (작성일순)
@@ -54,6 +58,16 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      */
     long countByAuthor(User author);
 
+    /**
+     * 사용자별 최근 댓글 조회 (전체 개수 COUNT 없이 목록만 조회)
+     *
+     * @param author 작성자
+     * @param pageable 조회할 댓글 수
+     * @return 최근 댓글 목록
+     */
+    @Query("SELECT c FROM Comment c WHERE c.author = :author ORDER BY c.createdAt DESC")
+    List<Comment> findRecentCommentsByAuthor(@Param("author") User author, Pageable pageable);
+
     /**
      * 특정 기간 내 작성된 댓글 조회
      *
@@ -80,4 +94,20 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      */
     @Query("SELECT c.post.id, COUNT(c) FROM Comment c GROUP BY c.post.id")
     List<Object[]> countCommentsByPost();
-}
\ No newline at end of file
+
+    /**
+     * 기간 내 작성된 댓글을 작성자와 함께 스트리밍 조회 (관리자 내보내기용)
+     * - 트랜잭션 안에서 소비하고 반드시 닫아야 하며, 읽은 엔티티는 호출자가 주기적으로 영속성 컨텍스트에서 비워야 함
+     * - MySQL은 useCursorFetch=true 연결 옵션이 있어야 fetch size 단위로 서버 커서에서 읽음
+     *
+     * @param from 시작 시각 (포함)
+     * @param to 종료 시각 (제외)
+     * @return 댓글 스트림 (ID 오름차순)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.createdAt >= :from AND c.createdAt < :to ORDER BY c.id")
+    Stream<Comment> streamByCreatedAtRange(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
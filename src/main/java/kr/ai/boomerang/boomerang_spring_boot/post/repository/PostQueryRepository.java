@@ -0,0 +1,72 @@
+package kr.ai.boomerang.boomerang_spring_boot.post.repository;
+
+import kr.ai.boomerang.boomerang_spring_boot.common.web.FieldSelection;
+import kr.ai.boomerang.boomerang_spring_boot.post.dto.PostDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 게시글 필드 선택 조회 Repository (PostRepository 확장)
+ * 엔티티 대신 선택된 필드만 담은 응답 DTO를 바로 조회합니다.
+ * - 선택한 컬럼만 SELECT하고, 작성자 필드가 없으면 users 조인, commentCount가 없으면 댓글 수 집계를 하지 않음
+ * - 정렬은 메서드마다 고정된 순서 뒤에 Pageable의 정렬 조건을 덧붙임 (SORTABLE_PROPERTIES만 허용)
+ *
+ * @author Boomerang Team
+ */
+public interface PostQueryRepository {
+
+    /**
+     * 목록 조회에서 Pageable 정렬 조건으로 허용하는 게시글 속성
+     */
+    Set<String> SORTABLE_PROPERTIES = Set.of("id", "title", "createdAt", "updatedAt");
+
+    /**
+     * 게시글 목록 조회 (최신순)
+     *
+     * @param fields 필드 선택 (PostDto.ListResponse.FIELDS 기준)
+     * @param pageable 페이지네이션 정보
+     * @return Page<PostDto.ListResponse>
+     */
+    Page<PostDto.ListResponse> findPostList(FieldSelection fields, Pageable pageable);
+
+    /**
+     * 제목이나 내용으로 게시글 검색 (최신순)
+     *
+     * @param keyword 검색 키워드
+     * @param fields 필드 선택 (PostDto.ListResponse.FIELDS 기준)
+     * @param pageable 페이지네이션 정보
+     * @return Page<PostDto.ListResponse>
+     */
+    Page<PostDto.ListResponse> searchPostList(String keyword, FieldSelection fields, Pageable pageable);
+
+    /**
+     * 작성자별 게시글 목록 조회 (최신순)
+     *
+     * @param authorId 작성자 ID
+     * @param fields 필드 선택 (PostDto.ListResponse.FIELDS 기준)
+     * @param pageable 페이지네이션 정보
+     * @return Page<PostDto.ListResponse>
+     */
+    Page<PostDto.ListResponse> findPostListByAuthorId(Long authorId, FieldSelection fields, Pageable pageable);
+
+    /**
+     * 인기 게시글 목록 조회 (댓글이 많은 순)
+     *
+     * @param fields 필드 선택 (PostDto.ListResponse.FIELDS 기준)
+     * @param pageable 페이지네이션 정보
+     * @return Page<PostDto.ListResponse>
+     */
+    Page<PostDto.ListResponse> findPopularPostList(FieldSelection fields, Pageable pageable);
+
+    /**
+     * 게시글 상세 조회 (댓글 제외, 댓글은 CommentQueryRepository로 따로 조회)
+     *
+     * @param postId 게시글 ID
+     * @param fields 필드 선택 (PostDto.Response.FIELDS 기준)
+     * @return 게시글 (없으면 empty)
+     */
+    Optional<PostDto.Response> findPostDetail(Long postId, FieldSelection fields);
+}
@@ -0,0 +1,168 @@
+package kr.ai.boomerang.boomerang_spring_boot.post.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import kr.ai.boomerang.boomerang_spring_boot.common.web.FieldSelection;
+import kr.ai.boomerang.boomerang_spring_boot.post.dto.PostDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.query.EscapeCharacter;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 필드 선택 조회 구현 (JPQL Tuple 조회)
+ *
+ * @author Boomerang Team
+ */
+@RequiredArgsConstructor
+class PostQueryRepositoryImpl implements PostQueryRepository {
+
+    private static final String LATEST_ORDER = "p.createdAt DESC";
+    private static final String COMMENT_COUNT = "(SELECT COUNT(cc) FROM Comment cc WHERE cc.post = p)";
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Page<PostDto.ListResponse> findPostList(FieldSelection fields, Pageable pageable) {
+        return findList(fields, null, Map.of(), LATEST_ORDER, pageable);
+    }
+
+    @Override
+    public Page<PostDto.ListResponse> searchPostList(String keyword, FieldSelection fields, Pageable pageable) {
+        String pattern = "%" + EscapeCharacter.DEFAULT.escape(keyword) + "%";
+        return findList(fields, "p.title LIKE :pattern ESCAPE '\\' OR p.content LIKE :pattern ESCAPE '\\'",
+                Map.of("pattern", pattern), LATEST_ORDER, pageable);
+    }
+
+    @Override
+    public Page<PostDto.ListResponse> findPostListByAuthorId(Long authorId, FieldSelection fields, Pageable pageable) {
+        return findList(fields, "p.author.id = :authorId", Map.of("authorId", authorId), LATEST_ORDER, pageable);
+    }
+
+    @Override
+    public Page<PostDto.ListResponse> findPopularPostList(FieldSelection fields, Pageable pageable) {
+        return findList(fields, null, Map.of(), COMMENT_COUNT + " DESC, " + LATEST_ORDER, pageable);
+    }
+
+    @Override
+    public Optional<PostDto.Response> findPostDetail(Long postId, FieldSelection fields) {
+        FieldSelection author = fields.includes("author") ? fields.nested("author") : null;
+
+        List<String> selections = new ArrayList<>();
+        selections.add("p.id AS id");
+        if (fields.includes("title")) {
+            selections.add("p.title AS title");
+        }
+        if (fields.includes("content")) {
+            selections.add("p.content AS content");
+        }
+        selectCommon(selections, fields, author);
+
+        List<Tuple> rows = entityManager.createQuery(select(selections, author) + " WHERE p.id = :postId", Tuple.class)
+                .setParameter("postId", postId)
+                .getResultList();
+        return rows.stream().findFirst().map(row -> PostDto.Response.builder()
+                .id(fields.includes("id") ? row.get("id", Long.class) : null)
+                .title(fields.includes("title") ? row.get("title", String.class) : null)
+                .content(fields.includes("content") ? row.get("content", String.class) : null)
+                .author(author != null ? AuthorProjection.read(row, author) : null)
+                .createdAt(fields.includes("createdAt") ? row.get("createdAt", LocalDateTime.class) : null)
+                .updatedAt(fields.includes("updatedAt") ? row.get("updatedAt", LocalDateTime.class) : null)
+                .build());
+    }
+
+    // === Private Methods ===
+
+    /**
+     * 목록 조회 공통 처리
+     * - 내용은 미리보기에 필요한 길이(PREVIEW_LENGTH + 1자)까지만 조회
+     * - 전체 개수 COUNT는 조건만 같은 별도 쿼리로 실행하며, 첫 페이지가 다 차지 않으면 생략
+     * - Pageable 정렬 조건은 고정 정렬 뒤에 덧붙임 (기존 Spring Data 쿼리 메서드와 같은 순서)
+     */
+    private Page<PostDto.ListResponse> findList(FieldSelection fields, String where, Map<String, Object> parameters,
+                                                String orderBy, Pageable pageable) {
+        FieldSelection author = fields.includes("author") ? fields.nested("author") : null;
+
+        List<String> selections = new ArrayList<>();
+        selections.add("p.id AS id");
+        if (fields.includes("title")) {
+            selections.add("p.title AS title");
+        }
+        if (fields.includes("content")) {
+            selections.add("SUBSTRING(p.content, 1, " + (PostDto.PREVIEW_LENGTH + 1) + ") AS content");
+        }
+        if (fields.includes("commentCount")) {
+            selections.add(COMMENT_COUNT + " AS commentCount");
+        }
+        selectCommon(selections, fields, author);
+
+        String condition = where != null ? " WHERE " + where : "";
+        TypedQuery<Tuple> query = entityManager.createQuery(
+                select(selections, author) + condition + " ORDER BY " + orderBy(orderBy, pageable.getSort()), Tuple.class);
+        parameters.forEach(query::setParameter);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+
+        List<PostDto.ListResponse> content = query.getResultList().stream()
+                .map(row -> PostDto.ListResponse.builder()
+                        .id(fields.includes("id") ? row.get("id", Long.class) : null)
+                        .title(fields.includes("title") ? row.get("title", String.class) : null)
+                        .content(fields.includes("content") ?
+                                PostDto.ListResponse.preview(row.get("content", String.class)) : null)
+                        .author(author != null ? AuthorProjection.read(row, author) : null)
+                        .commentCount(fields.includes("commentCount") ?
+                                row.get("commentCount", Long.class).intValue() : null)
+                        .createdAt(fields.includes("createdAt") ? row.get("createdAt", LocalDateTime.class) : null)
+                        .updatedAt(fields.includes("updatedAt") ? row.get("updatedAt", LocalDateTime.class) : null)
+                        .build())
+                .collect(Collectors.toList());
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> {
+            TypedQuery<Long> count = entityManager.createQuery(
+                    "SELECT COUNT(p) FROM Post p" + condition, Long.class);
+            parameters.forEach(count::setParameter);
+            return count.getSingleResult();
+        });
+    }
+
+    private String orderBy(String fixedOrder, Sort sort) {
+        StringBuilder orderBy = new StringBuilder(fixedOrder);
+        for (Sort.Order order : sort) {
+            if (!SORTABLE_PROPERTIES.contains(order.getProperty())) {
+                throw new IllegalArgumentException("정렬할 수 없는 속성입니다: " + order.getProperty());
+            }
+            orderBy.append(", p.").append(order.getProperty()).append(order.isAscending() ? " ASC" : " DESC");
+        }
+        return orderBy.toString();
+    }
+
+    private void selectCommon(List<String> selections, FieldSelection fields, FieldSelection author) {
+        if (author != null) {
+            AuthorProjection.select(selections, author, "p");
+        }
+        if (fields.includes("createdAt")) {
+            selections.add("p.createdAt AS createdAt");
+        }
+        if (fields.includes("updatedAt")) {
+            selections.add("p.updatedAt AS updatedAt");
+        }
+    }
+
+    private String select(List<String> selections, FieldSelection author) {
+        String join = author != null && AuthorProjection.requiresJoin(author) ?
+                " LEFT JOIN p.author " + AuthorProjection.JOIN_ALIAS : "";
+        return "SELECT " + String.join(", ", selections) + " FROM Post p" + join;
+    }
+}
@@ -4,13 +4,17 @@ import kr.ai.boomerang.boomerang_spring_boot.post.domain.Post;
 import kr.ai.boomerang.boomerang_spring_boot.user.domain.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * 게시글 Repository 인터페이스
@@ -18,7 +22,7 @@ import java.util.List;
  * @author Boomerang Team
  */
 @Repository
-public interface PostRepository extends JpaRepository<Post, Long> {
+public interface PostRepository extends JpaRepository<Post, Long>, PostQueryRepository {
 
     /**
      * 작성자별 게시글 목록 조회 (페이지네이션)
@@ -66,6 +70,16 @@ public interface PostRepository extends JpaRepository<Post, Long> {
      */
     long countByAuthor(User author);
 
+    /**
+     * 사용자별 최근 게시글 조회 (전체 개수 COUNT 없이 목록만 조회)
+     *
+     * @param author 작성자
+     * @param pageable 조회할 게시글 수
+     * @return 최근 게시글 목록
+     */
+    @Query("SELECT p FROM Post p WHERE p.author = :author ORDER BY p.createdAt DESC")
+    List<Post> findRecentPostsByAuthor(@Param("author") User author, Pageable pageable);
+
     /**
      * 인기 게시글 조회 (댓글이 많은 순)
      *
@@ -83,4 +97,20 @@ public interface PostRepository extends JpaRepository<Post, Long> {
      */
     @Query("SELECT p FROM Post p ORDER BY p.createdAt DESC")
     List<Post> findRecentPosts(Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * 기간 내 작성된 게시글을 작성자와 함께 스트리밍 조회 (관리자 내보내기용)
+     * - 트랜잭션 안에서 소비하고 반드시 닫아야 하며, 읽은 엔티티는 호출자가 주기적으로 영속성 컨텍스트에서 비워야 함
+     * - MySQL은 useCursorFetch=true 연결 옵션이 있어야 fetch size 단위로 서버 커서에서 읽음
+     *
+     * @param from 시작 시각 (포함)
+     * @param to 종료 시각 (제외)
+     * @return 게시글 스트림 (ID 오름차순)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p FROM Post p JOIN FETCH p.author WHERE p.createdAt >= :from AND p.createdAt < :to ORDER BY p.id")
+    Stream<Post> streamByCreatedAtRange(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
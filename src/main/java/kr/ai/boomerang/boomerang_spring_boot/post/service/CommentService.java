@@ -1,23 +1,27 @@
 package kr.ai.boomerang.boomerang_spring_boot.post.service;
 
+import kr.ai.boomerang.boomerang_spring_boot.admin.event.StatisticsEvent;
 import kr.ai.boomerang.boomerang_spring_boot.post.domain.Comment;
+import kr.ai.boomerang.boomerang_spring_boot.mission.domain.Mission;
+import kr.ai.boomerang.boomerang_spring_boot.mission.event.MissionActivityEvent;
 import kr.ai.boomerang.boomerang_spring_boot.post.domain.Post;
 import kr.ai.boomerang.boomerang_spring_boot.user.domain.User;
 import kr.ai.boomerang.boomerang_spring_boot.post.dto.CommentDto;
 import kr.ai.boomerang.boomerang_spring_boot.common.exception.ResourceNotFoundException;
 import kr.ai.boomerang.boomerang_spring_boot.auth.exception.UnauthorizedException;
+import kr.ai.boomerang.boomerang_spring_boot.common.web.FieldSelection;
 import kr.ai.boomerang.boomerang_spring_boot.post.repository.CommentRepository;
 import kr.ai.boomerang.boomerang_spring_boot.post.repository.PostRepository;
 import kr.ai.boomerang.boomerang_spring_boot.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * 댓글 관리 서비스
@@ -33,19 +37,21 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 게시글의 댓글 목록 조회
      *
      * @param postId 게시글 ID
+     * @param fields 응답 필드 선택 (null이면 전체)
      * @return List<CommentDto.Response>
      */
-    public List<CommentDto.Response> getCommentsByPost(Long postId) {
-        Post post = findPostById(postId);
-        return commentRepository.findByPostOrderByCreatedAtAsc(post)
-                .stream()
-                .map(CommentDto.Response::from)
-                .collect(Collectors.toList());
+    public List<CommentDto.Response> getCommentsByPost(Long postId, String fields) {
+        FieldSelection selection = FieldSelection.parse(fields, CommentDto.Response.FIELDS);
+        if (!postRepository.existsById(postId)) {
+            throw new ResourceNotFoundException("게시글을 찾을 수 없습니다.");
+        }
+        return commentRepository.findCommentsByPostId(postId, selection);
     }
 
     /**
@@ -68,6 +74,8 @@ public class CommentService {
                 .build();
 
         Comment savedComment = commentRepository.save(comment);
+        eventPublisher.publishEvent(new MissionActivityEvent(userId, Mission.MissionType.COMMENT_CREATION));
+        eventPublisher.publishEvent(new StatisticsEvent(StatisticsEvent.Metric.COMMENTS, 1));
         log.info("댓글 생성 완료: commentId={}, postId={}, authorId={}",
                 savedComment.getId(), postId, userId);
 
@@ -112,6 +120,7 @@ public class CommentService {
         validateCommentDeletePermission(comment, user);
 
         commentRepository.delete(comment);
+        eventPublisher.publishEvent(new StatisticsEvent(StatisticsEvent.Metric.COMMENTS, -1));
         log.info("댓글 삭제 완료: commentId={}, userId={}", commentId, userId);
     }
 
@@ -1,16 +1,24 @@
 package kr.ai.boomerang.boomerang_spring_boot.post.service;
 
+import kr.ai.boomerang.boomerang_spring_boot.admin.event.StatisticsEvent;
+import kr.ai.boomerang.boomerang_spring_boot.mission.domain.Mission;
+import kr.ai.boomerang.boomerang_spring_boot.mission.event.MissionActivityEvent;
 import kr.ai.boomerang.boomerang_spring_boot.post.domain.Post;
 import kr.ai.boomerang.boomerang_spring_boot.user.domain.User;
 import kr.ai.boomerang.boomerang_spring_boot.post.dto.PostDto;
 import kr.ai.boomerang.boomerang_spring_boot.common.exception.ResourceNotFoundException;
 import kr.ai.boomerang.boomerang_spring_boot.auth.exception.UnauthorizedException;
+import kr.ai.boomerang.boomerang_spring_boot.common.web.FieldSelection;
+import kr.ai.boomerang.boomerang_spring_boot.post.repository.CommentRepository;
+import kr.ai.boomerang.boomerang_spring_boot.post.repository.PostQueryRepository;
 import kr.ai.boomerang.boomerang_spring_boot.post.repository.PostRepository;
 import kr.ai.boomerang.boomerang_spring_boot.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,28 +34,39 @@ import org.springframework.transaction.annotation.Transactional;
 public class PostService {
 
     private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 게시글 목록 조회
      *
      * @param pageable 페이지네이션 정보
+     * @param fields 응답 필드 선택 (null이면 전체)
      * @return Page<PostDto.ListResponse>
      */
-    public Page<PostDto.ListResponse> getPosts(Pageable pageable) {
-        return postRepository.findAllByOrderByCreatedAtDesc(pageable)
-                .map(PostDto.ListResponse::from);
+    public Page<PostDto.ListResponse> getPosts(Pageable pageable, String fields) {
+        return postRepository.findPostList(parseListFields(fields), validateSort(pageable));
     }
 
     /**
      * 게시글 상세 조회
+     * 댓글은 comments 필드가 선택된 경우에만 조회합니다.
      *
      * @param postId 게시글 ID
+     * @param fields 응답 필드 선택 (null이면 전체)
      * @return PostDto.Response
      */
-    public PostDto.Response getPost(Long postId) {
-        Post post = findPostById(postId);
-        return PostDto.Response.from(post);
+    public PostDto.Response getPost(Long postId, String fields) {
+        FieldSelection selection = FieldSelection.parse(fields, PostDto.Response.FIELDS);
+        PostDto.Response post = postRepository.findPostDetail(postId, selection)
+                .orElseThrow(() -> new ResourceNotFoundException("게시글을 찾을 수 없습니다."));
+        if (!selection.includes("comments")) {
+            return post;
+        }
+        return post.toBuilder()
+                .comments(commentRepository.findCommentsByPostId(postId, selection.nested("comments")))
+                .build();
     }
 
     /**
@@ -68,6 +87,8 @@ public class PostService {
                 .build();
 
         Post savedPost = postRepository.save(post);
+        eventPublisher.publishEvent(new MissionActivityEvent(userId, Mission.MissionType.POST_CREATION));
+        eventPublisher.publishEvent(new StatisticsEvent(StatisticsEvent.Metric.POSTS, 1));
         log.info("게시글 생성 완료: postId={}, authorId={}, title={}",
                 savedPost.getId(), userId, request.getTitle());
 
@@ -111,7 +132,11 @@ public class PostService {
         // 권한 확인
         validatePostDeletePermission(post, user);
 
+        // 댓글 컬렉션을 로딩하지 않고 개수만 조회
+        long commentCount = commentRepository.countByPost(post);
         postRepository.delete(post);
+        eventPublisher.publishEvent(new StatisticsEvent(StatisticsEvent.Metric.POSTS, -1));
+        eventPublisher.publishEvent(new StatisticsEvent(StatisticsEvent.Metric.COMMENTS, -commentCount));
         log.info("게시글 삭제 완료: postId={}, userId={}", postId, userId);
     }
 
@@ -120,12 +145,15 @@ public class PostService {
      *
      * @param userId 사용자 ID
      * @param pageable 페이지네이션 정보
+     * @param fields 응답 필드 선택 (null이면 전체)
      * @return Page<PostDto.ListResponse>
      */
-    public Page<PostDto.ListResponse> getPostsByUser(Long userId, Pageable pageable) {
-        User user = findUserById(userId);
-        return postRepository.findByAuthorOrderByCreatedAtDesc(user, pageable)
-                .map(PostDto.ListResponse::from);
+    public Page<PostDto.ListResponse> getPostsByUser(Long userId, Pageable pageable, String fields) {
+        FieldSelection selection = parseListFields(fields);
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("사용자를 찾을 수 없습니다.");
+        }
+        return postRepository.findPostListByAuthorId(userId, selection, validateSort(pageable));
     }
 
     /**
@@ -133,31 +161,43 @@ public class PostService {
      *
      * @param keyword 검색 키워드
      * @param pageable 페이지네이션 정보
+     * @param fields 응답 필드 선택 (null이면 전체)
      * @return Page<PostDto.ListResponse>
      */
-    public Page<PostDto.ListResponse> searchPosts(String keyword, Pageable pageable) {
+    public Page<PostDto.ListResponse> searchPosts(String keyword, Pageable pageable, String fields) {
         if (keyword == null || keyword.trim().isEmpty()) {
-            return getPosts(pageable);
+            return getPosts(pageable, fields);
         }
 
-        String trimmedKeyword = keyword.trim();
-        return postRepository.findByTitleContainingOrContentContaining(trimmedKeyword, trimmedKeyword, pageable)
-                .map(PostDto.ListResponse::from);
+        return postRepository.searchPostList(keyword.trim(), parseListFields(fields), validateSort(pageable));
     }
 
     /**
      * 인기 게시글 조회
      *
      * @param pageable 페이지네이션 정보
+     * @param fields 응답 필드 선택 (null이면 전체)
      * @return Page<PostDto.ListResponse>
      */
-    public Page<PostDto.ListResponse> getPopularPosts(Pageable pageable) {
-        return postRepository.findPopularPosts(pageable)
-                .map(PostDto.ListResponse::from);
+    public Page<PostDto.ListResponse> getPopularPosts(Pageable pageable, String fields) {
+        return postRepository.findPopularPostList(parseListFields(fields), validateSort(pageable));
     }
 
     // === Private Methods ===
 
+    private FieldSelection parseListFields(String fields) {
+        return FieldSelection.parse(fields, PostDto.ListResponse.FIELDS);
+    }
+
+    private Pageable validateSort(Pageable pageable) {
+        for (Sort.Order order : pageable.getSort()) {
+            if (!PostQueryRepository.SORTABLE_PROPERTIES.contains(order.getProperty())) {
+                throw new IllegalArgumentException("정렬할 수 없는 속성입니다: " + order.getProperty());
+            }
+        }
+        return pageable;
+    }
+
     private Post findPostById(Long postId) {
         return postRepository.findById(postId)
                 .orElseThrow(() -> new ResourceNotFoundException("게시글을 찾을 수 없습니다."));
@@ -181,16 +221,17 @@ public class PostService {
     }
 
     /**
-     * 게시글 통계 정보 조회
+     * 게시글 통계 정보 조회 (DB 전체 COUNT, 관리자 통계 보정용)
      *
      * @return 게시글 통계
      */
     public PostStatistics getPostStatistics() {
         long totalPosts = postRepository.count();
-        // 추가적인 통계 정보는 필요에 따라 구현
+        long totalComments = commentRepository.count();
 
         return PostStatistics.builder()
                 .totalPosts(totalPosts)
+                .totalComments(totalComments)
                 .build();
     }
 
@@ -201,5 +242,6 @@ public class PostService {
     @lombok.Getter
     public static class PostStatistics {
         private long totalPosts;
+        private long totalComments;
     }
 }
\ No newline at end of file
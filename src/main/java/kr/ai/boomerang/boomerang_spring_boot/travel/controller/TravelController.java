@@ -1,6 +1,7 @@
 package kr.ai.boomerang.boomerang_spring_boot.travel.controller;
 
 import kr.ai.boomerang.boomerang_spring_boot.common.web.ApiResponse;
+import kr.ai.boomerang.boomerang_spring_boot.travel.domain.TravelArea;
 import kr.ai.boomerang.boomerang_spring_boot.travel.dto.TravelDto;
 import kr.ai.boomerang.boomerang_spring_boot.travel.service.TravelService;
 import lombok.RequiredArgsConstructor;
@@ -75,25 +76,9 @@ public class TravelController {
      */
     @GetMapping("/areas")
     public ResponseEntity<ApiResponse<java.util.List<AreaInfo>>> getAreaCodes() {
-        java.util.List<AreaInfo> areas = java.util.Arrays.asList(
-                new AreaInfo("1", "서울"),
-                new AreaInfo("2", "인천"),
-                new AreaInfo("3", "대전"),
-                new AreaInfo("4", "대구"),
-                new AreaInfo("5", "광주"),
-                new AreaInfo("6", "부산"),
-                new AreaInfo("7", "울산"),
-                new AreaInfo("8", "세종특별자치시"),
-                new AreaInfo("31", "경기도"),
-                new AreaInfo("32", "강원도"),
-                new AreaInfo("33", "충청북도"),
-                new AreaInfo("34", "충청남도"),
-                new AreaInfo("35", "경상북도"),
-                new AreaInfo("36", "경상남도"),
-                new AreaInfo("37", "전라북도"),
-                new AreaInfo("38", "전라남도"),
-                new AreaInfo("39", "제주도")
-        );
+        java.util.List<AreaInfo> areas = java.util.Arrays.stream(TravelArea.values())
+                .map(area -> new AreaInfo(area.getCode(), area.getDisplayName()))
+                .toList();
 
         return ResponseEntity.ok(ApiResponse.success(areas));
     }
@@ -0,0 +1,59 @@
+package kr.ai.boomerang.boomerang_spring_boot.travel.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 관광 API 지역 코드 열거형
+ * 한국관광공사 TourAPI의 광역 지역 코드(areaCode)와 이름을 정의합니다.
+ *
+ * @author Boomerang Team
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TravelArea {
+
+    SEOUL("1", "서울"),
+    INCHEON("2", "인천"),
+    DAEJEON("3", "대전"),
+    DAEGU("4", "대구"),
+    GWANGJU("5", "광주"),
+    BUSAN("6", "부산"),
+    ULSAN("7", "울산"),
+    SEJONG("8", "세종특별자치시"),
+    GYEONGGI("31", "경기도"),
+    GANGWON("32", "강원도"),
+    CHUNGBUK("33", "충청북도"),
+    CHUNGNAM("34", "충청남도"),
+    GYEONGBUK("35", "경상북도"),
+    GYEONGNAM("36", "경상남도"),
+    JEONBUK("37", "전라북도"),
+    JEONNAM("38", "전라남도"),
+    JEJU("39", "제주도");
+
+    private static final Map<String, TravelArea> BY_CODE = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(TravelArea::getCode, Function.identity()));
+
+    private final String code;
+    private final String displayName;
+
+    /**
+     * 지역 코드로 조회
+     *
+     * @param code 지역 코드
+     * @return TravelArea
+     * @throws IllegalArgumentException 알 수 없는 지역 코드인 경우
+     */
+    public static TravelArea fromCode(String code) {
+        TravelArea area = BY_CODE.get(code);
+        if (area == null) {
+            throw new IllegalArgumentException("유효하지 않은 지역 코드입니다: " + code);
+        }
+        return area;
+    }
+}
@@ -2,6 +2,7 @@ package kr.ai.boomerang.boomerang_spring_boot.travel.dto;
 
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.util.List;
 
@@ -17,6 +18,7 @@ public class TravelDto {
      */
     @Getter
     @Builder
+    @Jacksonized
     public static class SearchResponse {
         private List<TravelInfo> items;
         private int totalCount;
@@ -40,6 +42,7 @@ public class TravelDto {
      */
     @Getter
     @Builder
+    @Jacksonized
     public static class TravelInfo {
         private String contentId;
         private String title;
@@ -3,6 +3,8 @@ package kr.ai.boomerang.boomerang_spring_boot.travel.service;
 import kr.ai.boomerang.boomerang_spring_boot.travel.dto.TravelDto;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -30,6 +32,7 @@ public class TravelService {
 
     private final WebClient webClient;
     private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
 
     @Value("${tour.api.base-url}")
     private String tourApiBaseUrl;
@@ -51,11 +54,7 @@ public class TravelService {
             String apiUrl = buildApiUrl(query, areaCode, pageNo, numOfRows);
             log.debug("TourAPI 호출: {}", apiUrl);
 
-            String response = webClient.get()
-                    .uri(apiUrl)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
+            String response = fetch("searchKeyword1", apiUrl);
 
             return parseApiResponse(response, pageNo, numOfRows);
 
@@ -82,11 +81,7 @@ public class TravelService {
             String apiUrl = buildAreaBasedApiUrl(areaCode, sigunguCode, pageNo, numOfRows);
             log.debug("TourAPI 지역별 조회: {}", apiUrl);
 
-            String response = webClient.get()
-                    .uri(apiUrl)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
+            String response = fetch("areaBasedList1", apiUrl);
 
             return parseApiResponse(response, pageNo, numOfRows);
 
@@ -98,6 +93,31 @@ public class TravelService {
 
     // === Private Methods ===
 
+    /**
+     * TourAPI 호출 및 소요 시간 기록
+     * - tourapi.requests 타이머에 operation(API 이름)과 outcome(SUCCESS / ERROR) 태그를 붙여 기록
+     * - URL에는 서비스 키가 포함되므로 태그로 사용하지 않음
+     */
+    private String fetch(String operation, String apiUrl) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "ERROR";
+        try {
+            String response = webClient.get()
+                    .uri(apiUrl)
+                    .retrieve()
+                    .bodyToMono(String.class)
+                    .block();
+            outcome = "SUCCESS";
+            return response;
+        } finally {
+            sample.stop(Timer.builder("tourapi.requests")
+                    .description("TourAPI 호출 시간")
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
     /**
      * 키워드 검색 API URL 생성
      */
@@ -152,8 +172,9 @@ public class TravelService {
 
     /**
      * API 응답 파싱
+     * - JMH 벤치마크에서 녹화된 응답으로 직접 측정할 수 있도록 package-private
      */
-    private TravelDto.SearchResponse parseApiResponse(String response, int pageNo, int numOfRows) {
+    TravelDto.SearchResponse parseApiResponse(String response, int pageNo, int numOfRows) {
         try {
             JsonNode rootNode = objectMapper.readTree(response);
             JsonNode responseNode = rootNode.path("response");
@@ -55,4 +55,21 @@ public class NicknameController {
         List<String> suggestions = userService.suggestAvailableNicknames(baseName, count);
         return ResponseEntity.ok(ApiResponse.success(suggestions));
     }
+
+    /**
+     * 닉네임 자동완성 검색
+     * - 자모 단위로 비교하므로 조합 중인 글자로도 검색 가능
+     *
+     * @param prefix 입력 중인 접두사
+     * @param limit 최대 결과 수 (기본값: 10, 최대 50)
+     * @return 접두사로 시작하는 닉네임 목록
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<List<String>>> searchNicknames(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+
+        List<String> nicknames = userService.searchNicknames(prefix, limit);
+        return ResponseEntity.ok(ApiResponse.success(nicknames));
+    }
 }
@@ -1,12 +1,15 @@
 package kr.ai.boomerang.boomerang_spring_boot.user.controller;
 
 import kr.ai.boomerang.boomerang_spring_boot.common.web.ApiResponse;
+import kr.ai.boomerang.boomerang_spring_boot.point.dto.PointDto;
+import kr.ai.boomerang.boomerang_spring_boot.point.service.PointService;
 import kr.ai.boomerang.boomerang_spring_boot.post.dto.CommentDto;
 import kr.ai.boomerang.boomerang_spring_boot.post.dto.PostDto;
 import kr.ai.boomerang.boomerang_spring_boot.user.dto.UserDto;
 import kr.ai.boomerang.boomerang_spring_boot.post.service.CommentService;
 import kr.ai.boomerang.boomerang_spring_boot.post.service.PostService;
 import kr.ai.boomerang.boomerang_spring_boot.user.service.UserService;
+import kr.ai.boomerang.boomerang_spring_boot.user.service.UserSummaryService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -30,6 +33,8 @@ public class UserController {
     private final UserService userService;
     private final PostService postService;
     private final CommentService commentService;
+    private final PointService pointService;
+    private final UserSummaryService userSummaryService;
 
     /**
      * 내 정보 조회
@@ -44,6 +49,21 @@ public class UserController {
         return ResponseEntity.ok(ApiResponse.success(user));
     }
 
+    /**
+     * 마이페이지 요약 조회
+     * 내 정보 / 최근 게시글 / 최근 댓글 / 작성 수 / 미션 진행도를 한 번에 조회합니다.
+     * 일부 항목 조회에 실패해도 나머지 항목으로 응답하며, 실패한 항목은 unavailable에 담깁니다.
+     *
+     * @param authentication 인증 정보
+     * @return 마이페이지 요약
+     */
+    @GetMapping("/summary")
+    public ResponseEntity<ApiResponse<UserDto.SummaryResponse>> getMySummary(Authentication authentication) {
+        Long userId = (Long) authentication.getPrincipal();
+        UserDto.SummaryResponse summary = userSummaryService.getSummary(userId);
+        return ResponseEntity.ok(ApiResponse.success(summary));
+    }
+
     /**
      * 내 정보 수정
      *
@@ -65,16 +85,18 @@ public class UserController {
      * 내 게시글 목록 조회
      *
      * @param pageable 페이지네이션 정보
+     * @param fields 응답 필드 선택 (선택)
      * @param authentication 인증 정보
      * @return 내 게시글 목록
      */
     @GetMapping("/posts")
     public ResponseEntity<ApiResponse<Page<PostDto.ListResponse>>> getMyPosts(
             @PageableDefault(size = 20) Pageable pageable,
+            @RequestParam(required = false) String fields,
             Authentication authentication) {
 
         Long userId = (Long) authentication.getPrincipal();
-        Page<PostDto.ListResponse> posts = postService.getPostsByUser(userId, pageable);
+        Page<PostDto.ListResponse> posts = postService.getPostsByUser(userId, pageable, fields);
         return ResponseEntity.ok(ApiResponse.success(posts));
     }
 
@@ -94,4 +116,17 @@ public class UserController {
         Page<CommentDto.Response> comments = commentService.getCommentsByUser(userId, pageable);
         return ResponseEntity.ok(ApiResponse.success(comments));
     }
-}
\ No newline at end of file
+
+    /**
+     * 내 포인트 잔액 조회
+     *
+     * @param authentication 인증 정보
+     * @return 포인트 잔액
+     */
+    @GetMapping("/points")
+    public ResponseEntity<ApiResponse<PointDto.BalanceResponse>> getMyPoints(Authentication authentication) {
+        Long userId = (Long) authentication.getPrincipal();
+        PointDto.BalanceResponse balance = pointService.getBalance(userId);
+        return ResponseEntity.ok(ApiResponse.success(balance));
+    }
+}
@@ -11,7 +11,9 @@ import lombok.*;
  * @author Boomerang Team
  */
 @Entity
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_users_nickname", columnNames = "nickname")
+})
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -35,6 +37,12 @@ public class User extends BaseTimeEntity {
     @Column(nullable = false)
     private String providerId;
 
+    /**
+     * 활동 지역 코드 (TourAPI areaCode, 선택)
+     */
+    @Column(length = 10)
+    private String areaCode;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     @Builder.Default
@@ -63,6 +71,15 @@ public class User extends BaseTimeEntity {
         this.nickname = nickname;
     }
 
+    /**
+     * 활동 지역 업데이트
+     *
+     * @param areaCode 새로운 지역 코드
+     */
+    public void updateAreaCode(String areaCode) {
+        this.areaCode = areaCode;
+    }
+
     /**
      * 역할 업데이트
      *
@@ -1,12 +1,19 @@
 package kr.ai.boomerang.boomerang_spring_boot.user.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import kr.ai.boomerang.boomerang_spring_boot.mission.dto.MissionDto;
+import kr.ai.boomerang.boomerang_spring_boot.post.dto.CommentDto;
+import kr.ai.boomerang.boomerang_spring_boot.post.dto.PostDto;
 import kr.ai.boomerang.boomerang_spring_boot.user.domain.User;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
 
 /**
  * 사용자 관련 DTO 클래스들
@@ -17,13 +24,24 @@ public class UserDto {
 
     /**
      * 사용자 응답 DTO
+     * 게시글 / 댓글 작성자로 포함될 때는 fields로 선택하지 않은 필드가 null이며 응답에서 빠집니다.
      */
     @Getter
     @Builder
+    @Jacksonized
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     public static class Response {
+
+        /**
+         * fields로 선택할 수 있는 필드
+         */
+        public static final Set<String> FIELDS = Set.of(
+                "id", "email", "nickname", "areaCode", "provider", "role", "createdAt", "updatedAt");
+
         private Long id;
         private String email;
         private String nickname;
+        private String areaCode;
         private String provider;
         private String role;
         private LocalDateTime createdAt;
@@ -34,6 +52,7 @@ public class UserDto {
                     .id(user.getId())
                     .email(user.getEmail())
                     .nickname(user.getNickname())
+                    .areaCode(user.getAreaCode())
                     .provider(user.getProvider().name())
                     .role(user.getRole().name())
                     .createdAt(user.getCreatedAt())
@@ -42,6 +61,22 @@ public class UserDto {
         }
     }
 
+    /**
+     * 마이페이지 요약 응답 DTO
+     * 조회에 실패하거나 마감 시간을 넘긴 항목은 비어 있고(null 또는 빈 목록) 이름이 unavailable에 담깁니다.
+     */
+    @Getter
+    @Builder
+    public static class SummaryResponse {
+        private Response user;
+        private List<PostDto.ListResponse> recentPosts;
+        private List<CommentDto.Response> recentComments;
+        private Long postCount;
+        private Long commentCount;
+        private List<MissionDto.ProgressResponse> missions;
+        private List<String> unavailable;
+    }
+
     /**
      * 사용자 프로필 업데이트 요청 DTO
      */
@@ -51,6 +86,12 @@ public class UserDto {
         @NotBlank(message = "닉네임은 필수입니다.")
         @Size(min = 2, max = 20, message = "닉네임은 2자 이상 20자 이하여야 합니다.")
         private String nickname;
+
+        /**
+         * 활동 지역 코드 (선택, 없으면 변경하지 않음)
+         */
+        @Size(max = 10, message = "지역 코드는 10자 이하여야 합니다.")
+        private String areaCode;
     }
 
     /**
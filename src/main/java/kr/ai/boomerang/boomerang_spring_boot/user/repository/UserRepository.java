@@ -1,13 +1,18 @@
 package kr.ai.boomerang.boomerang_spring_boot.user.repository;
 
 import kr.ai.boomerang.boomerang_spring_boot.user.domain.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 사용자 Repository 인터페이스
@@ -58,6 +63,32 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     boolean existsByNickname(String nickname);
 
+    /**
+     * 전체 닉네임 조회 (닉네임 인덱스 적재용)
+     *
+     * @return 닉네임 목록
+     */
+    @Query("SELECT u.nickname FROM User u")
+    List<String> findAllNicknames();
+
+    /**
+     * 접두사로 시작하는 닉네임 조회 (닉네임 unique 인덱스 범위 검색)
+     *
+     * @param escapedPrefix LIKE 특수문자('%', '_', '!')를 '!'로 이스케이프한 접두사
+     * @return 닉네임 목록
+     */
+    @Query("SELECT u.nickname FROM User u WHERE u.nickname LIKE CONCAT(:prefix, '%') ESCAPE '!'")
+    List<String> findNicknamesStartingWith(@Param("prefix") String escapedPrefix);
+
+    /**
+     * 활동 지역이 있는 사용자의 지역 코드 조회 (리더보드 반영용)
+     *
+     * @param ids 사용자 ID 목록
+     * @return [사용자 ID, 지역 코드] 목록
+     */
+    @Query("SELECT u.id, u.areaCode FROM User u WHERE u.id IN :ids AND u.areaCode IS NOT NULL")
+    List<Object[]> findAreaCodesByIdIn(@Param("ids") java.util.Collection<Long> ids);
+
     /**
      * 역할별 사용자 수 조회
      *
@@ -108,4 +139,20 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return 사용자 목록
      */
     java.util.List<User> findByRole(User.Role role);
-}
\ No newline at end of file
+
+    /**
+     * 기간 내 가입한 사용자 스트리밍 조회 (관리자 내보내기용)
+     * - 트랜잭션 안에서 소비하고 반드시 닫아야 하며, 읽은 엔티티는 호출자가 주기적으로 영속성 컨텍스트에서 비워야 함
+     * - MySQL은 useCursorFetch=true 연결 옵션이 있어야 fetch size 단위로 서버 커서에서 읽음
+     *
+     * @param from 시작 시각 (포함)
+     * @param to 종료 시각 (제외)
+     * @return 사용자 스트림 (ID 오름차순)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT u FROM User u WHERE u.createdAt >= :from AND u.createdAt < :to ORDER BY u.id")
+    Stream<User> streamByCreatedAtRange(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
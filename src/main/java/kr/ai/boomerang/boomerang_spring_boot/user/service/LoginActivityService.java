@@ -0,0 +1,205 @@
+package kr.ai.boomerang.boomerang_spring_boot.user.service;
+
+import kr.ai.boomerang.boomerang_spring_boot.common.redis.RedisCommandBatcher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 로그인 활동 기록 서비스
+ * 날짜별 Redis 비트맵에 사용자 ID 위치의 비트를 켜서 하루 단위 고유 로그인을 기록합니다.
+ * - 로그인 1회당 SETBIT 한 번이며, RedisCommandBatcher로 비동기 전송하여 인증 응답을 기다리게 하지 않음
+ * - 사용자당 하루 1비트만 사용 (사용자 100만 명 기준 하루 약 125KB)
+ * - DAU는 BITCOUNT, 기간 활성 사용자(WAU / MAU)는 BITOP OR 결과의 BITCOUNT로 계산
+ * - DAU 조회는 복제 지연을 허용하므로 복제본 조회용 템플릿을 사용 (BITOP은 쓰기이므로 master)
+ * - 클러스터 모드에서 BITOP은 같은 슬롯의 키만 받으므로 로그인 키는 모두 {login} 해시 태그로 한 슬롯에 둠
+ *   (하루 비트맵 한 개씩만 쓰이므로 한 노드에 몰려도 부하는 크지 않음)
+ *
+ * @author Boomerang Team
+ */
+@Service
+@Slf4j
+public class LoginActivityService {
+
+    private static final String DAILY_KEY_PREFIX = "{login}:daily:";
+    private static final String ACTIVE_KEY_PREFIX = "{login}:active:";
+    // 해시 태그 도입 전 키 (배포 시점에 남아 있는 날짜의 비트맵을 평가에서 잃지 않도록 보관 기간 동안 함께 읽음)
+    private static final String LEGACY_DAILY_KEY_PREFIX = "login:daily:";
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final RedisCommandBatcher redisCommandBatcher;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final StringRedisTemplate replicaStringRedisTemplate;
+    private final ZoneId zone;
+
+    @Value("${login.activity.retention-days:40}")
+    private int retentionDays;
+
+    @Value("${login.activity.active-cache-seconds:300}")
+    private long activeCacheSeconds;
+
+    public LoginActivityService(RedisCommandBatcher redisCommandBatcher, StringRedisTemplate stringRedisTemplate,
+                                @Qualifier("replicaStringRedisTemplate") StringRedisTemplate replicaStringRedisTemplate,
+                                @Value("${login.activity.zone:Asia/Seoul}") String zone) {
+        this.redisCommandBatcher = redisCommandBatcher;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.replicaStringRedisTemplate = replicaStringRedisTemplate;
+        this.zone = ZoneId.of(zone);
+    }
+
+    /**
+     * 로그인 기록
+     * - 실패해도 로그인은 계속 진행되도록 결과를 기다리지 않고 로그만 남김
+     *
+     * @param userId 사용자 ID
+     */
+    public void recordLogin(Long userId) {
+        String key = dailyKey(today());
+        redisCommandBatcher.submit("setbit", ops -> ops.opsForValue().setBit(key, userId, true))
+                .whenComplete((previous, error) -> {
+                    if (error != null) {
+                        log.warn("로그인 활동 기록 실패: userId={}, error={}", userId, error.getMessage());
+                    }
+                });
+    }
+
+    /**
+     * 서비스 기준 시간대의 오늘 날짜
+     *
+     * @return 오늘 날짜
+     */
+    public LocalDate today() {
+        return LocalDate.now(zone);
+    }
+
+    /**
+     * 해당 날짜의 로그인 비트맵 조회
+     * - 바이트 i의 상위 비트부터 사용자 ID i * 8, i * 8 + 1, ... 에 대응
+     * - 해시 태그 도입 전 키가 남아 있으면 두 비트맵을 OR로 합침 (슬롯이 달라 BITOP 대신 애플리케이션에서 합침)
+     *
+     * @param date 날짜
+     * @return 비트맵 (기록이 없으면 빈 배열)
+     */
+    public byte[] getLoginBitmap(LocalDate date) {
+        byte[] bitmap = readBitmap(dailyKey(date));
+        byte[] legacy = readBitmap(legacyDailyKey(date));
+        if (legacy.length == 0) {
+            return bitmap;
+        }
+        byte[] merged = Arrays.copyOf(legacy, Math.max(legacy.length, bitmap.length));
+        for (int i = 0; i < bitmap.length; i++) {
+            merged[i] |= bitmap[i];
+        }
+        return merged;
+    }
+
+    /**
+     * 지난 날짜의 비트맵에 보관 기간 만료 설정
+     *
+     * @param date 날짜
+     */
+    public void expireLoginBitmap(LocalDate date) {
+        stringRedisTemplate.expire(dailyKey(date), Duration.ofDays(retentionDays));
+        stringRedisTemplate.expire(legacyDailyKey(date), Duration.ofDays(retentionDays));
+    }
+
+    /**
+     * 일간 활성 사용자 수 (DAU)
+     *
+     * @param date 날짜
+     * @return 로그인한 고유 사용자 수
+     */
+    public long countDailyActiveUsers(LocalDate date) {
+        byte[] key = dailyKey(date).getBytes(StandardCharsets.UTF_8);
+        Long count = replicaStringRedisTemplate.execute((RedisCallback<Long>) connection ->
+                connection.stringCommands().bitCount(key));
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * 기간 활성 사용자 수 (WAU / MAU)
+     * - 기간 내 일별 비트맵을 BITOP OR로 합친 결과를 잠시 캐시하고 BITCOUNT
+     *
+     * @param endDate 기간 마지막 날짜 (포함)
+     * @param days 기간 일수
+     * @return 기간 내 한 번 이상 로그인한 고유 사용자 수
+     */
+    public long countActiveUsers(LocalDate endDate, int days) {
+        if (days <= 1) {
+            return countDailyActiveUsers(endDate);
+        }
+        List<byte[]> sourceKeys = new ArrayList<>(days);
+        for (int i = 0; i < days; i++) {
+            sourceKeys.add(dailyKey(endDate.minusDays(i)).getBytes(StandardCharsets.UTF_8));
+        }
+        String activeKey = ACTIVE_KEY_PREFIX + DAY_FORMAT.format(endDate) + ":" + days;
+        byte[] destination = activeKey.getBytes(StandardCharsets.UTF_8);
+
+        Long count = stringRedisTemplate.execute((RedisCallback<Long>) connection -> {
+            if (!Boolean.TRUE.equals(connection.keyCommands().exists(destination))) {
+                connection.stringCommands().bitOp(RedisStringCommands.BitOperation.OR, destination,
+                        sourceKeys.toArray(new byte[0][]));
+                connection.keyCommands().expire(destination, activeCacheSeconds);
+            }
+            return connection.stringCommands().bitCount(destination);
+        });
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * 로그인 통계 조회 (관리자용)
+     *
+     * @param date 기준 날짜
+     * @return LoginStatistics
+     */
+    public LoginStatistics getLoginStatistics(LocalDate date) {
+        return LoginStatistics.builder()
+                .date(date)
+                .dailyActiveUsers(countDailyActiveUsers(date))
+                .weeklyActiveUsers(countActiveUsers(date, 7))
+                .monthlyActiveUsers(countActiveUsers(date, 30))
+                .build();
+    }
+
+    // === Private Methods ===
+
+    private String dailyKey(LocalDate date) {
+        return DAILY_KEY_PREFIX + DAY_FORMAT.format(date);
+    }
+
+    private String legacyDailyKey(LocalDate date) {
+        return LEGACY_DAILY_KEY_PREFIX + DAY_FORMAT.format(date);
+    }
+
+    private byte[] readBitmap(String key) {
+        byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+        byte[] bitmap = stringRedisTemplate.execute((RedisCallback<byte[]>) connection ->
+                connection.stringCommands().get(rawKey));
+        return bitmap == null ? new byte[0] : bitmap;
+    }
+
+    /**
+     * 로그인 통계 DTO
+     */
+    @lombok.Builder
+    @lombok.Getter
+    public static class LoginStatistics {
+        private LocalDate date;
+        private long dailyActiveUsers;
+        private long weeklyActiveUsers;
+        private long monthlyActiveUsers;
+    }
+}
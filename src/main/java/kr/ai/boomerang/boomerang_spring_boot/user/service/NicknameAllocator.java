@@ -0,0 +1,204 @@
+package kr.ai.boomerang.boomerang_spring_boot.user.service;
+
+import kr.ai.boomerang.boomerang_spring_boot.admin.event.StatisticsEvent;
+import kr.ai.boomerang.boomerang_spring_boot.user.domain.User;
+import kr.ai.boomerang.boomerang_spring_boot.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 고유 닉네임 할당기
+ * "기본이름 + 번호" 형태의 고유 닉네임을 정하고, 닉네임 unique 제약 위반 시 다른 번호로 다시 저장합니다.
+ * - 일반 경로: 닉네임 인덱스로 후보를 계산하고 DB로 한 번만 확인
+ * - 인덱스가 뒤처진 경우: 같은 접두사의 닉네임을 한 번의 쿼리로 모두 조회하여 메모리에서 가장 작은 빈 번호 계산
+ * - 인기 기본이름: Redis INCR 카운터로 노드 간 서로 다른 번호를 나눠주어 동시 가입 시 충돌을 방지
+ *
+ * @author Boomerang Team
+ */
+@Service
+@Slf4j
+public class NicknameAllocator {
+
+    private static final String COUNTER_PREFIX = "nickname:seq:";
+    private static final char LIKE_ESCAPE = '!';
+
+    private final UserRepository userRepository;
+    private final NicknameIndexService nicknameIndexService;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate requiresNewTransaction;
+
+    @Value("${nickname.allocation.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${nickname.allocation.hot-threshold:100}")
+    private int hotThreshold;
+
+    @Value("${nickname.allocation.counter-ttl-hours:24}")
+    private long counterTtlHours;
+
+    public NicknameAllocator(UserRepository userRepository, NicknameIndexService nicknameIndexService,
+                             StringRedisTemplate stringRedisTemplate, ApplicationEventPublisher eventPublisher,
+                             PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.nicknameIndexService = nicknameIndexService;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.eventPublisher = eventPublisher;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 고유 닉네임으로 사용자 저장
+     * - 시도마다 별도 트랜잭션으로 저장하여 unique 제약 위반 시 다른 닉네임으로 다시 시도
+     *
+     * @param baseName 기본 닉네임
+     * @param userFactory 닉네임으로 저장할 사용자를 만드는 함수
+     * @return 저장된 사용자
+     */
+    public User saveWithUniqueNickname(String baseName, Function<String, User> userFactory) {
+        DataIntegrityViolationException lastConflict = null;
+
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            String nickname = allocate(baseName);
+            try {
+                User savedUser = requiresNewTransaction.execute(status -> {
+                    User saved = userRepository.saveAndFlush(userFactory.apply(nickname));
+                    nicknameIndexService.registered(nickname);
+                    eventPublisher.publishEvent(new StatisticsEvent(StatisticsEvent.Metric.USERS, 1));
+                    eventPublisher.publishEvent(new StatisticsEvent(StatisticsEvent.Metric.forRole(saved.getRole()), 1));
+                    return saved;
+                });
+                return savedUser;
+            } catch (DataIntegrityViolationException e) {
+                if (!userRepository.existsByNickname(nickname)) {
+                    throw e;
+                }
+                log.debug("닉네임 저장 충돌, 재시도: nickname={}, attempt={}", nickname, attempt);
+                nicknameIndexService.learn(List.of(nickname));
+                lastConflict = e;
+            }
+        }
+
+        throw new IllegalStateException("고유 닉네임 할당에 실패했습니다: " + baseName, lastConflict);
+    }
+
+    /**
+     * 사용 가능한 닉네임 할당
+     *
+     * @param baseName 기본 닉네임
+     * @return 사용 가능한 닉네임
+     */
+    public String allocate(String baseName) {
+        if (nicknameIndexService.suffixCount(baseName) >= hotThreshold) {
+            String counted = allocateFromCounter(baseName);
+            if (counted != null) {
+                return counted;
+            }
+        }
+
+        String candidate = nicknameIndexService.nextAvailable(baseName);
+        if (!userRepository.existsByNickname(candidate)) {
+            return candidate;
+        }
+
+        // 인덱스가 DB보다 뒤처진 경우: 접두사 조회 한 번으로 보정
+        List<String> taken = userRepository.findNicknamesStartingWith(escapeLike(baseName));
+        nicknameIndexService.learn(taken);
+        return smallestAvailable(baseName, taken);
+    }
+
+    /**
+     * 사용 중인 닉네임 목록에서 가장 작은 빈 닉네임 계산
+     * - 기본이름이 비어있으면 기본이름, 아니면 1부터 가장 작은 빈 번호를 붙여 반환
+     *
+     * @param baseName 기본 닉네임
+     * @param taken 기본이름으로 시작하는 사용 중인 닉네임
+     * @return 사용 가능한 닉네임
+     */
+    public static String smallestAvailable(String baseName, Collection<String> taken) {
+        Set<String> takenSet = taken instanceof Set<String> set ? set : new HashSet<>(taken);
+        if (!takenSet.contains(baseName)) {
+            return baseName;
+        }
+
+        BitSet used = new BitSet(taken.size() + 2);
+        for (String nickname : taken) {
+            int suffix = parseSuffix(baseName, nickname);
+            if (suffix > 0 && suffix <= taken.size() + 1) {
+                used.set(suffix);
+            }
+        }
+        return baseName + used.nextClearBit(1);
+    }
+
+    // === Private Methods ===
+
+    /**
+     * Redis 카운터로 번호 할당
+     * - 카운터가 없으면 DB의 최대 번호로 초기화한 뒤 INCR
+     * - Redis 장애 시 null을 반환하여 인덱스 경로로 대체
+     */
+    private String allocateFromCounter(String baseName) {
+        String key = COUNTER_PREFIX + baseName;
+        try {
+            if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(key))) {
+                List<String> taken = userRepository.findNicknamesStartingWith(escapeLike(baseName));
+                nicknameIndexService.learn(taken);
+                long maxSuffix = taken.stream().mapToLong(nickname -> parseSuffix(baseName, nickname)).max().orElse(0);
+                stringRedisTemplate.opsForValue().setIfAbsent(key, Long.toString(maxSuffix), Duration.ofHours(counterTtlHours));
+            }
+
+            String candidate;
+            do {
+                candidate = baseName + stringRedisTemplate.opsForValue().increment(key);
+            } while (nicknameIndexService.isTaken(candidate));
+            return candidate;
+        } catch (Exception e) {
+            log.warn("닉네임 카운터 사용 실패, 인덱스로 할당: base={}, error={}", baseName, e.getMessage());
+            return null;
+        }
+    }
+
+    private static int parseSuffix(String baseName, String nickname) {
+        if (nickname.length() <= baseName.length() || !nickname.startsWith(baseName)
+                || nickname.charAt(baseName.length()) == '0' || nickname.length() - baseName.length() > 9) {
+            return -1;
+        }
+        int suffix = 0;
+        for (int i = baseName.length(); i < nickname.length(); i++) {
+            char c = nickname.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            suffix = suffix * 10 + (c - '0');
+        }
+        return suffix;
+    }
+
+    private String escapeLike(String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 4);
+        for (char c : value.toCharArray()) {
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
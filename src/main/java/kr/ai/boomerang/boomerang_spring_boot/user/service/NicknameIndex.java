@@ -0,0 +1,187 @@
+package kr.ai.boomerang.boomerang_spring_boot.user.service;
+
+import kr.ai.boomerang.boomerang_spring_boot.common.util.HangulUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 닉네임 사용 여부 인메모리 인덱스
+ * 사용 중인 닉네임을 메모리에 보관하여 DB 조회 없이 중복 확인과 다음 빈 번호 계산을 합니다.
+ * - "기본이름 + 숫자" 형태의 닉네임은 기본이름별 번호 집합에 기록하여 다음 빈 번호를 계산
+ *   (예: "사용자12"는 ("사용자1", 2)와 ("사용자", 12) 두 가지로 기록)
+ * - 번호 집합은 실제 사용 중인 번호만 담으므로 메모리는 닉네임 수에 비례 (번호 값의 크기와 무관)
+ *   가장 작은 빈 번호는 항상 "사용 중인 번호 수 + 1" 이하이므로 그 범위만 확인
+ * - 닉네임이 모두 제거된 기본이름의 번호 집합은 함께 제거
+ * - 자모 분리 키로 정렬된 skip list를 함께 유지하여 입력 중인 접두사로 자동완성 검색
+ *
+ * @author Boomerang Team
+ */
+public class NicknameIndex {
+
+    private static final int MAX_SUFFIX_DIGITS = 9;
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private final Set<String> nicknames = ConcurrentHashMap.newKeySet();
+    private final Map<String, Set<Integer>> suffixesByBase = new ConcurrentHashMap<>();
+    private final NavigableMap<String, String> nicknamesByJamoKey = new ConcurrentSkipListMap<>();
+
+    /**
+     * 닉네임 추가
+     *
+     * @param nickname 닉네임
+     */
+    public void add(String nickname) {
+        if (nickname == null || !nicknames.add(nickname)) {
+            return;
+        }
+        nicknamesByJamoKey.put(searchKey(nickname), nickname);
+        forEachSuffix(nickname, (base, suffix) -> suffixesByBase.compute(base, (key, suffixes) -> {
+            Set<Integer> updated = suffixes != null ? suffixes : ConcurrentHashMap.newKeySet();
+            updated.add(suffix);
+            return updated;
+        }));
+    }
+
+    /**
+     * 닉네임 제거
+     *
+     * @param nickname 닉네임
+     */
+    public void remove(String nickname) {
+        if (nickname == null || !nicknames.remove(nickname)) {
+            return;
+        }
+        nicknamesByJamoKey.remove(searchKey(nickname));
+        forEachSuffix(nickname, (base, suffix) -> suffixesByBase.computeIfPresent(base, (key, suffixes) -> {
+            suffixes.remove(suffix);
+            return suffixes.isEmpty() ? null : suffixes;
+        }));
+    }
+
+    /**
+     * 닉네임 사용 여부 확인
+     *
+     * @param nickname 닉네임
+     * @return 사용 중 여부
+     */
+    public boolean contains(String nickname) {
+        return nickname != null && nicknames.contains(nickname);
+    }
+
+    /**
+     * 사용 가능한 닉네임 계산
+     * - 기본이름이 비어있으면 그대로, 아니면 가장 작은 빈 번호를 붙여 반환
+     *
+     * @param baseName 기본 닉네임
+     * @return 사용 가능한 닉네임
+     */
+    public String nextAvailable(String baseName) {
+        if (!contains(baseName)) {
+            return baseName;
+        }
+        return suggest(baseName, 1).get(0);
+    }
+
+    /**
+     * "기본이름 + 숫자" 형태의 사용 가능한 닉네임 제안
+     *
+     * @param baseName 기본 닉네임
+     * @param count 제안할 개수
+     * @return 번호가 작은 순서의 사용 가능한 닉네임 목록
+     */
+    public List<String> suggest(String baseName, int count) {
+        List<String> suggestions = new ArrayList<>(count);
+        Set<Integer> suffixes = suffixesByBase.getOrDefault(baseName, Set.of());
+        for (int suffix = 1; suggestions.size() < count; suffix++) {
+            if (!suffixes.contains(suffix)) {
+                suggestions.add(baseName + suffix);
+            }
+        }
+        return suggestions;
+    }
+
+    /**
+     * 접두사 자동완성 검색
+     * - 자모 단위로 비교하므로 조합 중인 글자("여행ㅈ", "여기" 입력 중 "역")로도 일치
+     * - 자모 키 사전순(짧은 닉네임 우선)으로 최대 limit개 반환
+     *
+     * @param prefix 입력 중인 접두사
+     * @param limit 최대 결과 수
+     * @return 닉네임 목록
+     */
+    public List<String> search(String prefix, int limit) {
+        String key = HangulUtils.toJamoKey(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        List<String> results = new ArrayList<>(limit);
+        for (String nickname : nicknamesByJamoKey.subMap(key, true, key + Character.MAX_VALUE, false).values()) {
+            results.add(nickname);
+            if (results.size() == limit) {
+                break;
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 기본이름에 번호를 붙여 사용 중인 닉네임 수
+     *
+     * @param baseName 기본 닉네임
+     * @return 사용 중인 번호 수
+     */
+    public int suffixCount(String baseName) {
+        Set<Integer> suffixes = suffixesByBase.get(baseName);
+        return suffixes != null ? suffixes.size() : 0;
+    }
+
+    /**
+     * 인덱스에 들어있는 닉네임 수
+     *
+     * @return 닉네임 수
+     */
+    public int size() {
+        return nicknames.size();
+    }
+
+    // === Private Methods ===
+
+    /**
+     * 닉네임 끝의 숫자를 나눌 수 있는 모든 (기본이름, 번호) 조합 순회
+     * - 앞자리가 0인 번호는 생성되지 않으므로 제외
+     */
+    private void forEachSuffix(String nickname, SuffixConsumer consumer) {
+        int end = nickname.length();
+        int start = end;
+        while (start > 0 && end - start < MAX_SUFFIX_DIGITS && isAsciiDigit(nickname.charAt(start - 1))) {
+            start--;
+        }
+
+        for (int split = start; split < end; split++) {
+            if (nickname.charAt(split) == '0' || split == 0) {
+                continue;
+            }
+            consumer.accept(nickname.substring(0, split), Integer.parseInt(nickname.substring(split)));
+        }
+    }
+
+    private String searchKey(String nickname) {
+        return HangulUtils.toJamoKey(nickname) + KEY_SEPARATOR + nickname;
+    }
+
+    private boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    @FunctionalInterface
+    private interface SuffixConsumer {
+        void accept(String base, int suffix);
+    }
+}
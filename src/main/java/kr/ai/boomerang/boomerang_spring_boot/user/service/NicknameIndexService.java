@@ -0,0 +1,236 @@
+package kr.ai.boomerang.boomerang_spring_boot.user.service;
+
+import jakarta.annotation.PostConstruct;
+import kr.ai.boomerang.boomerang_spring_boot.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 닉네임 인덱스 관리 서비스
+ * 시작 시 모든 닉네임을 NicknameIndex로 적재하고, 닉네임 생성 / 변경 / 삭제를 커밋 후 반영합니다.
+ * - 중복 확인, 닉네임 제안, 자동완성 검색은 DB를 조회하지 않고 인덱스로 처리
+ * - 실제 닉네임 할당은 NicknameAllocator가 인덱스 결과를 DB로 확인하여 처리
+ * - 다른 노드의 변경 사항은 Redis Pub/Sub으로 전달받고, 주기적으로 DB 기준으로 재구성
+ *
+ * @author Boomerang Team
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NicknameIndexService implements MessageListener {
+
+    private static final String NICKNAME_CHANNEL = "nickname:changed";
+    private static final char ADDED = '+';
+    private static final char REMOVED = '-';
+
+    private final UserRepository userRepository;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private volatile NicknameIndex nicknameIndex;
+    private volatile NicknameIndex rebuildingIndex;
+
+    // 재구성은 DB 전체 조회를 포함하므로 가상 스레드를 고정하지 않는 잠금 사용
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    @PostConstruct
+    public void init() {
+        nicknameIndex = new NicknameIndex();
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(NICKNAME_CHANNEL));
+        rebuildIndex();
+    }
+
+    /**
+     * 닉네임 사용 여부 확인 (DB 조회 없음)
+     *
+     * @param nickname 닉네임
+     * @return 사용 중 여부
+     */
+    public boolean isTaken(String nickname) {
+        return nicknameIndex.contains(nickname);
+    }
+
+    /**
+     * 사용 가능한 닉네임 제안 (DB 조회 없음)
+     *
+     * @param baseName 기본 닉네임
+     * @param count 제안할 개수
+     * @return 사용 가능한 닉네임 목록
+     */
+    public List<String> suggest(String baseName, int count) {
+        return nicknameIndex.suggest(baseName, count);
+    }
+
+    /**
+     * 닉네임 접두사 자동완성 검색 (DB 조회 없음)
+     *
+     * @param prefix 입력 중인 접두사
+     * @param limit 최대 결과 수
+     * @return 닉네임 목록
+     */
+    public List<String> search(String prefix, int limit) {
+        return nicknameIndex.search(prefix, limit);
+    }
+
+    /**
+     * 가장 작은 빈 번호를 붙인 닉네임 계산 (DB 조회 없음)
+     *
+     * @param baseName 기본 닉네임
+     * @return 사용 가능한 닉네임
+     */
+    public String nextAvailable(String baseName) {
+        return nicknameIndex.nextAvailable(baseName);
+    }
+
+    /**
+     * 기본이름에 번호를 붙여 사용 중인 닉네임 수
+     *
+     * @param baseName 기본 닉네임
+     * @return 사용 중인 번호 수
+     */
+    public int suffixCount(String baseName) {
+        return nicknameIndex.suffixCount(baseName);
+    }
+
+    /**
+     * DB에서 확인한 사용 중 닉네임을 로컬 인덱스에 반영 (전파 없음)
+     *
+     * @param nicknames 사용 중인 닉네임
+     */
+    public void learn(Collection<String> nicknames) {
+        nicknames.forEach(nickname -> applyLocally(ADDED, nickname));
+    }
+
+    /**
+     * 새 닉네임 등록 (트랜잭션 커밋 후 반영)
+     *
+     * @param nickname 닉네임
+     */
+    public void registered(String nickname) {
+        afterCommit(() -> apply(ADDED, nickname));
+    }
+
+    /**
+     * 닉네임 변경 (트랜잭션 커밋 후 반영)
+     *
+     * @param oldNickname 기존 닉네임
+     * @param newNickname 새 닉네임
+     */
+    public void renamed(String oldNickname, String newNickname) {
+        if (oldNickname != null && oldNickname.equals(newNickname)) {
+            return;
+        }
+        afterCommit(() -> {
+            apply(REMOVED, oldNickname);
+            apply(ADDED, newNickname);
+        });
+    }
+
+    /**
+     * 닉네임 삭제 (트랜잭션 커밋 후 반영)
+     *
+     * @param nickname 닉네임
+     */
+    public void removed(String nickname) {
+        afterCommit(() -> apply(REMOVED, nickname));
+    }
+
+    /**
+     * 다른 노드에서 전파된 닉네임 변경 수신
+     *
+     * @param message Pub/Sub 메시지
+     * @param pattern 구독 패턴
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Object event = redisTemplate.getValueSerializer().deserialize(message.getBody());
+        if (event == null || event.toString().length() < 2) {
+            return;
+        }
+        String value = event.toString();
+        applyLocally(value.charAt(0), value.substring(1));
+    }
+
+    /**
+     * DB의 전체 닉네임으로 인덱스 재구성
+     * - 놓친 변경 이벤트(추가 / 삭제)를 DB 기준으로 보정
+     * - 재구성 중 발생한 변경은 기존 인덱스와 재구성 중인 인덱스 모두에 반영
+     */
+    @Scheduled(fixedDelayString = "${nickname.index.rebuild-interval-ms:3600000}",
+            initialDelayString = "${nickname.index.rebuild-interval-ms:3600000}")
+    public void rebuildIndex() {
+        rebuildLock.lock();
+        try {
+            NicknameIndex rebuilt = new NicknameIndex();
+            rebuildingIndex = rebuilt;
+
+            try {
+                userRepository.findAllNicknames().forEach(rebuilt::add);
+                nicknameIndex = rebuilt;
+                log.info("닉네임 인덱스 재구성 완료: count={}", rebuilt.size());
+            } catch (Exception e) {
+                log.warn("닉네임 인덱스 재구성 실패, 기존 인덱스 유지: {}", e.getMessage());
+            } finally {
+                rebuildingIndex = null;
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    // === Private Methods ===
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private void apply(char type, String nickname) {
+        if (nickname == null) {
+            return;
+        }
+        applyLocally(type, nickname);
+
+        try {
+            redisTemplate.convertAndSend(NICKNAME_CHANNEL, type + nickname);
+        } catch (Exception e) {
+            log.warn("닉네임 변경 전파 실패, 다음 재구성 시 반영: {}", e.getMessage());
+        }
+    }
+
+    private void applyLocally(char type, String nickname) {
+        NicknameIndex rebuilding = rebuildingIndex;
+        if (type == ADDED) {
+            nicknameIndex.add(nickname);
+            if (rebuilding != null) {
+                rebuilding.add(nickname);
+            }
+        } else if (type == REMOVED) {
+            nicknameIndex.remove(nickname);
+            if (rebuilding != null) {
+                rebuilding.remove(nickname);
+            }
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package kr.ai.boomerang.boomerang_spring_boot.user.service;
 
+import kr.ai.boomerang.boomerang_spring_boot.admin.event.StatisticsEvent;
+import kr.ai.boomerang.boomerang_spring_boot.point.service.LeaderboardService;
+import kr.ai.boomerang.boomerang_spring_boot.travel.domain.TravelArea;
 import kr.ai.boomerang.boomerang_spring_boot.user.domain.User;
 import kr.ai.boomerang.boomerang_spring_boot.user.dto.UserDto;
 import kr.ai.boomerang.boomerang_spring_boot.common.exception.ResourceNotFoundException;
@@ -7,6 +10,8 @@ import kr.ai.boomerang.boomerang_spring_boot.auth.exception.UnauthorizedExceptio
 import kr.ai.boomerang.boomerang_spring_boot.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -25,7 +30,13 @@ import java.util.Optional;
 @Transactional(readOnly = true)
 public class UserService {
 
+    private static final int MAX_NICKNAME_SEARCH_LIMIT = 50;
+
     private final UserRepository userRepository;
+    private final NicknameIndexService nicknameIndexService;
+    private final NicknameAllocator nicknameAllocator;
+    private final LeaderboardService leaderboardService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 사용자 정보 조회
@@ -52,8 +63,20 @@ public class UserService {
         // 닉네임 중복 체크 (자신 제외)
         validateNicknameUniqueness(request.getNickname(), userId);
 
+        String oldNickname = user.getNickname();
+        String oldAreaCode = user.getAreaCode();
         user.updateNickname(request.getNickname());
-        userRepository.save(user);
+        if (request.getAreaCode() != null) {
+            user.updateAreaCode(TravelArea.fromCode(request.getAreaCode()).getCode());
+        }
+        try {
+            userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            // 중복 확인 이후 다른 요청이 같은 닉네임을 먼저 저장한 경우
+            throw new IllegalArgumentException("이미 사용 중인 닉네임입니다.");
+        }
+        nicknameIndexService.renamed(oldNickname, request.getNickname());
+        leaderboardService.areaChanged(userId, oldAreaCode, user.getAreaCode());
 
         log.info("사용자 프로필 업데이트 완료: userId={}, nickname={}", userId, request.getNickname());
         return UserDto.Response.from(user);
@@ -90,8 +113,13 @@ public class UserService {
         User.Role newRole = validateAndParseRole(request.getRole());
 
         // 역할 업데이트
+        User.Role oldRole = targetUser.getRole();
         targetUser.updateRole(newRole);
         userRepository.save(targetUser);
+        if (oldRole != newRole) {
+            eventPublisher.publishEvent(new StatisticsEvent(StatisticsEvent.Metric.forRole(oldRole), -1));
+            eventPublisher.publishEvent(new StatisticsEvent(StatisticsEvent.Metric.forRole(newRole), 1));
+        }
 
         log.info("사용자 역할 변경 완료: userId={}, role={}, adminUserId={}", userId, newRole, adminUserId);
         return UserDto.Response.from(targetUser);
@@ -114,8 +142,13 @@ public class UserService {
         }
 
         // 대상 사용자 조회 및 삭제
+        // 닉네임 인덱스 / 리더보드 / 통계 카운터는 커밋 후에만 반영되므로, 삭제가 실패(롤백)하면 바뀌지 않음
         User targetUser = findUserById(userId);
         userRepository.delete(targetUser);
+        nicknameIndexService.removed(targetUser.getNickname());
+        leaderboardService.userRemoved(userId, targetUser.getAreaCode());
+        eventPublisher.publishEvent(new StatisticsEvent(StatisticsEvent.Metric.USERS, -1));
+        eventPublisher.publishEvent(new StatisticsEvent(StatisticsEvent.Metric.forRole(targetUser.getRole()), -1));
 
         log.info("사용자 삭제 완료: userId={}, adminUserId={}", userId, adminUserId);
     }
@@ -133,17 +166,16 @@ public class UserService {
     public User findOrCreateOAuth2User(User.Provider provider, String providerId, String email, String nickname) {
         return userRepository.findByProviderAndProviderId(provider, providerId)
                 .orElseGet(() -> {
-                    String uniqueNickname = generateUniqueNickname(nickname != null ? nickname : "사용자");
-
-                    User newUser = User.builder()
-                            .email(email)
-                            .nickname(uniqueNickname)
-                            .provider(provider)
-                            .providerId(providerId)
-                            .role(User.Role.USER)
-                            .build();
+                    User savedUser = nicknameAllocator.saveWithUniqueNickname(
+                            nickname != null ? nickname : "사용자",
+                            uniqueNickname -> User.builder()
+                                    .email(email)
+                                    .nickname(uniqueNickname)
+                                    .provider(provider)
+                                    .providerId(providerId)
+                                    .role(User.Role.USER)
+                                    .build());
 
-                    User savedUser = userRepository.save(newUser);
                     log.info("새 OAuth2 사용자 생성: userId={}, provider={}, email={}",
                             savedUser.getId(), provider, email);
 
@@ -180,18 +212,6 @@ public class UserService {
         }
     }
 
-    private String generateUniqueNickname(String baseName) {
-        String nickname = baseName;
-        int counter = 1;
-
-        while (userRepository.existsByNickname(nickname)) {
-            nickname = baseName + counter;
-            counter++;
-        }
-
-        return nickname;
-    }
-
     /**
      * 닉네임으로 사용자 조회
      *
@@ -203,37 +223,39 @@ public class UserService {
     }
 
     /**
-     * 닉네임 중복 체크
+     * 닉네임 중복 체크 (닉네임 인덱스 조회)
      *
      * @param nickname 확인할 닉네임
      * @return 중복 여부 (true: 중복됨, false: 사용가능)
      */
     public boolean isNicknameDuplicated(String nickname) {
-        return userRepository.existsByNickname(nickname);
+        return nicknameIndexService.isTaken(nickname);
     }
 
     /**
-     * 사용 가능한 닉네임 제안 (추가됨)
+     * 사용 가능한 닉네임 제안 (닉네임 인덱스 조회)
      *
      * @param baseName 기본 닉네임
      * @param count 제안할 개수
      * @return 사용 가능한 닉네임 목록
      */
     public java.util.List<String> suggestAvailableNicknames(String baseName, int count) {
-        java.util.List<String> suggestions = new java.util.ArrayList<>();
-
-        for (int i = 1; suggestions.size() < count && i <= count * 2; i++) {
-            String candidateNickname = baseName + i;
-            if (!userRepository.existsByNickname(candidateNickname)) {
-                suggestions.add(candidateNickname);
-            }
-        }
+        return nicknameIndexService.suggest(baseName, count);
+    }
 
-        return suggestions;
+    /**
+     * 닉네임 자동완성 검색 (닉네임 인덱스 조회)
+     *
+     * @param prefix 입력 중인 접두사
+     * @param limit 최대 결과 수
+     * @return 접두사로 시작하는 닉네임 목록
+     */
+    public java.util.List<String> searchNicknames(String prefix, int limit) {
+        return nicknameIndexService.search(prefix, Math.min(Math.max(limit, 1), MAX_NICKNAME_SEARCH_LIMIT));
     }
 
     /**
-     * 사용자 통계 정보 조회
+     * 사용자 통계 정보 조회 (DB 전체 COUNT, 관리자 통계 보정용)
      *
      * @return 사용자 통계
      */
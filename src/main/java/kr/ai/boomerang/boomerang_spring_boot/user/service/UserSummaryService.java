@@ -0,0 +1,211 @@
+package kr.ai.boomerang.boomerang_spring_boot.user.service;
+
+import jakarta.annotation.PostConstruct;
+import kr.ai.boomerang.boomerang_spring_boot.common.exception.ResourceNotFoundException;
+import kr.ai.boomerang.boomerang_spring_boot.mission.dto.MissionDto;
+import kr.ai.boomerang.boomerang_spring_boot.mission.service.MissionService;
+import kr.ai.boomerang.boomerang_spring_boot.post.dto.CommentDto;
+import kr.ai.boomerang.boomerang_spring_boot.post.dto.PostDto;
+import kr.ai.boomerang.boomerang_spring_boot.post.repository.CommentRepository;
+import kr.ai.boomerang.boomerang_spring_boot.post.repository.PostRepository;
+import kr.ai.boomerang.boomerang_spring_boot.user.domain.User;
+import kr.ai.boomerang.boomerang_spring_boot.user.dto.UserDto;
+import kr.ai.boomerang.boomerang_spring_boot.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * 마이페이지 요약 조회 서비스
+ * 사용자를 한 번 조회한 뒤 최근 게시글 / 최근 댓글 / 게시글 수 / 댓글 수 / 미션 진행도를 가상 스레드에서 동시에 조회합니다.
+ * - 하위 작업은 요청 범위(SubtaskScope) 안에서만 실행되며, 범위를 벗어나면 남은 작업을 취소하고 종료를 기다림
+ * - 하위 작업마다 마감 시간을 두고, 실패하거나 마감을 넘긴 항목은 비운 채 unavailable에 기록 (부분 응답)
+ * - 사용자 조회 실패(탈퇴한 사용자 등)는 하위 작업을 시작하지 않고 그대로 전파
+ * - 하위 작업은 각자 읽기 전용 트랜잭션(커넥션)을 사용하므로, 모든 요약 요청이 공유하는 허가(max-concurrent-subtasks)를
+ *   얻은 뒤에만 트랜잭션을 시작하여 동시 요약 요청이 커넥션 풀을 고갈시키지 않도록 함 (마감 전에 허가를 못 얻으면 unavailable)
+ *
+ * @author Boomerang Team
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserSummaryService {
+
+    private final UserRepository userRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final MissionService missionService;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${user.summary.recent-size:5}")
+    private int recentSize;
+
+    @Value("${user.summary.subtask-timeout-ms:1000}")
+    private long subtaskTimeoutMs;
+
+    /**
+     * 동시에 실행할 수 있는 하위 작업 수 (커넥션 풀 크기보다 작게 두어 다른 요청이 쓸 커넥션을 남김)
+     */
+    @Value("${user.summary.max-concurrent-subtasks:6}")
+    private int maxConcurrentSubtasks;
+
+    private Semaphore subtaskPermits;
+
+    @PostConstruct
+    public void init() {
+        subtaskPermits = new Semaphore(maxConcurrentSubtasks);
+    }
+
+    /**
+     * 마이페이지 요약 조회
+     *
+     * @param userId 사용자 ID
+     * @return UserDto.SummaryResponse
+     */
+    public UserDto.SummaryResponse getSummary(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다."));
+        // 모든 항목의 작성자가 같은 사용자이므로 작성자 정보는 한 번만 만들고 재사용
+        UserDto.Response author = UserDto.Response.from(user);
+        Pageable recent = PageRequest.of(0, recentSize);
+
+        try (SubtaskScope scope = new SubtaskScope(transactionTemplate(), subtaskPermits, subtaskTimeoutMs)) {
+            Subtask<List<PostDto.ListResponse>> recentPosts = scope.fork("recentPosts", () ->
+                    postRepository.findRecentPostsByAuthor(user, recent).stream()
+                            .map(post -> PostDto.ListResponse.from(post, author))
+                            .collect(Collectors.toList()));
+            Subtask<List<CommentDto.Response>> recentComments = scope.fork("recentComments", () ->
+                    commentRepository.findRecentCommentsByAuthor(user, recent).stream()
+                            .map(comment -> CommentDto.Response.from(comment, author))
+                            .collect(Collectors.toList()));
+            Subtask<Long> postCount = scope.fork("postCount", () -> postRepository.countByAuthor(user));
+            Subtask<Long> commentCount = scope.fork("commentCount", () -> commentRepository.countByAuthor(user));
+            Subtask<List<MissionDto.ProgressResponse>> missions = scope.fork("missions", () ->
+                    missionService.getUserProgress(userId));
+
+            return UserDto.SummaryResponse.builder()
+                    .user(author)
+                    .recentPosts(scope.join(recentPosts, List.of()))
+                    .recentComments(scope.join(recentComments, List.of()))
+                    .postCount(scope.join(postCount, null))
+                    .commentCount(scope.join(commentCount, null))
+                    .missions(scope.join(missions, List.of()))
+                    .unavailable(scope.getUnavailable())
+                    .build();
+        }
+    }
+
+    // === Private Methods ===
+
+    /**
+     * 하위 작업용 읽기 전용 트랜잭션
+     * - 트랜잭션 타임아웃이 JDBC 쿼리 타임아웃으로 적용되어, 인터럽트에 반응하지 않는 쿼리도 DB에서 중단됨
+     */
+    private TransactionTemplate transactionTemplate() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        template.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(subtaskTimeoutMs + 999)));
+        return template;
+    }
+
+    /**
+     * 하위 작업
+     *
+     * @param name 항목 이름 (unavailable에 기록)
+     * @param future 실행 결과
+     * @param deadlineNanos 마감 시각 (System.nanoTime 기준)
+     */
+    private record Subtask<T>(String name, Future<T> future, long deadlineNanos) {
+    }
+
+    /**
+     * 요청 범위 하위 작업 실행기
+     * 작업마다 가상 스레드를 하나씩 만들고, close 시 끝나지 않은 작업을 인터럽트한 뒤 모두 종료될 때까지 기다립니다.
+     * 작업은 공유 허가를 얻은 뒤에만 트랜잭션(커넥션)을 시작하며, 허가 대기도 작업 마감 시간에 포함됩니다.
+     */
+    private static final class SubtaskScope implements AutoCloseable {
+
+        private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("user-summary-", 0).factory());
+        private final TransactionTemplate transactionTemplate;
+        private final Semaphore permits;
+        private final long timeoutNanos;
+        private final List<String> unavailable = new ArrayList<>();
+
+        SubtaskScope(TransactionTemplate transactionTemplate, Semaphore permits, long timeoutMs) {
+            this.transactionTemplate = transactionTemplate;
+            this.permits = permits;
+            this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        }
+
+        <T> Subtask<T> fork(String name, Callable<T> task) {
+            long deadlineNanos = System.nanoTime() + timeoutNanos;
+            Future<T> future = executor.submit(() -> {
+                if (!permits.tryAcquire(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                    throw new IllegalStateException("하위 작업 실행 허가 대기 시간 초과");
+                }
+                try {
+                    return transactionTemplate.execute(status -> {
+                        try {
+                            return task.call();
+                        } catch (RuntimeException e) {
+                            throw e;
+                        } catch (Exception e) {
+                            throw new IllegalStateException(e);
+                        }
+                    });
+                } finally {
+                    permits.release();
+                }
+            });
+            return new Subtask<>(name, future, deadlineNanos);
+        }
+
+        /**
+         * 하위 작업 결과 대기 (마감 시간을 넘기거나 실패하면 기본값 반환)
+         */
+        <T> T join(Subtask<T> subtask, T fallback) {
+            try {
+                long remaining = Math.max(0, subtask.deadlineNanos() - System.nanoTime());
+                return subtask.future().get(remaining, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                subtask.future().cancel(true);
+                log.warn("마이페이지 요약 항목 마감 시간 초과: item={}", subtask.name());
+            } catch (ExecutionException e) {
+                log.warn("마이페이지 요약 항목 조회 실패: item={}", subtask.name(), e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                subtask.future().cancel(true);
+            }
+            unavailable.add(subtask.name());
+            return fallback;
+        }
+
+        List<String> getUnavailable() {
+            return List.copyOf(unavailable);
+        }
+
+        @Override
+        public void close() {
+            executor.shutdownNow();
+            executor.close();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+-- 기준 스키마
+-- Flyway 도입 전 Hibernate DDL(ddl-auto)이 만든 스키마와 같은 구조입니다. (제약 이름도 Hibernate가 생성한 이름 그대로 사용)
+-- 이미 테이블이 있는 DB는 baseline(V1)으로 표시되어 이 스크립트를 실행하지 않으므로, 이후 추가된 테이블 / 컬럼 / 제약은
+-- 여기에 넣지 말고 V2 이후 마이그레이션에 추가해야 합니다.
+-- MySQL 문법으로 작성하며 H2(테스트)도 같은 스크립트를 그대로 실행합니다. (테이블 엔진은 MySQL 기본값 InnoDB 사용)
+
+CREATE TABLE users (
+    id          BIGINT NOT NULL AUTO_INCREMENT,
+    email       VARCHAR(255) NOT NULL,
+    nickname    VARCHAR(255) NOT NULL,
+    provider    ENUM ('GOOGLE', 'KAKAO') NOT NULL,
+    provider_id VARCHAR(255) NOT NULL,
+    role        ENUM ('ADMIN', 'USER') NOT NULL,
+    created_at  DATETIME(6),
+    updated_at  DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT UK6dotkott2kjsp8vw4d0m25fb7 UNIQUE (email)
+);
+
+CREATE TABLE posts (
+    id         BIGINT NOT NULL AUTO_INCREMENT,
+    title      VARCHAR(200) NOT NULL,
+    content    TEXT NOT NULL,
+    author_id  BIGINT NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT FK6xvn0811tkyo3nfjk2xvqx6ns FOREIGN KEY (author_id) REFERENCES users (id)
+);
+
+CREATE TABLE comments (
+    id         BIGINT NOT NULL AUTO_INCREMENT,
+    content    VARCHAR(500) NOT NULL,
+    post_id    BIGINT NOT NULL,
+    author_id  BIGINT NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT FKh4c7lvsc298whoyd4w9ta25cr FOREIGN KEY (post_id) REFERENCES posts (id),
+    CONSTRAINT FKn2na60ukhs76ibtpt9burkm27 FOREIGN KEY (author_id) REFERENCES users (id)
+);
+
+CREATE TABLE missions (
+    id            BIGINT NOT NULL AUTO_INCREMENT,
+    title         VARCHAR(255) NOT NULL,
+    description   VARCHAR(255) NOT NULL,
+    type          ENUM ('COMMENT_CREATION', 'LOGIN_COUNT', 'POST_CREATION') NOT NULL,
+    target_count  INTEGER NOT NULL,
+    reward_points INTEGER NOT NULL,
+    active        BIT NOT NULL,
+    created_at    DATETIME(6),
+    updated_at    DATETIME(6),
+    PRIMARY KEY (id)
+);
@@ -0,0 +1,56 @@
+-- 기준 스키마 이후 추가된 테이블 / 컬럼 / 제약
+-- - users.area_code: 활동 지역 (지역 리더보드)
+-- - uk_users_nickname: 닉네임 중복 방지 (기존 DB에 중복 닉네임이 있으면 먼저 뒤쪽 사용자 닉네임에 "_ID"를 붙여 정리)
+-- - 미션 진행도 / 달성 기록, 포인트 원장 / 잔액 테이블
+
+ALTER TABLE users ADD COLUMN area_code VARCHAR(10);
+
+-- MySQL은 UPDATE 대상 테이블을 하위 쿼리에서 직접 읽을 수 없으므로 파생 테이블로 한 번 감쌈
+UPDATE users SET nickname = CONCAT(nickname, '_', id)
+WHERE id NOT IN (SELECT keep_id FROM (SELECT MIN(id) AS keep_id FROM users GROUP BY nickname) AS keep_ids);
+
+ALTER TABLE users ADD CONSTRAINT uk_users_nickname UNIQUE (nickname);
+
+CREATE TABLE user_mission_progress (
+    id           BIGINT NOT NULL AUTO_INCREMENT,
+    user_id      BIGINT NOT NULL,
+    mission_type ENUM ('COMMENT_CREATION', 'LOGIN_COUNT', 'LOGIN_STREAK', 'POST_CREATION') NOT NULL,
+    count        BIGINT NOT NULL,
+    created_at   DATETIME(6),
+    updated_at   DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_user_mission_progress_user_type UNIQUE (user_id, mission_type)
+);
+
+CREATE TABLE user_mission_completions (
+    id            BIGINT NOT NULL AUTO_INCREMENT,
+    user_id       BIGINT NOT NULL,
+    mission_id    BIGINT NOT NULL,
+    reward_points INTEGER NOT NULL,
+    created_at    DATETIME(6),
+    updated_at    DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_user_mission_completion_user_mission UNIQUE (user_id, mission_id)
+);
+
+CREATE TABLE point_ledger (
+    id              BIGINT NOT NULL AUTO_INCREMENT,
+    user_id         BIGINT NOT NULL,
+    amount          BIGINT NOT NULL,
+    reason          VARCHAR(255) NOT NULL,
+    idempotency_key VARCHAR(100) NOT NULL,
+    created_at      DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_point_ledger_idempotency_key UNIQUE (idempotency_key)
+);
+
+CREATE INDEX idx_point_ledger_user_id ON point_ledger (user_id);
+
+CREATE TABLE point_balances (
+    id      BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    stripe  INTEGER NOT NULL,
+    balance BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_point_balances_user_stripe UNIQUE (user_id, stripe)
+);
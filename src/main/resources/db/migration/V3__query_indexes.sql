@@ -0,0 +1,44 @@
+-- 리포지토리 조회 조건 / 정렬에 맞춘 인덱스
+-- 정렬 컬럼을 조건 컬럼 뒤에 두어 ORDER BY ... LIMIT 조회가 정렬 없이 인덱스 순서대로 끝나도록 합니다.
+-- 인덱스로 처리할 수 없는 조회는 의도적으로 제외했습니다.
+-- - PostRepository.findByTitleContainingOrContentContaining, UserRepository.findByNicknameContaining: 앞쪽 와일드카드 LIKE
+-- - UserRepository.findByNicknameIgnoreCase: LOWER(nickname) 함수 비교
+-- - PostRepository.findPopularPosts: 전체 게시글의 댓글 수 집계 (comments는 idx_comments_post_created만 읽음)
+
+-- posts
+-- findByAuthorOrderByCreatedAtDesc, countByAuthor (author_id 외래 키 인덱스 겸용)
+CREATE INDEX idx_posts_author_created ON posts (author_id, created_at);
+-- findAllByOrderByCreatedAtDesc, findRecentPosts, findByCreatedAtBetween, streamByCreatedAtRange
+CREATE INDEX idx_posts_created ON posts (created_at);
+
+-- comments
+-- findByPostOrderByCreatedAtAsc, countByPost, countCommentsByPost (post_id 외래 키 인덱스 겸용)
+CREATE INDEX idx_comments_post_created ON comments (post_id, created_at);
+-- findByAuthorOrderByCreatedAtDesc, countByAuthor (author_id 외래 키 인덱스 겸용)
+CREATE INDEX idx_comments_author_created ON comments (author_id, created_at);
+-- findRecentComments, findByCreatedAtBetween, streamByCreatedAtRange
+CREATE INDEX idx_comments_created ON comments (created_at);
+
+-- users (email / nickname은 유니크 제약 인덱스 사용)
+-- findByProviderAndProviderId
+CREATE INDEX idx_users_provider_provider_id ON users (provider, provider_id);
+-- countByRole, findByRole
+CREATE INDEX idx_users_role ON users (role);
+-- findActiveUsers
+CREATE INDEX idx_users_updated ON users (updated_at);
+-- streamByCreatedAtRange
+CREATE INDEX idx_users_created ON users (created_at);
+
+-- missions
+-- findByActiveTrue, findByActiveFalse, findByTypeAndActiveTrue
+CREATE INDEX idx_missions_active_type ON missions (active, type);
+-- findByType
+CREATE INDEX idx_missions_type ON missions (type);
+-- findByRewardPointsBetween, findHighRewardMissions
+CREATE INDEX idx_missions_active_reward ON missions (active, reward_points);
+-- findByTitle
+CREATE INDEX idx_missions_title ON missions (title);
+
+-- user_mission_completions
+-- PointLedgerRepository 미지급 완료 조회 (created_at 범위)
+CREATE INDEX idx_user_mission_completions_created ON user_mission_completions (created_at);
@@ -0,0 +1,14 @@
+-- 로그인 미션 평가 기록
+-- 하루치 로그인 비트맵을 사용자 ID 구간(묶음)별로 나누어 반영하며, 묶음의 진행도 반영과 같은 트랜잭션에 기록합니다.
+-- (날짜, 묶음) 유니크 제약으로 평가 표시가 만료되어 다른 노드가 같은 날짜를 다시 평가해도 묶음은 한 번만 반영됨
+
+CREATE TABLE login_mission_evaluations (
+    id              BIGINT NOT NULL AUTO_INCREMENT,
+    evaluation_date DATE NOT NULL,
+    chunk_index     INTEGER NOT NULL,
+    user_count      INTEGER NOT NULL,
+    created_at      DATETIME(6),
+    updated_at      DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_login_mission_evaluation_date_chunk UNIQUE (evaluation_date, chunk_index)
+);
@@ -0,0 +1,89 @@
+package kr.ai.boomerang.boomerang_spring_boot;
+
+import kr.ai.boomerang.boomerang_spring_boot.mission.domain.Mission;
+import kr.ai.boomerang.boomerang_spring_boot.mission.repository.MissionRepository;
+import kr.ai.boomerang.boomerang_spring_boot.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기존 DB 업그레이드 테스트 (H2)
+ * Flyway 도입 전 Hibernate DDL로 만들어진 DB(데이터 포함)에 baseline-on-migrate로 V1을 표시한 뒤
+ * V2 이후 마이그레이션을 적용하고, 엔티티와 스키마가 일치하는지 ddl-auto=validate로 검증합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=validate")
+class LegacySchemaMigrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MissionRepository missionRepository;
+
+    @Test
+    void baselinesLegacySchemaAndAppliesLaterVersions() {
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT \"version\" FROM \"flyway_schema_history\" WHERE \"type\" = 'BASELINE'", String.class))
+                .containsExactly("1");
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT \"version\" FROM \"flyway_schema_history\" WHERE \"type\" = 'SQL' AND \"success\" ORDER BY \"installed_rank\"",
+                String.class))
+                .containsExactly("2", "3", "4", "5");
+    }
+
+    @Test
+    void keepsLegacyDataAndDeduplicatesNicknames() {
+        assertThat(userRepository.count()).isEqualTo(3);
+        assertThat(userRepository.findById(1L).orElseThrow().getNickname()).isEqualTo("boomer");
+        assertThat(userRepository.findById(2L).orElseThrow().getNickname()).isEqualTo("boomer_2");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM comments WHERE post_id = 1", Long.class)).isEqualTo(1);
+    }
+
+    @Test
+    void storesNewMissionTypeAndPointRows() {
+        missionRepository.saveAndFlush(Mission.builder()
+                .title("연속 출석")
+                .description("7일 연속 로그인")
+                .type(Mission.MissionType.LOGIN_STREAK)
+                .targetCount(7)
+                .rewardPoints(70)
+                .build());
+
+        jdbcTemplate.update("INSERT INTO point_ledger (user_id, amount, reason, idempotency_key, created_at) "
+                + "VALUES (1, 100, 'MISSION', 'legacy-test', CURRENT_TIMESTAMP)");
+        jdbcTemplate.update("INSERT INTO point_balances (user_id, stripe, balance) VALUES (1, 0, 100)");
+
+        assertThat(missionRepository.findByType(Mission.MissionType.LOGIN_STREAK)).hasSize(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT SUM(balance) FROM point_balances WHERE user_id = 1", Long.class))
+                .isEqualTo(100);
+    }
+
+    @TestConfiguration
+    static class LegacySchemaConfig {
+
+        /**
+         * 마이그레이션 전에 기존 Hibernate 스키마와 데이터를 먼저 만듭니다.
+         */
+        @Bean
+        FlywayMigrationStrategy legacySchemaFirst(DataSource dataSource) {
+            return flyway -> {
+                new ResourceDatabasePopulator(new ClassPathResource("db/legacy/hibernate_ddl_schema.sql")).execute(dataSource);
+                flyway.migrate();
+            };
+        }
+    }
+}
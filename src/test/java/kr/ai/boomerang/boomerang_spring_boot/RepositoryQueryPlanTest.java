@@ -0,0 +1,252 @@
+package kr.ai.boomerang.boomerang_spring_boot;
+
+import kr.ai.boomerang.boomerang_spring_boot.common.web.FieldSelection;
+import kr.ai.boomerang.boomerang_spring_boot.post.domain.Post;
+import kr.ai.boomerang.boomerang_spring_boot.post.repository.CommentRepository;
+import kr.ai.boomerang.boomerang_spring_boot.post.repository.PostRepository;
+import kr.ai.boomerang.boomerang_spring_boot.support.seed.SyntheticDataSeeder;
+import kr.ai.boomerang.boomerang_spring_boot.user.domain.User;
+import kr.ai.boomerang.boomerang_spring_boot.user.repository.UserRepository;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리포지토리 쿼리 실행 계획 테스트 (H2)
+ * Flyway 마이그레이션으로 만든 스키마에 합성 데이터를 채운 뒤, 리포지토리 메서드가 실제로 실행한 SQL을 같은 바인드 값으로
+ * EXPLAIN하여 대용량 테이블(users / posts / comments)을 전체 스캔하는 쿼리가 없는지 확인합니다.
+ * 엔티티와 마이그레이션 스키마가 일치하는지도 ddl-auto=validate로 함께 검증합니다.
+ * 인덱스로 처리할 수 없어 의도적으로 제외한 쿼리는 V3__query_indexes.sql 주석을 참고합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=validate")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class RepositoryQueryPlanTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final Pattern LARGE_TABLE_SCAN = Pattern.compile("PUBLIC\\.(USERS|POSTS|COMMENTS)\\.tableScan");
+
+    @Autowired
+    private StatementCapture capture;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @BeforeAll
+    void seed() throws Exception {
+        new SyntheticDataSeeder(dataSource).seed(SyntheticDataSeeder.Options.defaults().withCounts(5_000, 20_000, 60_000), NOW);
+    }
+
+    @AfterAll
+    void clear() {
+        jdbcTemplate.update("DELETE FROM comments");
+        jdbcTemplate.update("DELETE FROM posts");
+        jdbcTemplate.update("DELETE FROM users");
+        jdbcTemplate.update("DELETE FROM missions");
+    }
+
+    @Test
+    void postQueriesUseIndexes() {
+        User author = userRepository.findById(1L).orElseThrow();
+        LocalDateTime from = NOW.minusDays(3);
+
+        assertNoLargeTableScan(() -> {
+            postRepository.findByAuthorOrderByCreatedAtDesc(author, PageRequest.of(0, 10));
+            postRepository.findAllByOrderByCreatedAtDesc(PageRequest.of(0, 10));
+            postRepository.findByCreatedAtBetween(from, NOW);
+            postRepository.countByAuthor(author);
+            postRepository.findRecentPostsByAuthor(author, PageRequest.of(0, 5));
+            postRepository.findRecentPosts(PageRequest.of(0, 10));
+            postRepository.findPostList(FieldSelection.all(), PageRequest.of(0, 10));
+            postRepository.findPostListByAuthorId(author.getId(), FieldSelection.all(), PageRequest.of(0, 10));
+            postRepository.findPostDetail(1L, FieldSelection.all());
+            inTransaction(() -> {
+                try (Stream<Post> posts = postRepository.streamByCreatedAtRange(from, NOW)) {
+                    posts.count();
+                }
+            });
+        });
+    }
+
+    @Test
+    void commentQueriesUseIndexes() {
+        User author = userRepository.findById(1L).orElseThrow();
+        Post post = postRepository.findById(1L).orElseThrow();
+        LocalDateTime from = NOW.minusDays(1);
+
+        assertNoLargeTableScan(() -> {
+            commentRepository.findByPostOrderByCreatedAtAsc(post);
+            commentRepository.findByAuthorOrderByCreatedAtDesc(author, PageRequest.of(0, 10));
+            commentRepository.countByPost(post);
+            commentRepository.countByAuthor(author);
+            commentRepository.findRecentCommentsByAuthor(author, PageRequest.of(0, 5));
+            commentRepository.findByCreatedAtBetween(from, NOW);
+            commentRepository.findRecentComments(PageRequest.of(0, 10));
+            commentRepository.countCommentsByPost();
+            commentRepository.findCommentsByPostId(post.getId(), FieldSelection.all());
+            inTransaction(() -> {
+                try (Stream<?> comments = commentRepository.streamByCreatedAtRange(from, NOW)) {
+                    comments.count();
+                }
+            });
+        });
+    }
+
+    @Test
+    void userQueriesUseIndexes() {
+        User user = userRepository.findById(42L).orElseThrow();
+
+        assertNoLargeTableScan(() -> {
+            userRepository.findByEmail(user.getEmail());
+            userRepository.findByNickname(user.getNickname());
+            userRepository.findByProviderAndProviderId(user.getProvider(), user.getProviderId());
+            userRepository.existsByEmail(user.getEmail());
+            userRepository.existsByNickname(user.getNickname());
+            userRepository.findNicknamesStartingWith(user.getNickname().substring(0, 3));
+            userRepository.findAreaCodesByIdIn(List.of(1L, 2L, 3L));
+            userRepository.countByRole(User.Role.ADMIN);
+            userRepository.findByRole(User.Role.ADMIN);
+            userRepository.findActiveUsers(NOW.minusDays(1));
+            userRepository.findByEmailAndProvider(user.getEmail(), user.getProvider());
+            inTransaction(() -> {
+                try (Stream<User> users = userRepository.streamByCreatedAtRange(NOW.minusDays(3), NOW)) {
+                    users.count();
+                }
+            });
+        });
+    }
+
+    // === Private Methods ===
+
+    private void inTransaction(Runnable action) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> action.run());
+    }
+
+    /**
+     * 실행된 SELECT 문을 같은 바인드 값으로 EXPLAIN하여 대용량 테이블 전체 스캔 여부 확인
+     */
+    private void assertNoLargeTableScan(Runnable queries) {
+        List<CapturedStatement> statements = capture.record(queries);
+        assertThat(statements).isNotEmpty();
+
+        List<String> fullScans = new ArrayList<>();
+        for (CapturedStatement statement : statements) {
+            String plan = jdbcTemplate.queryForObject("EXPLAIN " + statement.sql(), String.class,
+                    statement.parameters().toArray());
+            // 조건 없는 COUNT(*)는 H2가 행 수를 바로 읽으므로 스캔이 아님
+            if (LARGE_TABLE_SCAN.matcher(plan).find() && !plan.contains("direct lookup")) {
+                fullScans.add(plan);
+            }
+        }
+        assertThat(fullScans).as("대용량 테이블 전체 스캔").isEmpty();
+    }
+
+    /**
+     * 바인드 값이 포함된 실행 SQL
+     *
+     * @param sql SQL 문자열
+     * @param parameters 바인드 값 (파라미터 순서)
+     */
+    record CapturedStatement(String sql, List<Object> parameters) {
+    }
+
+    /**
+     * 리포지토리가 실행한 SELECT 문을 바인드 값과 함께 수집하는 데이터소스 프록시
+     */
+    @TestConfiguration
+    static class StatementCapture implements QueryExecutionListener {
+
+        private final List<CapturedStatement> statements = new ArrayList<>();
+        private volatile boolean recording;
+
+        @Bean
+        static BeanPostProcessor statementCaptureDataSourcePostProcessor(StatementCapture capture) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                        return ProxyDataSourceBuilder.create(dataSource).listener(capture).build();
+                    }
+                    return bean;
+                }
+            };
+        }
+
+        synchronized List<CapturedStatement> record(Runnable queries) {
+            statements.clear();
+            recording = true;
+            try {
+                queries.run();
+            } finally {
+                recording = false;
+            }
+            return List.copyOf(statements);
+        }
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            if (!recording) {
+                return;
+            }
+            for (QueryInfo queryInfo : queryInfoList) {
+                if (!queryInfo.getQuery().trim().toLowerCase().startsWith("select")) {
+                    continue;
+                }
+                List<Object> parameters = new ArrayList<>();
+                if (!queryInfo.getParametersList().isEmpty()) {
+                    for (ParameterSetOperation operation : queryInfo.getParametersList().get(0)) {
+                        Object[] args = operation.getArgs();
+                        parameters.add(args.length > 1 ? args[1] : null);
+                    }
+                }
+                statements.add(new CapturedStatement(queryInfo.getQuery(), parameters));
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package kr.ai.boomerang.boomerang_spring_boot.admin.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.OutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 관리자 내보내기 대용량 테스트 (파일 기반 H2, 100만 행)
+ * 작은 힙(largeTest 태스크: 128MB)에서 전체 게시글을 내보내도 메모리가 부족하지 않은지 확인합니다.
+ * 실행: gradle largeTest
+ */
+@Tag("large")
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:file:./build/tmp/export-large/db;LAZY_QUERY_EXECUTION=1;DB_CLOSE_ON_EXIT=FALSE"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(AdminExportService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AdminExportServiceLargeTest {
+
+    private static final int USER_COUNT = 1_000;
+    private static final int POST_COUNT = 1_000_000;
+
+    @Autowired
+    private AdminExportService adminExportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO users (email, nickname, provider, provider_id, role, created_at, updated_at) "
+                + "SELECT 'user' || X || '@boomerang.kr', '여행자' || X, 'GOOGLE', 'google-' || X, 'USER', "
+                + "TIMESTAMP '2024-01-01 00:00:00', TIMESTAMP '2024-01-01 00:00:00' FROM SYSTEM_RANGE(1, " + USER_COUNT + ")");
+        Long firstUserId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM users", Long.class);
+        jdbcTemplate.update("INSERT INTO posts (title, content, author_id, created_at, updated_at) "
+                + "SELECT '제목 ' || X, '본문, \"따옴표\" ' || X, " + firstUserId + " + MOD(X, " + USER_COUNT + "), "
+                + "DATEADD('SECOND', X, TIMESTAMP '2024-01-01 00:00:00'), TIMESTAMP '2024-01-01 00:00:00' "
+                + "FROM SYSTEM_RANGE(1, " + POST_COUNT + ")");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM posts");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    void exportsMillionPostsAsNdjsonWithinSmallHeap() throws Exception {
+        CountingOutputStream out = new CountingOutputStream();
+
+        long rows = adminExportService.export(AdminExportService.ExportType.POSTS,
+                AdminExportService.Format.NDJSON, null, null, out);
+
+        assertThat(rows).isEqualTo(POST_COUNT);
+        assertThat(out.lines).isEqualTo(POST_COUNT);
+    }
+
+    @Test
+    void exportsMillionPostsAsCsvWithinSmallHeap() throws Exception {
+        CountingOutputStream out = new CountingOutputStream();
+
+        long rows = adminExportService.export(AdminExportService.ExportType.POSTS,
+                AdminExportService.Format.CSV, null, null, out);
+
+        assertThat(rows).isEqualTo(POST_COUNT);
+        assertThat(out.lines).isEqualTo(POST_COUNT + 1);
+    }
+
+    /**
+     * 내용을 보관하지 않고 줄 수만 세는 출력 스트림
+     */
+    private static class CountingOutputStream extends OutputStream {
+        private long lines;
+
+        @Override
+        public void write(int b) {
+            if (b == '\n') {
+                lines++;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            for (int i = off; i < off + len; i++) {
+                if (b[i] == '\n') {
+                    lines++;
+                }
+            }
+        }
+    }
+}
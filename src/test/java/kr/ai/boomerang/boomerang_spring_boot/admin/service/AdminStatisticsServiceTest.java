@@ -0,0 +1,162 @@
+package kr.ai.boomerang.boomerang_spring_boot.admin.service;
+
+import kr.ai.boomerang.boomerang_spring_boot.admin.event.StatisticsEvent;
+import kr.ai.boomerang.boomerang_spring_boot.post.service.PostService;
+import kr.ai.boomerang.boomerang_spring_boot.support.FakeRedisServer;
+import kr.ai.boomerang.boomerang_spring_boot.user.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 관리자 통계 카운터 / 스냅샷 테스트
+ * 인프로세스 Redis 대역 서버를 여러 노드가 공유하는 상황으로 검증합니다.
+ */
+class AdminStatisticsServiceTest {
+
+    private FakeRedisServer redis;
+    private LettuceConnectionFactory connectionFactory;
+    private UserService userService;
+    private PostService postService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        redis = FakeRedisServer.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(redis.getHost(), redis.getPort()));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        userService = mock(UserService.class);
+        postService = mock(PostService.class);
+        when(userService.getUserStatistics()).thenReturn(UserService.UserStatistics.builder()
+                .totalUsers(10).adminUsers(1).regularUsers(9).build());
+        when(postService.getPostStatistics()).thenReturn(PostService.PostStatistics.builder()
+                .totalPosts(100).totalComments(300).build());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        connectionFactory.destroy();
+        redis.close();
+    }
+
+    @Test
+    void countersAreSeededOnceAndServedFromSnapshot() {
+        AdminStatisticsService service = newService();
+
+        service.sync();
+        service.sync();
+        for (int i = 0; i < 100; i++) {
+            service.getUserStatistics();
+            service.getPostStatistics();
+        }
+
+        assertThat(service.getUserStatistics().getTotalUsers()).isEqualTo(10);
+        assertThat(service.getPostStatistics().getTotalComments()).isEqualTo(300);
+        verify(userService, times(1)).getUserStatistics();
+        verify(postService, times(1)).getPostStatistics();
+    }
+
+    @Test
+    void eventsFromAllNodesAreMergedIntoCountersAndSeries() {
+        AdminStatisticsService first = newService();
+        AdminStatisticsService second = newService();
+        first.sync();
+
+        first.onStatisticsEvent(new StatisticsEvent(StatisticsEvent.Metric.POSTS, 1));
+        first.onStatisticsEvent(new StatisticsEvent(StatisticsEvent.Metric.POSTS, 1));
+        second.onStatisticsEvent(new StatisticsEvent(StatisticsEvent.Metric.POSTS, 1));
+        second.onStatisticsEvent(new StatisticsEvent(StatisticsEvent.Metric.COMMENTS, -4));
+        second.onStatisticsEvent(new StatisticsEvent(StatisticsEvent.Metric.USERS, 1));
+        second.onStatisticsEvent(new StatisticsEvent(StatisticsEvent.Metric.REGULAR_USERS, 1));
+        first.sync();
+        second.sync();
+        first.sync();
+
+        assertThat(first.getPostStatistics().getTotalPosts()).isEqualTo(103);
+        assertThat(first.getPostStatistics().getTotalComments()).isEqualTo(296);
+        assertThat(first.getUserStatistics().getRegularUsers()).isEqualTo(10);
+
+        List<AdminStatisticsService.SeriesPoint> hourly =
+                first.getSeries(StatisticsEvent.Metric.POSTS, AdminStatisticsService.Granularity.HOUR);
+        assertThat(hourly).hasSize(48);
+        assertThat(hourly.get(hourly.size() - 1).getCount()).isEqualTo(3);
+
+        List<AdminStatisticsService.SeriesPoint> daily =
+                first.getSeries(StatisticsEvent.Metric.COMMENTS, AdminStatisticsService.Granularity.DAY);
+        assertThat(daily).hasSize(30);
+        assertThat(daily).allMatch(point -> point.getCount() == 0);
+    }
+
+    @Test
+    void reconcileCorrectsDriftWithoutLosingConcurrentIncrements() {
+        AdminStatisticsService service = newService();
+        StringRedisTemplate redisTemplate = new StringRedisTemplate(connectionFactory);
+        service.sync();
+        redisTemplate.opsForHash().increment("stats:counters", "POSTS", -10);
+
+        // 보정 중(DB COUNT 이후) 다른 노드가 반영한 증가분
+        when(postService.getPostStatistics()).thenAnswer(invocation -> {
+            redisTemplate.opsForHash().increment("stats:counters", "POSTS", 5);
+            return PostService.PostStatistics.builder().totalPosts(100).totalComments(300).build();
+        });
+        service.reconcile();
+        service.sync();
+
+        assertThat(service.getPostStatistics().getTotalPosts()).isEqualTo(105);
+        assertThat(service.getPostStatistics().getTotalComments()).isEqualTo(300);
+        assertThat(service.getUserStatistics().getTotalUsers()).isEqualTo(10);
+    }
+
+    @Test
+    void reconcileDoesNotCountAnotherNodesUnflushedDeltasTwice() {
+        AdminStatisticsService first = newService();
+        AdminStatisticsService second = newService();
+        first.sync();
+
+        // 다른 노드에서 커밋되었지만 아직 Redis에 반영되지 않은 게시글 1건 (DB COUNT에는 포함)
+        second.onStatisticsEvent(new StatisticsEvent(StatisticsEvent.Metric.POSTS, 1));
+        when(postService.getPostStatistics()).thenAnswer(invocation -> {
+            second.sync();
+            return PostService.PostStatistics.builder().totalPosts(101).totalComments(300).build();
+        });
+        first.reconcile();
+        first.sync();
+
+        assertThat(first.getPostStatistics().getTotalPosts()).isEqualTo(101);
+    }
+
+    @Test
+    void reconcileIsSkippedWhileAnotherNodeHoldsTheLock() {
+        AdminStatisticsService service = newService();
+        StringRedisTemplate redisTemplate = new StringRedisTemplate(connectionFactory);
+        service.sync();
+        redisTemplate.opsForHash().increment("stats:counters", "POSTS", -10);
+        redisTemplate.opsForValue().set("stats:counters:reconcile", "1");
+
+        service.reconcile();
+        service.sync();
+
+        assertThat(service.getPostStatistics().getTotalPosts()).isEqualTo(90);
+    }
+
+    private AdminStatisticsService newService() {
+        AdminStatisticsService service = new AdminStatisticsService(
+                new StringRedisTemplate(connectionFactory), userService, postService, "Asia/Seoul");
+        ReflectionTestUtils.setField(service, "seriesHours", 48);
+        ReflectionTestUtils.setField(service, "seriesDays", 30);
+        return service;
+    }
+}
@@ -0,0 +1,122 @@
+package kr.ai.boomerang.boomerang_spring_boot.auth.service;
+
+import kr.ai.boomerang.boomerang_spring_boot.common.redis.RedisCommandBatcher;
+import kr.ai.boomerang.boomerang_spring_boot.support.FakeRedisServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Access Token 폐기 Bloom Filter 재구성 테스트
+ * 클러스터 노드로 동작하는 인프로세스 Redis 대역 서버로 검증합니다.
+ */
+class TokenRevocationServiceTest {
+
+    private static final long ACCESS_TOKEN_VALIDITY_SECONDS = 3600;
+
+    private FakeRedisServer redis;
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, Object> redisTemplate;
+    private StringRedisTemplate stringRedisTemplate;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        redis = FakeRedisServer.start();
+        redis.actAsClusterNode();
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisClusterConfiguration(List.of(redis.getHost() + ":" + redis.getPort())));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        connectionFactory.destroy();
+        redis.close();
+    }
+
+    @Test
+    void filterIsRebuiltFromIndexThroughClusterConnection() {
+        stringRedisTemplate.opsForValue().set("{revoked_token}:index-since", "0");
+        newService(mock(RedisCommandBatcher.class)).revoke("revoked-jti", 60_000);
+        stringRedisTemplate.opsForZSet().add("{revoked_token}:index", "expired-jti", 1);
+
+        RedisCommandBatcher batcher = mock(RedisCommandBatcher.class);
+        when(batcher.hasKey("revoked_token:revoked-jti")).thenReturn(true);
+        TokenRevocationService service = newService(batcher);
+
+        assertThat(service.isRevoked("revoked-jti")).isTrue();
+        assertThat(service.isRevoked("live-jti")).isFalse();
+        verify(batcher, never()).hasKey("revoked_token:live-jti");
+        // 만료된 항목은 재구성 시 인덱스에서 정리
+        assertThat(stringRedisTemplate.opsForZSet().range("{revoked_token}:index", 0, -1))
+                .containsExactly("revoked-jti");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void filterIsNotTrustedUntilRebuildSucceeds() {
+        RedisTemplate<String, Object> unreachable = mock(RedisTemplate.class);
+        when(unreachable.execute(any(RedisCallback.class)))
+                .thenThrow(new RedisConnectionFailureException("Unable to connect to Redis"));
+        RedisCommandBatcher batcher = mock(RedisCommandBatcher.class);
+        when(batcher.hasKey("revoked_token:revoked-jti")).thenReturn(true);
+        TokenRevocationService service = newService(unreachable, batcher);
+
+        // 시작 시 Redis에 연결하지 못해 필터가 비어 있어도 Redis 조회로 폐기 여부를 판단
+        assertThat(service.isRevoked("revoked-jti")).isTrue();
+        verify(batcher).hasKey("revoked_token:revoked-jti");
+    }
+
+    @Test
+    void legacyKeysAreCheckedInRedisRightAfterIndexIsIntroduced() {
+        RedisCommandBatcher batcher = mock(RedisCommandBatcher.class);
+        when(batcher.hasKey("revoked_token:legacy-jti")).thenReturn(true);
+        TokenRevocationService service = newService(batcher);
+
+        // 인덱스 도입 이전 버전이 남긴 폐기 키는 인덱스에 없으므로 필터 음성이어도 Redis를 조회
+        assertThat(service.isRevoked("legacy-jti")).isTrue();
+        assertThat(stringRedisTemplate.hasKey("{revoked_token}:index-since")).isTrue();
+    }
+
+    // === Private Methods ===
+
+    private TokenRevocationService newService(RedisCommandBatcher batcher) {
+        return newService(redisTemplate, batcher);
+    }
+
+    private TokenRevocationService newService(RedisTemplate<String, Object> template, RedisCommandBatcher batcher) {
+        TokenRevocationService service = new TokenRevocationService(template, batcher,
+                mock(RedisMessageListenerContainer.class));
+        ReflectionTestUtils.setField(service, "expectedInsertions", 1000L);
+        ReflectionTestUtils.setField(service, "falsePositiveProbability", 0.001);
+        ReflectionTestUtils.setField(service, "accessTokenValidityInSeconds", ACCESS_TOKEN_VALIDITY_SECONDS);
+        service.init();
+        return service;
+    }
+}
@@ -0,0 +1,145 @@
+package kr.ai.boomerang.boomerang_spring_boot.batch.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.ai.boomerang.boomerang_spring_boot.auth.security.JwtTokenProvider;
+import kr.ai.boomerang.boomerang_spring_boot.support.FakeRedisServer;
+import kr.ai.boomerang.boomerang_spring_boot.support.StubTourApiServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 배치 API 테스트 (애플리케이션 전체 실행)
+ * 하위 요청이 기존 컨트롤러 / 경로별 접근 규칙을 그대로 거치고 하위 요청별 상태 코드로 응답하는지 확인합니다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "rate-limit.enabled=false",
+        "batch.max-requests=6",
+        "batch.timeout-ms=1000",
+        "tour.api.service-key=batch-test",
+        "jwt.secret=boomerang-batch-test-secret-key-must-be-at-least-256-bits",
+        "jwt.access-token-validity-in-seconds=3600",
+        "jwt.refresh-token-validity-in-seconds=1209600",
+        "spring.security.oauth2.client.registration.google.client-id=batch-test",
+        "spring.security.oauth2.client.registration.google.client-secret=batch-test"
+})
+class BatchControllerTest {
+
+    private static final FakeRedisServer REDIS;
+    private static final StubTourApiServer TOUR_API;
+
+    static {
+        try {
+            REDIS = FakeRedisServer.start();
+            TOUR_API = StubTourApiServer.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        TOUR_API.setLatency(Duration.ofSeconds(3), Duration.ZERO);
+    }
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    private Long userId;
+
+    @DynamicPropertySource
+    static void serverProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.host", REDIS::getHost);
+        registry.add("spring.data.redis.port", REDIS::getPort);
+        registry.add("tour.api.base-url", TOUR_API::getBaseUrl);
+    }
+
+    @AfterAll
+    static void stopServers() throws IOException {
+        TOUR_API.close();
+        REDIS.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM posts");
+        jdbcTemplate.update("DELETE FROM users");
+        jdbcTemplate.update("INSERT INTO users (email, nickname, provider, provider_id, role, created_at, updated_at) "
+                + "VALUES ('batch@boomerang.kr', '배치', 'KAKAO', 'kakao-batch', 'USER', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)");
+        userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = 'batch@boomerang.kr'", Long.class);
+        jdbcTemplate.update("INSERT INTO posts (title, content, author_id, created_at, updated_at) "
+                + "VALUES ('우도 여행', '우도 자전거 일주 후기입니다.', ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", userId);
+    }
+
+    @Test
+    void dispatchesSubRequestsThroughExistingControllers() throws Exception {
+        long started = System.nanoTime();
+        HttpResponse<String> response = post("""
+                {"requests":[
+                  {"id":"me","path":"/api/v1/me"},
+                  {"id":"feed","path":"/api/v1/posts?page=0&size=5"},
+                  {"id":"admin","path":"/api/v1/admin/users"},
+                  {"id":"missing","path":"/api/v1/posts/999999"},
+                  {"id":"escape","path":"/api/v1/../actuator/env"},
+                  {"id":"slow","path":"/api/v1/travel/search?query=%ED%95%B4%EB%B3%80"}
+                ]}""");
+
+        // TourAPI 대역이 3초 뒤에 응답하므로 배치 마감 시간(1초)에 맞춰 끝나야 함
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(3));
+        assertThat(response.statusCode()).isEqualTo(200);
+        JsonNode items = objectMapper.readTree(response.body()).path("data").path("responses");
+        assertThat(items).hasSize(6);
+        assertThat(items.get(0).path("id").asText()).isEqualTo("me");
+        assertThat(items.get(0).path("status").asInt()).isEqualTo(200);
+        assertThat(items.get(0).path("body").path("data").path("nickname").asText()).isEqualTo("배치");
+        assertThat(items.get(1).path("status").asInt()).isEqualTo(200);
+        assertThat(items.get(1).path("body").path("data").path("content").get(0).path("title").asText())
+                .isEqualTo("우도 여행");
+        assertThat(items.get(2).path("status").asInt()).isEqualTo(403);
+        assertThat(items.get(3).path("status").asInt()).isEqualTo(404);
+        assertThat(items.get(3).path("body").path("success").asBoolean()).isFalse();
+        assertThat(items.get(4).path("status").asInt()).isEqualTo(400);
+        assertThat(items.get(5).path("status").asInt()).isEqualTo(504);
+    }
+
+    @Test
+    void rejectsOversizedBatch() throws Exception {
+        String item = "{\"path\":\"/api/v1/me\"},";
+        HttpResponse<String> response = post("{\"requests\":[" + item.repeat(6) + "{\"path\":\"/api/v1/me\"}]}");
+
+        assertThat(response.statusCode()).isEqualTo(400);
+    }
+
+    // === Private Methods ===
+
+    private HttpResponse<String> post(String body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/batch"))
+                .header("Authorization", "Bearer " + jwtTokenProvider.createAccessToken(userId, "USER"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,140 @@
+package kr.ai.boomerang.boomerang_spring_boot.common.config;
+
+import io.lettuce.core.ReadFrom;
+import kr.ai.boomerang.boomerang_spring_boot.support.FakeRedisServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * RedisConfig 토폴로지 / 타임아웃 설정 테스트
+ * 인프로세스 Redis 대역 서버를 상대로 실제 Lettuce 커넥션을 맺어 검증합니다.
+ */
+class RedisConfigTest {
+
+    private FakeRedisServer redis;
+    private AnnotationConfigApplicationContext context;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        redis = FakeRedisServer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (context != null) {
+            context.close();
+        }
+        redis.close();
+    }
+
+    @Test
+    void standaloneModeRoundTripsValues() {
+        RedisTemplate<String, Object> template = redisTemplate(standaloneProperties());
+
+        template.opsForValue().set("refresh_token:1", "token-value", 60, TimeUnit.SECONDS);
+
+        assertThat(template.opsForValue().get("refresh_token:1")).isEqualTo("token-value");
+        assertThat(template.hasKey("refresh_token:1")).isTrue();
+    }
+
+    @Test
+    void unresponsiveServerFailsWithinCommandTimeout() {
+        Map<String, Object> properties = standaloneProperties();
+        properties.put("spring.data.redis.timeout", "300ms");
+        RedisTemplate<String, Object> template = redisTemplate(properties);
+        template.opsForValue().get("warm-up");
+
+        redis.setStalled(true);
+        long start = System.nanoTime();
+
+        assertThatThrownBy(() -> template.opsForValue().get("refresh_token:1"))
+                .isInstanceOf(QueryTimeoutException.class);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(2000);
+    }
+
+    @Test
+    void sentinelModeResolvesMasterThroughSentinel() throws Exception {
+        try (FakeRedisServer sentinel = FakeRedisServer.start()) {
+            sentinel.actAsSentinelFor("boomerang", redis.getHost(), redis.getPort());
+
+            Map<String, Object> properties = standaloneProperties();
+            properties.put("spring.data.redis.mode", "sentinel");
+            properties.put("spring.data.redis.sentinel.master", "boomerang");
+            properties.put("spring.data.redis.sentinel.nodes", sentinel.getHost() + ":" + sentinel.getPort());
+            RedisTemplate<String, Object> template = redisTemplate(properties);
+
+            template.opsForValue().set("refresh_token:2", "sentinel-value", 60, TimeUnit.SECONDS);
+
+            assertThat(redis.size()).isEqualTo(1);
+            assertThat(template.opsForValue().get("refresh_token:2")).isEqualTo("sentinel-value");
+        }
+    }
+
+    @Test
+    void replicaReadsAreLimitedToTheReplicaTemplate() {
+        Map<String, Object> properties = standaloneProperties();
+        properties.put("spring.data.redis.read-from", "replicaPreferred");
+        redisTemplate(properties);
+
+        LettuceConnectionFactory primary = context.getBean("redisConnectionFactory", LettuceConnectionFactory.class);
+        LettuceConnectionFactory replica = (LettuceConnectionFactory) context
+                .getBean("replicaStringRedisTemplate", StringRedisTemplate.class).getConnectionFactory();
+
+        assertThat(primary.getClientConfiguration().getReadFrom()).isEmpty();
+        assertThat(context.getBean(StringRedisTemplate.class).getConnectionFactory()).isSameAs(primary);
+        assertThat(replica).isNotSameAs(primary);
+        assertThat(replica.getClientConfiguration().getReadFrom()).contains(ReadFrom.REPLICA_PREFERRED);
+    }
+
+    @Test
+    void replicaTemplateUsesPrimaryWhenReadingFromUpstream() {
+        redisTemplate(standaloneProperties());
+
+        assertThat(context.containsBean("replicaRedisConnectionFactory")).isFalse();
+        assertThat(context.getBean("replicaStringRedisTemplate", StringRedisTemplate.class).getConnectionFactory())
+                .isSameAs(context.getBean("redisConnectionFactory"));
+    }
+
+    @Test
+    void unknownModeIsRejected() {
+        Map<String, Object> properties = standaloneProperties();
+        properties.put("spring.data.redis.mode", "ring");
+
+        assertThatThrownBy(() -> redisTemplate(properties))
+                .hasRootCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Map<String, Object> standaloneProperties() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("spring.data.redis.host", redis.getHost());
+        properties.put("spring.data.redis.port", redis.getPort());
+        properties.put("spring.data.redis.lettuce.io-threads", 2);
+        properties.put("spring.data.redis.lettuce.computation-threads", 2);
+        return properties;
+    }
+
+    @SuppressWarnings("unchecked")
+    private RedisTemplate<String, Object> redisTemplate(Map<String, Object> properties) {
+        context = new AnnotationConfigApplicationContext();
+        context.getBeanFactory().setConversionService(ApplicationConversionService.getSharedInstance());
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("test", properties));
+        context.register(RedisConfig.class);
+        context.refresh();
+        return context.getBean("redisTemplate", RedisTemplate.class);
+    }
+}
@@ -0,0 +1,89 @@
+package kr.ai.boomerang.boomerang_spring_boot.common.metrics;
+
+import kr.ai.boomerang.boomerang_spring_boot.post.dto.PostDto;
+import kr.ai.boomerang.boomerang_spring_boot.post.repository.PostRepository;
+import kr.ai.boomerang.boomerang_spring_boot.support.SqlExpectations;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 요청 단위 SQL 프로파일러 / 쿼리 수 검증 테스트 (H2)
+ */
+@DataJpaTest
+@Import(SqlProfilingDataSourcePostProcessor.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SqlProfilerTest {
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 1; i <= 3; i++) {
+            jdbcTemplate.update("INSERT INTO users (id, email, nickname, provider, provider_id, role, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, 'GOOGLE', ?, 'USER', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                    i, "user" + i + "@example.com", "user" + i, "google-" + i);
+            jdbcTemplate.update("INSERT INTO posts (id, title, content, author_id, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", i, "title" + i, "content" + i, i);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM posts");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    void queriesWithinLimitPass() {
+        try (SqlExpectations.Capture capture = SqlExpectations.expectQueries(1)) {
+            assertThat(postRepository.count()).isEqualTo(3);
+            assertThat(capture.count()).isEqualTo(1);
+            // 1ms 미만 문장도 0으로 잘리지 않고 기록
+            assertThat(capture.shapes().get(0).getElapsedNanos()).isPositive();
+        }
+    }
+
+    @Test
+    void lazyAssociationAccessIsReportedAsNPlusOne() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        assertThatThrownBy(() -> {
+            try (SqlExpectations.Capture ignored = SqlExpectations.expectQueries(20)) {
+                transaction.executeWithoutResult(status -> postRepository
+                        .findAllByOrderByCreatedAtDesc(PageRequest.of(0, 10))
+                        .map(PostDto.ListResponse::from)
+                        .getContent());
+            }
+        })
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("N+1 의심")
+                .hasMessageContaining("users");
+    }
+
+    @Test
+    void inListPlaceholdersShareOneShape() {
+        assertThat(RequestSqlStatistics.normalize("select * from posts\n where id in (?, ?,  ?)"))
+                .isEqualTo(RequestSqlStatistics.normalize("select * from posts where id in (?,?)"))
+                .isEqualTo("select * from posts where id in (?...)");
+    }
+}
@@ -0,0 +1,73 @@
+package kr.ai.boomerang.boomerang_spring_boot.common.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 토큰 버킷 요청 제한기 테스트
+ */
+class LocalRateLimiterTest {
+
+    private final LocalRateLimiter limiter = new LocalRateLimiter();
+
+    @Test
+    void allowsBurstUpToCapacityThenRejects() {
+        RateLimitRule rule = rule(5, 0.001);
+
+        for (int i = 4; i >= 0; i--) {
+            RateLimitDecision decision = limiter.tryAcquire("ip:1.1.1.1", rule);
+            assertThat(decision.isAllowed()).isTrue();
+            assertThat(decision.getRemaining()).isEqualTo(i);
+        }
+
+        RateLimitDecision rejected = limiter.tryAcquire("ip:1.1.1.1", rule);
+        assertThat(rejected.isAllowed()).isFalse();
+        assertThat(rejected.getRetryAfterSeconds()).isPositive();
+        assertThat(limiter.tryAcquire("ip:2.2.2.2", rule).isAllowed()).isTrue();
+    }
+
+    @Test
+    void refillsOverTime() throws InterruptedException {
+        RateLimitRule rule = rule(1, 50);
+
+        assertThat(limiter.tryAcquire("user:1", rule).isAllowed()).isTrue();
+        assertThat(limiter.tryAcquire("user:1", rule).isAllowed()).isFalse();
+
+        Thread.sleep(40);
+
+        assertThat(limiter.tryAcquire("user:1", rule).isAllowed()).isTrue();
+    }
+
+    @Test
+    void concurrentRequestsNeverExceedCapacity() throws InterruptedException {
+        RateLimitRule rule = rule(100, 0.001);
+        AtomicInteger allowed = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 1000; i++) {
+                executor.execute(() -> {
+                    if (limiter.tryAcquire("ip:3.3.3.3", rule).isAllowed()) {
+                        allowed.incrementAndGet();
+                    }
+                });
+            }
+        }
+
+        assertThat(allowed.get()).isEqualTo(100);
+    }
+
+    private RateLimitRule rule(int capacity, double refillPerSecond) {
+        return RateLimitRule.builder()
+                .name("test")
+                .pathPattern("/**")
+                .keyType(RateLimitRule.KeyType.IP)
+                .capacity(capacity)
+                .refillPerSecond(refillPerSecond)
+                .build();
+    }
+}
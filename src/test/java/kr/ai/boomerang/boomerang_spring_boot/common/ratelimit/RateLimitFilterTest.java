@@ -0,0 +1,74 @@
+package kr.ai.boomerang.boomerang_spring_boot.common.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 요청 제한 필터 클라이언트 IP 식별 테스트
+ * 용량 1인 IP 규칙으로, 두 번째 요청이 거절되면 같은 IP로 식별된 것으로 봅니다.
+ */
+class RateLimitFilterTest {
+
+    private static final RateLimitRule RULE = RateLimitRule.builder()
+            .name("ip").pathPattern("/api/**").keyType(RateLimitRule.KeyType.IP)
+            .capacity(1).refillPerSecond(0.001).distributed(false).build();
+
+    @Test
+    void forwardedForIsIgnoredByDefault() throws Exception {
+        RateLimitFilter filter = filter(false, "");
+
+        assertThat(send(filter, "10.0.0.1", "1.1.1.1")).isEqualTo(200);
+        // 헤더를 바꿔도 직접 연결한 주소로 식별
+        assertThat(send(filter, "10.0.0.1", "2.2.2.2")).isEqualTo(429);
+    }
+
+    @Test
+    void forwardedForIsUsedOnlyFromTrustedProxies() throws Exception {
+        RateLimitFilter filter = filter(true, "10.0.0.0/8");
+
+        assertThat(send(filter, "10.0.0.1", "1.1.1.1")).isEqualTo(200);
+        assertThat(send(filter, "10.0.0.2", "2.2.2.2")).isEqualTo(200);
+        assertThat(send(filter, "10.0.0.3", "1.1.1.1")).isEqualTo(429);
+
+        // 신뢰하지 않는 주소가 보낸 헤더는 무시
+        assertThat(send(filter, "3.3.3.3", "4.4.4.4")).isEqualTo(200);
+        assertThat(send(filter, "3.3.3.3", "5.5.5.5")).isEqualTo(429);
+    }
+
+    @Test
+    void spoofedLeadingForwardedForValuesAreSkipped() throws Exception {
+        RateLimitFilter filter = filter(true, "10.0.0.0/8");
+
+        assertThat(send(filter, "10.0.0.1", "9.9.9.9, 1.1.1.1, 10.0.0.5")).isEqualTo(200);
+        assertThat(send(filter, "10.0.0.1", "8.8.8.8, 1.1.1.1")).isEqualTo(429);
+    }
+
+    private RateLimitFilter filter(boolean trustForwardedFor, String trustedProxies) {
+        RateLimitFilter filter = new RateLimitFilter(List.of(RULE), new LocalRateLimiter(),
+                mock(RedisRateLimiter.class), new ObjectMapper(), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(filter, "enabled", true);
+        ReflectionTestUtils.setField(filter, "trustForwardedFor", trustForwardedFor);
+        ReflectionTestUtils.setField(filter, "trustedProxies", List.of(trustedProxies.split(",")));
+        filter.init();
+        return filter;
+    }
+
+    private int send(RateLimitFilter filter, String remoteAddr, String forwardedFor) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/posts");
+        request.setRemoteAddr(remoteAddr);
+        request.addHeader("X-Forwarded-For", forwardedFor);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response.getStatus();
+    }
+}
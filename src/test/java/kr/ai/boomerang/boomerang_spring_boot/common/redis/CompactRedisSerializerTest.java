@@ -0,0 +1,112 @@
+package kr.ai.boomerang.boomerang_spring_boot.common.redis;
+
+import kr.ai.boomerang.boomerang_spring_boot.travel.dto.TravelDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * CompactRedisSerializer 직렬화 형식 테스트
+ */
+class CompactRedisSerializerTest {
+
+    private final CompactRedisSerializer serializer = new CompactRedisSerializer(1024, "java.util.")
+            .registerType(1, TravelDto.SearchResponse.class);
+
+    @Test
+    void stringsAreStoredAsRawUtf8WithOneByteHeader() {
+        byte[] bytes = serializer.serialize("refresh-토큰");
+
+        assertThat(bytes).hasSize(1 + "refresh-토큰".getBytes(StandardCharsets.UTF_8).length);
+        assertThat(serializer.deserialize(bytes)).isEqualTo("refresh-토큰");
+    }
+
+    @Test
+    void scalarValuesRoundTrip() {
+        assertThat(serializer.deserialize(serializer.serialize(42L))).isEqualTo(42L);
+        assertThat(serializer.deserialize(serializer.serialize(7))).isEqualTo(7);
+        assertThat(serializer.deserialize(serializer.serialize(Boolean.TRUE))).isEqualTo(true);
+        assertThat(serializer.deserialize(serializer.serialize(null))).isNull();
+    }
+
+    @Test
+    void registeredDtoRoundTripsWithoutClassName() {
+        TravelDto.SearchResponse response = searchResponse(3);
+
+        byte[] bytes = serializer.serialize(response);
+        TravelDto.SearchResponse restored = (TravelDto.SearchResponse) serializer.deserialize(bytes);
+
+        assertThat(new String(bytes, StandardCharsets.ISO_8859_1)).doesNotContain("TravelDto");
+        assertThat(restored.getTotalCount()).isEqualTo(30);
+        assertThat(restored.isHasNext()).isTrue();
+        assertThat(restored.getItems()).hasSize(3);
+        assertThat(restored.getItems().get(2).getTitle()).isEqualTo("경복궁 2");
+        assertThat(restored.getItems().get(2).getFullAddress()).isEqualTo("서울특별시 종로구 사직로 161 2");
+    }
+
+    @Test
+    void unregisteredTypeRoundTripsUsingClassName() {
+        Object restored = serializer.deserialize(serializer.serialize(new java.util.HashMap<>(Map.of("count", 3))));
+
+        assertThat(restored).isEqualTo(Map.of("count", 3));
+    }
+
+    @Test
+    void classNamesOutsideAllowedPackagesAreRejected() {
+        byte[] className = "java.net.URL".getBytes(StandardCharsets.UTF_8);
+        byte[] forged = ByteBuffer.allocate(1 + Short.BYTES + className.length + 2)
+                .put((byte) 0x06).putShort((short) className.length).put(className).put(new byte[2]).array();
+        byte[] legacy = "{\"@class\":\"java.net.URL\",\"url\":\"http://example.com\"}"
+                .getBytes(StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> serializer.deserialize(forged))
+                .isInstanceOf(SerializationException.class)
+                .hasMessageContaining("java.net.URL");
+        assertThatThrownBy(() -> serializer.deserialize(legacy)).isInstanceOf(SerializationException.class);
+        assertThatThrownBy(() -> serializer.serialize(new StringBuilder("value")))
+                .isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    void largeValuesAreCompressed() {
+        TravelDto.SearchResponse response = searchResponse(100);
+        CompactRedisSerializer uncompressed = new CompactRedisSerializer(0)
+                .registerType(1, TravelDto.SearchResponse.class);
+
+        byte[] compressed = serializer.serialize(response);
+        byte[] plain = uncompressed.serialize(response);
+
+        assertThat(compressed.length).isLessThan(plain.length);
+        TravelDto.SearchResponse restored = (TravelDto.SearchResponse) serializer.deserialize(compressed);
+        assertThat(restored.getItems()).hasSize(100);
+    }
+
+    @Test
+    void legacyJsonValuesAreStillReadable() {
+        byte[] legacy = new GenericJackson2JsonRedisSerializer().serialize("legacy-refresh-token");
+
+        assertThat(serializer.deserialize(legacy)).isEqualTo("legacy-refresh-token");
+    }
+
+    static TravelDto.SearchResponse searchResponse(int size) {
+        List<TravelDto.TravelInfo> items = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            items.add(TravelDto.TravelInfo.of(
+                    String.valueOf(126508 + i), "경복궁 " + i, "서울특별시 종로구 사직로 161", String.valueOf(i),
+                    "http://tong.visitkorea.or.kr/cms/resource/33/2678633_image2_1.jpg",
+                    "http://tong.visitkorea.or.kr/cms/resource/33/2678633_image3_1.jpg",
+                    "1", "23", "A02", "A0201", "A02010100",
+                    "126.9767375783", "37.5760836609", "6", "02-3700-3900"));
+        }
+        return TravelDto.SearchResponse.of(items, size * 10, 1, size);
+    }
+}
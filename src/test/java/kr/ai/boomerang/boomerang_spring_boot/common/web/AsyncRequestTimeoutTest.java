@@ -0,0 +1,49 @@
+package kr.ai.boomerang.boomerang_spring_boot.common.web;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요청별 비동기 처리 타임아웃 적용 테스트
+ */
+class AsyncRequestTimeoutTest {
+
+    private final AsyncRequestTimeout interceptor = new AsyncRequestTimeout();
+
+    @Test
+    void timeoutSetByControllerIsAppliedToAsyncContext() throws Exception {
+        MockHttpServletRequest request = asyncRequest();
+        StandardServletAsyncWebRequest asyncWebRequest = new StandardServletAsyncWebRequest(request, new MockHttpServletResponse());
+        asyncWebRequest.setTimeout(30_000L);
+
+        AsyncRequestTimeout.set(request, Duration.ofMinutes(60));
+        interceptor.beforeConcurrentHandling(asyncWebRequest, () -> null);
+        asyncWebRequest.startAsync();
+
+        assertThat(request.getAsyncContext().getTimeout()).isEqualTo(Duration.ofMinutes(60).toMillis());
+    }
+
+    @Test
+    void otherRequestsKeepDefaultTimeout() throws Exception {
+        MockHttpServletRequest request = asyncRequest();
+        StandardServletAsyncWebRequest asyncWebRequest = new StandardServletAsyncWebRequest(request, new MockHttpServletResponse());
+        asyncWebRequest.setTimeout(30_000L);
+
+        interceptor.beforeConcurrentHandling(asyncWebRequest, () -> null);
+        asyncWebRequest.startAsync();
+
+        assertThat(request.getAsyncContext().getTimeout()).isEqualTo(30_000L);
+    }
+
+    private MockHttpServletRequest asyncRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/admin/export/users");
+        request.setAsyncSupported(true);
+        return request;
+    }
+}
@@ -0,0 +1,235 @@
+package kr.ai.boomerang.boomerang_spring_boot.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.ai.boomerang.boomerang_spring_boot.auth.dto.AuthDto;
+import kr.ai.boomerang.boomerang_spring_boot.auth.security.JwtTokenProvider;
+import kr.ai.boomerang.boomerang_spring_boot.auth.service.AuthService;
+import kr.ai.boomerang.boomerang_spring_boot.support.FakeRedisServer;
+import kr.ai.boomerang.boomerang_spring_boot.support.LoadGenerator;
+import kr.ai.boomerang.boomerang_spring_boot.support.StubTourApiServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 혼합 트래픽 부하 테스트 (H2 + 인프로세스 Redis 대역 + TourAPI 대역)
+ * 외부 의존성 없이 애플리케이션 전체를 띄우고 고정 도착률로 피드 / 게시글 상세 / 댓글 작성 / 여행 검색 / 토큰 재발급을
+ * 섞어 보낸 뒤 엔드포인트별 처리량과 p50 / p99 / p999 지연 시간을 보고합니다.
+ * 실행: gradle loadTest -Ploadtest.rate=300 -Ploadtest.duration-seconds=60 -Ploadtest.tourapi.latency-ms=80
+ * 결과: build/reports/loadtest/mixed-traffic.json
+ * 접근 토큰은 사용자별로 미리 발급해 두고 재사용하여, 요청마다 JWT 서명 비용이 부하 생성 쪽에 더해지지 않도록 합니다.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "rate-limit.enabled=false",
+        "logging.level.root=WARN"
+})
+class MixedTrafficLoadTest {
+
+    private static final int USER_COUNT = 200;
+    private static final int POST_COUNT = 5_000;
+    private static final int COMMENT_COUNT = 20_000;
+
+    private static final int RATE = Integer.getInteger("loadtest.rate", 50);
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.duration-seconds", 20);
+    private static final int TOUR_API_LATENCY_MS = Integer.getInteger("loadtest.tourapi.latency-ms", 50);
+    private static final int TOUR_API_JITTER_MS = Integer.getInteger("loadtest.tourapi.jitter-ms", 30);
+    private static final double MAX_ERROR_RATIO = 0.01;
+
+    private static final FakeRedisServer redis;
+    private static final StubTourApiServer tourApi;
+
+    static {
+        try {
+            redis = FakeRedisServer.start();
+            tourApi = StubTourApiServer.start();
+        } catch (IOException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.host", redis::getHost);
+        registry.add("spring.data.redis.port", redis::getPort);
+        registry.add("tour.api.base-url", tourApi::getBaseUrl);
+        registry.add("tour.api.service-key", () -> "load-test");
+        registry.add("jwt.secret", () -> "boomerang-load-test-secret-key-must-be-at-least-256-bits");
+        registry.add("jwt.access-token-validity-in-seconds", () -> 3600);
+        registry.add("jwt.refresh-token-validity-in-seconds", () -> 1209600);
+        registry.add("spring.security.oauth2.client.registration.google.client-id", () -> "load-test");
+        registry.add("spring.security.oauth2.client.registration.google.client-secret", () -> "load-test");
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private List<Long> userIds;
+    private List<Long> postIds;
+    private List<String> accessTokens;
+    private BlockingQueue<Session> sessions;
+
+    @AfterAll
+    static void stopServers() throws IOException {
+        tourApi.close();
+        redis.close();
+    }
+
+    @BeforeEach
+    void seed() {
+        if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class) == 0) {
+            jdbcTemplate.update("INSERT INTO users (email, nickname, provider, provider_id, role, created_at, updated_at) "
+                    + "SELECT 'load' || X || '@boomerang.kr', '부하' || X, 'KAKAO', 'kakao-' || X, 'USER', "
+                    + "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP FROM SYSTEM_RANGE(1, " + USER_COUNT + ")");
+            userIds = jdbcTemplate.queryForList("SELECT id FROM users ORDER BY id", Long.class);
+            jdbcTemplate.update("INSERT INTO posts (title, content, author_id, created_at, updated_at) "
+                    + "SELECT '여행 후기 ' || X, REPEAT('성산일출봉에서 해돋이를 보고 우도로 건너갔습니다. ', 5) || X, "
+                    + userIds.get(0) + " + MOD(X, " + USER_COUNT + "), "
+                    + "DATEADD('SECOND', X, CURRENT_TIMESTAMP), CURRENT_TIMESTAMP FROM SYSTEM_RANGE(1, " + POST_COUNT + ")");
+            postIds = jdbcTemplate.queryForList("SELECT id FROM posts ORDER BY id", Long.class);
+            jdbcTemplate.update("INSERT INTO comments (content, post_id, author_id, created_at, updated_at) "
+                    + "SELECT '좋은 정보 감사합니다 ' || X, " + postIds.get(0) + " + MOD(X * 7, " + POST_COUNT + "), "
+                    + userIds.get(0) + " + MOD(X, " + USER_COUNT + "), CURRENT_TIMESTAMP, CURRENT_TIMESTAMP "
+                    + "FROM SYSTEM_RANGE(1, " + COMMENT_COUNT + ")");
+        }
+        userIds = jdbcTemplate.queryForList("SELECT id FROM users ORDER BY id", Long.class);
+        postIds = jdbcTemplate.queryForList("SELECT id FROM posts ORDER BY id", Long.class);
+        accessTokens = userIds.stream().map(userId -> jwtTokenProvider.createAccessToken(userId, "USER")).toList();
+
+        sessions = new ArrayBlockingQueue<>(userIds.size());
+        for (Long userId : userIds) {
+            AuthDto.TokenResponse tokens = authService.generateTokens(userId, "USER");
+            sessions.add(new Session(userId, tokens.getAccessToken(), tokens.getRefreshToken()));
+        }
+        tourApi.setLatency(Duration.ofMillis(TOUR_API_LATENCY_MS), Duration.ofMillis(TOUR_API_JITTER_MS));
+    }
+
+    @Test
+    void mixedTrafficAtFixedArrivalRate() throws Exception {
+        LoadGenerator generator = new LoadGenerator(42)
+                .scenario("feed", 40, random -> get("/api/v1/posts?page=" + random.nextInt(5), random))
+                .scenario("post-detail", 25, random -> get("/api/v1/posts/" + randomPostId(random), random))
+                .scenario("comment-create", 10, random -> post("/api/v1/posts/" + randomPostId(random) + "/comments",
+                        "{\"content\":\"부하 테스트 댓글입니다.\"}", randomAccessToken(random)))
+                .scenario("travel-search", 15, random -> get("/api/v1/travel/search?query=" + randomKeyword(random)
+                        + "&numOfRows=10", random))
+                .scenario("token-refresh", 10, random -> refresh());
+
+        // JIT / 커넥션 풀 예열
+        generator.run(Math.max(1, RATE / 4), Duration.ofSeconds(3));
+        LoadGenerator.Report report = generator.run(RATE, Duration.ofSeconds(DURATION_SECONDS));
+
+        System.out.println(report.format());
+        Path output = Path.of("build", "reports", "loadtest", "mixed-traffic.json");
+        Files.createDirectories(output.getParent());
+        Files.writeString(output, report.toJson(), StandardCharsets.UTF_8);
+
+        assertThat(report.totalRequests()).isEqualTo((long) RATE * DURATION_SECONDS);
+        assertThat(report.totalErrors()).isLessThanOrEqualTo((long) (report.totalRequests() * MAX_ERROR_RATIO));
+        assertThat(tourApi.getRequestCount()).isPositive();
+    }
+
+    // === Private Methods ===
+
+    private int get(String path, SplittableRandom random) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri(path))
+                .header("Authorization", "Bearer " + randomAccessToken(random))
+                .GET()
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private int post(String path, String body, String accessToken) throws Exception {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (accessToken != null) {
+            builder.header("Authorization", "Bearer " + accessToken);
+        }
+        return httpClient.send(builder.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    /**
+     * 같은 사용자의 재발급이 겹치지 않도록 세션을 꺼내 쓰고 새 토큰으로 돌려놓음
+     */
+    private int refresh() throws Exception {
+        Session session = sessions.take();
+        try {
+            HttpRequest request = HttpRequest.newBuilder(uri("/api/v1/auth/refresh"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"refreshToken\":\"" + session.refreshToken + "\"}"))
+                    .build();
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() == 200) {
+                JsonNode data = objectMapper.readTree(response.body()).path("data");
+                session = new Session(session.userId, data.path("accessToken").asText(), data.path("refreshToken").asText());
+            }
+            return response.statusCode();
+        } finally {
+            sessions.add(session);
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private Long randomPostId(SplittableRandom random) {
+        // 최근 게시글에 조회가 몰리도록 앞쪽 구간에 가중치
+        int index = (int) (postIds.size() * Math.pow(random.nextDouble(), 3));
+        return postIds.get(postIds.size() - 1 - index);
+    }
+
+    private String randomAccessToken(SplittableRandom random) {
+        return accessTokens.get(random.nextInt(accessTokens.size()));
+    }
+
+    private String randomKeyword(SplittableRandom random) {
+        String[] keywords = {"%ED%95%B4%EB%B3%80", "%EA%B3%B5%EC%9B%90", "%EC%8B%9C%EC%9E%A5", "%EB%B0%95%EB%AC%BC%EA%B4%80"};
+        return keywords[random.nextInt(keywords.length)];
+    }
+
+    private record Session(Long userId, String accessToken, String refreshToken) {
+    }
+}
@@ -0,0 +1,189 @@
+package kr.ai.boomerang.boomerang_spring_boot.loadtest;
+
+import kr.ai.boomerang.boomerang_spring_boot.BoomerangSpringBootApplication;
+import kr.ai.boomerang.boomerang_spring_boot.auth.security.JwtTokenProvider;
+import kr.ai.boomerang.boomerang_spring_boot.support.FakeRedisServer;
+import kr.ai.boomerang.boomerang_spring_boot.support.LoadGenerator;
+import kr.ai.boomerang.boomerang_spring_boot.support.StubTourApiServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 플랫폼 스레드 / 가상 스레드 실행 모드 처리량 비교 부하 테스트
+ * 같은 JVM(같은 힙 상한, loadTest 태스크의 -Ploadtest.heap)에서 애플리케이션을 두 모드로 차례로 띄우고,
+ * TourAPI 대기 시간이 긴 블로킹 위주 트래픽을 같은 도착률로 보내 처리량 / 지연 시간 / 힙 / 플랫폼 스레드 수를 비교합니다.
+ * - platform: Tomcat 요청 스레드 풀 (기본 최대 200개)
+ * - virtual: virtual 프로필 (요청 / 비동기 / 스케줄 작업을 가상 스레드에서 실행, 풀 크기 재조정)
+ * 실행: gradle loadTest --tests '*ThreadModeComparisonLoadTest' -Ploadtest.thread-mode.rate=200
+ * 결과: build/reports/loadtest/thread-modes.json
+ */
+@Tag("load")
+class ThreadModeComparisonLoadTest {
+
+    private static final int RATE = Integer.getInteger("loadtest.thread-mode.rate", 200);
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.thread-mode.duration-seconds", 15);
+    private static final int TOUR_API_LATENCY_MS = Integer.getInteger("loadtest.thread-mode.tourapi.latency-ms", 1500);
+    private static final double MAX_ERROR_RATIO = 0.01;
+
+    private static FakeRedisServer redis;
+    private static StubTourApiServer tourApi;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @BeforeAll
+    static void startServers() throws IOException {
+        redis = FakeRedisServer.start();
+        tourApi = StubTourApiServer.start();
+        tourApi.setLatency(Duration.ofMillis(TOUR_API_LATENCY_MS), Duration.ofMillis(TOUR_API_LATENCY_MS / 10));
+    }
+
+    @AfterAll
+    static void stopServers() throws IOException {
+        tourApi.close();
+        redis.close();
+    }
+
+    @Test
+    void virtualThreadsSustainBlockingTrafficAtEqualMemory() throws Exception {
+        ModeResult platform = run("platform", null);
+        ModeResult virtual = run("virtual", "virtual");
+
+        System.out.println("[platform]\n" + platform.report().format() + platform.summary());
+        System.out.println("[virtual]\n" + virtual.report().format() + virtual.summary());
+        Path output = Path.of("build", "reports", "loadtest", "thread-modes.json");
+        Files.createDirectories(output.getParent());
+        Files.writeString(output, "{\"platform\":" + platform.toJson() + ",\"virtual\":" + virtual.toJson() + "}",
+                StandardCharsets.UTF_8);
+
+        long expected = (long) RATE * DURATION_SECONDS;
+        assertThat(platform.report().totalRequests()).isEqualTo(expected);
+        assertThat(virtual.report().totalRequests()).isEqualTo(expected);
+        assertThat(virtual.report().totalErrors()).isLessThanOrEqualTo((long) (expected * MAX_ERROR_RATIO));
+    }
+
+    // === Private Methods ===
+
+    private ModeResult run(String mode, String profile) throws Exception {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", 0);
+        properties.put("rate-limit.enabled", false);
+        properties.put("logging.level.root", "WARN");
+        properties.put("spring.data.redis.host", redis.getHost());
+        properties.put("spring.data.redis.port", redis.getPort());
+        properties.put("tour.api.base-url", tourApi.getBaseUrl());
+        properties.put("tour.api.service-key", "load-test");
+        properties.put("jwt.secret", "boomerang-load-test-secret-key-must-be-at-least-256-bits");
+        properties.put("jwt.access-token-validity-in-seconds", 3600);
+        properties.put("jwt.refresh-token-validity-in-seconds", 1209600);
+        properties.put("spring.security.oauth2.client.registration.google.client-id", "load-test");
+        properties.put("spring.security.oauth2.client.registration.google.client-secret", "load-test");
+
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(BoomerangSpringBootApplication.class)
+                .properties(properties);
+        if (profile != null) {
+            builder.profiles(profile);
+        }
+
+        try (ConfigurableApplicationContext context = builder.run()) {
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            List<Long> postIds = seed(context.getBean(JdbcTemplate.class));
+            // 요청마다 JWT를 서명하지 않도록 접근 토큰은 한 번만 발급
+            String accessToken = context.getBean(JwtTokenProvider.class).createAccessToken(1L, "USER");
+
+            LoadGenerator generator = new LoadGenerator(42)
+                    .scenario("travel-search", 70, random -> get(port,
+                            "/api/v1/travel/search?query=%ED%95%B4%EB%B3%80&numOfRows=10", accessToken))
+                    .scenario("feed", 20, random -> get(port, "/api/v1/posts?page=0", accessToken))
+                    .scenario("post-detail", 10, random -> get(port, "/api/v1/posts/"
+                            + postIds.get(random.nextInt(postIds.size())), accessToken));
+
+            // JIT / 커넥션 풀 예열
+            generator.run(Math.max(1, RATE / 10), Duration.ofSeconds(3));
+            System.gc();
+            resetPeaks();
+            LoadGenerator.Report report = generator.run(RATE, Duration.ofSeconds(DURATION_SECONDS));
+            return new ModeResult(mode, report, peakHeapBytes(), ManagementFactory.getThreadMXBean().getPeakThreadCount());
+        }
+    }
+
+    private List<Long> seed(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("INSERT INTO users (email, nickname, provider, provider_id, role, created_at, updated_at) "
+                + "SELECT 'mode' || X || '@boomerang.kr', '모드' || X, 'KAKAO', 'kakao-' || X, 'USER', "
+                + "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP FROM SYSTEM_RANGE(1, 50)");
+        Long firstUserId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM users", Long.class);
+        jdbcTemplate.update("INSERT INTO posts (title, content, author_id, created_at, updated_at) "
+                + "SELECT '여행 후기 ' || X, '우도 자전거 일주 후기 ' || X, " + firstUserId + " + MOD(X, 50), "
+                + "DATEADD('SECOND', X, CURRENT_TIMESTAMP), CURRENT_TIMESTAMP FROM SYSTEM_RANGE(1, 500)");
+        return jdbcTemplate.queryForList("SELECT id FROM posts ORDER BY id", Long.class);
+    }
+
+    private int get(int port, String path, String accessToken) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Authorization", "Bearer " + accessToken)
+                .GET()
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private void resetPeaks() {
+        ManagementFactory.getThreadMXBean().resetPeakThreadCount();
+        ManagementFactory.getMemoryPoolMXBeans().forEach(MemoryPoolMXBean::resetPeakUsage);
+    }
+
+    private long peakHeapBytes() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .mapToLong(pool -> pool.getPeakUsage().getUsed())
+                .sum();
+    }
+
+    /**
+     * 모드별 결과
+     *
+     * @param mode 실행 모드
+     * @param report 부하 결과
+     * @param peakHeapBytes 측정 구간 최대 힙 사용량 (풀별 최대값의 합)
+     * @param peakPlatformThreads 측정 구간 최대 플랫폼 스레드 수
+     */
+    private record ModeResult(String mode, LoadGenerator.Report report, long peakHeapBytes, int peakPlatformThreads) {
+
+        String summary() {
+            return String.format("peak heap %.1f MB, peak platform threads %d, max heap %.0f MB%n",
+                    peakHeapBytes / 1048576.0, peakPlatformThreads, Runtime.getRuntime().maxMemory() / 1048576.0);
+        }
+
+        String toJson() {
+            return "{\"mode\":\"" + mode + "\",\"peakHeapBytes\":" + peakHeapBytes
+                    + ",\"peakPlatformThreads\":" + peakPlatformThreads
+                    + ",\"maxHeapBytes\":" + Runtime.getRuntime().maxMemory()
+                    + ",\"report\":" + report.toJson() + "}";
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package kr.ai.boomerang.boomerang_spring_boot.mission.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.ai.boomerang.boomerang_spring_boot.common.redis.RedisCommandBatcher;
+import kr.ai.boomerang.boomerang_spring_boot.mission.domain.LoginMissionEvaluation;
+import kr.ai.boomerang.boomerang_spring_boot.mission.domain.Mission;
+import kr.ai.boomerang.boomerang_spring_boot.mission.domain.UserMissionProgress;
+import kr.ai.boomerang.boomerang_spring_boot.mission.repository.LoginMissionEvaluationRepository;
+import kr.ai.boomerang.boomerang_spring_boot.mission.repository.UserMissionProgressRepository;
+import kr.ai.boomerang.boomerang_spring_boot.support.FakeRedisServer;
+import kr.ai.boomerang.boomerang_spring_boot.user.service.LoginActivityService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 로그인 비트맵 기록 / 로그인 미션 평가 테스트
+ * 인프로세스 Redis 대역 서버의 비트맵 명령으로 검증합니다.
+ */
+class LoginMissionEvaluatorTest {
+
+    private FakeRedisServer redis;
+    private LettuceConnectionFactory connectionFactory;
+    private RedisCommandBatcher redisCommandBatcher;
+    private StringRedisTemplate stringRedisTemplate;
+    private LoginActivityService loginActivityService;
+    private MissionProgressService missionProgressService;
+    private UserMissionProgressRepository userMissionProgressRepository;
+    private LoginMissionEvaluationRepository loginMissionEvaluationRepository;
+    private LoginMissionEvaluator evaluator;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        redis = FakeRedisServer.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(redis.getHost(), redis.getPort()));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+        redisCommandBatcher = new RedisCommandBatcher(redisTemplate, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(redisCommandBatcher, "flushWindowMicros", 100L);
+        ReflectionTestUtils.setField(redisCommandBatcher, "maxBatchSize", 64);
+        ReflectionTestUtils.setField(redisCommandBatcher, "commandTimeoutMs", 2000L);
+        redisCommandBatcher.start();
+
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        loginActivityService = new LoginActivityService(redisCommandBatcher, stringRedisTemplate, stringRedisTemplate,
+                "Asia/Seoul");
+        ReflectionTestUtils.setField(loginActivityService, "retentionDays", 40);
+        ReflectionTestUtils.setField(loginActivityService, "activeCacheSeconds", 60L);
+
+        missionProgressService = mock(MissionProgressService.class);
+        // 실제 반영처럼 같은 트랜잭션 안에서 평가 기록을 먼저 남기고 그 결과를 반환
+        when(missionProgressService.apply(anyMap(), any())).thenAnswer(invocation ->
+                invocation.<BooleanSupplier>getArgument(1).getAsBoolean());
+        userMissionProgressRepository = mock(UserMissionProgressRepository.class);
+        loginMissionEvaluationRepository = mock(LoginMissionEvaluationRepository.class);
+        evaluator = new LoginMissionEvaluator(loginActivityService, missionProgressService,
+                userMissionProgressRepository, loginMissionEvaluationRepository, stringRedisTemplate);
+        ReflectionTestUtils.setField(evaluator, "lookbackDays", 3);
+        ReflectionTestUtils.setField(evaluator, "maxStreakDays", 30);
+        ReflectionTestUtils.setField(evaluator, "claimTimeoutMinutes", 30L);
+        ReflectionTestUtils.setField(evaluator, "chunkSize", 1000);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        redisCommandBatcher.stop();
+        connectionFactory.destroy();
+        redis.close();
+    }
+
+    @Test
+    void recordedLoginsAreCountedPerDistinctUser() throws Exception {
+        loginActivityService.recordLogin(3L);
+        loginActivityService.recordLogin(3L);
+        loginActivityService.recordLogin(1_000_000L);
+        awaitBatcher();
+
+        LocalDate today = loginActivityService.today();
+        assertThat(loginActivityService.countDailyActiveUsers(today)).isEqualTo(2);
+        assertThat(loginActivityService.getLoginBitmap(today)).hasSize(125_001);
+    }
+
+    @Test
+    void activeUsersAreUnionOfDailyBitmaps() {
+        LocalDate day = LocalDate.of(2026, 10, 1);
+        setBit(day, 1L);
+        setBit(day, 2L);
+        setBit(day.minusDays(1), 2L);
+        setBit(day.minusDays(6), 3L);
+        setBit(day.minusDays(10), 4L);
+
+        LoginActivityService.LoginStatistics statistics = loginActivityService.getLoginStatistics(day);
+
+        assertThat(statistics.getDailyActiveUsers()).isEqualTo(2);
+        assertThat(statistics.getWeeklyActiveUsers()).isEqualTo(3);
+        assertThat(statistics.getMonthlyActiveUsers()).isEqualTo(4);
+    }
+
+    @Test
+    void activeUsersAreCountedThroughClusterConnection() {
+        LocalDate day = LocalDate.of(2026, 10, 1);
+        setBit(day, 1L);
+        setBit(day.minusDays(1), 2L);
+        setBit(day.minusDays(6), 3L);
+        redis.actAsClusterNode();
+
+        LettuceConnectionFactory clusterFactory = new LettuceConnectionFactory(
+                new RedisClusterConfiguration(List.of(redis.getHost() + ":" + redis.getPort())));
+        clusterFactory.afterPropertiesSet();
+        clusterFactory.start();
+        try {
+            StringRedisTemplate clusterTemplate = new StringRedisTemplate(clusterFactory);
+            LoginActivityService clusterService = new LoginActivityService(redisCommandBatcher, clusterTemplate,
+                    clusterTemplate, "Asia/Seoul");
+            ReflectionTestUtils.setField(clusterService, "activeCacheSeconds", 60L);
+
+            assertThat(clusterService.getLoginStatistics(day).getWeeklyActiveUsers()).isEqualTo(3);
+            // 해시 태그가 없는 키는 슬롯이 달라 클러스터에서 BITOP이 거부됨
+            assertThatThrownBy(() -> clusterTemplate.execute((RedisCallback<Long>) connection ->
+                    connection.stringCommands().bitOp(RedisStringCommands.BitOperation.OR,
+                            "login:active:test".getBytes(StandardCharsets.UTF_8),
+                            "login:daily:20261001".getBytes(StandardCharsets.UTF_8),
+                            "login:daily:20260930".getBytes(StandardCharsets.UTF_8))))
+                    .isInstanceOf(DataAccessException.class)
+                    .hasRootCauseMessage("CROSSSLOT Keys in request don't hash to the same slot");
+        } finally {
+            clusterFactory.destroy();
+        }
+    }
+
+    @Test
+    void bitmapsWrittenBeforeHashTaggedKeysAreStillEvaluated() {
+        LocalDate day = LocalDate.of(2026, 10, 1);
+        setBit(day, 3L);
+        stringRedisTemplate.opsForValue().setBit("login:daily:" + DateTimeFormatter.BASIC_ISO_DATE.format(day), 20L, true);
+
+        byte[] bitmap = loginActivityService.getLoginBitmap(day);
+
+        assertThat(bitmap).hasSize(3);
+        assertThat(bitmap[0]).isEqualTo((byte) 0x10);
+        assertThat(bitmap[2]).isEqualTo((byte) 0x08);
+    }
+
+    @Test
+    void evaluationFeedsLoginCountAndBestStreak() {
+        LocalDate day = LocalDate.of(2026, 10, 1);
+        for (int i = 0; i < 4; i++) {
+            setBit(day.minusDays(i), 7L);
+        }
+        setBit(day, 9L);
+        setBit(day.minusDays(2), 9L);
+        UserMissionProgress best = UserMissionProgress.builder()
+                .userId(7L).missionType(Mission.MissionType.LOGIN_STREAK).count(2L).build();
+        when(userMissionProgressRepository.findByUserIdInAndMissionType(anyCollection(),
+                eq(Mission.MissionType.LOGIN_STREAK))).thenReturn(List.of(best));
+
+        assertThat(evaluator.evaluate(day)).isEqualTo(2);
+
+        verify(missionProgressService).apply(eq(Map.of(
+                Mission.MissionType.LOGIN_COUNT, Map.of(7L, 1L, 9L, 1L),
+                Mission.MissionType.LOGIN_STREAK, Map.of(7L, 2L, 9L, 1L))), any());
+    }
+
+    @Test
+    void eachDayIsEvaluatedOnce() {
+        setBit(loginActivityService.today().minusDays(1), 5L);
+
+        evaluator.evaluatePendingDays();
+        evaluator.evaluatePendingDays();
+
+        verify(missionProgressService).apply(eq(Map.of(
+                Mission.MissionType.LOGIN_COUNT, Map.of(5L, 1L),
+                Mission.MissionType.LOGIN_STREAK, Map.of(5L, 1L))), any());
+    }
+
+    @Test
+    void failedStreakQueryRecordsNothingAndRetriesTheDay() {
+        setBit(loginActivityService.today().minusDays(1), 5L);
+        when(userMissionProgressRepository.findByUserIdInAndMissionType(anyCollection(),
+                eq(Mission.MissionType.LOGIN_STREAK)))
+                .thenThrow(new IllegalStateException("DB down"))
+                .thenReturn(List.of());
+
+        evaluator.evaluatePendingDays();
+        verify(missionProgressService, never()).apply(anyMap(), any());
+        verify(missionProgressService, never()).record(anyLong(), any(), anyLong());
+
+        evaluator.evaluatePendingDays();
+        verify(missionProgressService).apply(eq(Map.of(
+                Mission.MissionType.LOGIN_COUNT, Map.of(5L, 1L),
+                Mission.MissionType.LOGIN_STREAK, Map.of(5L, 1L))), any());
+    }
+
+    @Test
+    void claimIsHeldOnlyForTheTimeoutUntilProgressIsApplied() {
+        LocalDate yesterday = loginActivityService.today().minusDays(1);
+        setBit(yesterday, 5L);
+        String key = "login:evaluated:" + DateTimeFormatter.BASIC_ISO_DATE.format(yesterday);
+        doAnswer(invocation -> {
+            assertThat(stringRedisTemplate.getExpire(key)).isBetween(1L, 30 * 60L);
+            return true;
+        }).when(missionProgressService).apply(anyMap(), any());
+
+        evaluator.evaluatePendingDays();
+
+        verify(missionProgressService).apply(anyMap(), any());
+        assertThat(stringRedisTemplate.getExpire(key)).isGreaterThan(3 * 24 * 60 * 60L);
+    }
+
+    @Test
+    void dayIsAppliedInChunksWithOneEvaluationRecordEach() {
+        LocalDate day = LocalDate.of(2026, 10, 1);
+        setBit(day, 5L);
+        setBit(day, 999L);
+        setBit(day, 5_000L);
+
+        assertThat(evaluator.evaluate(day)).isEqualTo(3);
+
+        verify(missionProgressService).apply(eq(Map.of(
+                Mission.MissionType.LOGIN_COUNT, Map.of(5L, 1L, 999L, 1L),
+                Mission.MissionType.LOGIN_STREAK, Map.of(5L, 1L, 999L, 1L))), any());
+        verify(missionProgressService).apply(eq(Map.of(
+                Mission.MissionType.LOGIN_COUNT, Map.of(5_000L, 1L),
+                Mission.MissionType.LOGIN_STREAK, Map.of(5_000L, 1L))), any());
+        ArgumentCaptor<LoginMissionEvaluation> records = ArgumentCaptor.forClass(LoginMissionEvaluation.class);
+        verify(loginMissionEvaluationRepository, times(2)).saveAndFlush(records.capture());
+        assertThat(records.getAllValues())
+                .extracting(LoginMissionEvaluation::getChunkIndex, LoginMissionEvaluation::getUserCount)
+                .containsExactly(tuple(0, 2), tuple(5, 1));
+    }
+
+    @Test
+    void chunksAlreadyRecordedAreSkippedWhenTheClaimExpires() {
+        LocalDate yesterday = loginActivityService.today().minusDays(1);
+        setBit(yesterday, 5L);
+        setBit(yesterday, 5_000L);
+        when(loginMissionEvaluationRepository.existsByEvaluationDateAndChunkIndex(yesterday, 0)).thenReturn(true);
+
+        // 다른 노드가 0번 묶음까지 반영한 뒤 평가 표시가 만료된 상황
+        evaluator.evaluatePendingDays();
+
+        verify(missionProgressService, times(1)).apply(anyMap(), any());
+        verify(missionProgressService).apply(eq(Map.of(
+                Mission.MissionType.LOGIN_COUNT, Map.of(5_000L, 1L),
+                Mission.MissionType.LOGIN_STREAK, Map.of(5_000L, 1L))), any());
+        verify(loginMissionEvaluationRepository).deleteByEvaluationDateBefore(loginActivityService.today().minusDays(3));
+    }
+
+    private void setBit(LocalDate date, long userId) {
+        stringRedisTemplate.opsForValue().setBit("{login}:daily:" + DateTimeFormatter.BASIC_ISO_DATE.format(date), userId, true);
+    }
+
+    private void awaitBatcher() throws Exception {
+        redisCommandBatcher.submit("ping", ops -> ops.opsForValue().get("ping")).get();
+    }
+}
@@ -0,0 +1,130 @@
+package kr.ai.boomerang.boomerang_spring_boot.mission.service;
+
+import kr.ai.boomerang.boomerang_spring_boot.mission.domain.Mission;
+import kr.ai.boomerang.boomerang_spring_boot.mission.dto.MissionDto;
+import kr.ai.boomerang.boomerang_spring_boot.mission.event.MissionActivityEvent;
+import kr.ai.boomerang.boomerang_spring_boot.mission.event.MissionCompletedEvent;
+import kr.ai.boomerang.boomerang_spring_boot.mission.repository.UserMissionCompletionRepository;
+import kr.ai.boomerang.boomerang_spring_boot.mission.repository.UserMissionProgressRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 미션 진행도 집계 / 반영 테스트
+ */
+class MissionProgressServiceTest {
+
+    private final MissionCatalog missionCatalog = mock(MissionCatalog.class);
+    private final UserMissionProgressRepository progressRepository = mock(UserMissionProgressRepository.class);
+    private final UserMissionCompletionRepository completionRepository = mock(UserMissionCompletionRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    private MissionProgressService service;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        service = new MissionProgressService(missionCatalog, progressRepository, completionRepository,
+                eventPublisher, transactionManager);
+        ReflectionTestUtils.setField(service, "flushBatchSize", 500);
+    }
+
+    @Test
+    void concurrentActivitiesAreFlushedAsOneIncrement() throws InterruptedException {
+        when(progressRepository.increment(eq(1L), eq(Mission.MissionType.POST_CREATION), anyLong())).thenReturn(1);
+        when(progressRepository.findCount(1L, Mission.MissionType.POST_CREATION)).thenReturn(Optional.of(1000L));
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 1000; i++) {
+                executor.execute(() -> service.onActivity(new MissionActivityEvent(1L, Mission.MissionType.POST_CREATION)));
+            }
+        }
+        service.flush();
+        service.flush();
+
+        verify(progressRepository).increment(1L, Mission.MissionType.POST_CREATION, 1000L);
+    }
+
+    @Test
+    void crossingTargetRecordsCompletionAndPublishesEvent() {
+        MissionDto.Response easy = MissionDto.Response.builder().id(6L).type("COMMENT_CREATION")
+                .targetCount(1).rewardPoints(10).active(true).build();
+        MissionDto.Response mission = MissionDto.Response.builder().id(7L).type("COMMENT_CREATION")
+                .targetCount(3).rewardPoints(50).active(true).build();
+        MissionDto.Response hard = MissionDto.Response.builder().id(8L).type("COMMENT_CREATION")
+                .targetCount(10).rewardPoints(100).active(true).build();
+        when(missionCatalog.getActiveMissions(Mission.MissionType.COMMENT_CREATION)).thenReturn(List.of(easy, mission, hard));
+        when(progressRepository.increment(2L, Mission.MissionType.COMMENT_CREATION, 2L)).thenReturn(1);
+        when(progressRepository.findCount(2L, Mission.MissionType.COMMENT_CREATION)).thenReturn(Optional.of(4L));
+
+        service.onActivity(new MissionActivityEvent(2L, Mission.MissionType.COMMENT_CREATION));
+        service.onActivity(new MissionActivityEvent(2L, Mission.MissionType.COMMENT_CREATION));
+        service.flush();
+
+        ArgumentCaptor<MissionCompletedEvent> captor = ArgumentCaptor.forClass(MissionCompletedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().getMissionId()).isEqualTo(7L);
+        assertThat(captor.getValue().getRewardPoints()).isEqualTo(50);
+    }
+
+    @Test
+    void failedFlushKeepsDeltaForNextFlush() {
+        when(progressRepository.increment(3L, Mission.MissionType.LOGIN_COUNT, 1L))
+                .thenThrow(new IllegalStateException("DB down"))
+                .thenReturn(1);
+        when(progressRepository.findCount(3L, Mission.MissionType.LOGIN_COUNT)).thenReturn(Optional.of(1L));
+
+        service.onActivity(new MissionActivityEvent(3L, Mission.MissionType.LOGIN_COUNT));
+        service.flush();
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+
+        service.flush();
+        verify(progressRepository, times(2)).increment(3L, Mission.MissionType.LOGIN_COUNT, 1L);
+    }
+
+    @Test
+    void appliedDeltasAreWrittenInOneTransactionWithoutCounters() {
+        when(progressRepository.increment(eq(4L), any(), eq(1L))).thenReturn(1);
+        when(progressRepository.increment(5L, Mission.MissionType.LOGIN_COUNT, 1L))
+                .thenThrow(new IllegalStateException("DB down"));
+
+        assertThatThrownBy(() -> service.apply(Map.of(Mission.MissionType.LOGIN_COUNT, Map.of(4L, 1L, 5L, 1L)), () -> true))
+                .isInstanceOf(IllegalStateException.class);
+        verify(transactionManager).rollback(any());
+
+        // 실패한 증가분은 카운터에 남지 않으므로 주기 반영에서 다시 쓰지 않음
+        service.flush();
+        verify(progressRepository, times(1)).increment(5L, Mission.MissionType.LOGIN_COUNT, 1L);
+    }
+
+    @Test
+    void alreadyMarkedChunkIsNotAppliedAgain() {
+        assertThat(service.apply(Map.of(Mission.MissionType.LOGIN_COUNT, Map.of(6L, 1L)), () -> false)).isFalse();
+
+        verify(progressRepository, never()).increment(anyLong(), any(), anyLong());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+}
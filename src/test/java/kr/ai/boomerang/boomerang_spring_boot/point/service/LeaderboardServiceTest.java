@@ -0,0 +1,172 @@
+package kr.ai.boomerang.boomerang_spring_boot.point.service;
+
+import kr.ai.boomerang.boomerang_spring_boot.point.dto.PointDto;
+import kr.ai.boomerang.boomerang_spring_boot.point.repository.PointLedgerRepository;
+import kr.ai.boomerang.boomerang_spring_boot.support.FakeRedisServer;
+import kr.ai.boomerang.boomerang_spring_boot.user.domain.User;
+import kr.ai.boomerang.boomerang_spring_boot.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 포인트 리더보드 테스트
+ * 인프로세스 Redis 대역 서버의 Sorted Set으로 순위 조회를 검증합니다.
+ */
+class LeaderboardServiceTest {
+
+    private FakeRedisServer redis;
+    private LettuceConnectionFactory connectionFactory;
+    private UserRepository userRepository;
+    private PointLedgerRepository pointLedgerRepository;
+    private LeaderboardService leaderboardService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        redis = FakeRedisServer.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(redis.getHost(), redis.getPort()));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        userRepository = mock(UserRepository.class);
+        when(userRepository.findAreaCodesByIdIn(anyCollection())).thenAnswer(invocation -> {
+            List<Object[]> rows = new ArrayList<>();
+            for (Long userId : invocation.<Collection<Long>>getArgument(0)) {
+                rows.add(new Object[]{userId, userId % 2 == 0 ? "1" : "6"});
+            }
+            return rows;
+        });
+        when(userRepository.findAllById(any())).thenAnswer(invocation -> {
+            List<User> users = new ArrayList<>();
+            for (Long userId : invocation.<Iterable<Long>>getArgument(0)) {
+                User user = User.builder().nickname("user" + userId).build();
+                ReflectionTestUtils.setField(user, "id", userId);
+                users.add(user);
+            }
+            return users;
+        });
+
+        pointLedgerRepository = mock(PointLedgerRepository.class);
+        leaderboardService = new LeaderboardService(new StringRedisTemplate(connectionFactory), userRepository,
+                pointLedgerRepository, "Asia/Seoul");
+        ReflectionTestUtils.setField(leaderboardService, "rebuildBatchSize", 2);
+        ReflectionTestUtils.setField(leaderboardService, "rebuildLockTimeoutMinutes", 1L);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        connectionFactory.destroy();
+        redis.close();
+    }
+
+    @Test
+    void awardsAccumulateIntoGlobalAreaAndWeeklyRankings() {
+        leaderboardService.recordAwards(Map.of(1L, 100L, 2L, 300L, 3L, 200L));
+        leaderboardService.recordAwards(Map.of(1L, 250L));
+
+        PointDto.LeaderboardResponse global = leaderboardService.getTop(LeaderboardService.Scope.GLOBAL, null, 2);
+        assertThat(global.getTotalRanked()).isEqualTo(3);
+        assertThat(global.getEntries()).extracting(PointDto.RankEntry::getUserId).containsExactly(1L, 2L);
+        assertThat(global.getEntries()).extracting(PointDto.RankEntry::getPoints).containsExactly(350L, 300L);
+        assertThat(global.getEntries().get(0).getNickname()).isEqualTo("user1");
+
+        PointDto.LeaderboardResponse busan = leaderboardService.getTop(LeaderboardService.Scope.AREA, "6", 10);
+        assertThat(busan.getEntries()).extracting(PointDto.RankEntry::getUserId).containsExactly(1L, 3L);
+
+        PointDto.LeaderboardResponse weekly = leaderboardService.getTop(LeaderboardService.Scope.WEEKLY, null, 10);
+        assertThat(weekly.getPeriod()).matches("\\d{4}-W\\d{2}");
+        assertThat(weekly.getTotalRanked()).isEqualTo(3);
+    }
+
+    @Test
+    void aroundMeReturnsNeighboursOfUserRank() {
+        for (long userId = 1; userId <= 20; userId++) {
+            leaderboardService.recordAwards(Map.of(userId, userId * 10));
+        }
+
+        PointDto.LeaderboardResponse around = leaderboardService.getAroundMe(10L, LeaderboardService.Scope.GLOBAL, null, 2);
+
+        assertThat(around.getMe().getRank()).isEqualTo(11L);
+        assertThat(around.getEntries()).extracting(PointDto.RankEntry::getUserId).containsExactly(12L, 11L, 10L, 9L, 8L);
+        assertThat(leaderboardService.getAroundMe(99L, LeaderboardService.Scope.GLOBAL, null, 2).getMe()).isNull();
+    }
+
+    @Test
+    void areaChangeMovesUserScoreBetweenAreas() {
+        leaderboardService.recordAwards(Map.of(2L, 500L));
+
+        leaderboardService.areaChanged(2L, "1", "39");
+
+        assertThat(leaderboardService.getTop(LeaderboardService.Scope.AREA, "1", 10).getEntries()).isEmpty();
+        assertThat(leaderboardService.getTop(LeaderboardService.Scope.AREA, "39", 10).getEntries())
+                .extracting(PointDto.RankEntry::getPoints).containsExactly(500L);
+        assertThatThrownBy(() -> leaderboardService.getTop(LeaderboardService.Scope.AREA, "99", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rebuildCorrectsScoresWithoutCountingInFlightAwardsTwice() {
+        leaderboardService.recordAwards(Map.of(1L, 100L, 2L, 350L, 5L, 40L));
+        // 기준 시각 이전 원장: [전체 합계, 이번 주차 합계]
+        TreeMap<Long, long[]> settled = new TreeMap<>(Map.of(
+                1L, new long[]{100L, 100L}, 2L, new long[]{300L, 300L},
+                3L, new long[]{200L, 200L}, 5L, new long[]{10L, 0L}));
+        // 기준 시각 이후 원장: 2번은 ZSET에 이미 반영된 50, 3번은 아직 반영 중인 30
+        Map<Long, long[]> recent = Map.of(2L, new long[]{50L, 0L, 50L, 0L}, 3L, new long[]{30L, 0L, 30L, 0L});
+        when(pointLedgerRepository.sumAmountsBefore(anyLong(), any(), any(), any(Pageable.class))).thenAnswer(invocation -> {
+            Pageable pageable = invocation.getArgument(3);
+            return settled.tailMap(invocation.<Long>getArgument(0), false).entrySet().stream()
+                    .limit(pageable.getPageSize())
+                    .map(entry -> new Object[]{entry.getKey(), entry.getValue()[0], entry.getValue()[1]})
+                    .toList();
+        });
+        when(pointLedgerRepository.sumAmountsSince(anyCollection(), any(), any())).thenAnswer(invocation ->
+                invocation.<Collection<Long>>getArgument(0).stream()
+                        .filter(recent::containsKey)
+                        .map(userId -> {
+                            long[] sums = recent.get(userId);
+                            return new Object[]{userId, sums[0], sums[1], sums[2], sums[3]};
+                        })
+                        .toList());
+
+        leaderboardService.rebuild();
+
+        assertThat(leaderboardService.getTop(LeaderboardService.Scope.GLOBAL, null, 10).getEntries())
+                .extracting(PointDto.RankEntry::getUserId, PointDto.RankEntry::getPoints)
+                .containsExactly(tuple(2L, 350L), tuple(3L, 200L), tuple(1L, 100L), tuple(5L, 10L));
+        assertThat(leaderboardService.getTop(LeaderboardService.Scope.AREA, "6", 10).getEntries())
+                .extracting(PointDto.RankEntry::getUserId, PointDto.RankEntry::getPoints)
+                .containsExactly(tuple(3L, 200L), tuple(1L, 100L), tuple(5L, 10L));
+        assertThat(leaderboardService.getTop(LeaderboardService.Scope.WEEKLY, null, 10).getEntries())
+                .extracting(PointDto.RankEntry::getUserId, PointDto.RankEntry::getPoints)
+                .containsExactly(tuple(2L, 350L), tuple(3L, 200L), tuple(1L, 100L), tuple(5L, 0L));
+        assertThat(redis.size()).isEqualTo(4);
+    }
+
+    @Test
+    void weeklyKeysFollowIsoWeeks() {
+        assertThat(LeaderboardService.weeklyKey(LocalDate.of(2025, 12, 29))).isEqualTo("leaderboard:weekly:2026-W01");
+        assertThat(LeaderboardService.weeklyKey(LocalDate.of(2026, 10, 19))).isEqualTo("leaderboard:weekly:2026-W43");
+    }
+}
@@ -0,0 +1,179 @@
+package kr.ai.boomerang.boomerang_spring_boot.point.service;
+
+import kr.ai.boomerang.boomerang_spring_boot.mission.domain.UserMissionCompletion;
+import kr.ai.boomerang.boomerang_spring_boot.mission.event.MissionCompletedEvent;
+import kr.ai.boomerang.boomerang_spring_boot.mission.repository.UserMissionCompletionRepository;
+import kr.ai.boomerang.boomerang_spring_boot.point.repository.PointBalanceRepository;
+import kr.ai.boomerang.boomerang_spring_boot.point.repository.PointJdbcRepository;
+import kr.ai.boomerang.boomerang_spring_boot.point.repository.PointLedgerRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+
+/**
+ * 포인트 원장 / 잔액 반영 테스트 (H2)
+ */
+@DataJpaTest
+@Import(PointJdbcRepository.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PointServiceTest {
+
+    @Autowired
+    private PointLedgerRepository pointLedgerRepository;
+
+    @Autowired
+    private PointBalanceRepository pointBalanceRepository;
+
+    @Autowired
+    private PointJdbcRepository pointJdbcRepository;
+
+    @Autowired
+    private UserMissionCompletionRepository userMissionCompletionRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private PointService pointService;
+
+    @BeforeEach
+    void setUp() {
+        pointService = new PointService(pointLedgerRepository, pointBalanceRepository, pointJdbcRepository,
+                mock(LeaderboardService.class), transactionManager);
+        ReflectionTestUtils.setField(pointService, "stripes", 4);
+        ReflectionTestUtils.setField(pointService, "maxBatchSize", 100);
+        ReflectionTestUtils.setField(pointService, "compactionBatchSize", 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pointLedgerRepository.deleteAllInBatch();
+        pointBalanceRepository.deleteAllInBatch();
+        userMissionCompletionRepository.deleteAllInBatch();
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    void duplicateIdempotencyKeysAreAwardedOnce() {
+        pointService.onMissionCompleted(new MissionCompletedEvent(1L, 10L, 50));
+        pointService.onMissionCompleted(new MissionCompletedEvent(1L, 10L, 50));
+        pointService.award(1L, 30, "EVENT", "event:1");
+        pointService.flush();
+
+        pointService.onMissionCompleted(new MissionCompletedEvent(1L, 10L, 50));
+        pointService.flush();
+
+        assertThat(pointService.getBalance(1L).getBalance()).isEqualTo(80L);
+        assertThat(pointLedgerRepository.count()).isEqualTo(2);
+        assertThat(pointLedgerRepository.sumAmount(1L)).isEqualTo(80L);
+    }
+
+    @Test
+    void stripeRowCreatedConcurrentlyIsIncrementedInsteadOfDroppingTheAward() {
+        // 잔액 UPDATE와 INSERT 사이에 다른 노드가 같은 stripe 행을 만든 상황
+        JdbcTemplate racing = spy(jdbcTemplate);
+        doAnswer(invocation -> {
+            Object result = invocation.callRealMethod();
+            if (invocation.<String>getArgument(0).startsWith("UPDATE point_balances")) {
+                jdbcTemplate.update("INSERT INTO point_balances (user_id, stripe, balance) VALUES (2, 0, 100)");
+            }
+            return result;
+        }).when(racing).batchUpdate(anyString(), anyCollection(), anyInt(), any());
+        pointService = new PointService(pointLedgerRepository, pointBalanceRepository, new PointJdbcRepository(racing),
+                mock(LeaderboardService.class), transactionManager);
+        ReflectionTestUtils.setField(pointService, "stripes", 1);
+        ReflectionTestUtils.setField(pointService, "maxBatchSize", 100);
+
+        pointService.award(2L, 50, "EVENT", "event:2");
+        pointService.flush();
+
+        assertThat(pointService.getBalance(2L).getBalance()).isEqualTo(150L);
+        assertThat(pointLedgerRepository.sumAmount(2L)).isEqualTo(50L);
+    }
+
+    @Test
+    void compactionMergesStripesWithoutChangingBalance() {
+        for (int i = 0; i < 40; i++) {
+            pointService.award(2L, 5, "EVENT", "event:" + i);
+            pointService.flush();
+        }
+        assertThat(pointBalanceRepository.findStripedUserIds(PageRequest.of(0, 10))).containsExactly(2L);
+
+        pointService.compactBalances();
+
+        assertThat(pointBalanceRepository.count()).isEqualTo(1);
+        assertThat(pointService.getBalance(2L).getBalance()).isEqualTo(200L);
+    }
+
+    @Test
+    void completionsWithoutLedgerEntryAreFound() {
+        userMissionCompletionRepository.save(UserMissionCompletion.builder()
+                .userId(3L).missionId(20L).rewardPoints(100).build());
+        userMissionCompletionRepository.save(UserMissionCompletion.builder()
+                .userId(3L).missionId(21L).rewardPoints(100).build());
+        pointService.onMissionCompleted(new MissionCompletedEvent(3L, 20L, 100));
+        pointService.flush();
+
+        LocalDateTime now = LocalDateTime.now();
+        assertThat(pointLedgerRepository.findUnrewardedCompletions(now.minusDays(1), now.plusDays(1), PageRequest.of(0, 10)))
+                .extracting(UserMissionCompletion::getMissionId)
+                .containsExactly(21L);
+    }
+
+    @Test
+    void leaderboardLedgerSumsSkipDeletedUsersAndSplitAtCutoff() {
+        LocalDateTime cutoff = LocalDateTime.of(2026, 10, 19, 4, 29);
+        LocalDateTime weekStart = LocalDateTime.of(2026, 10, 19, 0, 0);
+        for (long userId = 1; userId <= 2; userId++) {
+            jdbcTemplate.update("INSERT INTO users (id, email, nickname, provider, provider_id, role) "
+                    + "VALUES (?, ?, ?, 'GOOGLE', ?, 'USER')", userId, "u" + userId + "@example.com", "u" + userId, "g" + userId);
+        }
+        // 3번 사용자는 삭제되어 원장만 남은 상태
+        insertLedger(1L, 100, "a", weekStart.minusDays(1));
+        insertLedger(1L, 50, "b", weekStart.plusHours(1));
+        insertLedger(1L, 30, "c", cutoff);
+        insertLedger(1L, -10, "d", cutoff.plusSeconds(30));
+        insertLedger(2L, 70, "e", weekStart.plusHours(2));
+        insertLedger(3L, 500, "f", weekStart.plusHours(3));
+
+        assertThat(pointLedgerRepository.sumAmountsBefore(0L, cutoff, weekStart, PageRequest.of(0, 10)))
+                .extracting(row -> row[0], row -> ((Number) row[1]).longValue(), row -> ((Number) row[2]).longValue())
+                .containsExactly(tuple(1L, 150L, 50L), tuple(2L, 70L, 70L));
+        assertThat(pointLedgerRepository.sumAmountsBefore(1L, cutoff, weekStart, PageRequest.of(0, 10)))
+                .extracting(row -> row[0]).containsExactly(2L);
+        assertThat(pointLedgerRepository.sumAmountsSince(List.of(1L, 2L), cutoff, weekStart))
+                .extracting(row -> row[0], row -> ((Number) row[1]).longValue(), row -> ((Number) row[2]).longValue())
+                .containsExactly(tuple(1L, 30L, -10L));
+    }
+
+    // === Private Methods ===
+
+    private void insertLedger(Long userId, long amount, String key, LocalDateTime createdAt) {
+        jdbcTemplate.update("INSERT INTO point_ledger (user_id, amount, reason, idempotency_key, created_at) "
+                + "VALUES (?, ?, 'EVENT', ?, ?)", userId, amount, key, createdAt);
+    }
+}
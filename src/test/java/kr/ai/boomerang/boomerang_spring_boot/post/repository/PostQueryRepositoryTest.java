@@ -0,0 +1,169 @@
+package kr.ai.boomerang.boomerang_spring_boot.post.repository;
+
+import kr.ai.boomerang.boomerang_spring_boot.common.metrics.RequestSqlStatistics;
+import kr.ai.boomerang.boomerang_spring_boot.common.metrics.SqlProfilingDataSourcePostProcessor;
+import kr.ai.boomerang.boomerang_spring_boot.common.web.FieldSelection;
+import kr.ai.boomerang.boomerang_spring_boot.post.dto.CommentDto;
+import kr.ai.boomerang.boomerang_spring_boot.post.dto.PostDto;
+import kr.ai.boomerang.boomerang_spring_boot.support.SqlExpectations;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 게시글 / 댓글 필드 선택 조회 테스트 (H2)
+ * 선택한 필드에 따라 실행 SQL에서 조인 / 컬럼 / 댓글 조회가 빠지는지 확인합니다.
+ */
+@DataJpaTest
+@Import(SqlProfilingDataSourcePostProcessor.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PostQueryRepositoryTest {
+
+    private static final String LONG_CONTENT = "가".repeat(150);
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 1; i <= 3; i++) {
+            jdbcTemplate.update("INSERT INTO users (id, email, nickname, provider, provider_id, role, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, 'GOOGLE', ?, 'USER', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                    i, "user" + i + "@example.com", "user" + i, "google-" + i);
+            jdbcTemplate.update("INSERT INTO posts (id, title, content, author_id, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, ?, DATEADD('SECOND', ?, CURRENT_TIMESTAMP), CURRENT_TIMESTAMP)",
+                    i, "title" + i, LONG_CONTENT, i, i);
+        }
+        for (int i = 1; i <= 4; i++) {
+            jdbcTemplate.update("INSERT INTO comments (id, content, post_id, author_id, created_at, updated_at) "
+                    + "VALUES (?, ?, 1, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", i, "comment" + i, i % 3 + 1);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM comments");
+        jdbcTemplate.update("DELETE FROM posts");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    void defaultFieldsMatchEntityMapping() {
+        Page<PostDto.ListResponse> projected;
+        try (SqlExpectations.Capture capture = SqlExpectations.expectQueries(1)) {
+            projected = postRepository.findPostList(FieldSelection.all(), PageRequest.of(0, 10));
+        }
+        List<PostDto.ListResponse> expected = new TransactionTemplate(transactionManager).execute(status ->
+                postRepository.findAllByOrderByCreatedAtDesc(PageRequest.of(0, 10))
+                        .map(PostDto.ListResponse::from).getContent());
+
+        assertThat(projected.getTotalElements()).isEqualTo(3);
+        assertThat(projected.getContent()).usingRecursiveFieldByFieldElementComparator().isEqualTo(expected);
+        assertThat(projected.getContent().get(2).getCommentCount()).isEqualTo(4);
+        assertThat(projected.getContent().get(0).getContent()).hasSize(PostDto.PREVIEW_LENGTH + 3);
+    }
+
+    @Test
+    void unselectedColumnsAndAssociationsAreNotQueried() {
+        FieldSelection fields = FieldSelection.parse("id,title,author.id", PostDto.ListResponse.FIELDS);
+
+        List<RequestSqlStatistics.Shape> shapes;
+        Page<PostDto.ListResponse> page;
+        try (SqlExpectations.Capture capture = SqlExpectations.expectQueries(1)) {
+            page = postRepository.findPostList(fields, PageRequest.of(0, 10));
+            shapes = capture.shapes();
+        }
+
+        String sql = shapes.get(0).getSql();
+        assertThat(sql).startsWith("select p1_0.id,p1_0.title,p1_0.author_id from posts p1_0 ")
+                .doesNotContain("users", "comments");
+        PostDto.ListResponse post = page.getContent().get(0);
+        assertThat(post.getTitle()).isEqualTo("title3");
+        assertThat(post.getAuthor().getId()).isEqualTo(3L);
+        assertThat(post.getAuthor().getNickname()).isNull();
+        assertThat(post.getContent()).isNull();
+        assertThat(post.getCommentCount()).isNull();
+    }
+
+    @Test
+    void commentsAreLoadedOnlyWhenSelected() {
+        FieldSelection withoutComments = FieldSelection.parse("title", PostDto.Response.FIELDS);
+        FieldSelection commentFields = FieldSelection.parse("comments.content,comments.author.nickname",
+                PostDto.Response.FIELDS).nested("comments");
+
+        try (SqlExpectations.Capture capture = SqlExpectations.expectQueries(1)) {
+            assertThat(postRepository.findPostDetail(1L, withoutComments)).get()
+                    .satisfies(post -> assertThat(post.getComments()).isNull());
+            assertThat(capture.shapes().get(0).getSql()).doesNotContain("users", "comments");
+        }
+
+        List<CommentDto.Response> comments;
+        try (SqlExpectations.Capture capture = SqlExpectations.expectQueries(1)) {
+            comments = commentRepository.findCommentsByPostId(1L, commentFields);
+        }
+        assertThat(comments).hasSize(4);
+        assertThat(comments.get(0).getContent()).isEqualTo("comment1");
+        assertThat(comments.get(0).getAuthor().getNickname()).isEqualTo("user2");
+        assertThat(comments.get(0).getAuthor().getEmail()).isNull();
+        assertThat(comments.get(0).getId()).isNull();
+    }
+
+    @Test
+    void popularAndSearchListsKeepTheirFilterAndOrder() {
+        FieldSelection fields = FieldSelection.parse("id", PostDto.ListResponse.FIELDS);
+
+        assertThat(postRepository.findPopularPostList(fields, PageRequest.of(0, 10)).getContent())
+                .extracting(PostDto.ListResponse::getId).containsExactly(1L, 3L, 2L);
+        assertThat(postRepository.searchPostList("title2", fields, PageRequest.of(0, 10)).getContent())
+                .extracting(PostDto.ListResponse::getId).containsExactly(2L);
+        assertThat(postRepository.searchPostList("100%", fields, PageRequest.of(0, 10))).isEmpty();
+    }
+
+    @Test
+    void pageableSortIsAppendedAfterFixedOrder() {
+        jdbcTemplate.update("UPDATE posts SET created_at = TIMESTAMP '2026-10-01 00:00:00'");
+        FieldSelection fields = FieldSelection.parse("id", PostDto.ListResponse.FIELDS);
+
+        assertThat(postRepository.findPostList(fields, PageRequest.of(0, 10, Sort.by("title").descending())).getContent())
+                .extracting(PostDto.ListResponse::getId).containsExactly(3L, 2L, 1L);
+        assertThat(postRepository.findPostListByAuthorId(2L, fields, PageRequest.of(0, 10, Sort.by("id"))).getContent())
+                .extracting(PostDto.ListResponse::getId).containsExactly(2L);
+        assertThat(postRepository.searchPostList("title", fields, PageRequest.of(0, 10, Sort.by("id"))).getContent())
+                .extracting(PostDto.ListResponse::getId).containsExactly(1L, 2L, 3L);
+        assertThatThrownBy(() -> postRepository.findPostList(fields, PageRequest.of(0, 10, Sort.by("author.email"))))
+                .hasRootCauseInstanceOf(IllegalArgumentException.class)
+                .hasRootCauseMessage("정렬할 수 없는 속성입니다: author.email");
+    }
+
+    @Test
+    void unknownFieldIsRejected() {
+        assertThatThrownBy(() -> FieldSelection.parse("id,author.providerId", PostDto.ListResponse.FIELDS))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("author.providerId");
+    }
+}
@@ -0,0 +1,771 @@
+package kr.ai.boomerang.boomerang_spring_boot.support;
+
+import io.lettuce.core.cluster.SlotHash;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+
+/**
+ * 테스트용 인프로세스 Redis 대역(stand-in) 서버
+ * RESP2 프로토콜로 Lettuce가 사용하는 핵심 명령만 구현합니다.
+ * - 문자열 / 비트맵 / 해시 / Sorted Set / 만료 / 키 탐색 / Pub/Sub / Sentinel 마스터 조회
+ * - 클러스터 모드에서는 모든 슬롯을 가진 단일 마스터 노드로 토폴로지에 응답하고, 슬롯이 다른 다중 키 명령은 CROSSSLOT으로 거부
+ * - stalled 모드에서는 명령을 읽기만 하고 응답하지 않아 failover 중 무응답 상황을 재현
+ *
+ * @author Boomerang Team
+ */
+public class FakeRedisServer implements Closeable {
+
+    private final ServerSocket serverSocket;
+    private final Map<String, byte[]> values = new HashMap<>();
+    private final Map<String, Map<String, byte[]>> hashes = new HashMap<>();
+    private final Map<String, Map<String, Double>> sortedSets = new HashMap<>();
+    private final Map<String, Long> expirations = new HashMap<>();
+    private final Map<String, List<Connection>> subscribers = new ConcurrentHashMap<>();
+    private final List<Connection> connections = new CopyOnWriteArrayList<>();
+
+    private volatile boolean stalled;
+    private volatile boolean clusterMode;
+    private volatile String sentinelMasterName;
+    private volatile String sentinelMasterHost;
+    private volatile int sentinelMasterPort;
+
+    private FakeRedisServer(ServerSocket serverSocket) {
+        this.serverSocket = serverSocket;
+    }
+
+    /**
+     * 임의 포트로 서버 시작
+     *
+     * @return 시작된 서버
+     * @throws IOException 소켓 오류
+     */
+    public static FakeRedisServer start() throws IOException {
+        FakeRedisServer server = new FakeRedisServer(new ServerSocket(0, 128, InetAddress.getLoopbackAddress()));
+        Thread.ofVirtual().name("fake-redis-acceptor").start(server::acceptLoop);
+        return server;
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public String getHost() {
+        return serverSocket.getInetAddress().getHostAddress();
+    }
+
+    /**
+     * 무응답 모드 설정
+     *
+     * @param stalled true이면 명령에 응답하지 않음
+     */
+    public void setStalled(boolean stalled) {
+        this.stalled = stalled;
+    }
+
+    /**
+     * 클러스터 노드 역할 설정
+     * - CLUSTER 토폴로지 조회에 응답하고, 실제 클러스터처럼 슬롯이 다른 키를 함께 쓰는 명령을 거부
+     */
+    public void actAsClusterNode() {
+        this.clusterMode = true;
+    }
+
+    /**
+     * Sentinel 역할 설정
+     *
+     * @param masterName 마스터 이름
+     * @param host 마스터 호스트
+     * @param port 마스터 포트
+     */
+    public void actAsSentinelFor(String masterName, String host, int port) {
+        this.sentinelMasterName = masterName;
+        this.sentinelMasterHost = host;
+        this.sentinelMasterPort = port;
+    }
+
+    /**
+     * 저장된 키 개수 반환
+     *
+     * @return 키 개수
+     */
+    public synchronized int size() {
+        purgeExpired();
+        return allKeys().size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        for (Connection connection : connections) {
+            connection.close();
+        }
+    }
+
+    // === Private Methods ===
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                Connection connection = new Connection(socket);
+                connections.add(connection);
+                Thread.ofVirtual().name("fake-redis-connection").start(connection::serve);
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private synchronized Object handle(Connection connection, List<byte[]> args) {
+        String command = text(args.get(0)).toUpperCase();
+        purgeExpired();
+        if (clusterMode && crossesSlots(command, args)) {
+            return new ErrorReply("CROSSSLOT Keys in request don't hash to the same slot");
+        }
+
+        switch (command) {
+            case "PING":
+                return args.size() > 1 ? args.get(1) : Status.of("PONG");
+            case "ECHO":
+                return args.get(1);
+            case "HELLO":
+                return new ErrorReply("ERR unknown command 'HELLO'");
+            case "CLIENT":
+            case "SELECT":
+            case "AUTH":
+            case "READONLY":
+                return Status.of("OK");
+            case "INFO":
+                return "# Replication\r\nrole:master\r\nconnected_slaves:0\r\n".getBytes(StandardCharsets.UTF_8);
+            case "ROLE":
+                return List.of("master".getBytes(StandardCharsets.UTF_8), 0L, List.of());
+            case "GET":
+                return values.get(text(args.get(1)));
+            case "SET":
+                return set(args);
+            case "DEL": {
+                long removed = 0;
+                for (int i = 1; i < args.size(); i++) {
+                    if (removeKey(text(args.get(i)))) {
+                        removed++;
+                    }
+                }
+                return removed;
+            }
+            case "EXISTS": {
+                long count = 0;
+                for (int i = 1; i < args.size(); i++) {
+                    if (exists(text(args.get(i)))) {
+                        count++;
+                    }
+                }
+                return count;
+            }
+            case "EXPIRE":
+            case "PEXPIRE": {
+                String key = text(args.get(1));
+                if (!exists(key)) {
+                    return 0L;
+                }
+                long amount = Long.parseLong(text(args.get(2)));
+                expirations.put(key, System.currentTimeMillis() + ("EXPIRE".equals(command) ? amount * 1000 : amount));
+                return 1L;
+            }
+            case "TTL":
+            case "PTTL": {
+                String key = text(args.get(1));
+                if (!exists(key)) {
+                    return -2L;
+                }
+                Long expireAt = expirations.get(key);
+                if (expireAt == null) {
+                    return -1L;
+                }
+                long remaining = expireAt - System.currentTimeMillis();
+                return "TTL".equals(command) ? remaining / 1000 : remaining;
+            }
+            case "INCR":
+            case "INCRBY": {
+                String key = text(args.get(1));
+                long delta = "INCR".equals(command) ? 1 : Long.parseLong(text(args.get(2)));
+                byte[] current = values.get(key);
+                long next = (current == null ? 0 : Long.parseLong(text(current))) + delta;
+                values.put(key, Long.toString(next).getBytes(StandardCharsets.UTF_8));
+                return next;
+            }
+            case "SETBIT": {
+                String key = text(args.get(1));
+                long offset = Long.parseLong(text(args.get(2)));
+                byte[] bitmap = values.getOrDefault(key, new byte[0]);
+                int index = (int) (offset / 8);
+                if (index >= bitmap.length) {
+                    bitmap = Arrays.copyOf(bitmap, index + 1);
+                }
+                int mask = 0x80 >>> (offset % 8);
+                long previous = (bitmap[index] & mask) != 0 ? 1 : 0;
+                bitmap[index] = (byte) ("1".equals(text(args.get(3))) ? bitmap[index] | mask : bitmap[index] & ~mask);
+                values.put(key, bitmap);
+                return previous;
+            }
+            case "GETBIT": {
+                byte[] bitmap = values.getOrDefault(text(args.get(1)), new byte[0]);
+                long offset = Long.parseLong(text(args.get(2)));
+                int index = (int) (offset / 8);
+                return index < bitmap.length && (bitmap[index] & (0x80 >>> (offset % 8))) != 0 ? 1L : 0L;
+            }
+            case "BITCOUNT": {
+                long count = 0;
+                for (byte b : values.getOrDefault(text(args.get(1)), new byte[0])) {
+                    count += Integer.bitCount(b & 0xFF);
+                }
+                return count;
+            }
+            case "BITOP": {
+                String operation = text(args.get(1)).toUpperCase();
+                byte[] result = new byte[0];
+                for (int i = 3; i < args.size(); i++) {
+                    byte[] source = values.getOrDefault(text(args.get(i)), new byte[0]);
+                    byte[] merged = new byte[Math.max(result.length, source.length)];
+                    for (int j = 0; j < merged.length; j++) {
+                        int left = j < result.length ? result[j] : 0;
+                        int right = j < source.length ? source[j] : 0;
+                        merged[j] = (byte) (i == 3 ? right : switch (operation) {
+                            case "AND" -> left & right;
+                            case "XOR" -> left ^ right;
+                            default -> left | right;
+                        });
+                    }
+                    result = merged;
+                }
+                String destination = text(args.get(2));
+                removeKey(destination);
+                if (result.length > 0) {
+                    values.put(destination, result);
+                }
+                return (long) result.length;
+            }
+            case "HSET":
+            case "HMSET": {
+                Map<String, byte[]> hash = hashes.computeIfAbsent(text(args.get(1)), k -> new HashMap<>());
+                long added = 0;
+                for (int i = 2; i + 1 < args.size(); i += 2) {
+                    if (hash.put(text(args.get(i)), args.get(i + 1)) == null) {
+                        added++;
+                    }
+                }
+                return "HMSET".equals(command) ? Status.of("OK") : added;
+            }
+            case "HGET":
+                return hashes.getOrDefault(text(args.get(1)), Map.of()).get(text(args.get(2)));
+            case "HINCRBY": {
+                Map<String, byte[]> hash = hashes.computeIfAbsent(text(args.get(1)), k -> new HashMap<>());
+                byte[] current = hash.get(text(args.get(2)));
+                long next = (current == null ? 0 : Long.parseLong(text(current))) + Long.parseLong(text(args.get(3)));
+                hash.put(text(args.get(2)), Long.toString(next).getBytes(StandardCharsets.UTF_8));
+                return next;
+            }
+            case "HGETALL": {
+                List<byte[]> reply = new ArrayList<>();
+                hashes.getOrDefault(text(args.get(1)), Map.of()).forEach((field, value) -> {
+                    reply.add(field.getBytes(StandardCharsets.UTF_8));
+                    reply.add(value);
+                });
+                return reply;
+            }
+            case "ZADD": {
+                Map<String, Double> scores = sortedSets.computeIfAbsent(text(args.get(1)), k -> new HashMap<>());
+                long added = 0;
+                for (int i = 2; i + 1 < args.size(); i += 2) {
+                    if (scores.put(text(args.get(i + 1)), Double.parseDouble(text(args.get(i)))) == null) {
+                        added++;
+                    }
+                }
+                return added;
+            }
+            case "ZINCRBY": {
+                Map<String, Double> scores = sortedSets.computeIfAbsent(text(args.get(1)), k -> new HashMap<>());
+                double next = scores.merge(text(args.get(3)), Double.parseDouble(text(args.get(2))), Double::sum);
+                return score(next);
+            }
+            case "ZSCORE": {
+                Double current = sortedSets.getOrDefault(text(args.get(1)), Map.of()).get(text(args.get(2)));
+                return current == null ? null : score(current);
+            }
+            case "ZREM": {
+                String key = text(args.get(1));
+                Map<String, Double> scores = sortedSets.getOrDefault(key, new HashMap<>());
+                long removed = 0;
+                for (int i = 2; i < args.size(); i++) {
+                    if (scores.remove(text(args.get(i))) != null) {
+                        removed++;
+                    }
+                }
+                if (scores.isEmpty()) {
+                    removeKey(key);
+                }
+                return removed;
+            }
+            case "ZCARD":
+                return (long) sortedSets.getOrDefault(text(args.get(1)), Map.of()).size();
+            case "ZRANK":
+            case "ZREVRANK": {
+                List<String> members = sortedMembers(text(args.get(1)), "ZREVRANK".equals(command));
+                int index = members.indexOf(text(args.get(2)));
+                return index < 0 ? null : (long) index;
+            }
+            case "ZRANGE":
+            case "ZREVRANGE":
+                return range(args, "ZREVRANGE".equals(command));
+            case "ZREMRANGEBYSCORE": {
+                String key = text(args.get(1));
+                Map<String, Double> scores = sortedSets.getOrDefault(key, new HashMap<>());
+                int before = scores.size();
+                scores.values().removeIf(value -> withinScoreRange(value, text(args.get(2)), text(args.get(3))));
+                if (scores.isEmpty()) {
+                    removeKey(key);
+                }
+                return (long) (before - scores.size());
+            }
+            case "ZSCAN": {
+                // 전체를 한 번에 반환 (cursor 0)
+                List<byte[]> entries = new ArrayList<>();
+                sortedSets.getOrDefault(text(args.get(1)), Map.of()).forEach((member, value) -> {
+                    entries.add(member.getBytes(StandardCharsets.UTF_8));
+                    entries.add(score(value));
+                });
+                return List.of("0".getBytes(StandardCharsets.UTF_8), entries);
+            }
+            case "KEYS":
+                return matchingKeys(text(args.get(1)));
+            case "SCAN": {
+                String pattern = "*";
+                for (int i = 2; i < args.size() - 1; i++) {
+                    if ("MATCH".equalsIgnoreCase(text(args.get(i)))) {
+                        pattern = text(args.get(i + 1));
+                    }
+                }
+                return List.of("0".getBytes(StandardCharsets.UTF_8), matchingKeys(pattern));
+            }
+            case "DBSIZE":
+                return (long) allKeys().size();
+            case "FLUSHALL":
+            case "FLUSHDB":
+                values.clear();
+                hashes.clear();
+                sortedSets.clear();
+                expirations.clear();
+                return Status.of("OK");
+            case "SUBSCRIBE":
+                return subscribe(connection, args);
+            case "UNSUBSCRIBE":
+                return unsubscribe(connection, args);
+            case "PUBLISH":
+                return publish(text(args.get(1)), args.get(2));
+            case "SENTINEL":
+                return sentinel(args);
+            case "CLUSTER":
+                return cluster(args);
+            case "QUIT":
+                return Status.of("OK");
+            default:
+                return new ErrorReply("ERR unknown command '" + command + "'");
+        }
+    }
+
+    private Object set(List<byte[]> args) {
+        String key = text(args.get(1));
+        Long expireAt = null;
+        boolean nx = false;
+        boolean xx = false;
+
+        for (int i = 3; i < args.size(); i++) {
+            String option = text(args.get(i)).toUpperCase();
+            switch (option) {
+                case "EX" -> expireAt = System.currentTimeMillis() + Long.parseLong(text(args.get(++i))) * 1000;
+                case "PX" -> expireAt = System.currentTimeMillis() + Long.parseLong(text(args.get(++i)));
+                case "NX" -> nx = true;
+                case "XX" -> xx = true;
+                default -> {
+                    return new ErrorReply("ERR syntax error");
+                }
+            }
+        }
+
+        boolean exists = values.containsKey(key);
+        if ((nx && exists) || (xx && !exists)) {
+            return null;
+        }
+
+        values.put(key, args.get(2));
+        if (expireAt != null) {
+            expirations.put(key, expireAt);
+        } else {
+            expirations.remove(key);
+        }
+        return Status.of("OK");
+    }
+
+    private List<byte[]> range(List<byte[]> args, boolean reverse) {
+        String key = text(args.get(1));
+        List<String> members = sortedMembers(key, reverse);
+        int size = members.size();
+        int start = Integer.parseInt(text(args.get(2)));
+        int stop = Integer.parseInt(text(args.get(3)));
+        start = Math.max(0, start < 0 ? size + start : start);
+        stop = Math.min(size - 1, stop < 0 ? size + stop : stop);
+        boolean withScores = args.size() > 4 && "WITHSCORES".equalsIgnoreCase(text(args.get(4)));
+
+        List<byte[]> reply = new ArrayList<>();
+        Map<String, Double> scores = sortedSets.getOrDefault(key, Map.of());
+        for (int i = start; i <= stop; i++) {
+            reply.add(members.get(i).getBytes(StandardCharsets.UTF_8));
+            if (withScores) {
+                reply.add(score(scores.get(members.get(i))));
+            }
+        }
+        return reply;
+    }
+
+    private static boolean withinScoreRange(double value, String min, String max) {
+        boolean aboveMin = min.startsWith("(") ? value > scoreBound(min.substring(1)) : value >= scoreBound(min);
+        boolean belowMax = max.startsWith("(") ? value < scoreBound(max.substring(1)) : value <= scoreBound(max);
+        return aboveMin && belowMax;
+    }
+
+    private static double scoreBound(String bound) {
+        return switch (bound.toLowerCase()) {
+            case "-inf" -> Double.NEGATIVE_INFINITY;
+            case "+inf", "inf" -> Double.POSITIVE_INFINITY;
+            default -> Double.parseDouble(bound);
+        };
+    }
+
+    private List<String> sortedMembers(String key, boolean reverse) {
+        Comparator<Map.Entry<String, Double>> order = Map.Entry.<String, Double>comparingByValue()
+                .thenComparing(Map.Entry.comparingByKey());
+        return sortedSets.getOrDefault(key, Map.of()).entrySet().stream()
+                .sorted(reverse ? order.reversed() : order)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private boolean exists(String key) {
+        return values.containsKey(key) || hashes.containsKey(key) || sortedSets.containsKey(key);
+    }
+
+    private boolean removeKey(String key) {
+        expirations.remove(key);
+        return removeKeyData(key);
+    }
+
+    private boolean removeKeyData(String key) {
+        boolean removed = values.remove(key) != null;
+        removed |= hashes.remove(key) != null;
+        return sortedSets.remove(key) != null || removed;
+    }
+
+    private static byte[] score(double value) {
+        String text = value == Math.rint(value) && !Double.isInfinite(value)
+                ? Long.toString((long) value)
+                : Double.toString(value);
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private Object subscribe(Connection connection, List<byte[]> args) {
+        for (int i = 1; i < args.size(); i++) {
+            String channel = text(args.get(i));
+            subscribers.computeIfAbsent(channel, c -> new CopyOnWriteArrayList<>()).add(connection);
+            connection.channels.add(channel);
+            connection.write(List.of("subscribe".getBytes(StandardCharsets.UTF_8), args.get(i),
+                    (long) connection.channels.size()));
+        }
+        return NoReply.INSTANCE;
+    }
+
+    private Object unsubscribe(Connection connection, List<byte[]> args) {
+        List<String> channels = new ArrayList<>();
+        if (args.size() > 1) {
+            for (int i = 1; i < args.size(); i++) {
+                channels.add(text(args.get(i)));
+            }
+        } else {
+            channels.addAll(connection.channels);
+        }
+
+        for (String channel : channels) {
+            List<Connection> channelSubscribers = subscribers.get(channel);
+            if (channelSubscribers != null) {
+                channelSubscribers.remove(connection);
+            }
+            connection.channels.remove(channel);
+            connection.write(List.of("unsubscribe".getBytes(StandardCharsets.UTF_8),
+                    channel.getBytes(StandardCharsets.UTF_8), (long) connection.channels.size()));
+        }
+        return NoReply.INSTANCE;
+    }
+
+    private Object publish(String channel, byte[] message) {
+        List<Connection> channelSubscribers = subscribers.getOrDefault(channel, List.of());
+        for (Connection subscriber : channelSubscribers) {
+            subscriber.write(List.of("message".getBytes(StandardCharsets.UTF_8),
+                    channel.getBytes(StandardCharsets.UTF_8), message));
+        }
+        return (long) channelSubscribers.size();
+    }
+
+    private Object sentinel(List<byte[]> args) {
+        String subCommand = text(args.get(1)).toLowerCase();
+        if ("get-master-addr-by-name".equals(subCommand) && text(args.get(2)).equals(sentinelMasterName)) {
+            return List.of(sentinelMasterHost.getBytes(StandardCharsets.UTF_8),
+                    Integer.toString(sentinelMasterPort).getBytes(StandardCharsets.UTF_8));
+        }
+        if ("replicas".equals(subCommand) || "slaves".equals(subCommand) || "sentinels".equals(subCommand)) {
+            return List.of();
+        }
+        return null;
+    }
+
+    private Object cluster(List<byte[]> args) {
+        if (!clusterMode) {
+            return new ErrorReply("ERR This instance has cluster support disabled");
+        }
+        String nodeId = "0".repeat(40);
+        String subcommand = text(args.get(1)).toUpperCase();
+        return switch (subcommand) {
+            case "NODES" -> String.format("%s %s:%d@%d myself,master - 0 0 1 connected 0-16383%n",
+                    nodeId, getHost(), getPort(), getPort() + 10000).getBytes(StandardCharsets.UTF_8);
+            case "MYID" -> nodeId.getBytes(StandardCharsets.UTF_8);
+            case "INFO" -> "cluster_state:ok\r\ncluster_slots_assigned:16384\r\ncluster_known_nodes:1\r\n"
+                    .getBytes(StandardCharsets.UTF_8);
+            default -> new ErrorReply("ERR unknown subcommand '" + subcommand + "'");
+        };
+    }
+
+    /**
+     * 다중 키 명령의 키가 서로 다른 슬롯인지 확인
+     */
+    private static boolean crossesSlots(String command, List<byte[]> args) {
+        int firstKey = switch (command) {
+            case "DEL", "EXISTS" -> 1;
+            case "BITOP" -> 2;
+            default -> -1;
+        };
+        if (firstKey < 0 || args.size() <= firstKey + 1) {
+            return false;
+        }
+        int slot = SlotHash.getSlot(args.get(firstKey));
+        for (int i = firstKey + 1; i < args.size(); i++) {
+            if (SlotHash.getSlot(args.get(i)) != slot) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<byte[]> matchingKeys(String glob) {
+        Pattern pattern = Pattern.compile(globToRegex(glob));
+        List<byte[]> keys = new ArrayList<>();
+        for (String key : allKeys()) {
+            if (pattern.matcher(key).matches()) {
+                keys.add(key.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        return keys;
+    }
+
+    private List<String> allKeys() {
+        List<String> keys = new ArrayList<>(values.keySet());
+        keys.addAll(hashes.keySet());
+        keys.addAll(sortedSets.keySet());
+        return keys;
+    }
+
+    private void purgeExpired() {
+        long now = System.currentTimeMillis();
+        expirations.entrySet().removeIf(entry -> {
+            if (entry.getValue() <= now) {
+                removeKeyData(entry.getKey());
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private static String globToRegex(String glob) {
+        StringBuilder regex = new StringBuilder();
+        for (char c : glob.toCharArray()) {
+            switch (c) {
+                case '*' -> regex.append(".*");
+                case '?' -> regex.append('.');
+                default -> regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        return regex.toString();
+    }
+
+    private static String text(byte[] bytes) {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 클라이언트 연결 하나를 처리
+     */
+    private class Connection {
+        private final Socket socket;
+        private final InputStream in;
+        private final OutputStream out;
+        private final Set<String> channels = ConcurrentHashMap.newKeySet();
+
+        private Connection(Socket socket) throws IOException {
+            this.socket = socket;
+            this.in = new BufferedInputStream(socket.getInputStream());
+            this.out = new BufferedOutputStream(socket.getOutputStream());
+        }
+
+        private void serve() {
+            try {
+                while (!socket.isClosed()) {
+                    List<byte[]> args = readCommand();
+                    if (args == null) {
+                        break;
+                    }
+                    if (args.isEmpty() || stalled) {
+                        continue;
+                    }
+                    Object reply = handle(this, args);
+                    if (reply != NoReply.INSTANCE) {
+                        write(reply);
+                    }
+                }
+            } catch (IOException e) {
+                // 연결 종료
+            } finally {
+                for (String channel : channels) {
+                    List<Connection> channelSubscribers = subscribers.get(channel);
+                    if (channelSubscribers != null) {
+                        channelSubscribers.remove(this);
+                    }
+                }
+                connections.remove(this);
+                close();
+            }
+        }
+
+        private List<byte[]> readCommand() throws IOException {
+            int first = in.read();
+            if (first == -1) {
+                return null;
+            }
+            if (first != '*') {
+                // 인라인 명령
+                String line = (char) first + readLine();
+                List<byte[]> args = new ArrayList<>();
+                for (String token : line.trim().split("\\s+")) {
+                    if (!token.isEmpty()) {
+                        args.add(token.getBytes(StandardCharsets.UTF_8));
+                    }
+                }
+                return args;
+            }
+
+            int count = Integer.parseInt(readLine());
+            List<byte[]> args = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                if (in.read() != '$') {
+                    throw new IOException("잘못된 RESP 요청입니다.");
+                }
+                int length = Integer.parseInt(readLine());
+                args.add(in.readNBytes(length));
+                in.readNBytes(2);
+            }
+            return args;
+        }
+
+        private String readLine() throws IOException {
+            StringBuilder line = new StringBuilder();
+            int c;
+            while ((c = in.read()) != '\r') {
+                if (c == -1) {
+                    throw new EOFException();
+                }
+                line.append((char) c);
+            }
+            in.read();
+            return line.toString();
+        }
+
+        private synchronized void write(Object reply) {
+            try {
+                writeValue(reply);
+                out.flush();
+            } catch (IOException e) {
+                close();
+            }
+        }
+
+        private void writeValue(Object value) throws IOException {
+            if (value == null) {
+                out.write("$-1\r\n".getBytes(StandardCharsets.US_ASCII));
+            } else if (value instanceof Status status) {
+                out.write(("+" + status.text() + "\r\n").getBytes(StandardCharsets.UTF_8));
+            } else if (value instanceof ErrorReply error) {
+                out.write(("-" + error.text() + "\r\n").getBytes(StandardCharsets.UTF_8));
+            } else if (value instanceof Long number) {
+                out.write((":" + number + "\r\n").getBytes(StandardCharsets.US_ASCII));
+            } else if (value instanceof byte[] bytes) {
+                out.write(("$" + bytes.length + "\r\n").getBytes(StandardCharsets.US_ASCII));
+                out.write(bytes);
+                out.write("\r\n".getBytes(StandardCharsets.US_ASCII));
+            } else if (value instanceof List<?> list) {
+                out.write(("*" + list.size() + "\r\n").getBytes(StandardCharsets.US_ASCII));
+                for (Object element : list) {
+                    writeValue(element);
+                }
+            } else {
+                throw new IllegalStateException("지원하지 않는 응답 타입입니다: " + value.getClass());
+            }
+        }
+
+        private void close() {
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+                // 이미 닫힌 소켓
+            }
+        }
+    }
+
+    private record Status(String text) {
+        static Status of(String text) {
+            return new Status(text);
+        }
+    }
+
+    private record ErrorReply(String text) {
+    }
+
+    private enum NoReply {
+        INSTANCE
+    }
+}
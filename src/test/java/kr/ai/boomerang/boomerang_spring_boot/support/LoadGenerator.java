@@ -0,0 +1,249 @@
+package kr.ai.boomerang.boomerang_spring_boot.support;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 고정 도착률(open model) 부하 생성기
+ * 응답을 기다리지 않고 정해진 간격마다 요청을 시작하므로, 서버가 느려져도 요청 수가 줄지 않습니다.
+ * - 지연 시간은 실제 시작 시각이 아니라 예정 시작 시각부터 측정 (coordinated omission 방지)
+ * - 시나리오는 가중치에 따라 seed 고정 난수로 선택하므로 실행마다 같은 요청 구성이 재현됨
+ * - 요청마다 seed 고정 난수에서 분기(split)한 SplittableRandom을 넘기므로, 요청 안의 난수(게시글 ID 등)도
+ *   스레드 실행 순서와 관계없이 재현되고 스레드 간 경합이 없음
+ *
+ * @author Boomerang Team
+ */
+public class LoadGenerator {
+
+    private final Map<String, Scenario> scenarios = new LinkedHashMap<>();
+    private final SplittableRandom random;
+    private int totalWeight;
+
+    public LoadGenerator(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * 부하 요청
+     */
+    @FunctionalInterface
+    public interface Request {
+
+        /**
+         * 요청을 보내고 HTTP 상태 코드를 돌려줌
+         *
+         * @param random 이 요청 전용 난수 생성기 (seed 고정)
+         * @return HTTP 상태 코드
+         * @throws Exception 요청 실패
+         */
+        int send(SplittableRandom random) throws Exception;
+    }
+
+    /**
+     * 시나리오 등록
+     *
+     * @param name 엔드포인트 이름 (보고서 구분용)
+     * @param weight 선택 가중치
+     * @param call 요청을 보내고 HTTP 상태 코드를 돌려주는 함수
+     * @return this
+     */
+    public LoadGenerator scenario(String name, int weight, Request call) {
+        scenarios.put(name, new Scenario(name, weight, call));
+        totalWeight += weight;
+        return this;
+    }
+
+    /**
+     * 지정한 도착률로 부하 실행
+     *
+     * @param requestsPerSecond 초당 요청 수
+     * @param duration 실행 시간
+     * @return 엔드포인트별 결과
+     * @throws InterruptedException 대기 중 인터럽트
+     */
+    public Report run(int requestsPerSecond, Duration duration) throws InterruptedException {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / requestsPerSecond;
+        long total = duration.toSeconds() * requestsPerSecond;
+        List<Scenario> ordered = new ArrayList<>(scenarios.values());
+        ordered.forEach(Scenario::reset);
+
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; i < total; i++) {
+                long intendedStart = start + i * intervalNanos;
+                long wait = intendedStart - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                Scenario scenario = pick(ordered);
+                SplittableRandom requestRandom = random.split();
+                executor.execute(() -> scenario.execute(intendedStart, requestRandom));
+            }
+        }
+        long elapsedNanos = System.nanoTime() - start;
+
+        List<EndpointStats> stats = new ArrayList<>();
+        for (Scenario scenario : ordered) {
+            stats.add(scenario.stats(elapsedNanos));
+        }
+        return new Report(requestsPerSecond, elapsedNanos, stats);
+    }
+
+    // === Private Methods ===
+
+    private Scenario pick(List<Scenario> ordered) {
+        int value = random.nextInt(totalWeight);
+        for (Scenario scenario : ordered) {
+            value -= scenario.weight;
+            if (value < 0) {
+                return scenario;
+            }
+        }
+        return ordered.get(ordered.size() - 1);
+    }
+
+    /**
+     * 엔드포인트별 결과
+     *
+     * @param name 엔드포인트 이름
+     * @param count 요청 수
+     * @param errors 실패 수 (예외 또는 2xx 이외 응답)
+     * @param throughput 초당 처리 수
+     * @param p50Millis 50 백분위 지연 시간 (ms)
+     * @param p99Millis 99 백분위 지연 시간 (ms)
+     * @param p999Millis 99.9 백분위 지연 시간 (ms)
+     * @param maxMillis 최대 지연 시간 (ms)
+     */
+    public record EndpointStats(String name, long count, long errors, double throughput,
+                                double p50Millis, double p99Millis, double p999Millis, double maxMillis) {
+    }
+
+    /**
+     * 부하 실행 결과
+     *
+     * @param targetRate 목표 도착률 (초당 요청 수)
+     * @param elapsedNanos 전체 실행 시간
+     * @param endpoints 엔드포인트별 결과
+     */
+    public record Report(int targetRate, long elapsedNanos, List<EndpointStats> endpoints) {
+
+        public long totalRequests() {
+            return endpoints.stream().mapToLong(EndpointStats::count).sum();
+        }
+
+        public long totalErrors() {
+            return endpoints.stream().mapToLong(EndpointStats::errors).sum();
+        }
+
+        /**
+         * 표 형식 보고서
+         *
+         * @return 보고서 문자열
+         */
+        public String format() {
+            StringBuilder builder = new StringBuilder(String.format("%-16s %8s %7s %9s %9s %9s %9s %9s%n",
+                    "endpoint", "count", "errors", "req/s", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)"));
+            for (EndpointStats stats : endpoints) {
+                builder.append(String.format("%-16s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n", stats.name(), stats.count(),
+                        stats.errors(), stats.throughput(), stats.p50Millis(), stats.p99Millis(), stats.p999Millis(),
+                        stats.maxMillis()));
+            }
+            builder.append(String.format("target %d req/s, achieved %.1f req/s over %.1fs%n", targetRate,
+                    totalRequests() / (elapsedNanos / 1e9), elapsedNanos / 1e9));
+            return builder.toString();
+        }
+
+        /**
+         * JSON 형식 보고서
+         *
+         * @return 보고서 JSON 문자열
+         */
+        public String toJson() {
+            StringBuilder builder = new StringBuilder("{\"targetRate\":").append(targetRate)
+                    .append(",\"elapsedSeconds\":").append(elapsedNanos / 1e9).append(",\"endpoints\":[");
+            for (int i = 0; i < endpoints.size(); i++) {
+                EndpointStats stats = endpoints.get(i);
+                builder.append(i > 0 ? "," : "")
+                        .append("{\"name\":\"").append(stats.name()).append('"')
+                        .append(",\"count\":").append(stats.count())
+                        .append(",\"errors\":").append(stats.errors())
+                        .append(",\"throughput\":").append(stats.throughput())
+                        .append(",\"p50Millis\":").append(stats.p50Millis())
+                        .append(",\"p99Millis\":").append(stats.p99Millis())
+                        .append(",\"p999Millis\":").append(stats.p999Millis())
+                        .append(",\"maxMillis\":").append(stats.maxMillis()).append('}');
+            }
+            return builder.append("]}").toString();
+        }
+    }
+
+    /**
+     * 가중치가 붙은 요청 시나리오와 지연 시간 기록
+     */
+    private static class Scenario {
+        private final String name;
+        private final int weight;
+        private final Request call;
+        private final AtomicLong errors = new AtomicLong();
+        private long[] latencies = new long[1024];
+        private int size;
+
+        private Scenario(String name, int weight, Request call) {
+            this.name = name;
+            this.weight = weight;
+            this.call = call;
+        }
+
+        private void execute(long intendedStart, SplittableRandom random) {
+            boolean success;
+            try {
+                int status = call.send(random);
+                success = status >= 200 && status < 300;
+            } catch (Exception e) {
+                success = false;
+            }
+            record(System.nanoTime() - intendedStart);
+            if (!success) {
+                errors.incrementAndGet();
+            }
+        }
+
+        private synchronized void record(long latencyNanos) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = latencyNanos;
+        }
+
+        private synchronized void reset() {
+            size = 0;
+            errors.set(0);
+        }
+
+        private synchronized EndpointStats stats(long elapsedNanos) {
+            long[] sorted = Arrays.copyOf(latencies, size);
+            Arrays.sort(sorted);
+            return new EndpointStats(name, size, errors.get(), size / (elapsedNanos / 1e9),
+                    percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 0.999),
+                    sorted.length > 0 ? sorted[sorted.length - 1] / 1e6 : 0);
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+        }
+    }
+}
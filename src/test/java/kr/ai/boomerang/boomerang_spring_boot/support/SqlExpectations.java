@@ -0,0 +1,99 @@
+package kr.ai.boomerang.boomerang_spring_boot.support;
+
+import kr.ai.boomerang.boomerang_spring_boot.common.metrics.RequestSqlStatistics;
+import kr.ai.boomerang.boomerang_spring_boot.common.metrics.SqlProfilingDataSourcePostProcessor;
+
+import java.util.List;
+
+/**
+ * 테스트용 SQL 실행 수 검증 도구
+ * 테스트 컨텍스트에 SqlProfilingDataSourcePostProcessor를 @Import하고 다음과 같이 사용합니다.
+ * <pre>
+ * try (SqlExpectations.Capture capture = SqlExpectations.expectQueries(2)) {
+ *     postService.getPost(postId, null);
+ * }
+ * </pre>
+ * 블록을 벗어날 때 실행된 문장 수가 max를 넘거나 같은 형태의 문장이 반복되면(N+1 의심) AssertionError를 던집니다.
+ * 검증은 현재 스레드에서 실행된 SQL만 대상으로 하며, 구간은 중첩할 수 없습니다.
+ *
+ * @author Boomerang Team
+ */
+public final class SqlExpectations {
+
+    private static final int DEFAULT_REPEAT_THRESHOLD = 2;
+
+    private SqlExpectations() {
+    }
+
+    /**
+     * 최대 문장 수와 N+1 여부를 검증하는 구간 시작
+     *
+     * @param max 허용하는 최대 문장 수
+     * @return 검증 구간 (close 시 검증)
+     */
+    public static Capture expectQueries(int max) {
+        return new Capture(max, DEFAULT_REPEAT_THRESHOLD);
+    }
+
+    /**
+     * 최대 문장 수만 검증하는 구간 시작 (같은 형태의 반복 실행을 허용)
+     *
+     * @param max 허용하는 최대 문장 수
+     * @return 검증 구간 (close 시 검증)
+     */
+    public static Capture expectQueriesAllowingRepeats(int max) {
+        return new Capture(max, Integer.MAX_VALUE);
+    }
+
+    /**
+     * SQL 실행 검증 구간
+     */
+    public static final class Capture implements AutoCloseable {
+        private final int max;
+        private final int repeatThreshold;
+        private final RequestSqlStatistics statistics;
+
+        private Capture(int max, int repeatThreshold) {
+            this.max = max;
+            this.repeatThreshold = repeatThreshold;
+            this.statistics = RequestSqlStatistics.begin();
+        }
+
+        /**
+         * 지금까지 실행된 문장 수
+         *
+         * @return 문장 수
+         */
+        public long count() {
+            return statistics.getStatements();
+        }
+
+        /**
+         * 지금까지 실행된 문장 형태 목록
+         *
+         * @return 문장 형태 목록
+         */
+        public List<RequestSqlStatistics.Shape> shapes() {
+            return statistics.getShapes();
+        }
+
+        @Override
+        public void close() {
+            RequestSqlStatistics.end();
+
+            List<RequestSqlStatistics.Shape> repeated = statistics.getRepeatedShapes(repeatThreshold);
+            if (statistics.getStatements() > max || !repeated.isEmpty()) {
+                StringBuilder message = new StringBuilder()
+                        .append("SQL 실행 수 초과 또는 N+1 의심: 기대 최대 ").append(max)
+                        .append("건, 실제 ").append(statistics.getStatements()).append("건");
+                if (!repeated.isEmpty()) {
+                    message.append(System.lineSeparator()).append("N+1 의심: ").append(repeated);
+                }
+                for (RequestSqlStatistics.Shape shape : statistics.getShapes()) {
+                    message.append(System.lineSeparator()).append("  ").append(shape);
+                }
+                throw new AssertionError(message.toString());
+            }
+        }
+    }
+}
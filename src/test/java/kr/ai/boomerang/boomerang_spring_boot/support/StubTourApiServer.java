@@ -0,0 +1,140 @@
+package kr.ai.boomerang.boomerang_spring_boot.support;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 테스트용 TourAPI 대역(stub) HTTP 서버
+ * 녹화된 searchKeyword1 / areaBasedList1 응답(src/test/resources/tourapi)을 지정한 지연 시간 후에 돌려줍니다.
+ * - numOfRows가 10 이하이면 10건 응답, 그보다 크면 100건 응답을 재생
+ * - 지연 시간은 기본 지연 + 0 ~ jitter 사이의 균등 분포로 설정
+ *
+ * @author Boomerang Team
+ */
+public class StubTourApiServer implements Closeable {
+
+    private static final String[] OPERATIONS = {"searchKeyword1", "areaBasedList1"};
+    private static final int[] PAGE_SIZES = {10, 100};
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, byte[]> payloads = new HashMap<>();
+    private final AtomicLong requestCount = new AtomicLong();
+
+    private volatile long latencyMillis;
+    private volatile long jitterMillis;
+
+    private StubTourApiServer(HttpServer server) {
+        this.server = server;
+        for (String operation : OPERATIONS) {
+            for (int pageSize : PAGE_SIZES) {
+                payloads.put(operation + "-" + pageSize, load("/tourapi/" + operation + "-" + pageSize + ".json"));
+            }
+            server.createContext("/KorService1/" + operation, exchange -> replay(exchange, operation));
+        }
+        server.setExecutor(executor);
+    }
+
+    /**
+     * 임의 포트로 서버 시작
+     *
+     * @return 시작된 서버
+     * @throws IOException 소켓 오류
+     */
+    public static StubTourApiServer start() throws IOException {
+        HttpServer httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 512);
+        StubTourApiServer server = new StubTourApiServer(httpServer);
+        httpServer.start();
+        return server;
+    }
+
+    /**
+     * 응답 지연 시간 설정
+     *
+     * @param latency 기본 지연 시간
+     * @param jitter 추가 지연 시간 상한 (균등 분포)
+     */
+    public void setLatency(Duration latency, Duration jitter) {
+        this.latencyMillis = latency.toMillis();
+        this.jitterMillis = jitter.toMillis();
+    }
+
+    public String getBaseUrl() {
+        InetSocketAddress address = server.getAddress();
+        return "http://" + address.getAddress().getHostAddress() + ":" + address.getPort();
+    }
+
+    /**
+     * 지금까지 받은 요청 수 반환
+     *
+     * @return 요청 수
+     */
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    // === Private Methods ===
+
+    private void replay(HttpExchange exchange, String operation) throws IOException {
+        requestCount.incrementAndGet();
+        try (exchange) {
+            long delay = latencyMillis + (jitterMillis > 0 ? ThreadLocalRandom.current().nextLong(jitterMillis + 1) : 0);
+            if (delay > 0) {
+                Thread.sleep(delay);
+            }
+
+            byte[] body = payloads.get(operation + "-" + (numOfRows(exchange) <= 10 ? 10 : 100));
+            exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private int numOfRows(HttpExchange exchange) {
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query != null) {
+            for (String parameter : query.split("&")) {
+                if (parameter.startsWith("numOfRows=")) {
+                    return Integer.parseInt(parameter.substring("numOfRows=".length()));
+                }
+            }
+        }
+        return 10;
+    }
+
+    private byte[] load(String resource) {
+        try (InputStream in = StubTourApiServer.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("녹화된 TourAPI 응답을 찾을 수 없습니다: " + resource);
+            }
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
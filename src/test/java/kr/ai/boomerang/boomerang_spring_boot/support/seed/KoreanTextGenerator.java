@@ -0,0 +1,124 @@
+package kr.ai.boomerang.boomerang_spring_boot.support.seed;
+
+import java.util.Random;
+
+/**
+ * 합성 데이터용 한국어 여행 문장 생성기
+ * 지역 / 장소 / 활동 / 음식 단어를 문장 틀에 조합하여 실제 여행 후기와 비슷한 제목, 본문, 댓글, 닉네임을 만듭니다.
+ * 같은 Random 상태에서는 항상 같은 문장을 만듭니다.
+ *
+ * @author Boomerang Team
+ */
+public final class KoreanTextGenerator {
+
+    private static final String[] AREAS = {
+            "서울", "부산", "제주", "강릉", "속초", "경주", "전주", "여수", "통영", "인천",
+            "대구", "광주", "대전", "춘천", "안동", "남해", "포항", "목포", "거제", "서귀포"
+    };
+    private static final String[] PLACES = {
+            "해변", "전통시장", "한옥마을", "둘레길", "전망대", "박물관", "미술관", "사찰", "카페거리", "야시장",
+            "수목원", "폭포", "섬", "항구", "성곽길", "온천", "국립공원", "케이블카", "벽화마을", "호수공원"
+    };
+    private static final String[] ACTIVITIES = {
+            "자전거를 빌려 한 바퀴 돌았어요", "일출을 보러 새벽에 올랐어요", "바다를 보며 한참 걸었어요",
+            "현지 맛집을 찾아다녔어요", "사진을 정말 많이 찍었어요", "케이블카를 타고 정상까지 갔어요",
+            "야경이 예뻐서 밤늦게까지 있었어요", "아이와 함께 체험 프로그램에 참여했어요",
+            "게스트하우스에서 다른 여행자들과 이야기했어요", "비가 와서 실내 위주로 다녔어요"
+    };
+    private static final String[] FOODS = {
+            "해물칼국수", "돼지국밥", "흑돼지", "물회", "비빔밥", "닭갈비", "막국수", "호떡", "순대국", "회덮밥",
+            "갈치조림", "떡갈비", "전복죽", "밀면", "꼬막비빔밥"
+    };
+    private static final String[] TITLE_SUFFIXES = {
+            "후기", "다녀왔어요", "1박 2일 여행기", "당일치기 코스 추천", "가볼 만한 곳", "솔직 후기", "주말 나들이",
+            "혼자 여행", "가족 여행 코스", "맛집 정리"
+    };
+    private static final String[] SENTENCES = {
+            "%s %s에 다녀왔습니다.", "%s 근처 %s은 생각보다 한적했어요.", "주차는 %s 입구 쪽이 편했어요.",
+            "점심은 %s으로 먹었는데 정말 맛있었어요.", "%s 가는 버스가 자주 있어서 이동이 편했습니다.",
+            "다음에는 %s 쪽 숙소를 잡아보려고 해요.", "%s에서 %s까지 걸어서 20분 정도 걸렸어요.",
+            "입장료는 성인 기준 3천 원이었습니다.", "평일 오전에 가시면 사람이 적어요.", "날씨가 좋아서 하늘이 정말 파랬어요."
+    };
+    private static final String[] COMMENTS = {
+            "사진 정말 예쁘네요!", "저도 다음 달에 가보려고요. 정보 감사합니다.", "%s 저도 먹어봤는데 진짜 맛있어요.",
+            "주차는 어디에 하셨나요?", "코스 참고할게요 :)", "%s 가본 지 오래됐는데 또 가고 싶네요.",
+            "아이랑 가기에도 괜찮을까요?", "좋은 후기 감사합니다!", "저는 비 오는 날 가서 아쉬웠어요 ㅠㅠ",
+            "숙소는 어디로 잡으셨어요?", "%s 꼭 가봐야겠네요.", "와 여기 제 고향이에요 ㅎㅎ"
+    };
+    private static final String[] NICKNAME_ADJECTIVES = {
+            "행복한", "느긋한", "부지런한", "용감한", "설레는", "여유로운", "든든한", "반짝이는", "씩씩한", "졸린"
+    };
+    private static final String[] NICKNAME_NOUNS = {
+            "여행자", "나그네", "고래", "갈매기", "돌하르방", "등산객", "캠퍼", "배낭족", "산책러", "바다"
+    };
+
+    private KoreanTextGenerator() {
+    }
+
+    /**
+     * 게시글 제목 생성
+     *
+     * @param random 난수 생성기
+     * @return 제목
+     */
+    public static String title(Random random) {
+        return pick(random, AREAS) + " " + pick(random, PLACES) + " " + pick(random, TITLE_SUFFIXES);
+    }
+
+    /**
+     * 게시글 본문 생성
+     * - 문장 수를 넓게 흩뜨려 짧은 글과 긴 글이 섞이도록 함
+     *
+     * @param random 난수 생성기
+     * @return 본문
+     */
+    public static String content(Random random) {
+        int sentences = 2 + (int) Math.min(30, -Math.log(1 - random.nextDouble()) * 5);
+        StringBuilder builder = new StringBuilder(sentences * 32);
+        for (int i = 0; i < sentences; i++) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            builder.append(sentence(random));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 댓글 생성
+     *
+     * @param random 난수 생성기
+     * @return 댓글 내용
+     */
+    public static String comment(Random random) {
+        String template = pick(random, COMMENTS);
+        return template.contains("%s") ? String.format(template, random.nextBoolean() ? pick(random, FOODS) : pick(random, AREAS)) : template;
+    }
+
+    /**
+     * 닉네임 생성 (번호를 붙여 고유하게 만듦)
+     *
+     * @param random 난수 생성기
+     * @param number 고유 번호
+     * @return 닉네임
+     */
+    public static String nickname(Random random, long number) {
+        return pick(random, NICKNAME_ADJECTIVES) + pick(random, NICKNAME_NOUNS) + number;
+    }
+
+    // === Private Methods ===
+
+    private static String sentence(Random random) {
+        String template = pick(random, SENTENCES);
+        int arguments = template.split("%s", -1).length - 1;
+        return switch (arguments) {
+            case 0 -> random.nextInt(3) == 0 ? pick(random, ACTIVITIES) + "." : template;
+            case 1 -> String.format(template, random.nextBoolean() ? pick(random, PLACES) : pick(random, FOODS));
+            default -> String.format(template, pick(random, AREAS), pick(random, PLACES));
+        };
+    }
+
+    private static String pick(Random random, String[] words) {
+        return words[random.nextInt(words.length)];
+    }
+}
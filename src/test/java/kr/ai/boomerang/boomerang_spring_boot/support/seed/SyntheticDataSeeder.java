@@ -0,0 +1,372 @@
+package kr.ai.boomerang.boomerang_spring_boot.support.seed;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 운영 규모 합성 데이터 생성 도구
+ * 사용자 / 게시글 / 댓글 / 미션 카탈로그를 다중 스레드 JDBC 배치 INSERT로 대량 생성합니다.
+ * - 각 테이블을 고정 크기 구간으로 나누고 구간마다 (seed, 테이블, 구간 번호)로 난수를 초기화하므로
+ *   스레드 수나 실행 순서와 관계없이 같은 seed는 항상 같은 데이터를 만듦
+ * - ID를 직접 지정해 넣어 외래 키 참조도 재현되며, 삽입 후 IDENTITY 시작값을 다음 번호로 맞춤
+ * - 게시글별 댓글 수와 사용자별 게시글 수는 Zipf 분포를 따름 (소수 인기 게시글 / 헤비 유저에 집중)
+ * - 스키마는 미리 만들어져 있어야 하며, 대상 테이블이 비어 있을 때만 실행
+ *   (MySQL은 rewriteBatchedStatements=true 연결 옵션을 권장)
+ *
+ * 실행: gradle seed -Pseed.jdbc-url=jdbc:mysql://localhost:3306/boomerang?rewriteBatchedStatements=true
+ *       -Pseed.username=root -Pseed.password=secret -Pseed.users=1000000 -Pseed.posts=5000000 -Pseed.comments=20000000
+ *
+ * @author Boomerang Team
+ */
+public class SyntheticDataSeeder {
+
+    private static final int CHUNK_SIZE = 10_000;
+    private static final long SALT_USERS = 0x5553L;
+    private static final long SALT_POSTS = 0x504FL;
+    private static final long SALT_COMMENTS = 0x434FL;
+    private static final long SALT_PERMUTATION = 0x5045L;
+    private static final double AUTHOR_ZIPF_EXPONENT = 0.8;
+    private static final Duration COMMENT_DELAY_MEAN = Duration.ofHours(12);
+
+    // 지역 코드와 대략적인 인구 비중 (가중치)
+    private static final String[] AREA_CODES = {"1", "2", "3", "4", "5", "6", "7", "8", "31", "32", "33", "34", "35", "36", "37", "38", "39"};
+    private static final int[] AREA_WEIGHTS = {18, 6, 3, 5, 3, 7, 2, 1, 26, 3, 3, 4, 5, 6, 3, 3, 2};
+
+    private final DataSource dataSource;
+
+    public SyntheticDataSeeder(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * 생성 옵션
+     *
+     * @param seed 난수 seed
+     * @param users 사용자 수
+     * @param posts 게시글 수
+     * @param comments 댓글 수
+     * @param threads INSERT 스레드 수
+     * @param batchSize JDBC 배치 크기
+     * @param commentZipfExponent 게시글별 댓글 수 Zipf 지수
+     * @param span 데이터 생성 시각 범위 (현재 시각 기준 과거 기간)
+     */
+    public record Options(long seed, int users, int posts, int comments, int threads, int batchSize,
+                          double commentZipfExponent, Duration span) {
+
+        public static Options defaults() {
+            return new Options(42, 100_000, 1_000_000, 5_000_000, Runtime.getRuntime().availableProcessors(),
+                    1_000, 1.1, Duration.ofDays(365));
+        }
+
+        public Options withCounts(int users, int posts, int comments) {
+            return new Options(seed, users, posts, comments, threads, batchSize, commentZipfExponent, span);
+        }
+    }
+
+    /**
+     * 생성 결과
+     *
+     * @param users 생성한 사용자 수
+     * @param posts 생성한 게시글 수
+     * @param comments 생성한 댓글 수
+     * @param missions 생성한 미션 수
+     * @param elapsed 소요 시간
+     */
+    public record Summary(long users, long posts, long comments, long missions, Duration elapsed) {
+    }
+
+    /**
+     * 합성 데이터 생성
+     *
+     * @param options 생성 옵션
+     * @param now 기준 시각 (재현을 위해 고정 값 권장)
+     * @return 생성 결과
+     * @throws SQLException DB 오류
+     * @throws InterruptedException 대기 중 인터럽트
+     */
+    public Summary seed(Options options, LocalDateTime now) throws SQLException, InterruptedException {
+        long started = System.nanoTime();
+        ensureEmpty("users", "posts", "comments", "missions");
+        LocalDateTime start = now.minus(options.span());
+        long spanSeconds = options.span().toSeconds();
+
+        ExecutorService executor = Executors.newFixedThreadPool(options.threads());
+        try {
+            runChunks(executor, options.users(), (from, to) -> insertUsers(options, from, to, start, spanSeconds));
+            int[] authorRanking = permutation(options.seed() ^ SALT_USERS, options.users());
+            ZipfSampler authorSampler = new ZipfSampler(options.users(), AUTHOR_ZIPF_EXPONENT);
+            runChunks(executor, options.posts(), (from, to) ->
+                    insertPosts(options, from, to, start, spanSeconds, authorRanking, authorSampler));
+
+            if (options.comments() > 0 && options.posts() > 0) {
+                int[] postRanking = permutation(options.seed() ^ SALT_PERMUTATION, options.posts());
+                ZipfSampler postSampler = new ZipfSampler(options.posts(), options.commentZipfExponent());
+                runChunks(executor, options.comments(), (from, to) ->
+                        insertComments(options, from, to, start, spanSeconds, now, postRanking, postSampler));
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        int missions = insertMissions(now);
+        restartIdentity("users", options.users());
+        restartIdentity("posts", options.posts());
+        restartIdentity("comments", options.comments());
+
+        return new Summary(options.users(), options.posts(), options.comments(), missions,
+                Duration.ofNanos(System.nanoTime() - started));
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options defaults = Options.defaults();
+        Options options = new Options(
+                Long.getLong("seed.seed", defaults.seed()),
+                Integer.getInteger("seed.users", defaults.users()),
+                Integer.getInteger("seed.posts", defaults.posts()),
+                Integer.getInteger("seed.comments", defaults.comments()),
+                Integer.getInteger("seed.threads", defaults.threads()),
+                Integer.getInteger("seed.batch-size", defaults.batchSize()),
+                Double.parseDouble(System.getProperty("seed.zipf-exponent", String.valueOf(defaults.commentZipfExponent()))),
+                Duration.ofDays(Integer.getInteger("seed.span-days", (int) defaults.span().toDays())));
+
+        String jdbcUrl = System.getProperty("seed.jdbc-url");
+        if (jdbcUrl == null) {
+            throw new IllegalArgumentException("seed.jdbc-url 속성이 필요합니다.");
+        }
+
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(jdbcUrl);
+        config.setUsername(System.getProperty("seed.username", "sa"));
+        config.setPassword(System.getProperty("seed.password", ""));
+        config.setMaximumPoolSize(options.threads() + 1);
+
+        try (HikariDataSource dataSource = new HikariDataSource(config)) {
+            Summary summary = new SyntheticDataSeeder(dataSource).seed(options,
+                    LocalDateTime.parse(System.getProperty("seed.now", "2025-01-01T00:00:00")));
+            System.out.printf("users=%d posts=%d comments=%d missions=%d elapsed=%ds%n", summary.users(),
+                    summary.posts(), summary.comments(), summary.missions(), summary.elapsed().toSeconds());
+        }
+    }
+
+    // === Private Methods ===
+
+    private void insertUsers(Options options, int from, int to, LocalDateTime start, long spanSeconds) throws SQLException {
+        Random random = chunkRandom(options.seed(), SALT_USERS, from);
+        String sql = "INSERT INTO users (id, email, nickname, provider, provider_id, area_code, role, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        batch(sql, options.batchSize(), from, to, (statement, index) -> {
+            long id = index + 1L;
+            boolean kakao = random.nextInt(10) < 6;
+            Timestamp createdAt = Timestamp.valueOf(start.plusSeconds(spread(index, options.users(), spanSeconds)));
+            statement.setLong(1, id);
+            statement.setString(2, "user" + id + (kakao ? "@kakao.com" : "@gmail.com"));
+            statement.setString(3, KoreanTextGenerator.nickname(random, id));
+            statement.setString(4, kakao ? "KAKAO" : "GOOGLE");
+            statement.setString(5, (kakao ? "kakao-" : "google-") + id);
+            statement.setString(6, random.nextInt(5) == 0 ? null : weightedAreaCode(random));
+            statement.setString(7, random.nextInt(1000) == 0 ? "ADMIN" : "USER");
+            statement.setTimestamp(8, createdAt);
+            statement.setTimestamp(9, createdAt);
+        });
+    }
+
+    private void insertPosts(Options options, int from, int to, LocalDateTime start, long spanSeconds,
+                             int[] authorRanking, ZipfSampler authorSampler) throws SQLException {
+        Random random = chunkRandom(options.seed(), SALT_POSTS, from);
+        String sql = "INSERT INTO posts (id, title, content, author_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)";
+        batch(sql, options.batchSize(), from, to, (statement, index) -> {
+            LocalDateTime createdAt = postCreatedAt(index, options, start, spanSeconds);
+            statement.setLong(1, index + 1L);
+            statement.setString(2, KoreanTextGenerator.title(random));
+            statement.setString(3, KoreanTextGenerator.content(random));
+            statement.setLong(4, authorRanking[authorSampler.sample(random)] + 1L);
+            statement.setTimestamp(5, Timestamp.valueOf(createdAt));
+            statement.setTimestamp(6, Timestamp.valueOf(random.nextInt(10) == 0 ? createdAt.plusHours(random.nextInt(72) + 1) : createdAt));
+        });
+    }
+
+    private void insertComments(Options options, int from, int to, LocalDateTime start, long spanSeconds,
+                                LocalDateTime now, int[] postRanking, ZipfSampler postSampler) throws SQLException {
+        Random random = chunkRandom(options.seed(), SALT_COMMENTS, from);
+        String sql = "INSERT INTO comments (id, content, post_id, author_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)";
+        batch(sql, options.batchSize(), from, to, (statement, index) -> {
+            int postIndex = postRanking[postSampler.sample(random)];
+            long delaySeconds = (long) (-Math.log(1 - random.nextDouble()) * COMMENT_DELAY_MEAN.toSeconds());
+            LocalDateTime createdAt = postCreatedAt(postIndex, options, start, spanSeconds).plusSeconds(delaySeconds);
+            Timestamp timestamp = Timestamp.valueOf(createdAt.isAfter(now) ? now : createdAt);
+            statement.setLong(1, index + 1L);
+            statement.setString(2, KoreanTextGenerator.comment(random));
+            statement.setLong(3, postIndex + 1L);
+            statement.setLong(4, random.nextInt(options.users()) + 1L);
+            statement.setTimestamp(5, timestamp);
+            statement.setTimestamp(6, timestamp);
+        });
+    }
+
+    private int insertMissions(LocalDateTime now) throws SQLException {
+        Object[][] catalog = {
+                {"첫 여행 기록", "첫 게시글을 작성해 보세요.", "POST_CREATION", 1, 50},
+                {"여행 작가", "게시글 10개를 작성하세요.", "POST_CREATION", 10, 300},
+                {"여행 칼럼니스트", "게시글 50개를 작성하세요.", "POST_CREATION", 50, 1000},
+                {"첫 댓글", "다른 여행자의 글에 댓글을 남겨 보세요.", "COMMENT_CREATION", 1, 20},
+                {"소통왕", "댓글 30개를 작성하세요.", "COMMENT_CREATION", 30, 200},
+                {"수다쟁이 여행자", "댓글 100개를 작성하세요.", "COMMENT_CREATION", 100, 500},
+                {"출석 체크", "7일 동안 로그인하세요.", "LOGIN_COUNT", 7, 70},
+                {"단골 여행자", "30일 동안 로그인하세요.", "LOGIN_COUNT", 30, 300},
+                {"일주일 연속 출석", "7일 연속으로 로그인하세요.", "LOGIN_STREAK", 7, 150},
+                {"한 달 연속 출석", "30일 연속으로 로그인하세요.", "LOGIN_STREAK", 30, 800},
+                {"시즌 한정: 봄 여행", "봄 시즌 동안 게시글 3개를 작성하세요.", "POST_CREATION", 3, 120}
+        };
+        String sql = "INSERT INTO missions (title, description, type, target_count, reward_points, active, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < catalog.length; i++) {
+                Object[] mission = catalog[i];
+                statement.setString(1, (String) mission[0]);
+                statement.setString(2, (String) mission[1]);
+                statement.setString(3, (String) mission[2]);
+                statement.setInt(4, (Integer) mission[3]);
+                statement.setInt(5, (Integer) mission[4]);
+                statement.setBoolean(6, i != catalog.length - 1);
+                statement.setTimestamp(7, Timestamp.valueOf(now));
+                statement.setTimestamp(8, Timestamp.valueOf(now));
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+        return catalog.length;
+    }
+
+    private void runChunks(ExecutorService executor, int total, ChunkTask task) throws SQLException, InterruptedException {
+        List<Future<?>> futures = new ArrayList<>();
+        for (int from = 0; from < total; from += CHUNK_SIZE) {
+            int chunkFrom = from;
+            int chunkTo = Math.min(total, from + CHUNK_SIZE);
+            futures.add(executor.submit(() -> {
+                task.run(chunkFrom, chunkTo);
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                futures.forEach(pending -> pending.cancel(true));
+                if (e.getCause() instanceof SQLException sqlException) {
+                    throw sqlException;
+                }
+                throw new IllegalStateException("합성 데이터 생성에 실패했습니다.", e.getCause());
+            }
+        }
+    }
+
+    private void batch(String sql, int batchSize, int from, int to, RowWriter writer) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                for (int index = from; index < to; index++) {
+                    writer.write(statement, index);
+                    statement.addBatch();
+                    if ((index - from + 1) % batchSize == 0) {
+                        statement.executeBatch();
+                    }
+                }
+                statement.executeBatch();
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            }
+        }
+    }
+
+    private void ensureEmpty(String... tables) throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            for (String table : tables) {
+                try (ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM " + table)) {
+                    resultSet.next();
+                    if (resultSet.getLong(1) > 0) {
+                        throw new IllegalStateException("대상 테이블이 비어 있어야 합니다: " + table);
+                    }
+                }
+            }
+        }
+    }
+
+    private void restartIdentity(String table, long rows) throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            String product = connection.getMetaData().getDatabaseProductName();
+            if ("H2".equalsIgnoreCase(product)) {
+                statement.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + (rows + 1));
+            } else if ("MySQL".equalsIgnoreCase(product)) {
+                statement.execute("ALTER TABLE " + table + " AUTO_INCREMENT = " + (rows + 1));
+            }
+        }
+    }
+
+    private LocalDateTime postCreatedAt(int index, Options options, LocalDateTime start, long spanSeconds) {
+        return start.plusSeconds(spread(index, options.posts(), spanSeconds));
+    }
+
+    private long spread(int index, int total, long spanSeconds) {
+        return total <= 1 ? 0 : index * spanSeconds / total;
+    }
+
+    private String weightedAreaCode(Random random) {
+        int value = random.nextInt(100);
+        for (int i = 0; i < AREA_WEIGHTS.length; i++) {
+            value -= AREA_WEIGHTS[i];
+            if (value < 0) {
+                return AREA_CODES[i];
+            }
+        }
+        return AREA_CODES[0];
+    }
+
+    private static int[] permutation(long seed, int size) {
+        int[] values = new int[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = i;
+        }
+        Random random = new Random(seed);
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = values[i];
+            values[i] = values[j];
+            values[j] = swap;
+        }
+        return values;
+    }
+
+    private static Random chunkRandom(long seed, long salt, int chunkStart) {
+        return new Random(seed * 0x9E3779B97F4A7C15L + salt * 31 + chunkStart);
+    }
+
+    @FunctionalInterface
+    private interface ChunkTask {
+        void run(int from, int to) throws SQLException;
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(PreparedStatement statement, int index) throws SQLException;
+    }
+}
@@ -0,0 +1,102 @@
+package kr.ai.boomerang.boomerang_spring_boot.support.seed;
+
+import kr.ai.boomerang.boomerang_spring_boot.post.domain.Post;
+import kr.ai.boomerang.boomerang_spring_boot.post.repository.PostRepository;
+import kr.ai.boomerang.boomerang_spring_boot.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 합성 데이터 생성 도구 테스트 (H2)
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SyntheticDataSeederTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @AfterEach
+    void tearDown() {
+        clear();
+    }
+
+    @Test
+    void sameSeedProducesSameDataRegardlessOfThreadCount() throws Exception {
+        new SyntheticDataSeeder(dataSource).seed(options(42, 1), NOW);
+        List<String> first = fingerprint();
+        clear();
+
+        new SyntheticDataSeeder(dataSource).seed(options(42, 4), NOW);
+
+        assertThat(fingerprint()).isEqualTo(first);
+    }
+
+    @Test
+    void commentsFollowSkewedDistributionAcrossPosts() throws Exception {
+        SyntheticDataSeeder.Summary summary = new SyntheticDataSeeder(dataSource).seed(options(7, 4), NOW);
+
+        // 상위 1% 게시글이 전체 댓글의 상당 부분을 차지
+        Long topShare = jdbcTemplate.queryForObject("SELECT SUM(cnt) FROM (SELECT COUNT(*) cnt FROM comments "
+                + "GROUP BY post_id ORDER BY cnt DESC LIMIT " + summary.posts() / 100 + ")", Long.class);
+        assertThat(topShare).isGreaterThan(summary.comments() / 4);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM comments c JOIN posts p ON p.id = c.post_id "
+                + "WHERE c.created_at < p.created_at", Long.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM missions", Long.class)).isEqualTo(summary.missions());
+    }
+
+    @Test
+    void identityContinuesAfterSeededRows() throws Exception {
+        new SyntheticDataSeeder(dataSource).seed(options(1, 2), NOW);
+
+        Post post = postRepository.save(Post.builder()
+                .title("새 게시글")
+                .content("합성 데이터 이후에 저장한 게시글입니다.")
+                .author(userRepository.findById(1L).orElseThrow())
+                .build());
+
+        assertThat(post.getId()).isEqualTo(2_001L);
+    }
+
+    // === Private Methods ===
+
+    private SyntheticDataSeeder.Options options(long seed, int threads) {
+        return new SyntheticDataSeeder.Options(seed, 500, 2_000, 20_000, threads, 500, 1.1, Duration.ofDays(90));
+    }
+
+    private List<String> fingerprint() {
+        return jdbcTemplate.queryForList("SELECT CONCAT(COUNT(*), ':', SUM(author_id * id), ':', SUM(LENGTH(content))) FROM posts "
+                + "UNION ALL SELECT CONCAT(COUNT(*), ':', SUM(post_id * id), ':', SUM(author_id)) FROM comments "
+                + "UNION ALL SELECT CONCAT(COUNT(*), ':', SUM(LENGTH(nickname)), ':', COUNT(area_code)) FROM users", String.class);
+    }
+
+    private void clear() {
+        jdbcTemplate.update("DELETE FROM comments");
+        jdbcTemplate.update("DELETE FROM posts");
+        jdbcTemplate.update("DELETE FROM users");
+        jdbcTemplate.update("DELETE FROM missions");
+    }
+}
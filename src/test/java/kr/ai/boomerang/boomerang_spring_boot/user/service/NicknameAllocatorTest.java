@@ -0,0 +1,32 @@
+package kr.ai.boomerang.boomerang_spring_boot.user.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 접두사 조회 결과로 가장 작은 빈 닉네임을 계산하는 로직 테스트
+ */
+class NicknameAllocatorTest {
+
+    @Test
+    void returnsBaseNameWhenOnlyLongerNicknamesExist() {
+        assertThat(NicknameAllocator.smallestAvailable("여행자", List.of("여행자1", "여행자왕")))
+                .isEqualTo("여행자");
+    }
+
+    @Test
+    void fillsTheSmallestGap() {
+        assertThat(NicknameAllocator.smallestAvailable("여행자", List.of("여행자", "여행자1", "여행자3", "여행자10")))
+                .isEqualTo("여행자2");
+    }
+
+    @Test
+    void ignoresNicknamesThatOnlyShareThePrefix() {
+        List<String> taken = List.of("여행자", "여행자1", "여행자01", "여행자1a", "여행자2");
+
+        assertThat(NicknameAllocator.smallestAvailable("여행자", taken)).isEqualTo("여행자3");
+    }
+}
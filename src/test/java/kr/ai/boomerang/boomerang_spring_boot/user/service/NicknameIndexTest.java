@@ -0,0 +1,92 @@
+package kr.ai.boomerang.boomerang_spring_boot.user.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 닉네임 인메모리 인덱스 테스트
+ */
+class NicknameIndexTest {
+
+    private final NicknameIndex index = new NicknameIndex();
+
+    @Test
+    void baseNameIsReturnedWhenFree() {
+        assertThat(index.nextAvailable("사용자")).isEqualTo("사용자");
+        assertThat(index.contains("사용자")).isFalse();
+    }
+
+    @Test
+    void nextAvailableSkipsTakenSuffixes() {
+        index.add("사용자");
+        for (int i = 1; i <= 500; i++) {
+            index.add("사용자" + i);
+        }
+        index.remove("사용자37");
+
+        assertThat(index.nextAvailable("사용자")).isEqualTo("사용자37");
+        assertThat(index.suggest("사용자", 3)).containsExactly("사용자37", "사용자501", "사용자502");
+    }
+
+    @Test
+    void baseNamesEndingWithDigitsAreTrackedSeparately() {
+        index.add("user1");
+        index.add("user11");
+        index.add("user12");
+        index.add("user01");
+
+        assertThat(index.nextAvailable("user1")).isEqualTo("user13");
+        assertThat(index.suggest("user", 2)).containsExactly("user2", "user3");
+        assertThat(index.suggest("user0", 1)).containsExactly("user02");
+    }
+
+    @Test
+    void largeSuffixesAreTrackedWithoutPreallocatingTheRange() {
+        index.add("a999999999");
+
+        assertThat(index.suffixCount("a")).isEqualTo(1);
+        assertThat(index.suggest("a", 2)).containsExactly("a1", "a2");
+        assertThat(index.suggest("a99999999", 1)).containsExactly("a999999991");
+
+        index.remove("a999999999");
+        assertThat(index.suffixCount("a")).isZero();
+    }
+
+    @Test
+    void searchMatchesSyllablesStillBeingComposed() {
+        index.add("여행자");
+        index.add("여행자2");
+        index.add("여행가");
+        index.add("여기");
+        index.add("닭강정");
+
+        assertThat(index.search("여행ㅈ", 10)).containsExactly("여행자", "여행자2");
+        assertThat(index.search("여행", 10)).containsExactly("여행가", "여행자", "여행자2");
+        assertThat(index.search("역", 10)).containsExactly("여기");
+        assertThat(index.search("달", 10)).containsExactly("닭강정");
+        assertThat(index.search("여", 2)).hasSize(2);
+        assertThat(index.search("", 10)).isEmpty();
+    }
+
+    @Test
+    void searchReflectsRemovedNicknamesAndIgnoresCase() {
+        index.add("Boomerang");
+        index.add("boomer");
+        index.remove("boomer");
+
+        assertThat(index.search("BOOM", 10)).containsExactly("Boomerang");
+    }
+
+    @Test
+    void searchOnLargeIndexReturnsLimitedSortedPrefixMatches() {
+        for (int i = 0; i < 10_000; i++) {
+            index.add((i % 2 == 0 ? "하늘" : "바다") + i);
+        }
+
+        assertThat(index.search("하늘", 10)).hasSize(10).isSorted().allMatch(nickname -> nickname.startsWith("하늘"));
+        assertThat(index.search("하ㄴ", 10)).hasSize(10).allMatch(nickname -> nickname.startsWith("하늘"));
+        assertThat(index.search("바다9998", 10)).isEmpty();
+        assertThat(index.search("바다9999", 10)).containsExactly("바다9999");
+    }
+}
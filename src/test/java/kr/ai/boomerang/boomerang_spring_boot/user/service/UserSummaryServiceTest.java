@@ -0,0 +1,160 @@
+package kr.ai.boomerang.boomerang_spring_boot.user.service;
+
+import kr.ai.boomerang.boomerang_spring_boot.common.exception.ResourceNotFoundException;
+import kr.ai.boomerang.boomerang_spring_boot.mission.dto.MissionDto;
+import kr.ai.boomerang.boomerang_spring_boot.mission.service.MissionService;
+import kr.ai.boomerang.boomerang_spring_boot.post.repository.CommentRepository;
+import kr.ai.boomerang.boomerang_spring_boot.post.repository.PostRepository;
+import kr.ai.boomerang.boomerang_spring_boot.user.domain.User;
+import kr.ai.boomerang.boomerang_spring_boot.user.dto.UserDto;
+import kr.ai.boomerang.boomerang_spring_boot.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 마이페이지 요약 동시 조회 / 부분 실패 처리 테스트
+ */
+class UserSummaryServiceTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final PostRepository postRepository = mock(PostRepository.class);
+    private final CommentRepository commentRepository = mock(CommentRepository.class);
+    private final MissionService missionService = mock(MissionService.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    private UserSummaryService service;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        service = new UserSummaryService(userRepository, postRepository, commentRepository, missionService,
+                transactionManager);
+        ReflectionTestUtils.setField(service, "recentSize", 5);
+        ReflectionTestUtils.setField(service, "subtaskTimeoutMs", 500L);
+        ReflectionTestUtils.setField(service, "maxConcurrentSubtasks", 5);
+        service.init();
+
+        user = User.builder().email("summary@boomerang.kr").nickname("요약").provider(User.Provider.KAKAO)
+                .providerId("kakao-1").role(User.Role.USER).build();
+        ReflectionTestUtils.setField(user, "id", 1L);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+    }
+
+    @Test
+    void subtasksRunConcurrently() {
+        // 다섯 하위 작업이 모두 동시에 실행 중이어야만 래치가 열림
+        CountDownLatch allStarted = new CountDownLatch(5);
+        when(postRepository.findRecentPostsByAuthor(any(), any())).thenAnswer(awaiting(allStarted, List.of()));
+        when(commentRepository.findRecentCommentsByAuthor(any(), any())).thenAnswer(awaiting(allStarted, List.of()));
+        when(postRepository.countByAuthor(any())).thenAnswer(awaiting(allStarted, 12L));
+        when(commentRepository.countByAuthor(any())).thenAnswer(awaiting(allStarted, 34L));
+        when(missionService.getUserProgress(1L)).thenAnswer(awaiting(allStarted, List.of(progress())));
+
+        UserDto.SummaryResponse summary = service.getSummary(1L);
+
+        assertThat(summary.getUnavailable()).isEmpty();
+        assertThat(summary.getUser().getNickname()).isEqualTo("요약");
+        assertThat(summary.getPostCount()).isEqualTo(12L);
+        assertThat(summary.getCommentCount()).isEqualTo(34L);
+        assertThat(summary.getMissions()).hasSize(1);
+    }
+
+    @Test
+    void failedAndSlowSubtasksAreReportedAsUnavailable() {
+        when(postRepository.findRecentPostsByAuthor(any(), any())).thenAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return List.of();
+        });
+        when(commentRepository.findRecentCommentsByAuthor(any(), any())).thenReturn(List.of());
+        when(postRepository.countByAuthor(any())).thenReturn(12L);
+        when(commentRepository.countByAuthor(any())).thenThrow(new IllegalStateException("DB 오류"));
+        when(missionService.getUserProgress(1L)).thenReturn(List.of(progress()));
+
+        long started = System.nanoTime();
+        UserDto.SummaryResponse summary = service.getSummary(1L);
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isLessThan(2_000);
+        assertThat(summary.getUnavailable()).containsExactly("recentPosts", "commentCount");
+        assertThat(summary.getRecentPosts()).isEmpty();
+        assertThat(summary.getCommentCount()).isNull();
+        assertThat(summary.getPostCount()).isEqualTo(12L);
+        assertThat(summary.getMissions()).hasSize(1);
+    }
+
+    @Test
+    void concurrentSummariesShareTheSubtaskLimit() throws Exception {
+        ReflectionTestUtils.setField(service, "maxConcurrentSubtasks", 2);
+        service.init();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        Answer<Object> tracked = invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            running.decrementAndGet();
+            return invocation.getMethod().getReturnType() == List.class ? List.of() : 0L;
+        };
+        when(postRepository.findRecentPostsByAuthor(any(), any())).thenAnswer(tracked);
+        when(commentRepository.findRecentCommentsByAuthor(any(), any())).thenAnswer(tracked);
+        when(postRepository.countByAuthor(any())).thenAnswer(tracked);
+        when(commentRepository.countByAuthor(any())).thenAnswer(tracked);
+        when(missionService.getUserProgress(1L)).thenAnswer(tracked);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<UserDto.SummaryResponse>> summaries = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                summaries.add(executor.submit(() -> service.getSummary(1L)));
+            }
+            for (Future<UserDto.SummaryResponse> summary : summaries) {
+                assertThat(summary.get().getUnavailable()).isEmpty();
+            }
+        }
+        assertThat(maxRunning.get()).isEqualTo(2);
+    }
+
+    @Test
+    void unknownUserFailsWithoutStartingSubtasks() {
+        when(userRepository.findById(2L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.getSummary(2L)).isInstanceOf(ResourceNotFoundException.class);
+        verifyNoInteractions(postRepository, commentRepository, missionService);
+    }
+
+    // === Private Methods ===
+
+    private <T> Answer<T> awaiting(CountDownLatch allStarted, T result) {
+        return invocation -> {
+            allStarted.countDown();
+            if (!allStarted.await(2, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("하위 작업이 동시에 실행되지 않음");
+            }
+            return result;
+        };
+    }
+
+    private MissionDto.ProgressResponse progress() {
+        return MissionDto.ProgressResponse.builder().missionId(1L).type("POST_CREATION")
+                .targetCount(3).currentCount(1).build();
+    }
+}
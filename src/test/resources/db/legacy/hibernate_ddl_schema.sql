@@ -0,0 +1,22 @@
+-- Flyway 도입 전 운영 DB 재현용 스키마 (LegacySchemaMigrationTest)
+-- 기준 커밋 엔티티로 Hibernate(ddl-auto=update, H2 방언)가 생성한 DDL을 그대로 옮겼습니다.
+
+create table users (created_at timestamp(6), id bigint generated by default as identity, updated_at timestamp(6), email varchar(255) not null, nickname varchar(255) not null, provider_id varchar(255) not null, provider enum ('GOOGLE','KAKAO') not null, role enum ('ADMIN','USER') not null, primary key (id));
+create table posts (author_id bigint not null, created_at timestamp(6), id bigint generated by default as identity, updated_at timestamp(6), title varchar(200) not null, content TEXT not null, primary key (id));
+create table comments (author_id bigint not null, created_at timestamp(6), id bigint generated by default as identity, post_id bigint not null, updated_at timestamp(6), content varchar(500) not null, primary key (id));
+create table missions (active boolean not null, reward_points integer not null, target_count integer not null, created_at timestamp(6), id bigint generated by default as identity, updated_at timestamp(6), description varchar(255) not null, title varchar(255) not null, type enum ('COMMENT_CREATION','LOGIN_COUNT','POST_CREATION') not null, primary key (id));
+alter table if exists users add constraint UK6dotkott2kjsp8vw4d0m25fb7 unique (email);
+alter table if exists comments add constraint FKn2na60ukhs76ibtpt9burkm27 foreign key (author_id) references users;
+alter table if exists comments add constraint FKh4c7lvsc298whoyd4w9ta25cr foreign key (post_id) references posts;
+alter table if exists posts add constraint FK6xvn0811tkyo3nfjk2xvqx6ns foreign key (author_id) references users;
+
+insert into users (email, nickname, provider, provider_id, role, created_at, updated_at) values
+    ('first@example.com', 'boomer', 'GOOGLE', 'g-1', 'USER', '2025-01-01 00:00:00', '2025-01-01 00:00:00'),
+    ('second@example.com', 'boomer', 'KAKAO', 'k-2', 'USER', '2025-01-02 00:00:00', '2025-01-02 00:00:00'),
+    ('admin@example.com', 'admin', 'GOOGLE', 'g-3', 'ADMIN', '2025-01-03 00:00:00', '2025-01-03 00:00:00');
+insert into posts (title, content, author_id, created_at, updated_at) values
+    ('hello', 'legacy post', 1, '2025-01-04 00:00:00', '2025-01-04 00:00:00');
+insert into comments (content, post_id, author_id, created_at, updated_at) values
+    ('legacy comment', 1, 2, '2025-01-05 00:00:00', '2025-01-05 00:00:00');
+insert into missions (title, description, type, target_count, reward_points, active, created_at, updated_at) values
+    ('첫 게시글', '게시글 1개 작성', 'POST_CREATION', 1, 100, true, '2025-01-01 00:00:00', '2025-01-01 00:00:00');